@@ -0,0 +1,101 @@
+package teammates.lnp.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.util.Config;
+import teammates.common.util.StringHelper;
+
+/**
+ * Benchmarks the anonymization of the names in the 20,000 responses of an anonymous peer review session
+ * among 200 students, comparing a cipher set up for every name, the ciphers reused by each thread,
+ * and the anonymous names memoized for the session results.
+ */
+public class AnonNameBenchmark extends BaseBenchmark {
+
+    private static final int NUM_OF_STUDENTS = 200;
+    private static final int NUM_OF_RESPONSES = 20000;
+
+    private List<String> names;
+
+    @BeforeClass
+    public void createNames() {
+        // the name of each student appears in 100 responses
+        names = new ArrayList<>();
+        for (int i = 0; i < NUM_OF_RESPONSES; i++) {
+            names.add("Student " + i % NUM_OF_STUDENTS);
+        }
+    }
+
+    @Test
+    public void benchmarkEncryptWithCipherSetUpForEachName() {
+        measure("Encrypt 20,000 names with a cipher set up for each name", () -> {
+            int totalLength = 0;
+            for (String name : names) {
+                totalLength += encryptWithNewCipher(name).length;
+            }
+            return totalLength;
+        });
+    }
+
+    @Test
+    public void benchmarkEncryptWithReusedCipher() {
+        measure("Encrypt 20,000 names with the cipher of the thread", () -> {
+            int totalLength = 0;
+            for (String name : names) {
+                totalLength += StringHelper.encrypt(name).length();
+            }
+            return totalLength;
+        });
+    }
+
+    @Test
+    public void benchmarkAnonNames() {
+        measure("Anonymize 20,000 names", () -> {
+            int totalLength = 0;
+            for (String name : names) {
+                totalLength += SessionResultsBundle.getAnonName(FeedbackParticipantType.STUDENTS, name).length();
+            }
+            return totalLength;
+        });
+    }
+
+    @Test
+    public void benchmarkMemoizedAnonNames() {
+        measure("Anonymize 20,000 names memoized for the session results", () -> {
+            SessionResultsBundle bundle = new SessionResultsBundle(new HashMap<>(), new ArrayList<>(),
+                    new ArrayList<>(), new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>(),
+                    new CourseRoster(new ArrayList<>(), new ArrayList<>()));
+            int totalLength = 0;
+            for (String name : names) {
+                totalLength += bundle.getMemoizedAnonName(FeedbackParticipantType.STUDENTS, name).length();
+            }
+            return totalLength;
+        });
+    }
+
+    /**
+     * Encrypts the name as {@link StringHelper#encrypt(String)} did before the ciphers were reused.
+     */
+    private static byte[] encryptWithNewCipher(String value) {
+        try {
+            SecretKeySpec sks = new SecretKeySpec(StringHelper.hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
+            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+            cipher.init(Cipher.ENCRYPT_MODE, sks, cipher.getParameters());
+            return cipher.doFinal(value.getBytes());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+package teammates.lnp.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * Base class for all micro-benchmarks.
+ *
+ * <p>An operation is first run for a number of warm-up iterations so that it is compiled by the JIT compiler,
+ * and then measured over a number of iterations for the average time taken and memory allocated per run.
+ */
+public abstract class BaseBenchmark extends BaseTestCase {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 20;
+
+    // results of the operations are accumulated so that the JIT compiler cannot eliminate the operations
+    private int sink;
+
+    /**
+     * Measures an operation and prints the result.
+     */
+    protected BenchmarkResult measure(String name, Supplier<?> operation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            consume(operation.get());
+        }
+
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBytesBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long startTime = System.nanoTime();
+        for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+            consume(operation.get());
+        }
+        long timeTaken = System.nanoTime() - startTime;
+        long allocatedBytes = threadBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore;
+
+        BenchmarkResult result = new BenchmarkResult(
+                name, timeTaken / MEASUREMENT_ITERATIONS, allocatedBytes / MEASUREMENT_ITERATIONS);
+        System.out.println(result);
+        return result;
+    }
+
+    private void consume(Object result) {
+        sink += result == null ? 0 : result.hashCode();
+    }
+
+    /**
+     * Represents the result of measuring an operation.
+     */
+    protected static class BenchmarkResult {
+
+        private final String name;
+        private final long averageTimeNanos;
+        private final long averageAllocatedBytes;
+
+        BenchmarkResult(String name, long averageTimeNanos, long averageAllocatedBytes) {
+            this.name = name;
+            this.averageTimeNanos = averageTimeNanos;
+            this.averageAllocatedBytes = averageAllocatedBytes;
+        }
+
+        public long getAverageTimeNanos() {
+            return averageTimeNanos;
+        }
+
+        public long getAverageAllocatedBytes() {
+            return averageAllocatedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %.3f ms/op, %.1f KB allocated/op",
+                    name, averageTimeNanos / 1_000_000.0, averageAllocatedBytes / 1024.0);
+        }
+
+    }
+
+}
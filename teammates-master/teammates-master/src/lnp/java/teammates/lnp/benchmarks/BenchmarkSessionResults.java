@@ -0,0 +1,205 @@
+package teammates.lnp.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackNumericalScaleQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackNumericalScaleResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackTextQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+import teammates.common.util.Const;
+
+/**
+ * Generates the results of a feedback session with a large number of responses for benchmarking.
+ *
+ * <p>Each of the 100 students in the course responds to 25 other students in each of a text question
+ * and a numerical scale question, giving 5,000 responses in total.
+ */
+final class BenchmarkSessionResults {
+
+    static final int NUM_OF_RESPONSES = 5_000;
+
+    private static final String COURSE_ID = "benchmark.course";
+    private static final String SESSION_NAME = "Benchmark Session";
+    private static final int NUM_OF_STUDENTS = 100;
+    private static final int NUM_OF_STUDENTS_PER_TEAM = 5;
+    private static final int NUM_OF_RECIPIENTS_PER_GIVER = 25;
+
+    private static final int NUM_OF_PEER_REVIEW_STUDENTS = 300;
+    private static final int NUM_OF_PEER_REVIEW_SECTIONS = 10;
+
+    private BenchmarkSessionResults() {
+        // utility class
+    }
+
+    /**
+     * Creates the results bundle of the session, with all givers and recipients visible.
+     */
+    static SessionResultsBundle createBundle() {
+        List<StudentAttributes> students = createStudents(NUM_OF_STUDENTS, 2);
+        CourseRoster roster = new CourseRoster(students, new ArrayList<>());
+
+        Map<String, FeedbackQuestionAttributes> questionsMap = new LinkedHashMap<>();
+        List<FeedbackResponseAttributes> responses = new ArrayList<>();
+        Map<String, Boolean> visibilityTable = new HashMap<>();
+
+        FeedbackNumericalScaleQuestionDetails numericalScaleQuestionDetails =
+                new FeedbackNumericalScaleQuestionDetails("Rate the contribution of your peer");
+        numericalScaleQuestionDetails.setMinScale(1);
+        numericalScaleQuestionDetails.setMaxScale(5);
+        numericalScaleQuestionDetails.setStep(1);
+        List<FeedbackQuestionDetails> questionDetailsList = Arrays.asList(
+                new FeedbackTextQuestionDetails("Comment on your peer"), numericalScaleQuestionDetails);
+
+        for (int questionNumber = 1; questionNumber <= questionDetailsList.size(); questionNumber++) {
+            FeedbackQuestionAttributes question = FeedbackQuestionAttributes.builder()
+                    .withCourseId(COURSE_ID)
+                    .withFeedbackSessionName(SESSION_NAME)
+                    .withQuestionDetails(questionDetailsList.get(questionNumber - 1))
+                    .withQuestionDescription("")
+                    .withQuestionNumber(questionNumber)
+                    .withGiverType(FeedbackParticipantType.STUDENTS)
+                    .withRecipientType(FeedbackParticipantType.STUDENTS)
+                    .withNumberOfEntitiesToGiveFeedbackTo(NUM_OF_RECIPIENTS_PER_GIVER)
+                    .withShowResponsesTo(new ArrayList<>())
+                    .withShowGiverNameTo(new ArrayList<>())
+                    .withShowRecipientNameTo(new ArrayList<>())
+                    .build();
+            question.setId("question" + questionNumber);
+            questionsMap.put(question.getId(), question);
+
+            for (int giver = 0; giver < NUM_OF_STUDENTS; giver++) {
+                for (int offset = 1; offset <= NUM_OF_RECIPIENTS_PER_GIVER; offset++) {
+                    StudentAttributes giverStudent = students.get(giver);
+                    StudentAttributes recipientStudent = students.get((giver + offset) % NUM_OF_STUDENTS);
+                    FeedbackResponseAttributes response = FeedbackResponseAttributes
+                            .builder(question.getId(), giverStudent.getEmail(), recipientStudent.getEmail())
+                            .withCourseId(COURSE_ID)
+                            .withFeedbackSessionName(SESSION_NAME)
+                            .withGiverSection(giverStudent.getSection())
+                            .withRecipientSection(recipientStudent.getSection())
+                            .withResponseDetails(createResponseDetails(question, giver, offset))
+                            .build();
+                    response.setId(question.getId() + "%" + giverStudent.getEmail() + "%" + recipientStudent.getEmail());
+                    responses.add(response);
+                    visibilityTable.put(response.getId(), true);
+                }
+            }
+        }
+
+        return new SessionResultsBundle(questionsMap, responses, new ArrayList<>(),
+                visibilityTable, visibilityTable, new HashMap<>(), new HashMap<>(), roster);
+    }
+
+    /**
+     * Creates the results bundle of a peer review session in a course of 300 students in teams of 5,
+     * with all givers and recipients visible.
+     *
+     * <p>Each student rates and comments on every member of the own team including self in two questions.
+     * One in three students has not submitted, so a third of the responses are missing responses.
+     */
+    static SessionResultsBundle createPeerReviewBundle() {
+        List<StudentAttributes> students = createStudents(NUM_OF_PEER_REVIEW_STUDENTS, NUM_OF_PEER_REVIEW_SECTIONS);
+        CourseRoster roster = new CourseRoster(students, new ArrayList<>());
+
+        Map<String, FeedbackQuestionAttributes> questionsMap = new LinkedHashMap<>();
+        List<FeedbackResponseAttributes> responses = new ArrayList<>();
+        List<FeedbackResponseAttributes> missingResponses = new ArrayList<>();
+        Map<String, Boolean> visibilityTable = new HashMap<>();
+
+        FeedbackNumericalScaleQuestionDetails numericalScaleQuestionDetails =
+                new FeedbackNumericalScaleQuestionDetails("Rate the contribution of your team member");
+        numericalScaleQuestionDetails.setMinScale(1);
+        numericalScaleQuestionDetails.setMaxScale(5);
+        numericalScaleQuestionDetails.setStep(1);
+        List<FeedbackQuestionDetails> questionDetailsList = Arrays.asList(
+                new FeedbackTextQuestionDetails("Comment on your team member"), numericalScaleQuestionDetails);
+
+        for (int questionNumber = 1; questionNumber <= questionDetailsList.size(); questionNumber++) {
+            FeedbackQuestionAttributes question = FeedbackQuestionAttributes.builder()
+                    .withCourseId(COURSE_ID)
+                    .withFeedbackSessionName(SESSION_NAME)
+                    .withQuestionDetails(questionDetailsList.get(questionNumber - 1))
+                    .withQuestionDescription("")
+                    .withQuestionNumber(questionNumber)
+                    .withGiverType(FeedbackParticipantType.STUDENTS)
+                    .withRecipientType(FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF)
+                    .withNumberOfEntitiesToGiveFeedbackTo(Const.MAX_POSSIBLE_RECIPIENTS)
+                    .withShowResponsesTo(new ArrayList<>())
+                    .withShowGiverNameTo(new ArrayList<>())
+                    .withShowRecipientNameTo(new ArrayList<>())
+                    .build();
+            question.setId("question" + questionNumber);
+            questionsMap.put(question.getId(), question);
+
+            for (int giver = 0; giver < NUM_OF_PEER_REVIEW_STUDENTS; giver++) {
+                StudentAttributes giverStudent = students.get(giver);
+                int firstTeamMember = giver / NUM_OF_STUDENTS_PER_TEAM * NUM_OF_STUDENTS_PER_TEAM;
+                for (int offset = 0; offset < NUM_OF_STUDENTS_PER_TEAM; offset++) {
+                    StudentAttributes recipientStudent = students.get(firstTeamMember + offset);
+                    boolean hasSubmitted = giver % 3 != 0;
+                    FeedbackResponseAttributes response = FeedbackResponseAttributes
+                            .builder(question.getId(), giverStudent.getEmail(), recipientStudent.getEmail())
+                            .withCourseId(COURSE_ID)
+                            .withFeedbackSessionName(SESSION_NAME)
+                            .withGiverSection(giverStudent.getSection())
+                            .withRecipientSection(recipientStudent.getSection())
+                            .withResponseDetails(hasSubmitted
+                                    ? createResponseDetails(question, giver, offset)
+                                    : new FeedbackTextResponseDetails("No Response"))
+                            .build();
+                    response.setId(question.getId() + "%" + giverStudent.getEmail() + "%" + recipientStudent.getEmail());
+                    if (hasSubmitted) {
+                        responses.add(response);
+                    } else {
+                        missingResponses.add(response);
+                    }
+                    visibilityTable.put(response.getId(), true);
+                }
+            }
+        }
+
+        return new SessionResultsBundle(questionsMap, responses, missingResponses,
+                visibilityTable, visibilityTable, new HashMap<>(), new HashMap<>(), roster);
+    }
+
+    /**
+     * Creates students of the course, with their teams spread evenly over the given number of sections.
+     */
+    static List<StudentAttributes> createStudents(int numOfStudents, int numOfSections) {
+        List<StudentAttributes> students = new ArrayList<>();
+        for (int i = 0; i < numOfStudents; i++) {
+            int teamNumber = i / NUM_OF_STUDENTS_PER_TEAM;
+            students.add(StudentAttributes.builder(COURSE_ID, "student" + i + "@benchmark.tmt")
+                    .withName("Student " + i)
+                    .withTeamName("Team " + teamNumber)
+                    .withSectionName("Section " + teamNumber % numOfSections)
+                    .withComment("")
+                    .build());
+        }
+        return students;
+    }
+
+    private static FeedbackResponseDetails createResponseDetails(
+            FeedbackQuestionAttributes question, int giver, int offset) {
+        if (question.getQuestionDetails() instanceof FeedbackTextQuestionDetails) {
+            return new FeedbackTextResponseDetails("<p>Response of student " + giver + " to peer " + offset + "</p>");
+        }
+        FeedbackNumericalScaleResponseDetails responseDetails = new FeedbackNumericalScaleResponseDetails();
+        responseDetails.setAnswer((giver + offset) % 5 + 1);
+        return responseDetails;
+    }
+
+}
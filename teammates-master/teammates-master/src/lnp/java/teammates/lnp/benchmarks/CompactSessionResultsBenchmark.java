@@ -0,0 +1,40 @@
+package teammates.lnp.benchmarks;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.util.JsonUtils;
+import teammates.ui.output.CompactSessionResultsData;
+import teammates.ui.output.SessionResultsData;
+
+/**
+ * Benchmarks the size and the time taken to generate the JSON payload of the results of a 300-student
+ * peer review session, comparing the full format against the compact format.
+ */
+public class CompactSessionResultsBenchmark extends BaseBenchmark {
+
+    private SessionResultsBundle bundle;
+
+    @BeforeClass
+    public void buildSessionResults() {
+        bundle = BenchmarkSessionResults.createPeerReviewBundle();
+    }
+
+    @Test
+    public void benchmarkFullPayload() {
+        measure("Build and serialize full peer review results",
+                () -> JsonUtils.toCompactJson(SessionResultsData.initForInstructor(bundle)));
+        System.out.printf("Full payload size: %.1f KB%n",
+                JsonUtils.toCompactJson(SessionResultsData.initForInstructor(bundle)).length() / 1024.0);
+    }
+
+    @Test
+    public void benchmarkCompactPayload() {
+        measure("Build and serialize compact peer review results",
+                () -> JsonUtils.toCompactJson(CompactSessionResultsData.initForInstructor(bundle)));
+        System.out.printf("Compact payload size: %.1f KB%n",
+                JsonUtils.toCompactJson(CompactSessionResultsData.initForInstructor(bundle)).length() / 1024.0);
+    }
+
+}
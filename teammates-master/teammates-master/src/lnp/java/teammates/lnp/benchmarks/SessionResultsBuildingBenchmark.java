@@ -0,0 +1,45 @@
+package teammates.lnp.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.ui.output.SessionResultsData;
+
+/**
+ * Benchmarks the building of the API output of the results of a feedback session with 5,000 responses,
+ * which copies the details of every question and response.
+ */
+public class SessionResultsBuildingBenchmark extends BaseBenchmark {
+
+    private SessionResultsBundle bundle;
+
+    @BeforeClass
+    public void buildSessionResultsBundle() {
+        bundle = BenchmarkSessionResults.createBundle();
+    }
+
+    @Test
+    public void benchmarkBuildSessionResultsForInstructor() {
+        measure("Build 5,000-response session results for instructor",
+                () -> SessionResultsData.initForInstructor(bundle));
+    }
+
+    @Test
+    public void benchmarkCopyResponses() {
+        measure("Copy 5,000 responses", () -> {
+            List<FeedbackResponseAttributes> copies = new ArrayList<>();
+            for (List<FeedbackResponseAttributes> responses : bundle.getQuestionResponseMap().values()) {
+                for (FeedbackResponseAttributes response : responses) {
+                    copies.add(new FeedbackResponseAttributes(response));
+                }
+            }
+            return copies;
+        });
+    }
+
+}
@@ -0,0 +1,42 @@
+package teammates.lnp.benchmarks;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.util.JsonUtils;
+import teammates.ui.output.SessionResultsData;
+
+/**
+ * Benchmarks the serialization of the results of a feedback session with 5,000 responses into JSON.
+ */
+public class SessionResultsJsonBenchmark extends BaseBenchmark {
+
+    private SessionResultsData sessionResultsData;
+    private FeedbackResponseAttributes singleResponse;
+
+    @BeforeClass
+    public void buildSessionResults() {
+        SessionResultsBundle bundle = BenchmarkSessionResults.createBundle();
+        sessionResultsData = SessionResultsData.initForInstructor(bundle);
+        singleResponse = bundle.getQuestionResponseMap().values().iterator().next().get(0);
+    }
+
+    @Test
+    public void benchmarkSerializeSessionResults() {
+        measure("Serialize 5,000-response session results", () -> JsonUtils.toCompactJson(sessionResultsData));
+    }
+
+    @Test
+    public void benchmarkSerializeSingleResponse() {
+        measure("Serialize single response 5,000 times", () -> {
+            int totalLength = 0;
+            for (int i = 0; i < BenchmarkSessionResults.NUM_OF_RESPONSES; i++) {
+                totalLength += JsonUtils.toJson(singleResponse).length();
+            }
+            return totalLength;
+        });
+    }
+
+}
@@ -0,0 +1,88 @@
+package teammates.lnp.benchmarks;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.function.Supplier;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.google.gson.stream.JsonWriter;
+
+import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.util.JsonUtils;
+import teammates.ui.output.SessionResultsData;
+
+/**
+ * Benchmarks the memory used to send the results of a feedback session with 5,000 responses as JSON,
+ * comparing building the whole output before serializing it against streaming the output as it is built.
+ */
+public class SessionResultsStreamingBenchmark extends BaseBenchmark {
+
+    private static final String REQUEST_ID = "benchmark-request";
+
+    private SessionResultsBundle bundle;
+
+    @BeforeClass
+    public void buildSessionResults() {
+        bundle = BenchmarkSessionResults.createBundle();
+    }
+
+    @Test
+    public void benchmarkMaterializedOutput() {
+        measure("Build then serialize 5,000-response session results", () -> {
+            SessionResultsData output = SessionResultsData.initForInstructor(bundle);
+            output.setRequestId(REQUEST_ID);
+            JsonUtils.toCompactJson(output, Writer.nullWriter());
+            return output;
+        });
+        System.out.printf("Output tree retained while serializing: %.1f KB%n",
+                measureRetainedBytes(() -> SessionResultsData.initForInstructor(bundle)) / 1024.0);
+    }
+
+    @Test
+    public void benchmarkStreamedOutput() {
+        measure("Stream 5,000-response session results", () -> writeStreamed(Writer.nullWriter()));
+    }
+
+    @Test
+    public void testStreamedOutput_sameAsMaterializedOutput() {
+        SessionResultsData output = SessionResultsData.initForInstructor(bundle);
+        output.setRequestId(REQUEST_ID);
+        StringWriter streamedJson = new StringWriter();
+        writeStreamed(streamedJson);
+
+        assertEquals(JsonUtils.toCompactJson(output), streamedJson.toString());
+    }
+
+    private JsonWriter writeStreamed(Writer out) {
+        try {
+            JsonWriter writer = JsonUtils.newCompactJsonWriter(out);
+            SessionResultsData.writeForInstructor(bundle, REQUEST_ID, writer);
+            writer.flush();
+            return writer;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Estimates the heap retained by the object built by the operation, by comparing the used heap after
+     * garbage collection while the object is held against the used heap before the object is built.
+     */
+    @SuppressWarnings("PMD.DoNotCallGarbageCollectionExplicitly") // needed to measure the retained heap
+    private static long measureRetainedBytes(Supplier<?> operation) {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long usedBefore = runtime.totalMemory() - runtime.freeMemory();
+        Object retained = operation.get();
+        System.gc();
+        long usedAfter = runtime.totalMemory() - runtime.freeMemory();
+        // keeps the object reachable until the heap is measured
+        assertNotNull(retained);
+        return usedAfter - usedBefore;
+    }
+
+}
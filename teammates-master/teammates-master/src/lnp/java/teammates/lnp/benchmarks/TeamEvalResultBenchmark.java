@@ -0,0 +1,66 @@
+package teammates.lnp.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.TeamEvalResult;
+import teammates.common.datatransfer.TeamEvalResultBatch;
+import teammates.common.util.Const;
+
+/**
+ * Benchmarks the computation of the contribution question results of a course with 200 teams of 5 students,
+ * comparing a {@link TeamEvalResult} for each team against a {@link TeamEvalResultBatch} of all teams,
+ * computed sequentially and in parallel.
+ */
+public class TeamEvalResultBenchmark extends BaseBenchmark {
+
+    private static final int NUM_OF_TEAMS = 200;
+    private static final int TEAM_SIZE = 5;
+
+    private List<int[][]> submissionValues;
+
+    @BeforeClass
+    public void createSubmissions() {
+        Random random = new Random(NUM_OF_TEAMS);
+        submissionValues = new ArrayList<>();
+        for (int team = 0; team < NUM_OF_TEAMS; team++) {
+            int[][] submissions = new int[TEAM_SIZE][TEAM_SIZE];
+            for (int i = 0; i < TEAM_SIZE; i++) {
+                for (int j = 0; j < TEAM_SIZE; j++) {
+                    // one in ten students did not submit
+                    submissions[i][j] = random.nextInt(10) == 0 ? Const.POINTS_NOT_SUBMITTED : 50 + random.nextInt(101);
+                }
+            }
+            submissionValues.add(submissions);
+        }
+    }
+
+    @Test
+    public void benchmarkTeamEvalResultOfEachTeam() {
+        measure("Compute results of 200 teams with a TeamEvalResult each", () -> {
+            List<TeamEvalResult> results = new ArrayList<>();
+            for (int[][] submissions : submissionValues) {
+                results.add(new TeamEvalResult(submissions));
+            }
+            return results;
+        });
+    }
+
+    @Test
+    public void benchmarkTeamEvalResultBatch() {
+        measure("Compute results of 200 teams with a sequential batch",
+                () -> new TeamEvalResultBatch(submissionValues, false));
+    }
+
+    @Test
+    public void benchmarkParallelTeamEvalResultBatch() {
+        // memory allocated by the worker threads is not measured
+        measure("Compute results of 200 teams with a parallel batch",
+                () -> new TeamEvalResultBatch(submissionValues, true));
+    }
+
+}
@@ -0,0 +1,149 @@
+package teammates.lnp.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackQuestionVisibility;
+import teammates.common.datatransfer.InstructorPrivileges;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackTextQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+import teammates.common.util.Const;
+
+/**
+ * Benchmarks the visibility checks made for each of the 20,000 responses of a session when an instructor
+ * with section-level privileges views the results, comparing the checks against the visibility lists of
+ * the question and the privileges of the instructor with the checks against the compiled visibility
+ * settings and the privileges looked up once per section.
+ */
+public class VisibilityCheckBenchmark extends BaseBenchmark {
+
+    private static final String SESSION_NAME = "Benchmark Session";
+    private static final String INSTRUCTOR_EMAIL = "instructor@benchmark.tmt";
+    private static final int NUM_OF_STUDENTS = 200;
+    private static final int NUM_OF_SECTIONS = 10;
+    private static final int NUM_OF_RECIPIENTS_PER_GIVER = 100;
+
+    private List<StudentAttributes> students;
+    private FeedbackQuestionAttributes question;
+    private List<FeedbackResponseAttributes> responses;
+    private InstructorPrivileges privileges;
+
+    @BeforeClass
+    public void createSessionResponses() {
+        students = BenchmarkSessionResults.createStudents(NUM_OF_STUDENTS, NUM_OF_SECTIONS);
+        question = FeedbackQuestionAttributes.builder()
+                .withCourseId("benchmark.course")
+                .withFeedbackSessionName(SESSION_NAME)
+                .withQuestionDetails(new FeedbackTextQuestionDetails("Comment on your peer"))
+                .withQuestionDescription("")
+                .withQuestionNumber(1)
+                .withGiverType(FeedbackParticipantType.STUDENTS)
+                .withRecipientType(FeedbackParticipantType.STUDENTS)
+                .withNumberOfEntitiesToGiveFeedbackTo(NUM_OF_RECIPIENTS_PER_GIVER)
+                .withShowResponsesTo(Arrays.asList(FeedbackParticipantType.RECEIVER,
+                        FeedbackParticipantType.OWN_TEAM_MEMBERS, FeedbackParticipantType.INSTRUCTORS))
+                .withShowGiverNameTo(Arrays.asList(FeedbackParticipantType.OWN_TEAM_MEMBERS,
+                        FeedbackParticipantType.INSTRUCTORS))
+                .withShowRecipientNameTo(Arrays.asList(FeedbackParticipantType.RECEIVER,
+                        FeedbackParticipantType.INSTRUCTORS))
+                .build();
+        question.setId("question1");
+
+        responses = new ArrayList<>();
+        for (int giver = 0; giver < NUM_OF_STUDENTS; giver++) {
+            for (int offset = 1; offset <= NUM_OF_RECIPIENTS_PER_GIVER; offset++) {
+                StudentAttributes giverStudent = students.get(giver);
+                StudentAttributes recipientStudent = students.get((giver + offset) % NUM_OF_STUDENTS);
+                responses.add(FeedbackResponseAttributes
+                        .builder(question.getId(), giverStudent.getEmail(), recipientStudent.getEmail())
+                        .withFeedbackSessionName(SESSION_NAME)
+                        .withGiverSection(giverStudent.getSection())
+                        .withRecipientSection(recipientStudent.getSection())
+                        .withResponseDetails(new FeedbackTextResponseDetails("Response"))
+                        .build());
+            }
+        }
+
+        // a tutor who can view the results of half of the sections
+        privileges = new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_CUSTOM);
+        privileges.updatePrivilege(Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS, true);
+        for (int section = 0; section < NUM_OF_SECTIONS; section += 2) {
+            privileges.updatePrivilege("Section " + section, SESSION_NAME,
+                    Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS, false);
+        }
+    }
+
+    @Test
+    public void benchmarkCheckVisibilityWithVisibilityLists() {
+        measure("Check visibility of 20,000 responses with visibility lists", () -> {
+            int numOfVisibleNames = 0;
+            for (FeedbackResponseAttributes response : responses) {
+                boolean isVisibleResponse =
+                        (question.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
+                                || response.getGiver().equals(INSTRUCTOR_EMAIL))
+                        && privileges.isAllowedForPrivilege(response.getGiverSection(), SESSION_NAME,
+                                Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS)
+                        && privileges.isAllowedForPrivilege(response.getRecipientSection(), SESSION_NAME,
+                                Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS);
+                if (!isVisibleResponse) {
+                    continue;
+                }
+                for (FeedbackParticipantType type : question.getShowGiverNameTo()) {
+                    if (type == FeedbackParticipantType.INSTRUCTORS) {
+                        numOfVisibleNames++;
+                        break;
+                    }
+                }
+                for (FeedbackParticipantType type : question.getShowRecipientNameTo()) {
+                    if (type == FeedbackParticipantType.INSTRUCTORS) {
+                        numOfVisibleNames++;
+                        break;
+                    }
+                }
+            }
+            return numOfVisibleNames;
+        });
+    }
+
+    @Test
+    public void benchmarkCheckVisibilityWithCompiledVisibility() {
+        measure("Check visibility of 20,000 responses with compiled visibility", () -> {
+            FeedbackQuestionVisibility visibility = new FeedbackQuestionVisibility(question);
+            Map<String, Boolean> isViewableBySection = new HashMap<>();
+            for (StudentAttributes student : students) {
+                isViewableBySection.computeIfAbsent(student.getSection(), section -> privileges.isAllowedForPrivilege(
+                        section, SESSION_NAME, Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS));
+            }
+
+            int numOfVisibleNames = 0;
+            for (FeedbackResponseAttributes response : responses) {
+                boolean isVisibleResponse =
+                        (visibility.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
+                                || response.getGiver().equals(INSTRUCTOR_EMAIL))
+                        && isViewableBySection.get(response.getGiverSection())
+                        && isViewableBySection.get(response.getRecipientSection());
+                if (!isVisibleResponse) {
+                    continue;
+                }
+                if (visibility.isNameVisibleTo(true, FeedbackParticipantType.INSTRUCTORS)) {
+                    numOfVisibleNames++;
+                }
+                if (visibility.isNameVisibleTo(false, FeedbackParticipantType.INSTRUCTORS)) {
+                    numOfVisibleNames++;
+                }
+            }
+            return numOfVisibleNames;
+        });
+    }
+
+}
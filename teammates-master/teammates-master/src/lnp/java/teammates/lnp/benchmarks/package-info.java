@@ -0,0 +1,4 @@
+/**
+ * Contains micro-benchmarks of performance-sensitive code paths which run without a server.
+ */
+package teammates.lnp.benchmarks;
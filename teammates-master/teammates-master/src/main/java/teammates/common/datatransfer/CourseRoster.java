@@ -1,9 +1,12 @@
 package teammates.common.datatransfer;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -13,97 +16,205 @@ import teammates.common.util.Const;
  * Contains a list of students and instructors in a course. Useful for caching
  * a copy of student and instructor details of a course instead of reading
  * them from the database multiple times.
+ *
+ * <p>The roster is immutable once built, so that it can be shared by concurrent requests. Students and instructors
+ * are indexed by their emails, and the teams and sections of the course are numbered in the order they first
+ * appear among the students, so that the team and section of a student are looked up as integers.
+ * The information of every participant is built once, instead of every time it is looked up.
+ *
+ * <p>The attributes of the students and instructors held by the roster must not be modified.
  */
 public class CourseRoster {
 
-    private final Map<String, StudentAttributes> studentListByEmail = new HashMap<>();
-    private final Map<String, InstructorAttributes> instructorListByEmail = new HashMap<>();
+    private static final ParticipantInfo NOBODY_INFO =
+            new ParticipantInfo(Const.USER_NOBODY_TEXT, Const.USER_NOBODY_TEXT, Const.DEFAULT_SECTION);
+
+    private final List<StudentAttributes> students;
+    private final List<InstructorAttributes> instructors;
+    private final Map<String, Integer> studentIndices = new HashMap<>();
+    private final Map<String, Integer> instructorIndices = new HashMap<>();
+
+    private final List<String> teamNames = new ArrayList<>();
+    private final Map<String, Integer> teamIndices = new HashMap<>();
+    private final List<String> sectionNames = new ArrayList<>();
+    private final Map<String, Integer> sectionIndices = new HashMap<>();
+    private final List<String> unmodifiableSectionNames = Collections.unmodifiableList(sectionNames);
+    // the team and section of the student at each index, or -1 if the student has none
+    private final int[] teamIndexOfStudents;
+    private final int[] sectionIndexOfStudents;
+
     private final Map<String, List<StudentAttributes>> teamToMembersTable;
+    private final Map<String, ParticipantInfo> participantInfos = new HashMap<>();
 
     public CourseRoster(List<StudentAttributes> students, List<InstructorAttributes> instructors) {
-        populateStudentListByEmail(students);
-        populateInstructorListByEmail(instructors);
-        teamToMembersTable = buildTeamToMembersTable(getStudents());
+        this.students = Collections.unmodifiableList(indexByEmail(students, studentIndices, StudentAttributes::getEmail));
+        this.instructors = Collections.unmodifiableList(
+                indexByEmail(instructors, instructorIndices, InstructorAttributes::getEmail));
+
+        teamIndexOfStudents = new int[this.students.size()];
+        sectionIndexOfStudents = new int[this.students.size()];
+        Map<String, List<StudentAttributes>> membersOfTeams = new LinkedHashMap<>();
+        for (int i = 0; i < this.students.size(); i++) {
+            StudentAttributes student = this.students.get(i);
+            teamIndexOfStudents[i] = student.getTeam() == null ? -1 : addName(student.getTeam(), teamNames, teamIndices);
+            sectionIndexOfStudents[i] = student.getSection() == null
+                    ? -1 : addName(student.getSection(), sectionNames, sectionIndices);
+            membersOfTeams.computeIfAbsent(student.getTeam(), key -> new ArrayList<>()).add(student);
+        }
+        membersOfTeams.replaceAll((team, members) -> Collections.unmodifiableList(members));
+        teamToMembersTable = Collections.unmodifiableMap(membersOfTeams);
+
+        buildParticipantInfos();
     }
 
+    private static <T> List<T> indexByEmail(List<T> participants, Map<String, Integer> indices,
+            Function<T, String> emailGetter) {
+        List<T> indexedParticipants = new ArrayList<>();
+        if (participants == null) {
+            return indexedParticipants;
+        }
+
+        for (T participant : participants) {
+            Integer existingIndex = indices.get(emailGetter.apply(participant));
+            if (existingIndex == null) {
+                indices.put(emailGetter.apply(participant), indexedParticipants.size());
+                indexedParticipants.add(participant);
+            } else {
+                // a later participant with the same email replaces the earlier one
+                indexedParticipants.set(existingIndex, participant);
+            }
+        }
+        return indexedParticipants;
+    }
+
+    private static int addName(String name, List<String> names, Map<String, Integer> indices) {
+        return indices.computeIfAbsent(name, key -> {
+            names.add(key);
+            return names.size() - 1;
+        });
+    }
+
+    private void buildParticipantInfos() {
+        // students take precedence over instructors, who take precedence over teams
+        for (Map.Entry<String, List<StudentAttributes>> team : teamToMembersTable.entrySet()) {
+            String teamName = team.getKey();
+            participantInfos.put(teamName, new ParticipantInfo(teamName, teamName, team.getValue().get(0).getSection()));
+        }
+        for (InstructorAttributes instructor : instructors) {
+            participantInfos.put(instructor.getEmail(), new ParticipantInfo(
+                    instructor.getName(), Const.USER_TEAM_FOR_INSTRUCTOR, Const.DEFAULT_SECTION));
+        }
+        for (StudentAttributes student : students) {
+            participantInfos.put(student.getEmail(),
+                    new ParticipantInfo(student.getName(), student.getTeam(), student.getSection()));
+        }
+    }
+
+    /**
+     * Gets the students of the course.
+     *
+     * <p>The returned list is not modifiable.
+     */
     public List<StudentAttributes> getStudents() {
-        return new ArrayList<>(studentListByEmail.values());
+        return students;
     }
 
+    /**
+     * Gets the instructors of the course.
+     *
+     * <p>The returned list is not modifiable.
+     */
     public List<InstructorAttributes> getInstructors() {
-        return new ArrayList<>(instructorListByEmail.values());
+        return instructors;
     }
 
+    /**
+     * Gets the members of each team of the course.
+     *
+     * <p>The returned map and lists are not modifiable.
+     */
     public Map<String, List<StudentAttributes>> getTeamToMembersTable() {
         return teamToMembersTable;
     }
 
+    /**
+     * Gets the names of the sections the students of the course are in, in the order of their indices.
+     *
+     * <p>The returned list is not modifiable.
+     */
+    public List<String> getSectionNames() {
+        return unmodifiableSectionNames;
+    }
+
+    /**
+     * Returns the index of the student with the email in {@link #getStudents()}, or -1 if there is no such student.
+     */
+    public int getStudentIndex(String studentEmail) {
+        return studentIndices.getOrDefault(studentEmail, -1);
+    }
+
+    /**
+     * Returns the index of the team of the student at the index, or -1 if the student is not in a team.
+     */
+    public int getTeamIndexOfStudent(int studentIndex) {
+        return teamIndexOfStudents[studentIndex];
+    }
+
+    /**
+     * Returns the index of the section of the student at the index in {@link #getSectionNames()},
+     * or -1 if the student is not in a section.
+     */
+    public int getSectionIndexOfStudent(int studentIndex) {
+        return sectionIndexOfStudents[studentIndex];
+    }
+
     /**
      * Checks whether a student is in course.
      */
     public boolean isStudentInCourse(String studentEmail) {
-        return studentListByEmail.containsKey(studentEmail);
+        return studentIndices.containsKey(studentEmail);
     }
 
     /**
      * Checks whether a team is in course.
      */
     public boolean isTeamInCourse(String teamName) {
-        return teamToMembersTable.containsKey(teamName);
+        return teamIndices.containsKey(teamName);
     }
 
     /**
      * Checks whether a student is in team.
      */
     public boolean isStudentInTeam(String studentEmail, String targetTeamName) {
-        StudentAttributes student = studentListByEmail.get(studentEmail);
-        return student != null && student.getTeam().equals(targetTeamName);
+        int studentIndex = getStudentIndex(studentEmail);
+        Integer targetTeamIndex = teamIndices.get(targetTeamName);
+        return studentIndex != -1 && targetTeamIndex != null && teamIndexOfStudents[studentIndex] == targetTeamIndex;
     }
 
     /**
      * Checks whether two students are in the same team.
      */
     public boolean isStudentsInSameTeam(String studentEmail1, String studentEmail2) {
-        StudentAttributes student1 = studentListByEmail.get(studentEmail1);
-        StudentAttributes student2 = studentListByEmail.get(studentEmail2);
-        return student1 != null && student2 != null
-                && student1.getTeam() != null && student1.getTeam().equals(student2.getTeam());
+        int studentIndex1 = getStudentIndex(studentEmail1);
+        int studentIndex2 = getStudentIndex(studentEmail2);
+        return studentIndex1 != -1 && studentIndex2 != -1 && teamIndexOfStudents[studentIndex1] != -1
+                && teamIndexOfStudents[studentIndex1] == teamIndexOfStudents[studentIndex2];
     }
 
     /**
      * Returns the student object for the given email.
      */
     public StudentAttributes getStudentForEmail(String email) {
-        return studentListByEmail.get(email);
+        int studentIndex = getStudentIndex(email);
+        return studentIndex == -1 ? null : students.get(studentIndex);
     }
 
     /**
      * Returns the instructor object for the given email.
      */
     public InstructorAttributes getInstructorForEmail(String email) {
-        return instructorListByEmail.get(email);
-    }
-
-    private void populateStudentListByEmail(List<StudentAttributes> students) {
-
-        if (students == null) {
-            return;
-        }
-
-        for (StudentAttributes s : students) {
-            studentListByEmail.put(s.getEmail(), s);
-        }
-    }
-
-    private void populateInstructorListByEmail(List<InstructorAttributes> instructors) {
-
-        if (instructors == null) {
-            return;
-        }
-
-        for (InstructorAttributes i : instructors) {
-            instructorListByEmail.put(i.getEmail(), i);
-        }
+        Integer instructorIndex = instructorIndices.get(email);
+        return instructorIndex == null ? null : instructors.get(instructorIndex);
     }
 
     /**
@@ -125,34 +236,7 @@ public class CourseRoster {
      * @return an object {@link ParticipantInfo} containing the name, teamName and the sectionName.
      */
     public ParticipantInfo getInfoForIdentifier(String identifier) {
-        String name = Const.USER_NOBODY_TEXT;
-        String teamName = Const.USER_NOBODY_TEXT;
-        String sectionName = Const.DEFAULT_SECTION;
-
-        boolean isStudent = getStudentForEmail(identifier) != null;
-        boolean isInstructor = getInstructorForEmail(identifier) != null;
-        boolean isTeam = getTeamToMembersTable().containsKey(identifier);
-        if (isStudent) {
-            StudentAttributes student = getStudentForEmail(identifier);
-
-            name = student.getName();
-            teamName = student.getTeam();
-            sectionName = student.getSection();
-        } else if (isInstructor) {
-            InstructorAttributes instructor = getInstructorForEmail(identifier);
-
-            name = instructor.getName();
-            teamName = Const.USER_TEAM_FOR_INSTRUCTOR;
-            sectionName = Const.DEFAULT_SECTION;
-        } else if (isTeam) {
-            StudentAttributes teamMember = getTeamToMembersTable().get(identifier).iterator().next();
-
-            name = identifier;
-            teamName = identifier;
-            sectionName = teamMember.getSection();
-        }
-
-        return new ParticipantInfo(name, teamName, sectionName);
+        return participantInfos.getOrDefault(identifier, NOBODY_INFO);
     }
 
     /**
@@ -0,0 +1,58 @@
+package teammates.common.datatransfer;
+
+import java.util.List;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+
+/**
+ * Visibility settings of a feedback question, compiled into bitmasks over {@link FeedbackParticipantType}.
+ *
+ * <p>Checking whether the responses of the question, or the names of their givers and recipients, are visible to
+ * a type of participant takes constant time instead of a scan of the visibility lists of the question.
+ * This is meant to be used when checking the visibility of many responses of the same question.
+ *
+ * <p>The settings are compiled when the object is created; later changes to the question are not reflected.
+ */
+public final class FeedbackQuestionVisibility {
+
+    private final int responseViewers;
+    private final int giverNameViewers;
+    private final int recipientNameViewers;
+
+    public FeedbackQuestionVisibility(FeedbackQuestionAttributes question) {
+        this.responseViewers = toBitmask(question.getShowResponsesTo());
+        this.giverNameViewers = toBitmask(question.getShowGiverNameTo());
+        this.recipientNameViewers = toBitmask(question.getShowRecipientNameTo());
+    }
+
+    private static int toBitmask(List<FeedbackParticipantType> types) {
+        int bitmask = 0;
+        for (FeedbackParticipantType type : types) {
+            bitmask |= toBit(type);
+        }
+        return bitmask;
+    }
+
+    private static int toBit(FeedbackParticipantType type) {
+        return 1 << type.ordinal();
+    }
+
+    /**
+     * Returns true if the responses of the question are visible to the given type of participant.
+     *
+     * @see FeedbackQuestionAttributes#isResponseVisibleTo(FeedbackParticipantType)
+     */
+    public boolean isResponseVisibleTo(FeedbackParticipantType type) {
+        return (responseViewers & toBit(type)) != 0;
+    }
+
+    /**
+     * Returns true if the names of the givers (if {@code isGiverName}) or the recipients of the responses
+     * of the question are visible to the given type of participant.
+     */
+    public boolean isNameVisibleTo(boolean isGiverName, FeedbackParticipantType type) {
+        int nameViewers = isGiverName ? giverNameViewers : recipientNameViewers;
+        return (nameViewers & toBit(type)) != 0;
+    }
+
+}
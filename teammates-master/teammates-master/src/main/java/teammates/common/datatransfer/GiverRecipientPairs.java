@@ -0,0 +1,132 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A set of giver-recipient pairs of a feedback question.
+ *
+ * <p>Givers and recipients are identified by their identifiers (email, team name, etc.) and indexed
+ * in the order they are added. The recipients of each giver are held as a {@link BitSet} over the recipient
+ * indices, so that the pairs of a question given by every student to every other student take
+ * one bit each instead of one object each.
+ */
+public final class GiverRecipientPairs {
+
+    private final List<String> givers = new ArrayList<>();
+    private final Map<String, Integer> giverIndices = new HashMap<>();
+    private final List<BitSet> recipientsOfGivers = new ArrayList<>();
+    private final List<String> recipients = new ArrayList<>();
+    private final Map<String, Integer> recipientIndices = new HashMap<>();
+
+    /**
+     * Adds a giver without any recipient if the giver is not added yet.
+     *
+     * @return the index of the giver
+     */
+    public int addGiver(String giver) {
+        Integer index = giverIndices.get(giver);
+        if (index != null) {
+            return index;
+        }
+        givers.add(giver);
+        recipientsOfGivers.add(new BitSet());
+        giverIndices.put(giver, givers.size() - 1);
+        return givers.size() - 1;
+    }
+
+    /**
+     * Adds a recipient, which can then be paired with givers, if the recipient is not added yet.
+     *
+     * @return the index of the recipient
+     */
+    public int addRecipient(String recipient) {
+        Integer index = recipientIndices.get(recipient);
+        if (index != null) {
+            return index;
+        }
+        recipients.add(recipient);
+        recipientIndices.put(recipient, recipients.size() - 1);
+        return recipients.size() - 1;
+    }
+
+    /**
+     * Removes the pair of the giver and the recipient, if it is in the set.
+     */
+    public void remove(String giver, String recipient) {
+        int giverIndex = getGiverIndex(giver);
+        int recipientIndex = getRecipientIndex(recipient);
+        if (giverIndex != -1 && recipientIndex != -1) {
+            recipientsOfGivers.get(giverIndex).clear(recipientIndex);
+        }
+    }
+
+    /**
+     * Returns true if the pair of the giver and the recipient is in the set.
+     */
+    public boolean contains(String giver, String recipient) {
+        int giverIndex = getGiverIndex(giver);
+        int recipientIndex = getRecipientIndex(recipient);
+        return giverIndex != -1 && recipientIndex != -1 && recipientsOfGivers.get(giverIndex).get(recipientIndex);
+    }
+
+    /**
+     * Returns the index of the giver, or -1 if the giver is not added.
+     */
+    public int getGiverIndex(String giver) {
+        return giverIndices.getOrDefault(giver, -1);
+    }
+
+    /**
+     * Returns the index of the recipient, or -1 if the recipient is not added.
+     */
+    public int getRecipientIndex(String recipient) {
+        return recipientIndices.getOrDefault(recipient, -1);
+    }
+
+    /**
+     * Gets the identifier of the giver at the index.
+     */
+    public String getGiver(int giverIndex) {
+        return givers.get(giverIndex);
+    }
+
+    /**
+     * Gets the identifier of the recipient at the index.
+     */
+    public String getRecipient(int recipientIndex) {
+        return recipients.get(recipientIndex);
+    }
+
+    public int getNumberOfGivers() {
+        return givers.size();
+    }
+
+    public int getNumberOfRecipients() {
+        return recipients.size();
+    }
+
+    /**
+     * Gets the indices of the recipients paired with the giver.
+     *
+     * <p>The returned set is backed by this object; pairs can be added or removed through it.
+     */
+    public BitSet getRecipientsOfGiver(int giverIndex) {
+        return recipientsOfGivers.get(giverIndex);
+    }
+
+    /**
+     * Returns the number of pairs in the set.
+     */
+    public int size() {
+        int size = 0;
+        for (BitSet recipientsOfGiver : recipientsOfGivers) {
+            size += recipientsOfGiver.cardinality();
+        }
+        return size;
+    }
+
+}
@@ -0,0 +1,167 @@
+package teammates.common.datatransfer;
+
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+
+/**
+ * The missing responses of a feedback question, i.e. the responses expected from giver-recipient pairs
+ * which have not responded, generated as they are read.
+ *
+ * <p>Only the pairs are held; the placeholder responses are created anew whenever an element is read,
+ * e.g. when the results are serialized. The number of missing responses is known without creating any of them.
+ *
+ * <p>Whether the giver or recipient name of a missing response is visible is held for each giver and each
+ * recipient instead of for each response: the name is visible if it is visible for either of them.
+ *
+ * <p>The list is not modifiable and the pairs it is created with must not be changed afterwards.
+ */
+public final class MissingResponseList extends AbstractList<FeedbackResponseAttributes> {
+
+    private static final String MISSING_RESPONSE_TEXT = "No Response";
+
+    private final FeedbackQuestionAttributes question;
+    private final GiverRecipientPairs missingPairs;
+    private final CourseRoster roster;
+    // number of missing responses of the givers before each giver, to locate the response at an index
+    private final int[] numberOfResponsesBeforeGiver;
+    private final int size;
+
+    private BitSet giverNameVisibleForGivers = new BitSet();
+    private BitSet giverNameVisibleForRecipients = new BitSet();
+    private BitSet recipientNameVisibleForGivers = new BitSet();
+    private BitSet recipientNameVisibleForRecipients = new BitSet();
+
+    public MissingResponseList(FeedbackQuestionAttributes question, GiverRecipientPairs missingPairs,
+            CourseRoster roster) {
+        this.question = question;
+        this.missingPairs = missingPairs;
+        this.roster = roster;
+        this.numberOfResponsesBeforeGiver = new int[missingPairs.getNumberOfGivers() + 1];
+        for (int giverIndex = 0; giverIndex < missingPairs.getNumberOfGivers(); giverIndex++) {
+            numberOfResponsesBeforeGiver[giverIndex + 1] = numberOfResponsesBeforeGiver[giverIndex]
+                    + missingPairs.getRecipientsOfGiver(giverIndex).cardinality();
+        }
+        this.size = numberOfResponsesBeforeGiver[missingPairs.getNumberOfGivers()];
+    }
+
+    /**
+     * Sets the givers and recipients, by their indices in the pairs, for whose missing responses
+     * the giver name (if {@code isGiverName}) or the recipient name is visible.
+     */
+    public void setNameVisibility(boolean isGiverName, BitSet visibleForGivers, BitSet visibleForRecipients) {
+        if (isGiverName) {
+            giverNameVisibleForGivers = visibleForGivers;
+            giverNameVisibleForRecipients = visibleForRecipients;
+        } else {
+            recipientNameVisibleForGivers = visibleForGivers;
+            recipientNameVisibleForRecipients = visibleForRecipients;
+        }
+    }
+
+    /**
+     * Returns true if the giver name (if {@code isGiverName}) or the recipient name of a missing response
+     * in the list is visible.
+     */
+    public boolean isNameVisible(boolean isGiverName, FeedbackResponseAttributes response) {
+        int giverIndex = missingPairs.getGiverIndex(response.getGiver());
+        int recipientIndex = missingPairs.getRecipientIndex(response.getRecipient());
+        if (giverIndex == -1 || recipientIndex == -1) {
+            return false;
+        }
+        return isGiverName
+                ? giverNameVisibleForGivers.get(giverIndex) || giverNameVisibleForRecipients.get(recipientIndex)
+                : recipientNameVisibleForGivers.get(giverIndex) || recipientNameVisibleForRecipients.get(recipientIndex);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public FeedbackResponseAttributes get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        // the last giver with fewer missing responses before it than the index
+        int low = 0;
+        int high = missingPairs.getNumberOfGivers() - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (numberOfResponsesBeforeGiver[mid] <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        int giverIndex = low;
+
+        BitSet recipientsOfGiver = missingPairs.getRecipientsOfGiver(giverIndex);
+        int recipientIndex = recipientsOfGiver.nextSetBit(0);
+        for (int i = numberOfResponsesBeforeGiver[giverIndex]; i < index; i++) {
+            recipientIndex = recipientsOfGiver.nextSetBit(recipientIndex + 1);
+        }
+        return createMissingResponse(giverIndex, recipientIndex);
+    }
+
+    @Override
+    public Iterator<FeedbackResponseAttributes> iterator() {
+        return new Iterator<>() {
+            private int giverIndex = nextGiverWithResponses(0);
+            private int recipientIndex = giverIndex < missingPairs.getNumberOfGivers()
+                    ? missingPairs.getRecipientsOfGiver(giverIndex).nextSetBit(0)
+                    : -1;
+
+            @Override
+            public boolean hasNext() {
+                return giverIndex < missingPairs.getNumberOfGivers();
+            }
+
+            @Override
+            public FeedbackResponseAttributes next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                FeedbackResponseAttributes missingResponse = createMissingResponse(giverIndex, recipientIndex);
+
+                recipientIndex = missingPairs.getRecipientsOfGiver(giverIndex).nextSetBit(recipientIndex + 1);
+                if (recipientIndex == -1) {
+                    giverIndex = nextGiverWithResponses(giverIndex + 1);
+                    if (hasNext()) {
+                        recipientIndex = missingPairs.getRecipientsOfGiver(giverIndex).nextSetBit(0);
+                    }
+                }
+                return missingResponse;
+            }
+        };
+    }
+
+    private int nextGiverWithResponses(int fromGiverIndex) {
+        int giverIndex = fromGiverIndex;
+        while (giverIndex < missingPairs.getNumberOfGivers()
+                && numberOfResponsesBeforeGiver[giverIndex + 1] == numberOfResponsesBeforeGiver[giverIndex]) {
+            giverIndex++;
+        }
+        return giverIndex;
+    }
+
+    private FeedbackResponseAttributes createMissingResponse(int giverIndex, int recipientIndex) {
+        String giver = missingPairs.getGiver(giverIndex);
+        String recipient = missingPairs.getRecipient(recipientIndex);
+        return FeedbackResponseAttributes.builder(question.getId(), giver, recipient)
+                .withCourseId(question.getCourseId())
+                .withFeedbackSessionName(question.getFeedbackSessionName())
+                .withGiverSection(roster.getInfoForIdentifier(giver).getSectionName())
+                .withRecipientSection(roster.getInfoForIdentifier(recipient).getSectionName())
+                .withResponseDetails(new FeedbackTextResponseDetails(MISSING_RESPONSE_TEXT))
+                .build();
+    }
+
+}
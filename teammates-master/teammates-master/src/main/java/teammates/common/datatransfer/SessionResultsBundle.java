@@ -1,9 +1,11 @@
 package teammates.common.datatransfer;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -19,11 +21,14 @@ public class SessionResultsBundle {
     private final Map<String, FeedbackQuestionAttributes> questionsMap;
     private final Map<String, List<FeedbackResponseAttributes>> questionResponseMap;
     private final Map<String, List<FeedbackResponseAttributes>> questionMissingResponseMap;
+    private final Map<String, MissingResponseList> questionMissingResponseLists;
     private final Map<String, List<FeedbackResponseCommentAttributes>> responseCommentsMap;
     private final Map<String, Boolean> responseGiverVisibilityTable;
     private final Map<String, Boolean> responseRecipientVisibilityTable;
     private final Map<Long, Boolean> commentGiverVisibilityTable;
     private final CourseRoster roster;
+    // hashes of the encrypted names of anonymized participants; the bundle can be read by many threads
+    private final Map<String, String> anonNameHashes = new ConcurrentHashMap<>();
 
     public SessionResultsBundle(Map<String, FeedbackQuestionAttributes> questionsMap,
                                 List<FeedbackResponseAttributes> responses,
@@ -33,6 +38,38 @@ public class SessionResultsBundle {
                                 Map<String, List<FeedbackResponseCommentAttributes>> responseCommentsMap,
                                 Map<Long, Boolean> commentGiverVisibilityTable,
                                 CourseRoster roster) {
+        this(questionsMap, responses, buildQuestionToResponseMap(questionsMap, missingResponses), new HashMap<>(),
+                responseGiverVisibilityTable, responseRecipientVisibilityTable, responseCommentsMap,
+                commentGiverVisibilityTable, roster);
+    }
+
+    /**
+     * Creates a bundle with the missing responses of each question generated as they are read.
+     *
+     * <p>The name visibility of the missing responses is held by the lists instead of the visibility tables.
+     */
+    public SessionResultsBundle(Map<String, FeedbackQuestionAttributes> questionsMap,
+                                List<FeedbackResponseAttributes> responses,
+                                Map<String, MissingResponseList> questionMissingResponseLists,
+                                Map<String, Boolean> responseGiverVisibilityTable,
+                                Map<String, Boolean> responseRecipientVisibilityTable,
+                                Map<String, List<FeedbackResponseCommentAttributes>> responseCommentsMap,
+                                Map<Long, Boolean> commentGiverVisibilityTable,
+                                CourseRoster roster) {
+        this(questionsMap, responses, buildQuestionToMissingResponseMap(questionsMap, questionMissingResponseLists),
+                questionMissingResponseLists, responseGiverVisibilityTable, responseRecipientVisibilityTable,
+                responseCommentsMap, commentGiverVisibilityTable, roster);
+    }
+
+    private SessionResultsBundle(Map<String, FeedbackQuestionAttributes> questionsMap,
+                                 List<FeedbackResponseAttributes> responses,
+                                 Map<String, List<FeedbackResponseAttributes>> questionMissingResponseMap,
+                                 Map<String, MissingResponseList> questionMissingResponseLists,
+                                 Map<String, Boolean> responseGiverVisibilityTable,
+                                 Map<String, Boolean> responseRecipientVisibilityTable,
+                                 Map<String, List<FeedbackResponseCommentAttributes>> responseCommentsMap,
+                                 Map<Long, Boolean> commentGiverVisibilityTable,
+                                 CourseRoster roster) {
 
         this.questionsMap = questionsMap;
         this.responseCommentsMap = responseCommentsMap;
@@ -40,12 +77,13 @@ public class SessionResultsBundle {
         this.responseRecipientVisibilityTable = responseRecipientVisibilityTable;
         this.commentGiverVisibilityTable = commentGiverVisibilityTable;
         this.roster = roster;
-        this.questionResponseMap = buildQuestionToResponseMap(responses);
-        this.questionMissingResponseMap = buildQuestionToResponseMap(missingResponses);
+        this.questionResponseMap = buildQuestionToResponseMap(questionsMap, responses);
+        this.questionMissingResponseMap = questionMissingResponseMap;
+        this.questionMissingResponseLists = questionMissingResponseLists;
     }
 
-    private Map<String, List<FeedbackResponseAttributes>> buildQuestionToResponseMap(
-            List<FeedbackResponseAttributes> responses) {
+    private static Map<String, List<FeedbackResponseAttributes>> buildQuestionToResponseMap(
+            Map<String, FeedbackQuestionAttributes> questionsMap, List<FeedbackResponseAttributes> responses) {
         // build question to response map
         Map<String, List<FeedbackResponseAttributes>> questionToResponseMap = new LinkedHashMap<>();
         List<FeedbackQuestionAttributes> questions = new ArrayList<>(questionsMap.values());
@@ -60,6 +98,18 @@ public class SessionResultsBundle {
         return questionToResponseMap;
     }
 
+    private static Map<String, List<FeedbackResponseAttributes>> buildQuestionToMissingResponseMap(
+            Map<String, FeedbackQuestionAttributes> questionsMap,
+            Map<String, MissingResponseList> questionMissingResponseLists) {
+        Map<String, List<FeedbackResponseAttributes>> questionToMissingResponseMap = new LinkedHashMap<>();
+        for (FeedbackQuestionAttributes question : questionsMap.values()) {
+            List<FeedbackResponseAttributes> missingResponses = questionMissingResponseLists.get(question.getId());
+            questionToMissingResponseMap.put(question.getId(),
+                    missingResponses == null ? new ArrayList<>() : missingResponses);
+        }
+        return questionToMissingResponseMap;
+    }
+
     /**
      * Returns true if the giver of a response is visible to the current user.
      * Returns false otherwise.
@@ -84,14 +134,22 @@ public class SessionResultsBundle {
         FeedbackParticipantType participantType;
         String responseId = response.getId();
 
-        boolean isVisible;
+        Boolean isVisibleInTable;
         if (isGiver) {
-            isVisible = responseGiverVisibilityTable.get(responseId);
+            isVisibleInTable = responseGiverVisibilityTable.get(responseId);
             participantType = question.getGiverType();
         } else {
-            isVisible = responseRecipientVisibilityTable.get(responseId);
+            isVisibleInTable = responseRecipientVisibilityTable.get(responseId);
             participantType = question.getRecipientType();
         }
+        boolean isVisible;
+        if (isVisibleInTable == null) {
+            // missing responses generated as they are read are not in the tables
+            MissingResponseList missingResponses = questionMissingResponseLists.get(question.getId());
+            isVisible = missingResponses != null && missingResponses.isNameVisible(isGiver, response);
+        } else {
+            isVisible = isVisibleInTable;
+        }
         boolean isTypeNone = participantType == FeedbackParticipantType.NONE;
 
         return isVisible || isTypeNone;
@@ -111,7 +169,21 @@ public class SessionResultsBundle {
      * <p>The anonymous name will be deterministic based on {@code name}.
      */
     public static String getAnonName(FeedbackParticipantType type, String name) {
-        String hashedEncryptedName = getHashOfName(getEncryptedName(name));
+        return formatAnonName(type, getHashOfName(getEncryptedName(name)));
+    }
+
+    /**
+     * Gets the anonymous name for a given name, the same as {@link #getAnonName(FeedbackParticipantType, String)}.
+     *
+     * <p>The hash of the encrypted name is memoized for the bundle, so that a participant anonymized
+     * in many responses is only encrypted once.
+     */
+    public String getMemoizedAnonName(FeedbackParticipantType type, String name) {
+        String hashedEncryptedName = anonNameHashes.computeIfAbsent(name, key -> getHashOfName(getEncryptedName(key)));
+        return formatAnonName(type, hashedEncryptedName);
+    }
+
+    private static String formatAnonName(FeedbackParticipantType type, String hashedEncryptedName) {
         String participantType = type.toSingularFormString();
         return String.format(
                 Const.DISPLAYED_NAME_FOR_ANONYMOUS_PARTICIPANT + " %s %s", participantType, hashedEncryptedName);
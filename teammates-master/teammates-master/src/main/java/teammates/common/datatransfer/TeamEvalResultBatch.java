@@ -0,0 +1,283 @@
+package teammates.common.datatransfer;
+
+import static teammates.common.datatransfer.TeamEvalResult.NA;
+import static teammates.common.datatransfer.TeamEvalResult.NSB;
+import static teammates.common.datatransfer.TeamEvalResult.NSU;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import teammates.common.util.Const;
+
+/**
+ * This class represents the feedback contribution question results of a batch of teams, computed together.
+ *
+ * <p>The results are the same as those of a {@link TeamEvalResult} created for each team. Instead of the matrices
+ * allocated by every step of {@link TeamEvalResult} for every team, the values of all teams are held in
+ * flat primitive arrays allocated once for the batch, in which the matrix of a team is stored row by row.
+ * The teams use disjoint parts of the arrays, so that they can be computed in parallel.
+ */
+public final class TeamEvalResultBatch {
+
+    private final List<int[][]> claimed;
+    private final int[] matrixOffsets;
+    private final int[] vectorOffsets;
+
+    private final int[] normalizedClaimed;
+    private final int[] normalizedAveragePerceived;
+    private final int[] denormalizedAveragePerceived;
+    private final int[] normalizedPeerContributionRatio;
+
+    /**
+     * Computes the results of the teams with the given submission values.
+     *
+     * @param submissionValues the submission values of each team, as would be given to {@link TeamEvalResult}
+     * @param isParallel whether the teams are computed in parallel
+     */
+    public TeamEvalResultBatch(List<int[][]> submissionValues, boolean isParallel) {
+        int numberOfTeams = submissionValues.size();
+        claimed = submissionValues;
+        matrixOffsets = new int[numberOfTeams + 1];
+        vectorOffsets = new int[numberOfTeams + 1];
+        for (int team = 0; team < numberOfTeams; team++) {
+            int teamSize = submissionValues.get(team).length;
+            matrixOffsets[team + 1] = matrixOffsets[team] + teamSize * teamSize;
+            vectorOffsets[team + 1] = vectorOffsets[team] + teamSize;
+        }
+
+        normalizedClaimed = new int[matrixOffsets[numberOfTeams]];
+        normalizedPeerContributionRatio = new int[matrixOffsets[numberOfTeams]];
+        denormalizedAveragePerceived = new int[matrixOffsets[numberOfTeams]];
+        normalizedAveragePerceived = new int[vectorOffsets[numberOfTeams]];
+
+        // intermediate values, in the same layout as the results
+        double[] peerContributionRatio = new double[matrixOffsets[numberOfTeams]];
+        double[] averagePerceived = new double[vectorOffsets[numberOfTeams]];
+        double[] normalizedAveragePerceivedAsDouble = new double[vectorOffsets[numberOfTeams]];
+
+        IntStream teams = IntStream.range(0, numberOfTeams);
+        if (isParallel) {
+            teams = teams.parallel();
+        }
+        teams.forEach(team -> calculateTeam(team, peerContributionRatio, averagePerceived,
+                normalizedAveragePerceivedAsDouble));
+    }
+
+    private void calculateTeam(int team, double[] peerContributionRatio, double[] averagePerceived,
+            double[] normalizedAveragePerceivedAsDouble) {
+        int[][] submissions = claimed.get(team);
+        int teamSize = submissions.length;
+        int matrixOffset = matrixOffsets[team];
+        int vectorOffset = vectorOffsets[team];
+
+        for (int i = 0; i < teamSize; i++) {
+            int rowOffset = matrixOffset + i * teamSize;
+
+            // normalized claimed values, from the values as submitted
+            for (int j = 0; j < teamSize; j++) {
+                peerContributionRatio[rowOffset + j] = submissions[i][j];
+            }
+            normalizeValues(peerContributionRatio, rowOffset, teamSize);
+            for (int j = 0; j < teamSize; j++) {
+                normalizedClaimed[rowOffset + j] = doubleToInt(peerContributionRatio[rowOffset + j]);
+            }
+
+            // peer contribution ratio, from the sanitized values normalized before and after removing self rating
+            for (int j = 0; j < teamSize; j++) {
+                peerContributionRatio[rowOffset + j] = sanitize(submissions[i][j]);
+            }
+            normalizeValues(peerContributionRatio, rowOffset, teamSize);
+            peerContributionRatio[rowOffset + i] = NA;
+            normalizeValues(peerContributionRatio, rowOffset, teamSize);
+        }
+
+        for (int j = 0; j < teamSize; j++) {
+            averagePerceived[vectorOffset + j] = averageColumn(peerContributionRatio, matrixOffset, teamSize, j);
+        }
+        double factor = calculateFactor(averagePerceived, vectorOffset, teamSize);
+        for (int j = 0; j < teamSize; j++) {
+            normalizedAveragePerceivedAsDouble[vectorOffset + j] =
+                    multiplyByFactor(factor, averagePerceived[vectorOffset + j]);
+            normalizedAveragePerceived[vectorOffset + j] =
+                    doubleToInt(normalizedAveragePerceivedAsDouble[vectorOffset + j]);
+        }
+
+        // the column averages the peer contribution ratio is adjusted with are the same as the average perceived
+        for (int k = matrixOffset; k < matrixOffset + teamSize * teamSize; k++) {
+            normalizedPeerContributionRatio[k] = doubleToInt(multiplyByFactor(factor, peerContributionRatio[k]));
+        }
+
+        for (int i = 0; i < teamSize; i++) {
+            calculatePerceivedForStudent(submissions[i], normalizedAveragePerceivedAsDouble, vectorOffset,
+                    matrixOffset + i * teamSize);
+        }
+    }
+
+    /**
+     * Calculates the perceived values shown to a student, denormalized to match the claimed values of the student.
+     *
+     * @see TeamEvalResult#calculatePerceivedForStudent(int[], double[])
+     */
+    private void calculatePerceivedForStudent(int[] submissionRow, double[] normalizedAveragePerceivedAsDouble,
+            int vectorOffset, int rowOffset) {
+        int teamSize = submissionRow.length;
+        if (teamSize == 0) {
+            return;
+        }
+
+        // sum of the perceived values and of the claimed values, excluding those for which the other is missing
+        double sumOfPerceived = NA;
+        double sumOfActualAsDouble = NA;
+        for (int j = 0; j < teamSize; j++) {
+            int claimedValue = sanitize(submissionRow[j]);
+            double perceivedValue = normalizedAveragePerceivedAsDouble[vectorOffset + j];
+            if (!isSpecialValue(claimedValue)) {
+                sumOfPerceived = addToSum(sumOfPerceived, perceivedValue);
+            }
+            if (!isSpecialValue((int) perceivedValue)) {
+                sumOfActualAsDouble = addToSum(sumOfActualAsDouble, claimedValue);
+            }
+        }
+        double sumOfActual = (int) sumOfActualAsDouble;
+
+        // if the student did not submit
+        if (sumOfActual == NA) {
+            sumOfActual = sumOfPerceived;
+        }
+
+        double factor = sumOfActual / sumOfPerceived;
+        for (int j = 0; j < teamSize; j++) {
+            denormalizedAveragePerceived[rowOffset + j] =
+                    doubleToInt(multiplyByFactor(factor, normalizedAveragePerceivedAsDouble[vectorOffset + j]));
+        }
+    }
+
+    private static double addToSum(double sum, double value) {
+        if (isValidSpecialValue(value)) {
+            return sum;
+        }
+        return sum == NA ? value : sum + value;
+    }
+
+    private static int sanitize(int points) {
+        return points == NSB ? NA : points;
+    }
+
+    private static boolean isSpecialValue(int value) {
+        return value == NA || value == NSU || value == NSB;
+    }
+
+    private static boolean isValidSpecialValue(double value) {
+        return value == NA || value == NSU;
+    }
+
+    private static void normalizeValues(double[] values, int offset, int length) {
+        double factor = calculateFactor(values, offset, length);
+        for (int k = offset; k < offset + length; k++) {
+            values[k] = multiplyByFactor(factor, values[k]);
+        }
+    }
+
+    private static double calculateFactor(double[] values, int offset, int length) {
+        double actualSum = 0;
+        int count = 0;
+        for (int k = offset; k < offset + length; k++) {
+            if (isSpecialValue((int) values[k])) {
+                continue;
+            }
+            actualSum += values[k];
+            count++;
+        }
+
+        double idealSum = count * Const.POINTS_EQUAL_SHARE * 1.0;
+        return actualSum == 0 ? 0 : idealSum / actualSum;
+    }
+
+    private static double multiplyByFactor(double factor, double value) {
+        if (isSpecialValue((int) value)) {
+            return value;
+        }
+        return factor == 0 ? value : value * factor;
+    }
+
+    private static double averageColumn(double[] matrix, int matrixOffset, int teamSize, int column) {
+        double sum = 0;
+        int count = 0;
+        for (int i = 0; i < teamSize; i++) {
+            double value = matrix[matrixOffset + i * teamSize + column];
+            if (isValidSpecialValue(value)) {
+                continue;
+            }
+            sum += value;
+            count++;
+        }
+        // omit calculation if no data points
+        return count == 0 ? NA : sum / count;
+    }
+
+    private static int doubleToInt(double value) {
+        return (int) Math.round(value);
+    }
+
+    public int getNumberOfTeams() {
+        return claimed.size();
+    }
+
+    /**
+     * Gets the number of members of the team at the index.
+     */
+    public int getTeamSize(int team) {
+        return claimed.get(team).length;
+    }
+
+    /**
+     * Gets the submission value originally from a member of a team to another.
+     *
+     * @see TeamEvalResult#claimed
+     */
+    public int getClaimed(int team, int giver, int recipient) {
+        return claimed.get(team)[giver][recipient];
+    }
+
+    /**
+     * Gets the normalized submission value from a member of a team to another, to be shown to instructor.
+     *
+     * @see TeamEvalResult#normalizedClaimed
+     */
+    public int getNormalizedClaimed(int team, int giver, int recipient) {
+        return normalizedClaimed[getMatrixIndex(team, giver, recipient)];
+    }
+
+    /**
+     * Gets the average perception of the team of a member, excluding self evaluation, to be shown to instructor.
+     *
+     * @see TeamEvalResult#normalizedAveragePerceived
+     */
+    public int getNormalizedAveragePerceived(int team, int member) {
+        return normalizedAveragePerceived[vectorOffsets[team] + member];
+    }
+
+    /**
+     * Gets the perception of the team of a member, denormalized to match the claims of a viewing member,
+     * to be shown to students.
+     *
+     * @see TeamEvalResult#denormalizedAveragePerceived
+     */
+    public int getDenormalizedAveragePerceived(int team, int viewer, int member) {
+        return denormalizedAveragePerceived[getMatrixIndex(team, viewer, member)];
+    }
+
+    /**
+     * Gets the value from a member of a team to another used to calculate the average perception.
+     *
+     * @see TeamEvalResult#normalizedPeerContributionRatio
+     */
+    public int getNormalizedPeerContributionRatio(int team, int giver, int recipient) {
+        return normalizedPeerContributionRatio[getMatrixIndex(team, giver, recipient)];
+    }
+
+    private int getMatrixIndex(int team, int row, int column) {
+        return matrixOffsets[team] + row * getTeamSize(team) + column;
+    }
+
+}
@@ -0,0 +1,163 @@
+package teammates.common.datatransfer.attributes;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.apache.commons.codec.digest.DigestUtils;
+
+import teammates.common.util.FieldValidator;
+import teammates.common.util.JsonUtils;
+import teammates.storage.entity.FeedbackSession;
+import teammates.storage.entity.FeedbackSessionResultsSnapshot;
+
+/**
+ * The data transfer object for {@link FeedbackSessionResultsSnapshot} entities.
+ */
+public class FeedbackSessionResultsSnapshotAttributes extends EntityAttributes<FeedbackSessionResultsSnapshot> {
+
+    private static final String FILE_KEY_PREFIX = "results-snapshot-";
+
+    private String feedbackSessionName;
+    private String courseId;
+    private String generationId;
+    private boolean isComplete;
+    private Instant createdAt;
+
+    private FeedbackSessionResultsSnapshotAttributes(String feedbackSessionName, String courseId) {
+        this.feedbackSessionName = feedbackSessionName;
+        this.courseId = courseId;
+        this.generationId = UUID.randomUUID().toString();
+        this.createdAt = Instant.now();
+    }
+
+    /**
+     * Gets the {@link FeedbackSessionResultsSnapshotAttributes} instance of the given
+     * {@link FeedbackSessionResultsSnapshot}.
+     */
+    public static FeedbackSessionResultsSnapshotAttributes valueOf(FeedbackSessionResultsSnapshot snapshot) {
+        FeedbackSessionResultsSnapshotAttributes snapshotAttributes = new FeedbackSessionResultsSnapshotAttributes(
+                snapshot.getFeedbackSessionName(), snapshot.getCourseId());
+
+        snapshotAttributes.generationId = snapshot.getGenerationId();
+        snapshotAttributes.isComplete = snapshot.isComplete();
+        if (snapshot.getCreatedAt() != null) {
+            snapshotAttributes.createdAt = snapshot.getCreatedAt();
+        }
+
+        return snapshotAttributes;
+    }
+
+    /**
+     * Returns a builder for {@link FeedbackSessionResultsSnapshotAttributes}.
+     *
+     * <p>Each snapshot built is of a new generation.
+     */
+    public static Builder builder(String feedbackSessionName, String courseId) {
+        return new Builder(feedbackSessionName, courseId);
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getGenerationId() {
+        return generationId;
+    }
+
+    /**
+     * Returns true if the views of all participants have been stored.
+     */
+    public boolean isComplete() {
+        return isComplete;
+    }
+
+    /**
+     * Returns the time when the generation of the snapshot is started.
+     */
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Returns the key of the file holding the view of the participant with the given email.
+     *
+     * <p>The keys differ between generations, so that a generation never overwrites the files of another one.
+     */
+    public String getFileKey(String participantEmail) {
+        return getFileKeyPrefix(feedbackSessionName, courseId) + generationId + "-"
+                + DigestUtils.sha256Hex(participantEmail);
+    }
+
+    /**
+     * Returns true if the file with the given key holds a view of this generation.
+     */
+    public boolean isFileOfGeneration(String fileKey) {
+        return fileKey.startsWith(getFileKeyPrefix(feedbackSessionName, courseId) + generationId + "-");
+    }
+
+    /**
+     * Returns the prefix shared by the keys of the files of all generations of the snapshot of a feedback session.
+     */
+    public static String getFileKeyPrefix(String feedbackSessionName, String courseId) {
+        return FILE_KEY_PREFIX + DigestUtils.sha256Hex(FeedbackSession.generateId(feedbackSessionName, courseId)) + "-";
+    }
+
+    @Override
+    public List<String> getInvalidityInfo() {
+        List<String> errors = new ArrayList<>();
+
+        addNonEmptyError(FieldValidator.getInvalidityInfoForFeedbackSessionName(feedbackSessionName), errors);
+
+        addNonEmptyError(FieldValidator.getInvalidityInfoForCourseId(courseId), errors);
+
+        // No validation for generationId, isComplete and createdAt fields.
+
+        return errors;
+    }
+
+    @Override
+    public FeedbackSessionResultsSnapshot toEntity() {
+        return new FeedbackSessionResultsSnapshot(feedbackSessionName, courseId, generationId, isComplete, createdAt);
+    }
+
+    @Override
+    public String toString() {
+        return JsonUtils.toJson(this, FeedbackSessionResultsSnapshotAttributes.class);
+    }
+
+    @Override
+    public void sanitizeForSaving() {
+        // the fields are copied from existing sessions, which are already sanitized
+    }
+
+    /**
+     * A builder class for {@link FeedbackSessionResultsSnapshotAttributes}.
+     */
+    public static class Builder {
+
+        private final FeedbackSessionResultsSnapshotAttributes snapshotAttributes;
+
+        private Builder(String feedbackSessionName, String courseId) {
+            assert feedbackSessionName != null;
+            assert courseId != null;
+
+            snapshotAttributes = new FeedbackSessionResultsSnapshotAttributes(feedbackSessionName, courseId);
+        }
+
+        public Builder withComplete(boolean isComplete) {
+            snapshotAttributes.isComplete = isComplete;
+            return this;
+        }
+
+        public FeedbackSessionResultsSnapshotAttributes build() {
+            return snapshotAttributes;
+        }
+    }
+
+}
@@ -0,0 +1,147 @@
+package teammates.common.datatransfer.attributes;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import teammates.common.util.FieldValidator;
+import teammates.common.util.JsonUtils;
+import teammates.storage.entity.FeedbackSessionStats;
+
+/**
+ * The data transfer object for {@link FeedbackSessionStats} entities.
+ */
+public class FeedbackSessionStatsAttributes extends EntityAttributes<FeedbackSessionStats> {
+
+    private String feedbackSessionName;
+    private String courseId;
+    private int expectedTotal;
+    private Set<String> givers;
+    private Instant createdAt;
+
+    private FeedbackSessionStatsAttributes(String feedbackSessionName, String courseId) {
+        this.feedbackSessionName = feedbackSessionName;
+        this.courseId = courseId;
+        this.givers = new HashSet<>();
+        this.createdAt = Instant.now();
+    }
+
+    /**
+     * Gets the {@link FeedbackSessionStatsAttributes} instance of the given {@link FeedbackSessionStats}.
+     */
+    public static FeedbackSessionStatsAttributes valueOf(FeedbackSessionStats stats) {
+        FeedbackSessionStatsAttributes statsAttributes =
+                new FeedbackSessionStatsAttributes(stats.getFeedbackSessionName(), stats.getCourseId());
+
+        statsAttributes.expectedTotal = stats.getExpectedTotal();
+        statsAttributes.givers = new HashSet<>(stats.getGivers());
+        if (stats.getCreatedAt() != null) {
+            statsAttributes.createdAt = stats.getCreatedAt();
+        }
+
+        return statsAttributes;
+    }
+
+    /**
+     * Returns a builder for {@link FeedbackSessionStatsAttributes}.
+     */
+    public static Builder builder(String feedbackSessionName, String courseId) {
+        return new Builder(feedbackSessionName, courseId);
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    /**
+     * Returns the expected number of givers who submit responses to the session.
+     */
+    public int getExpectedTotal() {
+        return expectedTotal;
+    }
+
+    /**
+     * Returns the actual number of givers who have submitted at least one response to the session.
+     */
+    public int getSubmittedTotal() {
+        return givers.size();
+    }
+
+    public Set<String> getGivers() {
+        return Collections.unmodifiableSet(givers);
+    }
+
+    /**
+     * Returns the time when the statistics are computed in full.
+     */
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public List<String> getInvalidityInfo() {
+        List<String> errors = new ArrayList<>();
+
+        addNonEmptyError(FieldValidator.getInvalidityInfoForFeedbackSessionName(feedbackSessionName), errors);
+
+        addNonEmptyError(FieldValidator.getInvalidityInfoForCourseId(courseId), errors);
+
+        // No validation for expectedTotal, givers and createdAt fields.
+
+        return errors;
+    }
+
+    @Override
+    public FeedbackSessionStats toEntity() {
+        return new FeedbackSessionStats(feedbackSessionName, courseId, expectedTotal, givers, createdAt);
+    }
+
+    @Override
+    public String toString() {
+        return JsonUtils.toJson(this, FeedbackSessionStatsAttributes.class);
+    }
+
+    @Override
+    public void sanitizeForSaving() {
+        // the fields are copied from existing sessions and responses, which are already sanitized
+    }
+
+    /**
+     * A builder class for {@link FeedbackSessionStatsAttributes}.
+     */
+    public static class Builder {
+
+        private final FeedbackSessionStatsAttributes statsAttributes;
+
+        private Builder(String feedbackSessionName, String courseId) {
+            assert feedbackSessionName != null;
+            assert courseId != null;
+
+            statsAttributes = new FeedbackSessionStatsAttributes(feedbackSessionName, courseId);
+        }
+
+        public Builder withExpectedTotal(int expectedTotal) {
+            statsAttributes.expectedTotal = expectedTotal;
+            return this;
+        }
+
+        public Builder withGivers(Set<String> givers) {
+            assert givers != null;
+
+            statsAttributes.givers = new HashSet<>(givers);
+            return this;
+        }
+
+        public FeedbackSessionStatsAttributes build() {
+            return statsAttributes;
+        }
+    }
+
+}
@@ -0,0 +1,168 @@
+package teammates.common.datatransfer.questions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+
+/**
+ * Represents the statistics of a question with choices, i.e. a MCQ or MSQ question.
+ *
+ * <p>The statistics of the weights of the choices, including those of each recipient,
+ * are only present if the question has assigned weights.
+ */
+public class ChoiceQuestionStatistics {
+
+    /**
+     * The option under which the answers of the "Other" choice are counted.
+     */
+    static final String OTHER_OPTION = "Other";
+
+    private final Map<String, Integer> answerFrequency = new LinkedHashMap<>();
+    private final Map<String, Double> percentagePerOption = new LinkedHashMap<>();
+    private Map<String, Double> weightPerOption;
+    private Map<String, Double> weightedPercentagePerOption;
+    private List<RecipientStatistics> perRecipientStatistics;
+
+    private ChoiceQuestionStatistics() {
+        // use Accumulator instead
+    }
+
+    public Map<String, Integer> getAnswerFrequency() {
+        return answerFrequency;
+    }
+
+    public Map<String, Double> getPercentagePerOption() {
+        return percentagePerOption;
+    }
+
+    public Map<String, Double> getWeightPerOption() {
+        return weightPerOption;
+    }
+
+    public Map<String, Double> getWeightedPercentagePerOption() {
+        return weightedPercentagePerOption;
+    }
+
+    public List<RecipientStatistics> getPerRecipientStatistics() {
+        return perRecipientStatistics;
+    }
+
+    /**
+     * Counts the answers to each option of a question in a single pass over its responses.
+     *
+     * <p>Options are indexed with the choices of the question first, followed by "Other" if it is enabled,
+     * and then by any other option answered, e.g. a generated option. The answers are counted in primitive arrays
+     * over the indices.
+     */
+    static final class Accumulator {
+
+        private final List<String> options = new ArrayList<>();
+        private final Map<String, Integer> optionIndices = new HashMap<>();
+        private final double[] weights;
+        private int[] counts;
+        private final RecipientAnswersAccumulator recipientWeights;
+
+        /**
+         * Creates an accumulator for the choices of a question.
+         *
+         * @param choiceWeights the weights of the choices, or null if the question has no assigned weights
+         */
+        Accumulator(FeedbackQuestionAttributes question, SessionResultsBundle bundle, List<String> choices,
+                boolean isOtherEnabled, List<Double> choiceWeights, double otherWeight) {
+            for (String choice : choices) {
+                addOption(choice);
+            }
+            if (isOtherEnabled) {
+                addOption(OTHER_OPTION);
+            }
+            counts = new int[options.size()];
+
+            if (choiceWeights == null) {
+                weights = null;
+                recipientWeights = null;
+            } else {
+                weights = new double[options.size()];
+                for (int i = 0; i < choices.size() && i < choiceWeights.size(); i++) {
+                    weights[i] = choiceWeights.get(i);
+                }
+                if (isOtherEnabled) {
+                    weights[choices.size()] = otherWeight;
+                }
+                recipientWeights = new RecipientAnswersAccumulator(question, bundle);
+            }
+        }
+
+        private int addOption(String option) {
+            return optionIndices.computeIfAbsent(option, key -> {
+                options.add(key);
+                return options.size() - 1;
+            });
+        }
+
+        /**
+         * Gets the index of the option, or -1 if the option is not among the choices of the question.
+         */
+        int getOptionIndex(String option) {
+            return optionIndices.getOrDefault(option, -1);
+        }
+
+        /**
+         * Adds an answer of the response to the option, indexing the option if it is seen for the first time.
+         */
+        void addAnswer(FeedbackResponseAttributes response, String option) {
+            int optionIndex = addOption(option);
+            if (optionIndex >= counts.length) {
+                counts = Arrays.copyOf(counts, Math.max(optionIndex + 1, counts.length * 2));
+            }
+            counts[optionIndex]++;
+
+            if (recipientWeights != null) {
+                // options which are not choices have no weight
+                double weight = optionIndex < weights.length ? weights[optionIndex] : 0;
+                recipientWeights.addAnswer(response, weight);
+            }
+        }
+
+        /**
+         * Builds the statistics of the answers added.
+         */
+        ChoiceQuestionStatistics build() {
+            ChoiceQuestionStatistics statistics = new ChoiceQuestionStatistics();
+
+            int numberOfAnswers = 0;
+            double totalWeight = 0;
+            for (int i = 0; i < options.size(); i++) {
+                numberOfAnswers += counts[i];
+                totalWeight += weights == null || i >= weights.length ? 0 : counts[i] * weights[i];
+            }
+
+            for (int i = 0; i < options.size(); i++) {
+                statistics.answerFrequency.put(options.get(i), counts[i]);
+                statistics.percentagePerOption.put(options.get(i),
+                        numberOfAnswers == 0 ? 0 : 100.0 * counts[i] / numberOfAnswers);
+            }
+
+            if (weights != null) {
+                statistics.weightPerOption = new LinkedHashMap<>();
+                statistics.weightedPercentagePerOption = new LinkedHashMap<>();
+                for (int i = 0; i < weights.length; i++) {
+                    statistics.weightPerOption.put(options.get(i), weights[i]);
+                    statistics.weightedPercentagePerOption.put(options.get(i),
+                            totalWeight == 0 ? 0 : 100 * counts[i] * weights[i] / totalWeight);
+                }
+                statistics.perRecipientStatistics = recipientWeights.getStatistics();
+            }
+
+            return statistics;
+        }
+
+    }
+
+}
@@ -2,11 +2,16 @@ package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.util.FieldValidator;
+import teammates.common.util.JsonUtils;
 
 /**
  * Contains specific structure and processing logic for constant sum feedback questions.
@@ -55,6 +60,21 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
         this.distributePointsFor = FeedbackConstantSumDistributePointsType.NONE.getDisplayedOption();
     }
 
+    @Override
+    public FeedbackConstantSumQuestionDetails getDeepCopy() {
+        FeedbackConstantSumQuestionDetails copy = new FeedbackConstantSumQuestionDetails(getQuestionText());
+        // the question type may be one of the branched versions of CONSTSUM used by the front-end
+        copy.setQuestionType(getQuestionType());
+        copy.numOfConstSumOptions = numOfConstSumOptions;
+        copy.constSumOptions = copyOf(constSumOptions);
+        copy.distributeToRecipients = distributeToRecipients;
+        copy.pointsPerOption = pointsPerOption;
+        copy.forceUnevenDistribution = forceUnevenDistribution;
+        copy.distributePointsFor = distributePointsFor;
+        copy.points = points;
+        return copy;
+    }
+
     @Override
     public boolean shouldChangesRequireResponseDeletion(
             FeedbackQuestionDetails newDetails) {
@@ -84,6 +104,41 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
         return !this.distributePointsFor.equals(newConstSumDetails.distributePointsFor);
     }
 
+    @Override
+    public String getQuestionResultStatisticsJson(
+            FeedbackQuestionAttributes question, String studentEmail, SessionResultsBundle bundle) {
+        List<FeedbackResponseAttributes> responses = bundle.getQuestionResponseMap().get(question.getId());
+        ConstantSumStatistics statistics = new ConstantSumStatistics();
+
+        if (distributeToRecipients) {
+            RecipientAnswersAccumulator accumulator = new RecipientAnswersAccumulator(question, bundle);
+            for (FeedbackResponseAttributes response : responses) {
+                List<Integer> answers = ((FeedbackConstantSumResponseDetails) response.getResponseDetails()).getAnswers();
+                if (!answers.isEmpty()) {
+                    accumulator.addAnswer(response, answers.get(0));
+                }
+            }
+            statistics.recipients = accumulator.getStatistics();
+            return JsonUtils.toJson(statistics);
+        }
+
+        long[] totalPoints = new long[constSumOptions.size()];
+        for (FeedbackResponseAttributes response : responses) {
+            List<Integer> answers = ((FeedbackConstantSumResponseDetails) response.getResponseDetails()).getAnswers();
+            for (int i = 0; i < answers.size() && i < totalPoints.length; i++) {
+                totalPoints[i] += answers.get(i);
+            }
+        }
+        statistics.totalPointsPerOption = new LinkedHashMap<>();
+        statistics.averagePointsPerOption = new LinkedHashMap<>();
+        for (int i = 0; i < totalPoints.length; i++) {
+            statistics.totalPointsPerOption.put(constSumOptions.get(i), totalPoints[i]);
+            statistics.averagePointsPerOption.put(constSumOptions.get(i),
+                    responses.isEmpty() ? 0 : (double) totalPoints[i] / responses.size());
+        }
+        return JsonUtils.toJson(statistics);
+    }
+
     @Override
     public List<String> validateQuestionDetails() {
         List<String> errors = new ArrayList<>();
@@ -283,4 +338,28 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
     public void setPoints(int points) {
         this.points = points;
     }
+
+    /**
+     * Represents the statistics of the points distributed in a constant sum question.
+     *
+     * <p>Only the points of each option are present if the points are distributed among options,
+     * and only the points of each recipient are present if the points are distributed among recipients.
+     */
+    public static class ConstantSumStatistics {
+        private Map<String, Long> totalPointsPerOption;
+        private Map<String, Double> averagePointsPerOption;
+        private List<RecipientStatistics> recipients;
+
+        public Map<String, Long> getTotalPointsPerOption() {
+            return totalPointsPerOption;
+        }
+
+        public Map<String, Double> getAveragePointsPerOption() {
+            return averagePointsPerOption;
+        }
+
+        public List<RecipientStatistics> getRecipients() {
+            return recipients;
+        }
+    }
 }
@@ -14,6 +14,15 @@ public class FeedbackConstantSumResponseDetails extends FeedbackResponseDetails
         answers = new ArrayList<>();
     }
 
+    @Override
+    public FeedbackConstantSumResponseDetails getDeepCopy() {
+        FeedbackConstantSumResponseDetails copy = new FeedbackConstantSumResponseDetails();
+        // the question type may be one of the branched versions of CONSTSUM used by the front-end
+        copy.setQuestionType(getQuestionType());
+        copy.answers = copyOf(answers);
+        return copy;
+    }
+
     @Override
     public String getAnswerString() {
         String listString = answers.toString(); //[1, 2, 3] format
@@ -13,7 +13,7 @@ import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.SessionResultsBundle;
-import teammates.common.datatransfer.TeamEvalResult;
+import teammates.common.datatransfer.TeamEvalResultBatch;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -55,6 +55,13 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         isNotSureAllowed = true;
     }
 
+    @Override
+    public FeedbackContributionQuestionDetails getDeepCopy() {
+        FeedbackContributionQuestionDetails copy = new FeedbackContributionQuestionDetails(getQuestionText());
+        copy.isNotSureAllowed = isNotSureAllowed;
+        return copy;
+    }
+
     @Override
     public boolean shouldChangesRequireResponseDeletion(FeedbackQuestionDetails newDetails) {
         FeedbackContributionQuestionDetails newContribDetails = (FeedbackContributionQuestionDetails) newDetails;
@@ -91,37 +98,32 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         // Where student 0 is the 0th student in the list in teamMembersEmail
         Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(teamNames, teamMembersEmail, teamResponses);
 
-        // Each team's contribution question results.
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray);
+        // Each team's contribution question results, in the order of teamNames.
+        TeamEvalResultBatch teamResults = getTeamResults(teamNames, teamSubmissionArray);
         ContributionStatistics output = new ContributionStatistics();
 
         if (isStudent) {
             String currentUserTeam = bundle.getRoster().getInfoForIdentifier(studentEmail).getTeamName();
-            TeamEvalResult currentUserTeamResults = teamResults.get(currentUserTeam);
-            if (currentUserTeamResults != null) {
+            int currentUserTeamIndex = teamNames.indexOf(currentUserTeam);
+            if (currentUserTeamIndex != -1) {
                 List<String> teamEmails = teamMembersEmail.get(currentUserTeam);
                 int currentUserIndex = teamEmails.indexOf(studentEmail);
-                int[] claimedNumbers = currentUserTeamResults.claimed[currentUserIndex];
-                int[] perceivedNumbers = currentUserTeamResults.denormalizedAveragePerceived[currentUserIndex];
 
                 int claimed = 0;
                 int perceived = 0;
                 Map<String, Integer> claimedOthers = new HashMap<>();
                 List<Integer> perceivedOthers = new ArrayList<>();
 
-                for (int i = 0; i < claimedNumbers.length; i++) {
-                    if (i == currentUserIndex) {
-                        claimed = claimedNumbers[i];
-                    } else {
-                        claimedOthers.put(teamEmails.get(i), claimedNumbers[i]);
-                    }
-                }
-
-                for (int i = 0; i < perceivedNumbers.length; i++) {
+                for (int i = 0; i < teamResults.getTeamSize(currentUserTeamIndex); i++) {
+                    int claimedNumber = teamResults.getClaimed(currentUserTeamIndex, currentUserIndex, i);
+                    int perceivedNumber =
+                            teamResults.getDenormalizedAveragePerceived(currentUserTeamIndex, currentUserIndex, i);
                     if (i == currentUserIndex) {
-                        perceived = perceivedNumbers[i];
+                        claimed = claimedNumber;
+                        perceived = perceivedNumber;
                     } else {
-                        perceivedOthers.add(perceivedNumbers[i]);
+                        claimedOthers.put(teamEmails.get(i), claimedNumber);
+                        perceivedOthers.add(perceivedNumber);
                     }
                 }
                 perceivedOthers.sort(Comparator.reverseOrder());
@@ -131,21 +133,26 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
                         perceivedOthers.stream().mapToInt(i -> i).toArray()));
             }
         } else {
-            Map<String, int[]> studentResults = getStudentResults(teamMembersEmail, teamResults);
+            Map<String, int[]> studentResults = getStudentResults(teamNames, teamMembersEmail, teamResults);
+            Map<String, Integer> teamIndices = new HashMap<>();
+            for (int i = 0; i < teamNames.size(); i++) {
+                teamIndices.put(teamNames.get(i), i);
+            }
 
             for (Map.Entry<String, int[]> entry : studentResults.entrySet()) {
                 int[] summary = entry.getValue();
                 String email = entry.getKey();
                 String team = bundle.getRoster().getStudentForEmail(email).getTeam();
                 List<String> teamEmails = teamMembersEmail.get(team);
-                TeamEvalResult teamResult = teamResults.get(team);
+                int teamIndex = teamIndices.get(team);
                 int studentIndex = teamEmails.indexOf(email);
                 Map<String, Integer> claimedOthers = new HashMap<>();
                 List<Integer> perceivedOthers = new ArrayList<>();
-                for (int i = 0; i < teamResult.normalizedPeerContributionRatio.length; i++) {
+                for (int i = 0; i < teamResults.getTeamSize(teamIndex); i++) {
                     if (i != studentIndex) {
-                        claimedOthers.put(teamEmails.get(i), teamResult.normalizedPeerContributionRatio[studentIndex][i]);
-                        perceivedOthers.add(teamResult.normalizedPeerContributionRatio[i][studentIndex]);
+                        claimedOthers.put(teamEmails.get(i),
+                                teamResults.getNormalizedPeerContributionRatio(teamIndex, studentIndex, i));
+                        perceivedOthers.add(teamResults.getNormalizedPeerContributionRatio(teamIndex, i, studentIndex));
                     }
                 }
                 perceivedOthers.sort(Comparator.reverseOrder());
@@ -159,32 +166,32 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         return JsonUtils.toJson(output);
     }
 
-    private Map<String, int[]> getStudentResults(
+    private Map<String, int[]> getStudentResults(List<String> teamNames,
             Map<String, List<String>> teamMembersEmail,
-            Map<String, TeamEvalResult> teamResults) {
+            TeamEvalResultBatch teamResults) {
         Map<String, int[]> studentResults = new LinkedHashMap<>();
-        teamResults.forEach((key, teamResult) -> {
-            List<String> teamEmails = teamMembersEmail.get(key);
+        for (int team = 0; team < teamNames.size(); team++) {
+            List<String> teamEmails = teamMembersEmail.get(teamNames.get(team));
             for (int i = 0; i < teamEmails.size(); i++) {
                 String studentEmail = teamEmails.get(i);
                 int[] summary = new int[2];
-                summary[SUMMARY_INDEX_CLAIMED] = teamResult.normalizedClaimed[i][i];
-                summary[SUMMARY_INDEX_PERCEIVED] = teamResult.normalizedAveragePerceived[i];
+                summary[SUMMARY_INDEX_CLAIMED] = teamResults.getNormalizedClaimed(team, i, i);
+                summary[SUMMARY_INDEX_PERCEIVED] = teamResults.getNormalizedAveragePerceived(team, i);
 
                 studentResults.put(studentEmail, summary);
             }
-        });
+        }
         return studentResults;
     }
 
-    private Map<String, TeamEvalResult> getTeamResults(List<String> teamNames,
+    private TeamEvalResultBatch getTeamResults(List<String> teamNames,
             Map<String, int[][]> teamSubmissionArray) {
-        Map<String, TeamEvalResult> teamResults = new LinkedHashMap<>();
+        List<int[][]> submissionValues = new ArrayList<>();
         for (String team : teamNames) {
-            TeamEvalResult teamEvalResult = new TeamEvalResult(teamSubmissionArray.get(team));
-            teamResults.put(team, teamEvalResult);
+            submissionValues.add(teamSubmissionArray.get(team));
         }
-        return teamResults;
+        // the teams of a course are too few and too small to gain from being computed in parallel
+        return new TeamEvalResultBatch(submissionValues, false);
     }
 
     private Map<String, int[][]> getTeamSubmissionArray(List<String> teamNames,
@@ -356,9 +363,9 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
     /**
      * Represents the statistics of one feedback participant in one contribution question.
      *
-     * <p>This class is a container for some representative values from {@link TeamEvalResult}.
+     * <p>This class is a container for some representative values from {@link teammates.common.datatransfer.TeamEvalResult}.
      *
-     * @see TeamEvalResult
+     * @see teammates.common.datatransfer.TeamEvalResult
      */
     public static class ContributionStatisticsEntry {
         private final int claimed;
@@ -4,7 +4,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.util.JsonUtils;
 
 /**
  * Contains specific structure and processing logic for MCQ feedback questions.
@@ -47,6 +50,19 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
         this.generateOptionsFor = FeedbackParticipantType.NONE;
     }
 
+    @Override
+    public FeedbackMcqQuestionDetails getDeepCopy() {
+        FeedbackMcqQuestionDetails copy = new FeedbackMcqQuestionDetails(getQuestionText());
+        copy.hasAssignedWeights = hasAssignedWeights;
+        copy.mcqWeights = copyOf(mcqWeights);
+        copy.mcqOtherWeight = mcqOtherWeight;
+        copy.numOfMcqChoices = numOfMcqChoices;
+        copy.mcqChoices = copyOf(mcqChoices);
+        copy.otherEnabled = otherEnabled;
+        copy.generateOptionsFor = generateOptionsFor;
+        return copy;
+    }
+
     @Override
     public boolean shouldChangesRequireResponseDeletion(FeedbackQuestionDetails newDetails) {
         FeedbackMcqQuestionDetails newMcqDetails = (FeedbackMcqQuestionDetails) newDetails;
@@ -64,6 +80,19 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
         return this.otherEnabled != newMcqDetails.otherEnabled;
     }
 
+    @Override
+    public String getQuestionResultStatisticsJson(
+            FeedbackQuestionAttributes question, String studentEmail, SessionResultsBundle bundle) {
+        ChoiceQuestionStatistics.Accumulator accumulator = new ChoiceQuestionStatistics.Accumulator(question, bundle,
+                mcqChoices, otherEnabled, hasAssignedWeights ? mcqWeights : null, mcqOtherWeight);
+        for (FeedbackResponseAttributes response : bundle.getQuestionResponseMap().get(question.getId())) {
+            FeedbackMcqResponseDetails responseDetails = (FeedbackMcqResponseDetails) response.getResponseDetails();
+            accumulator.addAnswer(response,
+                    responseDetails.isOther() ? ChoiceQuestionStatistics.OTHER_OPTION : responseDetails.getAnswer());
+        }
+        return JsonUtils.toJson(accumulator.build());
+    }
+
     @Override
     public List<String> validateQuestionDetails() {
         List<String> errors = new ArrayList<>();
@@ -15,6 +15,15 @@ public class FeedbackMcqResponseDetails extends FeedbackResponseDetails {
         otherFieldContent = "";
     }
 
+    @Override
+    public FeedbackMcqResponseDetails getDeepCopy() {
+        FeedbackMcqResponseDetails copy = new FeedbackMcqResponseDetails();
+        copy.answer = answer;
+        copy.isOther = isOther;
+        copy.otherFieldContent = otherFieldContent;
+        return copy;
+    }
+
     @Override
     public String getAnswerString() {
         if (isOther) {
@@ -4,8 +4,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 
 /**
  * Contains specific structure and processing logic for MSQ feedback questions.
@@ -67,6 +70,20 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
         this.msqOtherWeight = 0;
     }
 
+    @Override
+    public FeedbackMsqQuestionDetails getDeepCopy() {
+        FeedbackMsqQuestionDetails copy = new FeedbackMsqQuestionDetails(getQuestionText());
+        copy.msqChoices = copyOf(msqChoices);
+        copy.otherEnabled = otherEnabled;
+        copy.hasAssignedWeights = hasAssignedWeights;
+        copy.msqWeights = copyOf(msqWeights);
+        copy.msqOtherWeight = msqOtherWeight;
+        copy.generateOptionsFor = generateOptionsFor;
+        copy.maxSelectableChoices = maxSelectableChoices;
+        copy.minSelectableChoices = minSelectableChoices;
+        return copy;
+    }
+
     @Override
     public boolean shouldChangesRequireResponseDeletion(FeedbackQuestionDetails newDetails) {
         FeedbackMsqQuestionDetails newMsqDetails = (FeedbackMsqQuestionDetails) newDetails;
@@ -110,6 +127,30 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
         return this.otherEnabled != newMsqDetails.otherEnabled;
     }
 
+    @Override
+    public String getQuestionResultStatisticsJson(
+            FeedbackQuestionAttributes question, String studentEmail, SessionResultsBundle bundle) {
+        ChoiceQuestionStatistics.Accumulator accumulator = new ChoiceQuestionStatistics.Accumulator(question, bundle,
+                msqChoices, otherEnabled, hasAssignedWeights ? msqWeights : null, msqOtherWeight);
+        for (FeedbackResponseAttributes response : bundle.getQuestionResponseMap().get(question.getId())) {
+            FeedbackMsqResponseDetails responseDetails = (FeedbackMsqResponseDetails) response.getResponseDetails();
+            if (responseDetails.isOther()) {
+                accumulator.addAnswer(response, ChoiceQuestionStatistics.OTHER_OPTION);
+            }
+            for (String answer : responseDetails.getAnswers()) {
+                if (MSQ_ANSWER_NONE_OF_THE_ABOVE.equals(answer)) {
+                    continue;
+                }
+                if (accumulator.getOptionIndex(answer) == -1 && generateOptionsFor == FeedbackParticipantType.NONE) {
+                    // answers which are not choices, e.g. the content of the "Other" choice, are not counted
+                    continue;
+                }
+                accumulator.addAnswer(response, answer);
+            }
+        }
+        return JsonUtils.toJson(accumulator.build());
+    }
+
     @Override
     public List<String> validateQuestionDetails() {
         List<String> errors = new ArrayList<>();
@@ -20,6 +20,15 @@ public class FeedbackMsqResponseDetails extends FeedbackResponseDetails {
         otherFieldContent = "";
     }
 
+    @Override
+    public FeedbackMsqResponseDetails getDeepCopy() {
+        FeedbackMsqResponseDetails copy = new FeedbackMsqResponseDetails();
+        copy.answers = copyOf(answers);
+        copy.isOther = isOther;
+        copy.otherFieldContent = otherFieldContent;
+        return copy;
+    }
+
     @Override
     public String getAnswerString() {
         return StringHelper.toString(answers, ", ");
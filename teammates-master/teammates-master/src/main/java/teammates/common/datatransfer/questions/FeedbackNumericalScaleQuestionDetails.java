@@ -5,7 +5,10 @@ import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.List;
 
+import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.util.JsonUtils;
 
 /**
  * Contains specific structure and processing logic for numerical scale feedback questions.
@@ -32,6 +35,15 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
         this.step = 0.5;
     }
 
+    @Override
+    public FeedbackNumericalScaleQuestionDetails getDeepCopy() {
+        FeedbackNumericalScaleQuestionDetails copy = new FeedbackNumericalScaleQuestionDetails(getQuestionText());
+        copy.minScale = minScale;
+        copy.maxScale = maxScale;
+        copy.step = step;
+        return copy;
+    }
+
     @Override
     public boolean shouldChangesRequireResponseDeletion(
             FeedbackQuestionDetails newDetails) {
@@ -43,6 +55,18 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
                || this.step != newNumScaleDetails.step;
     }
 
+    @Override
+    public String getQuestionResultStatisticsJson(
+            FeedbackQuestionAttributes question, String studentEmail, SessionResultsBundle bundle) {
+        RecipientAnswersAccumulator accumulator = new RecipientAnswersAccumulator(question, bundle);
+        for (FeedbackResponseAttributes response : bundle.getQuestionResponseMap().get(question.getId())) {
+            FeedbackNumericalScaleResponseDetails responseDetails =
+                    (FeedbackNumericalScaleResponseDetails) response.getResponseDetails();
+            accumulator.addAnswer(response, responseDetails.getAnswer());
+        }
+        return JsonUtils.toJson(new NumericalScaleStatistics(accumulator.getStatistics()));
+    }
+
     @Override
     public List<String> validateQuestionDetails() {
         List<String> errors = new ArrayList<>();
@@ -120,4 +144,19 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
     public void setStep(double step) {
         this.step = step;
     }
+
+    /**
+     * Represents the statistics of the answers given to each recipient of a numerical scale question.
+     */
+    public static class NumericalScaleStatistics {
+        private final List<RecipientStatistics> recipients;
+
+        NumericalScaleStatistics(List<RecipientStatistics> recipients) {
+            this.recipients = recipients;
+        }
+
+        public List<RecipientStatistics> getRecipients() {
+            return recipients;
+        }
+    }
 }
@@ -15,6 +15,13 @@ public class FeedbackNumericalScaleResponseDetails extends FeedbackResponseDetai
         answer = Const.POINTS_NOT_SUBMITTED;
     }
 
+    @Override
+    public FeedbackNumericalScaleResponseDetails getDeepCopy() {
+        FeedbackNumericalScaleResponseDetails copy = new FeedbackNumericalScaleResponseDetails();
+        copy.answer = answer;
+        return copy;
+    }
+
     @Override
     public String getAnswerString() {
         return StringHelper.toDecimalFormatString(answer);
@@ -1,6 +1,8 @@
 package teammates.common.datatransfer.questions;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.SessionResultsBundle;
@@ -33,10 +35,11 @@ public abstract class FeedbackQuestionDetails {
     @SuppressWarnings("PMD.EmptyMethodInAbstractClassShouldBeAbstract")
     public String getQuestionResultStatisticsJson(
             FeedbackQuestionAttributes question, String studentEmail, SessionResultsBundle bundle) {
-        // Statistics are calculated in the front-end as it is dependent on the responses being filtered.
-        // The only exception is contribution question, where there is only one statistics for the entire question.
-        // It is also necessary to calculate contribution question statistics here
-        // to be displayed in student result page as students are not supposed to be able to see the exact responses.
+        // Question types with statistics compute them in a single pass over the responses in the bundle,
+        // i.e. over the responses visible to the viewer. Statistics of responses filtered further, e.g. by section,
+        // are still calculated in the front-end.
+        // Contribution question statistics are also displayed in student result page
+        // as students are not supposed to be able to see the exact responses.
         return "";
     }
 
@@ -130,10 +133,20 @@ public abstract class FeedbackQuestionDetails {
     /**
      * Returns a deep copy of the question details.
      */
-    public FeedbackQuestionDetails getDeepCopy() {
-        assert questionType != null;
-        String serializedDetails = getJsonString();
-        return JsonUtils.fromJson(serializedDetails, questionType.getQuestionDetailsClass());
+    public abstract FeedbackQuestionDetails getDeepCopy();
+
+    /**
+     * Returns a copy of the list, or null if the list is null.
+     */
+    static <T> List<T> copyOf(List<T> list) {
+        return list == null ? null : new ArrayList<>(list);
+    }
+
+    /**
+     * Returns a copy of the list of lists in which every inner list is also copied, or null if the list is null.
+     */
+    static <T> List<List<T>> copyOfNested(List<List<T>> list) {
+        return list == null ? null : list.stream().map(FeedbackQuestionDetails::copyOf).collect(Collectors.toList());
     }
 
     public FeedbackQuestionType getQuestionType() {
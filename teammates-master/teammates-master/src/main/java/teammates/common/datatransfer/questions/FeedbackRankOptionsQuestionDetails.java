@@ -1,12 +1,18 @@
 package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 
 /**
  * Contains specific structure and processing logic for rank options feedback questions.
@@ -36,6 +42,16 @@ public class FeedbackRankOptionsQuestionDetails extends FeedbackRankQuestionDeta
         this.options = new ArrayList<>();
     }
 
+    @Override
+    public FeedbackRankOptionsQuestionDetails getDeepCopy() {
+        FeedbackRankOptionsQuestionDetails copy = new FeedbackRankOptionsQuestionDetails(getQuestionText());
+        copy.options = copyOf(options);
+        copy.minOptionsToBeRanked = minOptionsToBeRanked;
+        copy.maxOptionsToBeRanked = maxOptionsToBeRanked;
+        copy.areDuplicatesAllowed = areDuplicatesAllowed;
+        return copy;
+    }
+
     @Override
     public boolean shouldChangesRequireResponseDeletion(FeedbackQuestionDetails newDetails) {
         FeedbackRankOptionsQuestionDetails newRankQuestionDetails = (FeedbackRankOptionsQuestionDetails) newDetails;
@@ -47,6 +63,63 @@ public class FeedbackRankOptionsQuestionDetails extends FeedbackRankQuestionDeta
             || this.maxOptionsToBeRanked != newRankQuestionDetails.maxOptionsToBeRanked;
     }
 
+    @Override
+    public String getQuestionResultStatisticsJson(
+            FeedbackQuestionAttributes question, String studentEmail, SessionResultsBundle bundle) {
+        int[] counts = new int[options.size()];
+        long[] totalRanks = new long[options.size()];
+        for (FeedbackResponseAttributes response : bundle.getQuestionResponseMap().get(question.getId())) {
+            List<Integer> answers = ((FeedbackRankOptionsResponseDetails) response.getResponseDetails()).getAnswers();
+            int[] normalizedRanks = normalizeRanks(answers);
+            for (int i = 0; i < normalizedRanks.length && i < options.size(); i++) {
+                if (normalizedRanks[i] == Const.POINTS_NOT_SUBMITTED) {
+                    // the option is not ranked
+                    continue;
+                }
+                counts[i]++;
+                totalRanks[i] += normalizedRanks[i];
+            }
+        }
+
+        double[] averageRanks = new double[options.size()];
+        for (int i = 0; i < options.size(); i++) {
+            averageRanks[i] = counts[i] == 0 ? Double.NaN : (double) totalRanks[i] / counts[i];
+        }
+        int[] overallRanks = getOverallRanks(averageRanks);
+
+        RankOptionsStatistics statistics = new RankOptionsStatistics();
+        for (int i = 0; i < options.size(); i++) {
+            if (counts[i] == 0) {
+                // options which are not ranked by anyone have no rank
+                continue;
+            }
+            statistics.averageRankPerOption.put(options.get(i), averageRanks[i]);
+            statistics.rankPerOption.put(options.get(i), overallRanks[i]);
+        }
+        return JsonUtils.toJson(statistics);
+    }
+
+    /**
+     * Normalizes the ranks of a response to consecutive ranks starting from 1, keeping ties,
+     * e.g. [2, 5, 5, 9] to [1, 2, 2, 3].
+     */
+    private static int[] normalizeRanks(List<Integer> answers) {
+        int[] distinctRanks = answers.stream()
+                .mapToInt(Integer::intValue)
+                .filter(rank -> rank != Const.POINTS_NOT_SUBMITTED)
+                .sorted()
+                .distinct()
+                .toArray();
+        int[] normalizedRanks = new int[answers.size()];
+        for (int i = 0; i < normalizedRanks.length; i++) {
+            int rank = answers.get(i);
+            normalizedRanks[i] = rank == Const.POINTS_NOT_SUBMITTED
+                    ? Const.POINTS_NOT_SUBMITTED
+                    : Arrays.binarySearch(distinctRanks, rank) + 1;
+        }
+        return normalizedRanks;
+    }
+
     @Override
     public List<String> validateQuestionDetails() {
         List<String> errors = new ArrayList<>();
@@ -141,4 +214,20 @@ public class FeedbackRankOptionsQuestionDetails extends FeedbackRankQuestionDeta
     public void setOptions(List<String> options) {
         this.options = options;
     }
+
+    /**
+     * Represents the average and overall rank of each option of a rank options question.
+     */
+    public static class RankOptionsStatistics {
+        private final Map<String, Double> averageRankPerOption = new LinkedHashMap<>();
+        private final Map<String, Integer> rankPerOption = new LinkedHashMap<>();
+
+        public Map<String, Double> getAverageRankPerOption() {
+            return averageRankPerOption;
+        }
+
+        public Map<String, Integer> getRankPerOption() {
+            return rankPerOption;
+        }
+    }
 }
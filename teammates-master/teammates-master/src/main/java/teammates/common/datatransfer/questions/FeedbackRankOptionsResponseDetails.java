@@ -32,6 +32,13 @@ public class FeedbackRankOptionsResponseDetails extends FeedbackResponseDetails
         return filteredAnswers;
     }
 
+    @Override
+    public FeedbackRankOptionsResponseDetails getDeepCopy() {
+        FeedbackRankOptionsResponseDetails copy = new FeedbackRankOptionsResponseDetails();
+        copy.answers = copyOf(answers);
+        return copy;
+    }
+
     @Override
     public String getAnswerString() {
         String listString = getFilteredSortedAnswerList().toString(); //[1, 2, 3] format
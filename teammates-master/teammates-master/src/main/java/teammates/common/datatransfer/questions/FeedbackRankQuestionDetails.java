@@ -1,5 +1,8 @@
 package teammates.common.datatransfer.questions;
 
+import java.util.Arrays;
+import java.util.Comparator;
+
 import teammates.common.util.Const;
 
 /**
@@ -40,4 +43,34 @@ public abstract class FeedbackRankQuestionDetails extends FeedbackQuestionDetail
     public void setAreDuplicatesAllowed(boolean areDuplicatesAllowed) {
         this.areDuplicatesAllowed = areDuplicatesAllowed;
     }
+
+    /**
+     * Gets the overall ranks of entities from the average ranks they received.
+     *
+     * <p>Entities with equal average ranks share the same overall rank, and the entity after them is ranked
+     * by its position, e.g. 1, 1, 3. Entities which received no rank, i.e. with an average rank of NaN,
+     * are not ranked and get {@link Const#POINTS_NOT_SUBMITTED}.
+     */
+    static int[] getOverallRanks(double[] averageRanks) {
+        int[] overallRanks = new int[averageRanks.length];
+        Arrays.fill(overallRanks, Const.POINTS_NOT_SUBMITTED);
+        Integer[] order = new Integer[averageRanks.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingDouble(i -> averageRanks[i]));
+
+        int position = 0;
+        for (int i = 0; i < order.length; i++) {
+            int index = order[i];
+            if (Double.isNaN(averageRanks[index])) {
+                // NaN is sorted last
+                break;
+            }
+            position++;
+            boolean isTied = i > 0 && averageRanks[index] == averageRanks[order[i - 1]];
+            overallRanks[index] = isTied ? overallRanks[order[i - 1]] : position;
+        }
+        return overallRanks;
+    }
 }
@@ -1,12 +1,18 @@
 package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 
 /**
  * Contains specific structure and processing logic for rank recipients feedback questions.
@@ -21,11 +27,81 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
         super(FeedbackQuestionType.RANK_RECIPIENTS, questionText);
     }
 
+    @Override
+    public FeedbackRankRecipientsQuestionDetails getDeepCopy() {
+        FeedbackRankRecipientsQuestionDetails copy = new FeedbackRankRecipientsQuestionDetails(getQuestionText());
+        copy.minOptionsToBeRanked = minOptionsToBeRanked;
+        copy.maxOptionsToBeRanked = maxOptionsToBeRanked;
+        copy.areDuplicatesAllowed = areDuplicatesAllowed;
+        return copy;
+    }
+
     @Override
     public boolean shouldChangesRequireResponseDeletion(FeedbackQuestionDetails newDetails) {
         return false;
     }
 
+    @Override
+    public String getQuestionResultStatisticsJson(
+            FeedbackQuestionAttributes question, String studentEmail, SessionResultsBundle bundle) {
+        RecipientAnswersAccumulator accumulator = new RecipientAnswersAccumulator(question, bundle);
+        for (FeedbackResponseAttributes response : bundle.getQuestionResponseMap().get(question.getId())) {
+            FeedbackRankRecipientsResponseDetails responseDetails =
+                    (FeedbackRankRecipientsResponseDetails) response.getResponseDetails();
+            accumulator.addAnswer(response, responseDetails.getAnswer());
+        }
+
+        int numberOfRecipients = accumulator.getNumberOfRecipients();
+        double[] averageRanks = new double[numberOfRecipients];
+        double[] averageRanksExcludingSelf = new double[numberOfRecipients];
+        for (int i = 0; i < numberOfRecipients; i++) {
+            averageRanks[i] = accumulator.getAverage(i, false);
+            averageRanksExcludingSelf[i] = accumulator.getCount(i, true) == 0
+                    ? Double.NaN : accumulator.getAverage(i, true);
+        }
+        int[] overallRanks = getOverallRanks(averageRanks);
+        int[] overallRanksExcludingSelf = getOverallRanks(averageRanksExcludingSelf);
+
+        int[] ranksInTeam = null;
+        int[] ranksInTeamExcludingSelf = null;
+        FeedbackParticipantType recipientType = question.getRecipientType();
+        if (recipientType == FeedbackParticipantType.OWN_TEAM_MEMBERS
+                || recipientType == FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF) {
+            ranksInTeam = new int[numberOfRecipients];
+            ranksInTeamExcludingSelf = new int[numberOfRecipients];
+            Map<String, List<Integer>> recipientsPerTeam = new HashMap<>();
+            for (int i = 0; i < numberOfRecipients; i++) {
+                String team = bundle.getRoster().getInfoForIdentifier(accumulator.getRecipient(i)).getTeamName();
+                recipientsPerTeam.computeIfAbsent(team, key -> new ArrayList<>()).add(i);
+            }
+            for (List<Integer> teamMembers : recipientsPerTeam.values()) {
+                rankWithinGroup(teamMembers, averageRanks, ranksInTeam);
+                rankWithinGroup(teamMembers, averageRanksExcludingSelf, ranksInTeamExcludingSelf);
+            }
+        }
+
+        List<RankRecipientStatistics> statistics = new ArrayList<>();
+        for (int i = 0; i < numberOfRecipients; i++) {
+            statistics.add(new RankRecipientStatistics(
+                    accumulator.getRecipientDisplayName(i), accumulator.getRecipientDisplayTeam(i),
+                    averageRanks[i], accumulator.getSelfAverage(i), overallRanks[i], overallRanksExcludingSelf[i],
+                    ranksInTeam == null ? null : ranksInTeam[i],
+                    ranksInTeamExcludingSelf == null ? null : ranksInTeamExcludingSelf[i]));
+        }
+        return JsonUtils.toJson(new RankRecipientsStatistics(statistics));
+    }
+
+    private static void rankWithinGroup(List<Integer> group, double[] averageRanks, int[] ranks) {
+        double[] averageRanksInGroup = new double[group.size()];
+        for (int i = 0; i < group.size(); i++) {
+            averageRanksInGroup[i] = averageRanks[group.get(i)];
+        }
+        int[] ranksInGroup = getOverallRanks(averageRanksInGroup);
+        for (int i = 0; i < group.size(); i++) {
+            ranks[group.get(i)] = ranksInGroup[i];
+        }
+    }
+
     @Override
     public List<String> validateQuestionDetails() {
         return new ArrayList<>();
@@ -70,4 +146,80 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
     public String validateGiverRecipientVisibility(FeedbackQuestionAttributes feedbackQuestionAttributes) {
         return "";
     }
+
+    /**
+     * Represents the ranks received by each recipient of a rank recipients question.
+     */
+    public static class RankRecipientsStatistics {
+        private final List<RankRecipientStatistics> recipients;
+
+        RankRecipientsStatistics(List<RankRecipientStatistics> recipients) {
+            this.recipients = recipients;
+        }
+
+        public List<RankRecipientStatistics> getRecipients() {
+            return recipients;
+        }
+    }
+
+    /**
+     * Represents the ranks received by a recipient of a rank recipients question.
+     *
+     * <p>Overall ranks are {@link Const#POINTS_NOT_SUBMITTED} if the recipient is not ranked by anyone else.
+     * Ranks within the team are only present if the recipients are the team members of the givers.
+     */
+    public static class RankRecipientStatistics {
+        private final String recipient;
+        private final String recipientTeam;
+        private final double averageRank;
+        private final Double selfRank;
+        private final int overallRank;
+        private final int overallRankExcludingSelf;
+        private final Integer rankInTeam;
+        private final Integer rankInTeamExcludingSelf;
+
+        RankRecipientStatistics(String recipient, String recipientTeam, double averageRank, Double selfRank,
+                int overallRank, int overallRankExcludingSelf, Integer rankInTeam, Integer rankInTeamExcludingSelf) {
+            this.recipient = recipient;
+            this.recipientTeam = recipientTeam;
+            this.averageRank = averageRank;
+            this.selfRank = selfRank;
+            this.overallRank = overallRank;
+            this.overallRankExcludingSelf = overallRankExcludingSelf;
+            this.rankInTeam = rankInTeam;
+            this.rankInTeamExcludingSelf = rankInTeamExcludingSelf;
+        }
+
+        public String getRecipient() {
+            return recipient;
+        }
+
+        public String getRecipientTeam() {
+            return recipientTeam;
+        }
+
+        public double getAverageRank() {
+            return averageRank;
+        }
+
+        public Double getSelfRank() {
+            return selfRank;
+        }
+
+        public int getOverallRank() {
+            return overallRank;
+        }
+
+        public int getOverallRankExcludingSelf() {
+            return overallRankExcludingSelf;
+        }
+
+        public Integer getRankInTeam() {
+            return rankInTeam;
+        }
+
+        public Integer getRankInTeamExcludingSelf() {
+            return rankInTeamExcludingSelf;
+        }
+    }
 }
@@ -13,6 +13,13 @@ public class FeedbackRankRecipientsResponseDetails extends FeedbackResponseDetai
         answer = Const.POINTS_NOT_SUBMITTED;
     }
 
+    @Override
+    public FeedbackRankRecipientsResponseDetails getDeepCopy() {
+        FeedbackRankRecipientsResponseDetails copy = new FeedbackRankRecipientsResponseDetails();
+        copy.answer = answer;
+        return copy;
+    }
+
     @Override
     public String getAnswerString() {
         return Integer.toString(answer);
@@ -1,5 +1,8 @@
 package teammates.common.datatransfer.questions;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import teammates.common.util.JsonUtils;
 
 /**
@@ -37,13 +40,13 @@ public abstract class FeedbackResponseDetails {
     /**
      * Returns a deep copy of the response details.
      */
-    public FeedbackResponseDetails getDeepCopy() {
-        assert questionType != null;
-        if (questionType == FeedbackQuestionType.TEXT) {
-            return new FeedbackTextResponseDetails(getAnswerString());
-        }
-        String serializedResponseDetails = getJsonString();
-        return JsonUtils.fromJson(serializedResponseDetails, questionType.getResponseDetailsClass());
+    public abstract FeedbackResponseDetails getDeepCopy();
+
+    /**
+     * Returns a copy of the list, or null if the list is null.
+     */
+    static <T> List<T> copyOf(List<T> list) {
+        return list == null ? null : new ArrayList<>(list);
     }
 
     public void setQuestionType(FeedbackQuestionType questionType) {
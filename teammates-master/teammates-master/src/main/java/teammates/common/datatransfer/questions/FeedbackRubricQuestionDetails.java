@@ -3,7 +3,10 @@ package teammates.common.datatransfer.questions;
 import java.util.ArrayList;
 import java.util.List;
 
+import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.util.JsonUtils;
 
 /**
  * Contains specific structure and processing logic for rubric feedback questions.
@@ -78,6 +81,19 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
         return rubricWeightsForEachCell.stream().allMatch(x -> x.size() == numOfRubricChoices);
     }
 
+    @Override
+    public FeedbackRubricQuestionDetails getDeepCopy() {
+        FeedbackRubricQuestionDetails copy = new FeedbackRubricQuestionDetails(getQuestionText());
+        copy.hasAssignedWeights = hasAssignedWeights;
+        copy.rubricWeightsForEachCell = copyOfNested(rubricWeightsForEachCell);
+        copy.numOfRubricChoices = numOfRubricChoices;
+        copy.rubricChoices = copyOf(rubricChoices);
+        copy.numOfRubricSubQuestions = numOfRubricSubQuestions;
+        copy.rubricSubQuestions = copyOf(rubricSubQuestions);
+        copy.rubricDescriptions = copyOfNested(rubricDescriptions);
+        return copy;
+    }
+
     @Override
     public boolean shouldChangesRequireResponseDeletion(FeedbackQuestionDetails newDetails) {
         FeedbackRubricQuestionDetails newRubricDetails = (FeedbackRubricQuestionDetails) newDetails;
@@ -94,6 +110,81 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
             || !newRubricDetails.rubricSubQuestions.containsAll(this.rubricSubQuestions);
     }
 
+    @Override
+    public String getQuestionResultStatisticsJson(
+            FeedbackQuestionAttributes question, String studentEmail, SessionResultsBundle bundle) {
+        int numOfSubQuestions = rubricSubQuestions.size();
+        int numOfChoices = rubricChoices.size();
+        int[][] answers = new int[numOfSubQuestions][numOfChoices];
+        int[][] answersExcludingSelf = new int[numOfSubQuestions][numOfChoices];
+        RecipientAnswersAccumulator recipients = new RecipientAnswersAccumulator(question, bundle);
+        List<int[][]> answersPerRecipient = new ArrayList<>();
+
+        for (FeedbackResponseAttributes response : bundle.getQuestionResponseMap().get(question.getId())) {
+            List<Integer> answer = ((FeedbackRubricResponseDetails) response.getResponseDetails()).getAnswer();
+            boolean isSelf = response.getGiver().equals(response.getRecipient());
+            int recipientIndex = recipients.getRecipientIndex(response);
+            if (recipientIndex == answersPerRecipient.size()) {
+                answersPerRecipient.add(new int[numOfSubQuestions][numOfChoices]);
+            }
+            for (int i = 0; i < answer.size() && i < numOfSubQuestions; i++) {
+                int choice = answer.get(i);
+                if (choice == RUBRIC_ANSWER_NOT_CHOSEN || choice >= numOfChoices) {
+                    continue;
+                }
+                answers[i][choice]++;
+                if (!isSelf) {
+                    answersExcludingSelf[i][choice]++;
+                }
+                answersPerRecipient.get(recipientIndex)[i][choice]++;
+            }
+        }
+
+        RubricStatistics statistics = new RubricStatistics(answers, getPercentages(answers),
+                answersExcludingSelf, getPercentages(answersExcludingSelf));
+        if (hasAssignedWeights) {
+            statistics.subQuestionWeightAverage = getSubQuestionWeightAverage(answers);
+            statistics.subQuestionWeightAverageExcludingSelf = getSubQuestionWeightAverage(answersExcludingSelf);
+            statistics.perRecipientStatistics = new ArrayList<>();
+            for (int i = 0; i < recipients.getNumberOfRecipients(); i++) {
+                double[] recipientWeightAverage = getSubQuestionWeightAverage(answersPerRecipient.get(i));
+                statistics.perRecipientStatistics.add(new RubricRecipientStatistics(
+                        recipients.getRecipientDisplayName(i), recipients.getRecipientDisplayTeam(i),
+                        answersPerRecipient.get(i), recipientWeightAverage));
+            }
+        }
+        return JsonUtils.toJson(statistics);
+    }
+
+    private static double[][] getPercentages(int[][] answers) {
+        double[][] percentages = new double[answers.length][];
+        for (int i = 0; i < answers.length; i++) {
+            int total = 0;
+            for (int count : answers[i]) {
+                total += count;
+            }
+            percentages[i] = new double[answers[i].length];
+            for (int j = 0; j < answers[i].length; j++) {
+                percentages[i][j] = total == 0 ? 0 : 100.0 * answers[i][j] / total;
+            }
+        }
+        return percentages;
+    }
+
+    private double[] getSubQuestionWeightAverage(int[][] answers) {
+        double[] weightAverages = new double[answers.length];
+        for (int i = 0; i < answers.length; i++) {
+            int total = 0;
+            double totalWeight = 0;
+            for (int j = 0; j < answers[i].length; j++) {
+                total += answers[i][j];
+                totalWeight += answers[i][j] * rubricWeightsForEachCell.get(i).get(j);
+            }
+            weightAverages[i] = total == 0 ? 0 : totalWeight / total;
+        }
+        return weightAverages;
+    }
+
     @Override
     public List<String> validateQuestionDetails() {
         // For rubric questions,
@@ -251,4 +342,99 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
     public void setRubricDescriptions(List<List<String>> rubricDescriptions) {
         this.rubricDescriptions = rubricDescriptions;
     }
+
+    /**
+     * Represents the statistics of the choices chosen for each sub-question of a rubric question.
+     *
+     * <p>The weight averages are only present if the question has assigned weights.
+     */
+    public static class RubricStatistics {
+        private final int[][] answers;
+        private final double[][] percentages;
+        private final int[][] answersExcludingSelf;
+        private final double[][] percentagesExcludingSelf;
+        private double[] subQuestionWeightAverage;
+        private double[] subQuestionWeightAverageExcludingSelf;
+        private List<RubricRecipientStatistics> perRecipientStatistics;
+
+        RubricStatistics(int[][] answers, double[][] percentages,
+                int[][] answersExcludingSelf, double[][] percentagesExcludingSelf) {
+            this.answers = answers;
+            this.percentages = percentages;
+            this.answersExcludingSelf = answersExcludingSelf;
+            this.percentagesExcludingSelf = percentagesExcludingSelf;
+        }
+
+        public int[][] getAnswers() {
+            return answers;
+        }
+
+        public double[][] getPercentages() {
+            return percentages;
+        }
+
+        public int[][] getAnswersExcludingSelf() {
+            return answersExcludingSelf;
+        }
+
+        public double[][] getPercentagesExcludingSelf() {
+            return percentagesExcludingSelf;
+        }
+
+        public double[] getSubQuestionWeightAverage() {
+            return subQuestionWeightAverage;
+        }
+
+        public double[] getSubQuestionWeightAverageExcludingSelf() {
+            return subQuestionWeightAverageExcludingSelf;
+        }
+
+        public List<RubricRecipientStatistics> getPerRecipientStatistics() {
+            return perRecipientStatistics;
+        }
+    }
+
+    /**
+     * Represents the statistics of the choices chosen for a recipient of a rubric question.
+     */
+    public static class RubricRecipientStatistics {
+        private final String recipient;
+        private final String recipientTeam;
+        private final int[][] answers;
+        private final double[] subQuestionWeightAverage;
+        private final double weightAverage;
+
+        RubricRecipientStatistics(String recipient, String recipientTeam, int[][] answers,
+                double[] subQuestionWeightAverage) {
+            this.recipient = recipient;
+            this.recipientTeam = recipientTeam;
+            this.answers = answers;
+            this.subQuestionWeightAverage = subQuestionWeightAverage;
+            double total = 0;
+            for (double average : subQuestionWeightAverage) {
+                total += average;
+            }
+            this.weightAverage = subQuestionWeightAverage.length == 0 ? 0 : total / subQuestionWeightAverage.length;
+        }
+
+        public String getRecipient() {
+            return recipient;
+        }
+
+        public String getRecipientTeam() {
+            return recipientTeam;
+        }
+
+        public int[][] getAnswers() {
+            return answers;
+        }
+
+        public double[] getSubQuestionWeightAverage() {
+            return subQuestionWeightAverage;
+        }
+
+        public double getWeightAverage() {
+            return weightAverage;
+        }
+    }
 }
@@ -19,6 +19,13 @@ public class FeedbackRubricResponseDetails extends FeedbackResponseDetails {
         answer = new ArrayList<>();
     }
 
+    @Override
+    public FeedbackRubricResponseDetails getDeepCopy() {
+        FeedbackRubricResponseDetails copy = new FeedbackRubricResponseDetails();
+        copy.answer = copyOf(answer);
+        return copy;
+    }
+
     @Override
     public String getAnswerString() {
         return this.answer.toString();
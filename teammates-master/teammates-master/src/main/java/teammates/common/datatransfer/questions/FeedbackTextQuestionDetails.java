@@ -29,6 +29,14 @@ public class FeedbackTextQuestionDetails extends FeedbackQuestionDetails {
         shouldAllowRichText = true;
     }
 
+    @Override
+    public FeedbackTextQuestionDetails getDeepCopy() {
+        FeedbackTextQuestionDetails copy = new FeedbackTextQuestionDetails(getQuestionText());
+        copy.recommendedLength = recommendedLength;
+        copy.shouldAllowRichText = shouldAllowRichText;
+        return copy;
+    }
+
     @Override
     public boolean shouldChangesRequireResponseDeletion(FeedbackQuestionDetails newDetails) {
         assert newDetails instanceof FeedbackTextQuestionDetails;
@@ -19,6 +19,11 @@ public class FeedbackTextResponseDetails extends FeedbackResponseDetails {
         this.answer = SanitizationHelper.sanitizeForRichText(answer);
     }
 
+    @Override
+    public FeedbackTextResponseDetails getDeepCopy() {
+        return new FeedbackTextResponseDetails(getAnswerString());
+    }
+
     @Override
     public String getAnswerString() {
         return SanitizationHelper.sanitizeForRichText(answer);
@@ -0,0 +1,168 @@
+package teammates.common.datatransfer.questions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+
+/**
+ * Accumulates the numeric answers given to each recipient of a question in a single pass over its responses.
+ *
+ * <p>Recipients are indexed in the order they are first seen, and the answers of each recipient are summed up
+ * in primitive arrays over the indices instead of being collected.
+ */
+final class RecipientAnswersAccumulator {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final FeedbackQuestionAttributes question;
+    private final SessionResultsBundle bundle;
+
+    private final Map<String, Integer> recipientIndices = new HashMap<>();
+    private final List<String> recipients = new ArrayList<>();
+    private boolean[] isRecipientVisible = new boolean[INITIAL_CAPACITY];
+    private int[] counts = new int[INITIAL_CAPACITY];
+    private double[] totals = new double[INITIAL_CAPACITY];
+    private double[] mins = new double[INITIAL_CAPACITY];
+    private double[] maxs = new double[INITIAL_CAPACITY];
+    private int[] selfCounts = new int[INITIAL_CAPACITY];
+    private double[] selfTotals = new double[INITIAL_CAPACITY];
+
+    RecipientAnswersAccumulator(FeedbackQuestionAttributes question, SessionResultsBundle bundle) {
+        this.question = question;
+        this.bundle = bundle;
+    }
+
+    /**
+     * Gets the index of the recipient of the response, indexing the recipient if it is seen for the first time.
+     */
+    int getRecipientIndex(FeedbackResponseAttributes response) {
+        Integer index = recipientIndices.get(response.getRecipient());
+        if (index == null) {
+            index = recipients.size();
+            recipientIndices.put(response.getRecipient(), index);
+            recipients.add(response.getRecipient());
+            ensureCapacity(recipients.size());
+            isRecipientVisible[index] = true;
+            mins[index] = Double.POSITIVE_INFINITY;
+            maxs[index] = Double.NEGATIVE_INFINITY;
+        }
+        // the recipient is shown only if it is visible in all responses to it
+        isRecipientVisible[index] &= bundle.isResponseRecipientVisible(response);
+        return index;
+    }
+
+    /**
+     * Adds an answer given to the recipient of the response.
+     */
+    void addAnswer(FeedbackResponseAttributes response, double answer) {
+        addAnswer(getRecipientIndex(response), response, answer);
+    }
+
+    /**
+     * Adds an answer given to the recipient at the index by the giver of the response.
+     */
+    void addAnswer(int recipientIndex, FeedbackResponseAttributes response, double answer) {
+        counts[recipientIndex]++;
+        totals[recipientIndex] += answer;
+        mins[recipientIndex] = Math.min(mins[recipientIndex], answer);
+        maxs[recipientIndex] = Math.max(maxs[recipientIndex], answer);
+        if (response.getGiver().equals(response.getRecipient())) {
+            selfCounts[recipientIndex]++;
+            selfTotals[recipientIndex] += answer;
+        }
+    }
+
+    int getNumberOfRecipients() {
+        return recipients.size();
+    }
+
+    /**
+     * Gets the identifier of the recipient at the index.
+     */
+    String getRecipient(int recipientIndex) {
+        return recipients.get(recipientIndex);
+    }
+
+    /**
+     * Gets the number of answers given to the recipient at the index, optionally excluding self answers.
+     */
+    int getCount(int recipientIndex, boolean isSelfExcluded) {
+        return counts[recipientIndex] - (isSelfExcluded ? selfCounts[recipientIndex] : 0);
+    }
+
+    /**
+     * Gets the average of the answers given to the recipient at the index, optionally excluding self answers.
+     */
+    double getAverage(int recipientIndex, boolean isSelfExcluded) {
+        int count = getCount(recipientIndex, isSelfExcluded);
+        double total = totals[recipientIndex] - (isSelfExcluded ? selfTotals[recipientIndex] : 0);
+        return count == 0 ? 0 : total / count;
+    }
+
+    /**
+     * Gets the average of the self answers of the recipient at the index, or null if there is none.
+     */
+    Double getSelfAverage(int recipientIndex) {
+        return selfCounts[recipientIndex] == 0 ? null : selfTotals[recipientIndex] / selfCounts[recipientIndex];
+    }
+
+    /**
+     * Gets the name with which the recipient at the index is shown to the viewer of the statistics.
+     */
+    String getRecipientDisplayName(int recipientIndex) {
+        String recipientName = bundle.getRoster().getInfoForIdentifier(recipients.get(recipientIndex)).getName();
+        if (isRecipientVisible[recipientIndex]) {
+            return recipientName;
+        }
+        FeedbackParticipantType recipientType = question.getRecipientType() == FeedbackParticipantType.SELF
+                ? question.getGiverType() : question.getRecipientType();
+        return bundle.getMemoizedAnonName(recipientType, recipientName);
+    }
+
+    /**
+     * Gets the team with which the recipient at the index is shown, or null if the recipient is hidden or a team.
+     */
+    String getRecipientDisplayTeam(int recipientIndex) {
+        String recipient = recipients.get(recipientIndex);
+        if (!isRecipientVisible[recipientIndex] || bundle.getRoster().isTeamInCourse(recipient)) {
+            return null;
+        }
+        return bundle.getRoster().getInfoForIdentifier(recipient).getTeamName();
+    }
+
+    /**
+     * Gets the statistics of the answers given to each recipient, in the order the recipients are indexed.
+     */
+    List<RecipientStatistics> getStatistics() {
+        List<RecipientStatistics> statistics = new ArrayList<>();
+        for (int i = 0; i < recipients.size(); i++) {
+            statistics.add(new RecipientStatistics(getRecipientDisplayName(i), getRecipientDisplayTeam(i),
+                    counts[i], totals[i], counts[i] == 0 ? 0 : mins[i], counts[i] == 0 ? 0 : maxs[i],
+                    totals[i] - selfTotals[i], counts[i] - selfCounts[i],
+                    getSelfAverage(i)));
+        }
+        return statistics;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= counts.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, counts.length * 2);
+        isRecipientVisible = Arrays.copyOf(isRecipientVisible, newCapacity);
+        counts = Arrays.copyOf(counts, newCapacity);
+        totals = Arrays.copyOf(totals, newCapacity);
+        mins = Arrays.copyOf(mins, newCapacity);
+        maxs = Arrays.copyOf(maxs, newCapacity);
+        selfCounts = Arrays.copyOf(selfCounts, newCapacity);
+        selfTotals = Arrays.copyOf(selfTotals, newCapacity);
+    }
+
+}
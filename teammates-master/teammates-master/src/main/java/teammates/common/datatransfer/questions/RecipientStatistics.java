@@ -0,0 +1,71 @@
+package teammates.common.datatransfer.questions;
+
+/**
+ * Represents the statistics of the numeric answers given to one recipient of a question.
+ *
+ * <p>The recipient is identified as in the responses shown to the viewer of the statistics,
+ * i.e. by an anonymous name if the recipient of any of the responses is hidden from the viewer.
+ */
+public class RecipientStatistics {
+
+    private final String recipient;
+    private final String recipientTeam;
+    private final int numberOfAnswers;
+    private final double total;
+    private final double average;
+    private final double min;
+    private final double max;
+    private final double averageExcludingSelf;
+    private final Double selfAnswer;
+
+    RecipientStatistics(String recipient, String recipientTeam, int numberOfAnswers, double total,
+            double min, double max, double totalExcludingSelf, int numberOfAnswersExcludingSelf, Double selfAnswer) {
+        this.recipient = recipient;
+        this.recipientTeam = recipientTeam;
+        this.numberOfAnswers = numberOfAnswers;
+        this.total = total;
+        this.average = numberOfAnswers == 0 ? 0 : total / numberOfAnswers;
+        this.min = min;
+        this.max = max;
+        this.averageExcludingSelf =
+                numberOfAnswersExcludingSelf == 0 ? 0 : totalExcludingSelf / numberOfAnswersExcludingSelf;
+        this.selfAnswer = selfAnswer;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public String getRecipientTeam() {
+        return recipientTeam;
+    }
+
+    public int getNumberOfAnswers() {
+        return numberOfAnswers;
+    }
+
+    public double getTotal() {
+        return total;
+    }
+
+    public double getAverage() {
+        return average;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public double getAverageExcludingSelf() {
+        return averageExcludingSelf;
+    }
+
+    public Double getSelfAnswer() {
+        return selfAnswer;
+    }
+
+}
@@ -32,6 +32,9 @@ public final class Const {
 
     public static final Duration FEEDBACK_SESSIONS_SEARCH_WINDOW = Duration.ofDays(30);
     public static final Duration LOGS_RETENTION_PERIOD = Duration.ofDays(30);
+    // not shorter than the time-to-live of the entities cached across requests, so that the views of a snapshot
+    // are not built from data cached before the change which led to its generation
+    public static final Duration RESULTS_SNAPSHOT_GENERATION_DELAY = Duration.ofMinutes(5);
 
     // These constants are used as variable values to mean that the variable is in a 'special' state.
 
@@ -125,6 +128,9 @@ public final class Const {
         public static final String FEEDBACK_RESPONSE_COMMENT_ID = "responsecommentid";
 
         public static final String FEEDBACK_RESULTS_GROUPBYSECTION = "frgroupbysection";
+        public static final String FEEDBACK_RESULTS_COMPACT = "frcompact";
+        public static final String FEEDBACK_RESULTS_STATISTICS_ONLY = "frstatisticsonly";
+        public static final String FEEDBACK_RESULTS_SNAPSHOT_GENERATION_ID = "frsnapshotgenerationid";
 
         public static final String PREVIEWAS = "previewas";
 
@@ -314,6 +320,7 @@ public final class Const {
         public static final String SESSION_REMIND_RESULT = URI_PREFIX + "/session/remind/result";
         public static final String SESSION_STATS = URI_PREFIX + "/session/stats";
         public static final String SESSION_SUBMITTED_GIVER_SET = URI_PREFIX + "/session/submitted/giverset";
+        public static final String SESSION_RESPONSES = URI_PREFIX + "/session/responses";
         public static final String SESSIONS = URI_PREFIX + "/sessions";
         public static final String SEARCH_INSTRUCTORS = URI_PREFIX + "/search/instructors";
         public static final String SEARCH_STUDENTS = URI_PREFIX + "/search/students";
@@ -400,6 +407,16 @@ public final class Const {
         public static final String SEARCH_INDEXING_QUEUE_NAME = "search-indexing-queue";
         public static final String INSTRUCTOR_SEARCH_INDEXING_WORKER_URL = URI_PREFIX + "/instructorSearchIndexing";
         public static final String STUDENT_SEARCH_INDEXING_WORKER_URL = URI_PREFIX + "/studentSearchIndexing";
+
+        public static final String COURSE_DELETION_QUEUE_NAME = "course-deletion-queue";
+        public static final String COURSE_DELETION_WORKER_URL = URI_PREFIX + "/courseDeletion";
+
+        public static final String FEEDBACK_SESSION_DELETION_QUEUE_NAME = "feedback-session-deletion-queue";
+        public static final String FEEDBACK_SESSION_DELETION_WORKER_URL = URI_PREFIX + "/feedbackSessionDeletion";
+
+        public static final String FEEDBACK_SESSION_RESULTS_SNAPSHOT_QUEUE_NAME = "feedback-session-results-snapshot-queue";
+        public static final String FEEDBACK_SESSION_RESULTS_SNAPSHOT_WORKER_URL =
+                URI_PREFIX + "/feedbackSessionResultsSnapshot";
     }
 
 }
@@ -0,0 +1,89 @@
+package teammates.common.util;
+
+import java.security.GeneralSecurityException;
+
+import javax.crypto.BadPaddingException;
+import javax.crypto.Cipher;
+import javax.crypto.IllegalBlockSizeException;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Encrypts, decrypts and signs data with the encryption key of the application.
+ *
+ * <p>Getting and initializing a {@link Cipher} or a {@link Mac} costs much more than using it on a short value,
+ * e.g. a name or an email. Each thread therefore keeps its own initialized instances, which are reset
+ * after every use and reused instead of being created for every value.
+ */
+final class CryptoHelper {
+
+    private static final String CIPHER_TRANSFORMATION = "AES/ECB/PKCS5Padding";
+    private static final String MAC_ALGORITHM = "HmacSHA1";
+
+    private static final ThreadLocal<Cipher> ENCRYPTION_CIPHERS =
+            ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE));
+    private static final ThreadLocal<Cipher> DECRYPTION_CIPHERS =
+            ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE));
+    private static final ThreadLocal<Mac> MACS = ThreadLocal.withInitial(CryptoHelper::createMac);
+
+    private CryptoHelper() {
+        // utility class
+    }
+
+    /**
+     * Encrypts the plaintext with AES.
+     */
+    static byte[] encrypt(byte[] plaintext) throws IllegalBlockSizeException, BadPaddingException {
+        return doFinal(ENCRYPTION_CIPHERS, plaintext);
+    }
+
+    /**
+     * Decrypts the ciphertext with AES.
+     *
+     * @throws IllegalBlockSizeException if the ciphertext is not of a valid length
+     * @throws BadPaddingException if the ciphertext is not padded correctly
+     */
+    static byte[] decrypt(byte[] ciphertext) throws IllegalBlockSizeException, BadPaddingException {
+        return doFinal(DECRYPTION_CIPHERS, ciphertext);
+    }
+
+    /**
+     * Generates the HMAC SHA-1 signature of the data.
+     */
+    static byte[] generateSignature(byte[] data) {
+        // a MAC is reset by doFinal even if it fails
+        return MACS.get().doFinal(data);
+    }
+
+    private static byte[] doFinal(ThreadLocal<Cipher> ciphers, byte[] input)
+            throws IllegalBlockSizeException, BadPaddingException {
+        try {
+            return ciphers.get().doFinal(input);
+        } catch (IllegalBlockSizeException | BadPaddingException | RuntimeException e) {
+            // the cipher may be left in an unusable state; the thread gets a new one on next use
+            ciphers.remove();
+            throw e;
+        }
+    }
+
+    private static Cipher createCipher(int mode) {
+        try {
+            Cipher cipher = Cipher.getInstance(CIPHER_TRANSFORMATION);
+            cipher.init(mode, new SecretKeySpec(StringHelper.hexStringToByteArray(Config.ENCRYPTION_KEY), "AES"));
+            return cipher;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to initialize the cipher", e);
+        }
+    }
+
+    private static Mac createMac() {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(new SecretKeySpec(StringHelper.hexStringToByteArray(Config.ENCRYPTION_KEY), MAC_ALGORITHM));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to initialize the MAC", e);
+        }
+    }
+
+}
@@ -1,20 +1,25 @@
 package teammates.common.util;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.lang.reflect.Type;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.function.Function;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
-import com.google.gson.JsonPrimitive;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
 import teammates.common.datatransfer.logs.LogDetails;
 import teammates.common.datatransfer.logs.LogEvent;
@@ -24,9 +29,15 @@ import teammates.common.datatransfer.questions.FeedbackResponseDetails;
 
 /**
  * Provides means to handle, manipulate, and convert JSON objects to/from strings.
+ *
+ * <p>The underlying {@link Gson} instances are built once and shared, as they are thread-safe and cache
+ * the type adapter of every class they have serialized.
  */
 public final class JsonUtils {
 
+    private static final Gson PRETTY_PRINTING_GSON = createGsonInstance(true);
+    private static final Gson COMPACT_GSON = createGsonInstance(false);
+
     private JsonUtils() {
         // utility class
     }
@@ -35,14 +46,20 @@ public final class JsonUtils {
      * This creates a Gson object that can handle the Date format we use in the
      * Json file and also reformat the Json string in pretty-print format.
      */
-    private static Gson getGsonInstance(boolean prettyPrint) {
+    private static Gson createGsonInstance(boolean prettyPrint) {
         GsonBuilder builder = new GsonBuilder()
-                .registerTypeAdapter(Instant.class, new InstantAdapter())
-                .registerTypeAdapter(ZoneId.class, new ZoneIdAdapter())
-                .registerTypeAdapter(Duration.class, new DurationMinutesAdapter())
-                .registerTypeAdapter(FeedbackQuestionDetails.class, new FeedbackQuestionDetailsAdapter())
-                .registerTypeAdapter(FeedbackResponseDetails.class, new FeedbackResponseDetailsAdapter())
-                .registerTypeAdapter(LogDetails.class, new LogDetailsAdapter())
+                .registerTypeAdapter(Instant.class, new InstantAdapter().nullSafe())
+                .registerTypeAdapter(ZoneId.class, new ZoneIdAdapter().nullSafe())
+                .registerTypeAdapter(Duration.class, new DurationMinutesAdapter().nullSafe())
+                .registerTypeAdapterFactory(new PolymorphicTypeAdapterFactory<>(FeedbackQuestionDetails.class,
+                        "questionType", JsonUtils::getQuestionDetailsClass,
+                        details -> details.getQuestionType().getQuestionDetailsClass()))
+                .registerTypeAdapterFactory(new PolymorphicTypeAdapterFactory<>(FeedbackResponseDetails.class,
+                        "questionType", JsonUtils::getResponseDetailsClass,
+                        details -> details.getQuestionType().getResponseDetailsClass()))
+                .registerTypeAdapterFactory(new PolymorphicTypeAdapterFactory<>(LogDetails.class,
+                        "event", JsonUtils::getLogDetailsClass,
+                        details -> details.getEvent().getDetailsClass()))
                 .disableHtmlEscaping();
         if (prettyPrint) {
             builder.setPrettyPrinting();
@@ -56,7 +73,7 @@ public final class JsonUtils {
      * @see Gson#toJson(Object, Type)
      */
     public static String toJson(Object src, Type typeOfSrc) {
-        return getGsonInstance(true).toJson(src, typeOfSrc);
+        return PRETTY_PRINTING_GSON.toJson(src, typeOfSrc);
     }
 
     /**
@@ -65,7 +82,7 @@ public final class JsonUtils {
      * @see Gson#toJson(Object)
      */
     public static String toJson(Object src) {
-        return getGsonInstance(true).toJson(src);
+        return PRETTY_PRINTING_GSON.toJson(src);
     }
 
     /**
@@ -74,7 +91,7 @@ public final class JsonUtils {
      * @see Gson#toJson(Object)
      */
     public static String toCompactJson(Object src) {
-        return getGsonInstance(false).toJson(src);
+        return COMPACT_GSON.toJson(src);
     }
 
     /**
@@ -84,7 +101,31 @@ public final class JsonUtils {
      * @see Gson#toJson(Object, Appendable)
      */
     public static void toCompactJson(Object src, Appendable writer) {
-        getGsonInstance(false).toJson(src, writer);
+        COMPACT_GSON.toJson(src, writer);
+    }
+
+    /**
+     * Serializes the specified object into its equivalent JSON and writes it as the next value of a JSON writer.
+     * This allows a large JSON document to be written piece by piece without holding all of it in memory.
+     *
+     * @see #newCompactJsonWriter(Writer)
+     * @see Gson#toJson(Object, Type, JsonWriter)
+     */
+    public static void toCompactJson(Object src, JsonWriter writer) throws IOException {
+        if (src == null) {
+            writer.nullValue();
+            return;
+        }
+        COMPACT_GSON.toJson(src, src.getClass(), writer);
+    }
+
+    /**
+     * Creates a JSON writer which writes JSON in the same format as {@link #toCompactJson(Object)}.
+     *
+     * @see Gson#newJsonWriter(Writer)
+     */
+    public static JsonWriter newCompactJsonWriter(Writer writer) throws IOException {
+        return COMPACT_GSON.newJsonWriter(writer);
     }
 
     /**
@@ -93,7 +134,17 @@ public final class JsonUtils {
      * @see Gson#fromJson(String, Type)
      */
     public static <T> T fromJson(String json, Type typeOfT) {
-        return getGsonInstance(false).fromJson(json, typeOfT);
+        return COMPACT_GSON.fromJson(json, typeOfT);
+    }
+
+    /**
+     * Deserializes the JSON read from the specified reader into an object of the specified type.
+     * The JSON is parsed as it is read, without being held in memory as a whole.
+     *
+     * @see Gson#fromJson(Reader, Type)
+     */
+    public static <T> T fromJson(Reader json, Type typeOfT) {
+        return COMPACT_GSON.fromJson(json, typeOfT);
     }
 
     /**
@@ -105,110 +156,115 @@ public final class JsonUtils {
         return JsonParser.parseString(json);
     }
 
-    private static class InstantAdapter implements JsonSerializer<Instant>, JsonDeserializer<Instant> {
+    private static Class<? extends FeedbackQuestionDetails> getQuestionDetailsClass(JsonElement questionType) {
+        return FeedbackQuestionType.valueOf(questionType.getAsString()).getQuestionDetailsClass();
+    }
 
-        @Override
-        public JsonElement serialize(Instant instant, Type type, JsonSerializationContext context) {
-            synchronized (this) {
-                return new JsonPrimitive(DateTimeFormatter.ISO_INSTANT.format(instant));
-            }
-        }
+    private static Class<? extends FeedbackResponseDetails> getResponseDetailsClass(JsonElement questionType) {
+        return FeedbackQuestionType.valueOf(questionType.getAsString()).getResponseDetailsClass();
+    }
 
-        @Override
-        public Instant deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            synchronized (this) {
-                return Instant.parse(element.getAsString());
-            }
+    private static Class<? extends LogDetails> getLogDetailsClass(JsonElement event) {
+        if (event == null) {
+            return LogEvent.DEFAULT_LOG.getDetailsClass();
+        }
+        try {
+            return LogEvent.valueOf(event.getAsString()).getDetailsClass();
+        } catch (IllegalArgumentException e) {
+            return LogEvent.DEFAULT_LOG.getDetailsClass();
         }
     }
 
-    private static class ZoneIdAdapter implements JsonSerializer<ZoneId>, JsonDeserializer<ZoneId> {
+    private static class InstantAdapter extends TypeAdapter<Instant> {
 
         @Override
-        public JsonElement serialize(ZoneId zoneId, Type type, JsonSerializationContext context) {
-            synchronized (this) {
-                return new JsonPrimitive(zoneId.getId());
-            }
+        public void write(JsonWriter out, Instant instant) throws IOException {
+            out.value(DateTimeFormatter.ISO_INSTANT.format(instant));
         }
 
         @Override
-        public ZoneId deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            synchronized (this) {
-                return ZoneId.of(element.getAsString());
-            }
+        public Instant read(JsonReader in) throws IOException {
+            return Instant.parse(in.nextString());
         }
     }
 
-    private static class DurationMinutesAdapter implements JsonSerializer<Duration>, JsonDeserializer<Duration> {
+    private static class ZoneIdAdapter extends TypeAdapter<ZoneId> {
 
         @Override
-        public JsonElement serialize(Duration duration, Type type, JsonSerializationContext context) {
-            synchronized (this) {
-                return new JsonPrimitive(duration.toMinutes());
-            }
+        public void write(JsonWriter out, ZoneId zoneId) throws IOException {
+            out.value(zoneId.getId());
         }
 
         @Override
-        public Duration deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            synchronized (this) {
-                return Duration.ofMinutes(element.getAsLong());
-            }
+        public ZoneId read(JsonReader in) throws IOException {
+            return ZoneId.of(in.nextString());
         }
     }
 
-    private static class FeedbackResponseDetailsAdapter implements JsonSerializer<FeedbackResponseDetails>,
-            JsonDeserializer<FeedbackResponseDetails> {
+    private static class DurationMinutesAdapter extends TypeAdapter<Duration> {
 
         @Override
-        public JsonElement serialize(FeedbackResponseDetails src, Type typeOfSrc, JsonSerializationContext context) {
-            return context.serialize(src, src.getQuestionType().getResponseDetailsClass());
+        public void write(JsonWriter out, Duration duration) throws IOException {
+            out.value(duration.toMinutes());
         }
 
         @Override
-        public FeedbackResponseDetails deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) {
-            FeedbackQuestionType questionType =
-                    FeedbackQuestionType.valueOf(json.getAsJsonObject().get("questionType").getAsString());
-            return context.deserialize(json, questionType.getResponseDetailsClass());
+        public Duration read(JsonReader in) throws IOException {
+            return Duration.ofMinutes(in.nextLong());
         }
-
     }
 
-    private static class FeedbackQuestionDetailsAdapter implements JsonSerializer<FeedbackQuestionDetails>,
-            JsonDeserializer<FeedbackQuestionDetails> {
+    /**
+     * Serializes and deserializes values declared as an abstract base type by the adapter of their concrete class.
+     *
+     * <p>Values are serialized directly to the output stream by the reflective adapter of their concrete class,
+     * which is cached by Gson. Only deserialization goes through a parsed tree, as the concrete class is determined by
+     * a discriminator property which may appear anywhere in the JSON object.
+     *
+     * @param <T> the abstract base type
+     */
+    private static class PolymorphicTypeAdapterFactory<T> implements TypeAdapterFactory {
 
-        @Override
-        public JsonElement serialize(FeedbackQuestionDetails src, Type typeOfSrc, JsonSerializationContext context) {
-            return context.serialize(src, src.getQuestionType().getQuestionDetailsClass());
+        private final Class<T> baseType;
+        private final String discriminatorProperty;
+        private final Function<JsonElement, Class<? extends T>> classOfDiscriminator;
+        private final Function<T, Class<? extends T>> classOfValue;
+
+        PolymorphicTypeAdapterFactory(Class<T> baseType, String discriminatorProperty,
+                                      Function<JsonElement, Class<? extends T>> classOfDiscriminator,
+                                      Function<T, Class<? extends T>> classOfValue) {
+            this.baseType = baseType;
+            this.discriminatorProperty = discriminatorProperty;
+            this.classOfDiscriminator = classOfDiscriminator;
+            this.classOfValue = classOfValue;
         }
 
         @Override
-        public FeedbackQuestionDetails deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) {
-            FeedbackQuestionType questionType =
-                    FeedbackQuestionType.valueOf(json.getAsJsonObject().get("questionType").getAsString());
-            return context.deserialize(json, questionType.getQuestionDetailsClass());
-        }
-    }
+        @SuppressWarnings("unchecked")
+        public <R> TypeAdapter<R> create(Gson gson, TypeToken<R> type) {
+            // only values declared as the base type are handled; concrete classes use their own adapters
+            if (type.getRawType() != baseType) {
+                return null;
+            }
+            return (TypeAdapter<R>) new TypeAdapter<T>() {
 
-    private static class LogDetailsAdapter implements JsonSerializer<LogDetails>, JsonDeserializer<LogDetails> {
+                @Override
+                public void write(JsonWriter out, T value) throws IOException {
+                    getAdapter(classOfValue.apply(value)).write(out, value);
+                }
 
-        @Override
-        public JsonElement serialize(LogDetails src, Type typeOfSrc, JsonSerializationContext context) {
-            return context.serialize(src, src.getEvent().getDetailsClass());
-        }
+                @Override
+                public T read(JsonReader in) throws IOException {
+                    JsonObject json = JsonParser.parseReader(in).getAsJsonObject();
+                    return getAdapter(classOfDiscriminator.apply(json.get(discriminatorProperty))).fromJsonTree(json);
+                }
 
-        @Override
-        public LogDetails deserialize(JsonElement json, Type typeOfT, JsonDeserializationContext context) {
-            LogEvent event;
-            if (json.getAsJsonObject().has("event")) {
-                try {
-                    event = LogEvent.valueOf(json.getAsJsonObject().get("event").getAsString());
-                } catch (IllegalArgumentException e) {
-                    event = LogEvent.DEFAULT_LOG;
+                private TypeAdapter<T> getAdapter(Class<? extends T> concreteClass) {
+                    return (TypeAdapter<T>) gson.getAdapter(concreteClass);
                 }
-            } else {
-                event = LogEvent.DEFAULT_LOG;
-            }
-            return context.deserialize(json, event.getDetailsClass());
+
+            }.nullSafe();
         }
+
     }
 }
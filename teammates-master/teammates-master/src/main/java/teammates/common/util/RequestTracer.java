@@ -2,6 +2,9 @@ package teammates.common.util;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import teammates.common.exception.DeadlineExceededException;
 
@@ -71,6 +74,46 @@ public final class RequestTracer {
         return Instant.now().toEpochMilli() - trace.initTimestamp;
     }
 
+    /**
+     * Returns the object bound to the current request under the given name.
+     *
+     * <p>If no object is bound yet, one is created with the {@code supplier} and bound to the request.
+     * The object is discarded together with the request trace when the thread serves the next request.
+     *
+     * @return null if there is no request being traced
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T getOrCreateRequestScopedObject(String name, Supplier<T> supplier) {
+        RequestTrace trace = THREAD_LOCAL.get();
+        if (trace == null) {
+            return null;
+        }
+        return (T) trace.requestScopedObjects.computeIfAbsent(name, k -> supplier.get());
+    }
+
+    /**
+     * Returns a task which runs {@code task} within the trace of the current request.
+     *
+     * <p>This allows the task to be run by another thread while sharing the deadline and
+     * the request-scoped objects of the current request.
+     */
+    public static <T> Supplier<T> bindToCurrentRequest(Supplier<T> task) {
+        RequestTrace trace = THREAD_LOCAL.get();
+        return () -> {
+            RequestTrace previousTrace = THREAD_LOCAL.get();
+            THREAD_LOCAL.set(trace);
+            try {
+                return task.get();
+            } finally {
+                if (previousTrace == null) {
+                    THREAD_LOCAL.remove();
+                } else {
+                    THREAD_LOCAL.set(previousTrace);
+                }
+            }
+        };
+    }
+
     /**
      * Initializes the request with an ID and the timeout value (in seconds).
      */
@@ -78,11 +121,19 @@ public final class RequestTracer {
         THREAD_LOCAL.set(new RequestTrace(traceId, spanId, timeoutInSeconds));
     }
 
+    /**
+     * Ends the tracing of the current request, discarding all objects bound to it.
+     */
+    public static void end() {
+        THREAD_LOCAL.remove();
+    }
+
     private static class RequestTrace {
         private final String traceId;
         private final String spanId;
         private final long initTimestamp;
         private final long timeoutTimestamp;
+        private final Map<String, Object> requestScopedObjects = new ConcurrentHashMap<>();
 
         private RequestTrace(String traceId, String spanId, int timeoutInSeconds) {
             this.traceId = traceId;
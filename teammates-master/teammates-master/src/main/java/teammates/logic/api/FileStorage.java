@@ -1,5 +1,7 @@
 package teammates.logic.api;
 
+import java.util.List;
+
 import teammates.common.util.Config;
 import teammates.logic.core.FileStorageService;
 import teammates.logic.core.GoogleCloudStorageService;
@@ -39,6 +41,13 @@ public class FileStorage {
         return service.getContent(fileKey);
     }
 
+    /**
+     * Gets the keys of all files whose keys start with the specified {@code fileKeyPrefix}.
+     */
+    public List<String> getFileKeys(String fileKeyPrefix) {
+        return service.getFileKeys(fileKeyPrefix);
+    }
+
     /**
      * Deletes the file with the specified {@code fileKey}.
      */
@@ -7,6 +7,7 @@ import java.util.Set;
 
 import javax.annotation.Nullable;
 
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.AccountAttributes;
@@ -15,6 +16,8 @@ import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionResultsSnapshotAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionStatsAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.attributes.StudentProfileAttributes;
@@ -30,6 +33,8 @@ import teammates.logic.core.DataBundleLogic;
 import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponseCommentsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
+import teammates.logic.core.FeedbackSessionResultsSnapshotsLogic;
+import teammates.logic.core.FeedbackSessionStatsLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
 import teammates.logic.core.InstructorsLogic;
 import teammates.logic.core.ProfilesLogic;
@@ -49,6 +54,9 @@ public class Logic {
     final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
     final CoursesLogic coursesLogic = CoursesLogic.inst();
     final FeedbackSessionsLogic feedbackSessionsLogic = FeedbackSessionsLogic.inst();
+    final FeedbackSessionStatsLogic feedbackSessionStatsLogic = FeedbackSessionStatsLogic.inst();
+    final FeedbackSessionResultsSnapshotsLogic feedbackSessionResultsSnapshotsLogic =
+            FeedbackSessionResultsSnapshotsLogic.inst();
     final FeedbackQuestionsLogic feedbackQuestionsLogic = FeedbackQuestionsLogic.inst();
     final FeedbackResponsesLogic feedbackResponsesLogic = FeedbackResponsesLogic.inst();
     final FeedbackResponseCommentsLogic feedbackResponseCommentsLogic = FeedbackResponseCommentsLogic.inst();
@@ -73,6 +81,20 @@ public class Logic {
         return accountsLogic.getAccount(googleId);
     }
 
+    /**
+     * Gets accounts in a single batched lookup.
+     *
+     * <br/> Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @return accounts in the same order as the Google IDs, with null for accounts that do not exist
+     */
+    public List<AccountAttributes> getAccounts(List<String> googleIds) {
+        assert googleIds != null;
+
+        return accountsLogic.getAccounts(googleIds);
+    }
+
     public String getCourseInstitute(String courseId) {
         return coursesLogic.getCourseInstitute(courseId);
     }
@@ -566,6 +588,17 @@ public class Logic {
         return studentsLogic.getStudentsForCourse(courseId);
     }
 
+    /**
+     * Gets the roster of all students and instructors of a course.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     */
+    public CourseRoster getCourseRoster(String courseId) {
+        assert courseId != null;
+        return coursesLogic.getCourseRoster(courseId);
+    }
+
     /**
      * Returns a list of section names for the course with ID courseId.
      *
@@ -868,6 +901,82 @@ public class Logic {
         return feedbackSessionsLogic.getActualTotalSubmission(fsa);
     }
 
+    /**
+     * Gets the submission statistics of a feedback session.
+     *
+     * <p>The statistics are maintained as responses are submitted, so that getting them is usually a single lookup.
+     *
+     * <br>Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public FeedbackSessionStatsAttributes getFeedbackSessionStats(FeedbackSessionAttributes fsa) {
+        assert fsa != null;
+        return feedbackSessionStatsLogic.getFeedbackSessionStats(fsa);
+    }
+
+    /**
+     * Gets the results snapshot of a feedback session if the views of all its participants have been stored.
+     *
+     * <br>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return null if there is no complete snapshot
+     */
+    public FeedbackSessionResultsSnapshotAttributes getCompleteFeedbackSessionResultsSnapshot(
+            String feedbackSessionName, String courseId) {
+        assert feedbackSessionName != null;
+        assert courseId != null;
+
+        return feedbackSessionResultsSnapshotsLogic.getCompleteFeedbackSessionResultsSnapshot(
+                feedbackSessionName, courseId);
+    }
+
+    /**
+     * Gets the results snapshot of a feedback session, complete or not.
+     *
+     * <br>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return null if there is no snapshot
+     */
+    public FeedbackSessionResultsSnapshotAttributes getFeedbackSessionResultsSnapshot(
+            String feedbackSessionName, String courseId) {
+        assert feedbackSessionName != null;
+        assert courseId != null;
+
+        return feedbackSessionResultsSnapshotsLogic.getFeedbackSessionResultsSnapshot(feedbackSessionName, courseId);
+    }
+
+    /**
+     * Creates the results snapshot of a new generation for a feedback session which has none.
+     *
+     * <br>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return null if the session already has a snapshot, in which case nothing is created
+     */
+    public FeedbackSessionResultsSnapshotAttributes createFeedbackSessionResultsSnapshot(
+            String feedbackSessionName, String courseId) {
+        assert feedbackSessionName != null;
+        assert courseId != null;
+
+        return feedbackSessionResultsSnapshotsLogic.createFeedbackSessionResultsSnapshot(feedbackSessionName, courseId);
+    }
+
+    /**
+     * Marks the results snapshot as complete after the views of all participants have been stored.
+     *
+     * <br>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return false if the snapshot has been discarded since its generation started
+     */
+    public boolean completeFeedbackSessionResultsSnapshot(FeedbackSessionResultsSnapshotAttributes snapshot) {
+        assert snapshot != null;
+
+        return feedbackSessionResultsSnapshotsLogic.completeFeedbackSessionResultsSnapshot(snapshot);
+    }
+
     /**
      * Gets a list of feedback sessions for instructors.
      */
@@ -902,6 +1011,21 @@ public class Logic {
         return feedbackQuestionsLogic.getRecipientsOfQuestion(question, instructorGiver, studentGiver, null);
     }
 
+    /**
+     * Gets the recipients of a feedback question, using the given roster instead of reading the database.
+     *
+     * @see FeedbackQuestionsLogic#getRecipientsOfQuestion
+     */
+    public Map<String, String> getRecipientsOfQuestion(
+            FeedbackQuestionAttributes question,
+            @Nullable InstructorAttributes instructorGiver, @Nullable StudentAttributes studentGiver,
+            CourseRoster courseRoster) {
+        assert question != null;
+        assert courseRoster != null;
+
+        return feedbackQuestionsLogic.getRecipientsOfQuestion(question, instructorGiver, studentGiver, courseRoster);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null. <br>
@@ -1183,6 +1307,20 @@ public class Logic {
                 question.getFeedbackQuestionId(), instructorAttributes.getEmail());
     }
 
+    /**
+     * Get existing feedback responses given by a user in a feedback session.
+     *
+     * <p>Responses given by the team of a student are not included.
+     */
+    public List<FeedbackResponseAttributes> getFeedbackResponsesFromGiverForSession(
+            String giverEmail, String feedbackSessionName, String courseId) {
+        assert giverEmail != null;
+        assert feedbackSessionName != null;
+        assert courseId != null;
+
+        return feedbackResponsesLogic.getFeedbackResponsesFromGiverForSession(giverEmail, feedbackSessionName, courseId);
+    }
+
     public FeedbackResponseAttributes getFeedbackResponse(String feedbackResponseId) {
         assert feedbackResponseId != null;
         return feedbackResponsesLogic.getFeedbackResponse(feedbackResponseId);
@@ -1234,6 +1372,35 @@ public class Logic {
         return feedbackResponsesLogic.updateFeedbackResponseCascade(updateOptions);
     }
 
+    /**
+     * Creates, updates and deletes feedback responses of a feedback session in batched writes.
+     *
+     * <p>Cascade updates the associated feedback response comments of updated responses
+     * and cascade deletes the associated feedback response comments of deleted responses.
+     *
+     * <p>All responses are validated before anything is written, but the writes are not transactional.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @return created responses followed by updated responses, in the order they are given
+     * @throws InvalidParametersException if any of the responses to create or update is not valid
+     * @throws EntityDoesNotExistException if any of the responses to update cannot be found
+     * @throws EntityAlreadyExistsException if any of the responses to create or recreate already exists
+     */
+    public List<FeedbackResponseAttributes> batchUpdateFeedbackResponsesCascade(
+            List<FeedbackResponseAttributes> responsesToCreate,
+            List<FeedbackResponseAttributes.UpdateOptions> responsesToUpdate,
+            List<String> responseIdsToDelete)
+            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
+        assert responsesToCreate != null;
+        assert responsesToUpdate != null;
+        assert responseIdsToDelete != null;
+
+        return feedbackResponsesLogic.batchUpdateFeedbackResponsesCascade(
+                responsesToCreate, responsesToUpdate, responseIdsToDelete);
+    }
+
     /**
      * Deletes a feedback response cascade its associated comments.
      *
@@ -227,6 +227,60 @@ public class TaskQueuer {
                 paramMap, null);
     }
 
+    /**
+     * Schedules for the course identified by {@code courseId} to be deleted along with all its associated entities.
+     *
+     * <p>The task is retried until the whole course is deleted, each retry resuming where the previous one stopped.
+     *
+     * @param courseId the ID of the course to delete
+     */
+    public void scheduleCourseDeletion(String courseId) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, courseId);
+
+        addTask(TaskQueue.COURSE_DELETION_QUEUE_NAME, TaskQueue.COURSE_DELETION_WORKER_URL, paramMap, null);
+    }
+
+    /**
+     * Schedules for a feedback session in the recycle bin to be deleted along with all its associated entities.
+     *
+     * <p>The task is retried until the whole session is deleted, each retry resuming where the previous one stopped.
+     *
+     * @param courseId the course ID of the feedback session
+     * @param feedbackSessionName the name of the feedback session
+     */
+    public void scheduleFeedbackSessionDeletion(String courseId, String feedbackSessionName) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, courseId);
+        paramMap.put(ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
+
+        addTask(TaskQueue.FEEDBACK_SESSION_DELETION_QUEUE_NAME, TaskQueue.FEEDBACK_SESSION_DELETION_WORKER_URL,
+                paramMap, null);
+    }
+
+    /**
+     * Schedules for a generation of the results snapshot of a published feedback session to be generated
+     * after a delay.
+     *
+     * <p>The task is retried until the views of all participants are stored or the generation is discarded,
+     * each retry resuming where the previous one stopped.
+     *
+     * @param courseId the course ID of the feedback session
+     * @param feedbackSessionName the name of the feedback session
+     * @param generationId the generation ID of the snapshot to generate
+     * @param delayMillis the delay in milliseconds before the generation starts
+     */
+    public void scheduleFeedbackSessionResultsSnapshot(String courseId, String feedbackSessionName,
+            String generationId, long delayMillis) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, courseId);
+        paramMap.put(ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
+        paramMap.put(ParamsNames.FEEDBACK_RESULTS_SNAPSHOT_GENERATION_ID, generationId);
+
+        addDeferredTask(TaskQueue.FEEDBACK_SESSION_RESULTS_SNAPSHOT_QUEUE_NAME,
+                TaskQueue.FEEDBACK_SESSION_RESULTS_SNAPSHOT_WORKER_URL, paramMap, null, delayMillis);
+    }
+
     private void scheduleEmailForSending(EmailWrapper email, long emailDelayTimer) {
         try {
             SendEmailRequest request = new SendEmailRequest(email);
@@ -62,6 +62,15 @@ public final class AccountsLogic {
         return accountsDb.getAccount(googleId);
     }
 
+    /**
+     * Gets accounts in a single batched lookup.
+     *
+     * @return accounts in the same order as the Google IDs, with null for accounts that do not exist
+     */
+    public List<AccountAttributes> getAccounts(List<String> googleIds) {
+        return accountsDb.getAccounts(googleIds);
+    }
+
     /**
      * Returns true if the given account exists and is an instructor.
      */
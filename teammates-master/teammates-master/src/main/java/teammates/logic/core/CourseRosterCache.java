@@ -0,0 +1,133 @@
+package teammates.logic.core;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Logger;
+import teammates.storage.api.ConcurrentLoader;
+
+/**
+ * Cache of the rosters of courses, shared by all requests served by the application instance.
+ *
+ * <p>A cached roster is served as long as the versions of the students and the instructors of its course,
+ * as maintained by the storage layer, are the same as when the roster started loading, i.e. until any student
+ * or instructor of the course is written through this instance. Entries expire {@link #TIME_TO_LIVE} after
+ * they are loaded, which bounds how long changes made by other instances can go unnoticed.
+ * The cache is bounded by the total number of course members in the cached rosters.
+ */
+final class CourseRosterCache {
+
+    /**
+     * Duration for which loaded rosters are served from the cache.
+     */
+    static final Duration TIME_TO_LIVE = Duration.ofMinutes(1);
+
+    /**
+     * Maximum total number of students and instructors held by the cached rosters.
+     */
+    static final long MAX_CACHED_MEMBERS = 50000;
+
+    private static final int STATS_LOGGING_INTERVAL = 1000;
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final CourseRosterCache instance = new CourseRosterCache();
+
+    private final Cache<String, VersionedRoster> cachedRosters = CacheBuilder.newBuilder()
+            .maximumWeight(MAX_CACHED_MEMBERS)
+            .weigher((String courseId, VersionedRoster roster) -> roster.weight)
+            .expireAfterWrite(TIME_TO_LIVE)
+            .recordStats()
+            .build();
+
+    private final AtomicLong lookupCount = new AtomicLong();
+
+    private CourseRosterCache() {
+        // prevent initialization
+    }
+
+    static CourseRosterCache inst() {
+        return instance;
+    }
+
+    /**
+     * Gets the roster of a course, loading it if it is not cached or the cached roster is outdated.
+     */
+    CourseRoster getRoster(String courseId) {
+        logStatsPeriodically();
+
+        // the logic classes are looked up here as they may hold this cache themselves
+        StudentsLogic studentsLogic = StudentsLogic.inst();
+        InstructorsLogic instructorsLogic = InstructorsLogic.inst();
+
+        // the versions are read before the roster is loaded, so that a roster loaded while being written
+        // is never taken to be of the version after the write
+        long studentsVersion = studentsLogic.getRosterVersion(courseId);
+        long instructorsVersion = instructorsLogic.getRosterVersion(courseId);
+
+        VersionedRoster cachedRoster = cachedRosters.getIfPresent(courseId);
+        if (cachedRoster != null && cachedRoster.studentsVersion == studentsVersion
+                && cachedRoster.instructorsVersion == instructorsVersion) {
+            return cachedRoster.roster;
+        }
+
+        CompletableFuture<List<StudentAttributes>> futureStudents =
+                ConcurrentLoader.loadAsync(() -> studentsLogic.getStudentsForCourse(courseId));
+        List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(courseId);
+        CourseRoster roster = new CourseRoster(ConcurrentLoader.getResult(futureStudents), instructors);
+
+        cachedRosters.put(courseId, new VersionedRoster(roster, studentsVersion, instructorsVersion));
+        return roster;
+    }
+
+    /**
+     * Discards all cached rosters.
+     */
+    void invalidateAll() {
+        cachedRosters.invalidateAll();
+    }
+
+    /**
+     * Returns the hit/miss statistics of the cache.
+     *
+     * <p>Lookups of outdated rosters are counted as hits.
+     */
+    CacheStats getStats() {
+        return cachedRosters.stats();
+    }
+
+    private void logStatsPeriodically() {
+        if (lookupCount.incrementAndGet() % STATS_LOGGING_INTERVAL != 0) {
+            return;
+        }
+        CacheStats stats = getStats();
+        log.info(String.format("Course roster cache: hits %d, misses %d, hit rate %.2f, evictions %d, size %d",
+                stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount(), cachedRosters.size()));
+    }
+
+    private static final class VersionedRoster {
+
+        private final CourseRoster roster;
+        private final long studentsVersion;
+        private final long instructorsVersion;
+        private final int weight;
+
+        private VersionedRoster(CourseRoster roster, long studentsVersion, long instructorsVersion) {
+            this.roster = roster;
+            this.studentsVersion = studentsVersion;
+            this.instructorsVersion = instructorsVersion;
+            this.weight = Math.max(1, roster.getStudents().size() + roster.getInstructors().size());
+        }
+
+    }
+
+}
@@ -8,6 +8,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.InstructorPrivileges;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
@@ -42,6 +43,8 @@ public final class CoursesLogic {
 
     private final CoursesDb coursesDb = CoursesDb.inst();
 
+    private final CourseRosterCache rosterCache = CourseRosterCache.inst();
+
     private AccountsLogic accountsLogic;
     private FeedbackSessionsLogic feedbackSessionsLogic;
     private FeedbackQuestionsLogic fqLogic;
@@ -149,6 +152,15 @@ public final class CoursesLogic {
         }
     }
 
+    /**
+     * Gets the roster of all students and instructors of a course.
+     *
+     * <p>The roster is cached and shared with other requests until any student or instructor of the course changes.
+     */
+    public CourseRoster getCourseRoster(String courseId) {
+        return rosterCache.getRoster(courseId);
+    }
+
     /**
      * Returns a list of section names for the course with valid ID courseId.
      *
@@ -29,6 +29,8 @@ import teammates.storage.api.CoursesDb;
 import teammates.storage.api.FeedbackQuestionsDb;
 import teammates.storage.api.FeedbackResponseCommentsDb;
 import teammates.storage.api.FeedbackResponsesDb;
+import teammates.storage.api.FeedbackSessionResultsSnapshotsDb;
+import teammates.storage.api.FeedbackSessionStatsDb;
 import teammates.storage.api.FeedbackSessionsDb;
 import teammates.storage.api.InstructorsDb;
 import teammates.storage.api.ProfilesDb;
@@ -52,6 +54,10 @@ public final class DataBundleLogic {
     private final FeedbackQuestionsDb fqDb = FeedbackQuestionsDb.inst();
     private final FeedbackResponsesDb frDb = FeedbackResponsesDb.inst();
     private final FeedbackResponseCommentsDb fcDb = FeedbackResponseCommentsDb.inst();
+    private final FeedbackSessionStatsDb fssDb = FeedbackSessionStatsDb.inst();
+    private final FeedbackSessionResultsSnapshotsDb fsrsDb = FeedbackSessionResultsSnapshotsDb.inst();
+
+    private final SessionResultsBundleCache resultsCache = SessionResultsBundleCache.inst();
 
     private DataBundleLogic() {
         // prevent initialization
@@ -111,6 +117,16 @@ public final class DataBundleLogic {
         List<FeedbackResponseAttributes> newFeedbackResponses = frDb.putEntities(responses);
         List<FeedbackResponseCommentAttributes> newFeedbackResponseComments = fcDb.putEntities(responseComments);
 
+        // the entities are put without maintaining the statistics and cached results of the sessions they belong to
+        for (CourseAttributes course : courses) {
+            AttributesDeletionQuery query = AttributesDeletionQuery.builder()
+                    .withCourseId(course.getId())
+                    .build();
+            fssDb.deleteFeedbackSessionStats(query);
+            fsrsDb.deleteFeedbackSessionResultsSnapshots(query);
+            resultsCache.invalidateCourse(course.getId());
+        }
+
         updateDataBundleValue(newAccounts, dataBundle.accounts);
         updateDataBundleValue(newProfiles, dataBundle.profiles);
         updateDataBundleValue(newCourses, dataBundle.courses);
@@ -379,6 +395,9 @@ public final class DataBundleLogic {
                 frDb.deleteFeedbackResponses(query);
                 fqDb.deleteFeedbackQuestions(query);
                 fbDb.deleteFeedbackSessions(query);
+                fssDb.deleteFeedbackSessionStats(query);
+                fsrsDb.deleteFeedbackSessionResultsSnapshots(query);
+                resultsCache.invalidateCourse(courseId);
                 studentsDb.deleteStudents(query);
                 instructorsDb.deleteInstructors(query);
 
@@ -1,6 +1,7 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -14,6 +15,7 @@ import javax.annotation.Nullable;
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.GiverRecipientPairs;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -43,9 +45,13 @@ public final class FeedbackQuestionsLogic {
 
     private final FeedbackQuestionsDb fqDb = FeedbackQuestionsDb.inst();
 
+    private final CourseRosterCache rosterCache = CourseRosterCache.inst();
+
     private CoursesLogic coursesLogic;
     private FeedbackResponsesLogic frLogic;
     private FeedbackSessionsLogic fsLogic;
+    private FeedbackSessionResultsSnapshotsLogic fsrsLogic;
+    private FeedbackSessionStatsLogic fssLogic;
     private InstructorsLogic instructorsLogic;
     private StudentsLogic studentsLogic;
 
@@ -61,6 +67,8 @@ public final class FeedbackQuestionsLogic {
         coursesLogic = CoursesLogic.inst();
         frLogic = FeedbackResponsesLogic.inst();
         fsLogic = FeedbackSessionsLogic.inst();
+        fsrsLogic = FeedbackSessionResultsSnapshotsLogic.inst();
+        fssLogic = FeedbackSessionStatsLogic.inst();
         instructorsLogic = InstructorsLogic.inst();
         studentsLogic = StudentsLogic.inst();
     }
@@ -80,6 +88,11 @@ public final class FeedbackQuestionsLogic {
         FeedbackQuestionAttributes createdQuestion = fqDb.putEntity(fqa);
 
         adjustQuestionNumbers(questionsBefore.size() + 1, createdQuestion.getQuestionNumber(), questionsBefore);
+
+        // the new question may be answerable by participants who are not expected to submit before
+        fssLogic.deleteFeedbackSessionStats(createdQuestion.getFeedbackSessionName(), createdQuestion.getCourseId());
+        fsrsLogic.deleteFeedbackSessionResultsSnapshot(
+                createdQuestion.getFeedbackSessionName(), createdQuestion.getCourseId());
         return createdQuestion;
     }
 
@@ -360,7 +373,7 @@ public final class FeedbackQuestionsLogic {
      * @param question the feedback question
      * @param instructorGiver can be null for student giver
      * @param studentGiver can be null for instructor giver
-     * @param courseRoster if provided, the function can be completed without touching database
+     * @param courseRoster if not provided, the cached roster of the course is used
      * @return a map which keys are the identifiers of the recipients and values are the names of the recipients
      */
     public Map<String, String> getRecipientsOfQuestion(
@@ -395,13 +408,7 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case STUDENTS:
-            List<StudentAttributes> studentsInCourse;
-            if (courseRoster == null) {
-                studentsInCourse = studentsLogic.getStudentsForCourse(question.getCourseId());
-            } else {
-                studentsInCourse = courseRoster.getStudents();
-            }
-            for (StudentAttributes student : studentsInCourse) {
+            for (StudentAttributes student : getCourseRosterIfAbsent(courseRoster, question).getStudents()) {
                 if (isInstructorGiver && !instructorGiver.isAllowedForPrivilege(
                         student.getSection(), question.getFeedbackSessionName(),
                         Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS)) {
@@ -415,13 +422,7 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case INSTRUCTORS:
-            List<InstructorAttributes> instructorsInCourse;
-            if (courseRoster == null) {
-                instructorsInCourse = instructorsLogic.getInstructorsForCourse(question.getCourseId());
-            } else {
-                instructorsInCourse = courseRoster.getInstructors();
-            }
-            for (InstructorAttributes instr : instructorsInCourse) {
+            for (InstructorAttributes instr : getCourseRosterIfAbsent(courseRoster, question).getInstructors()) {
                 // remove hidden instructors for students
                 if (isStudentGiver && !instr.isDisplayedToStudents()) {
                     continue;
@@ -433,13 +434,8 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case TEAMS:
-            Map<String, List<StudentAttributes>> teamToTeamMembersTable;
-            if (courseRoster == null) {
-                List<StudentAttributes> students = studentsLogic.getStudentsForCourse(question.getCourseId());
-                teamToTeamMembersTable = CourseRoster.buildTeamToMembersTable(students);
-            } else {
-                teamToTeamMembersTable = courseRoster.getTeamToMembersTable();
-            }
+            Map<String, List<StudentAttributes>> teamToTeamMembersTable =
+                    getCourseRosterIfAbsent(courseRoster, question).getTeamToMembersTable();
             for (Map.Entry<String, List<StudentAttributes>> team : teamToTeamMembersTable.entrySet()) {
                 if (isInstructorGiver && !instructorGiver.isAllowedForPrivilege(
                         team.getValue().iterator().next().getSection(),
@@ -459,12 +455,8 @@ public final class FeedbackQuestionsLogic {
             recipients.put(giverTeam, giverTeam);
             break;
         case OWN_TEAM_MEMBERS:
-            List<StudentAttributes> students;
-            if (courseRoster == null) {
-                students = studentsLogic.getStudentsForTeam(giverTeam, question.getCourseId());
-            } else {
-                students = courseRoster.getTeamToMembersTable().getOrDefault(giverTeam, Collections.emptyList());
-            }
+            List<StudentAttributes> students = getCourseRosterIfAbsent(courseRoster, question)
+                    .getTeamToMembersTable().getOrDefault(giverTeam, Collections.emptyList());
             for (StudentAttributes student : students) {
                 if (!student.getEmail().equals(giverEmail)) {
                     recipients.put(student.getEmail(), student.getName());
@@ -472,12 +464,8 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-            List<StudentAttributes> teamMembers;
-            if (courseRoster == null) {
-                teamMembers = studentsLogic.getStudentsForTeam(giverTeam, question.getCourseId());
-            } else {
-                teamMembers = courseRoster.getTeamToMembersTable().getOrDefault(giverTeam, Collections.emptyList());
-            }
+            List<StudentAttributes> teamMembers = getCourseRosterIfAbsent(courseRoster, question)
+                    .getTeamToMembersTable().getOrDefault(giverTeam, Collections.emptyList());
             for (StudentAttributes student : teamMembers) {
                 // accepts self feedback too
                 recipients.put(student.getEmail(), student.getName());
@@ -492,50 +480,192 @@ public final class FeedbackQuestionsLogic {
         return recipients;
     }
 
+    private CourseRoster getCourseRosterIfAbsent(@Nullable CourseRoster courseRoster,
+            FeedbackQuestionAttributes question) {
+        return courseRoster == null ? rosterCache.getRoster(question.getCourseId()) : courseRoster;
+    }
+
     /**
      * Builds a complete giver to recipient map for a {@code relatedQuestion}.
      *
      * @param relatedQuestion The question to be considered
      * @param courseRoster the roster in the course
      * @return a map from giver to recipient for the question.
+     * @see #buildCompleteGiverRecipientPairs(FeedbackQuestionAttributes, CourseRoster)
      */
     public Map<String, Set<String>> buildCompleteGiverRecipientMap(
             FeedbackQuestionAttributes relatedQuestion, CourseRoster courseRoster) {
+        GiverRecipientPairs completeGiverRecipientPairs = buildCompleteGiverRecipientPairs(relatedQuestion, courseRoster);
+
         Map<String, Set<String>> completeGiverRecipientMap = new HashMap<>();
+        for (int giverIndex = 0; giverIndex < completeGiverRecipientPairs.getNumberOfGivers(); giverIndex++) {
+            Set<String> recipients = new HashSet<>();
+            completeGiverRecipientPairs.getRecipientsOfGiver(giverIndex).stream()
+                    .forEach(recipientIndex -> recipients.add(completeGiverRecipientPairs.getRecipient(recipientIndex)));
+            completeGiverRecipientMap.put(completeGiverRecipientPairs.getGiver(giverIndex), recipients);
+        }
+        return completeGiverRecipientMap;
+    }
+
+    /**
+     * Builds the complete set of giver-recipient pairs for a {@code relatedQuestion}.
+     *
+     * <p>The recipients of each giver are the same as those given by
+     * {@link #getRecipientsOfQuestion(FeedbackQuestionAttributes, InstructorAttributes, StudentAttributes, CourseRoster)},
+     * but are set as bits over the students, instructors or teams of the course instead of being
+     * collected into a map for each giver.
+     *
+     * @param relatedQuestion The question to be considered
+     * @param courseRoster the roster in the course
+     * @return the pairs of the question, with every possible giver added
+     */
+    public GiverRecipientPairs buildCompleteGiverRecipientPairs(
+            FeedbackQuestionAttributes relatedQuestion, CourseRoster courseRoster) {
+        GiverRecipientPairs pairs = new GiverRecipientPairs();
+
+        // the students, instructors or teams which can be recipients are indexed once for all givers
+        List<StudentAttributes> students = courseRoster.getStudents();
+        List<InstructorAttributes> instructors = courseRoster.getInstructors();
+        BitSet indexedRecipients = new BitSet();
+        BitSet indexedRecipientsForStudentGivers = new BitSet();
+        switch (relatedQuestion.getRecipientType()) {
+        case STUDENTS:
+            for (StudentAttributes student : students) {
+                indexedRecipients.set(pairs.addRecipient(student.getEmail()));
+            }
+            break;
+        case INSTRUCTORS:
+            for (InstructorAttributes instructor : instructors) {
+                int recipientIndex = pairs.addRecipient(instructor.getEmail());
+                indexedRecipients.set(recipientIndex);
+                // remove hidden instructors for students
+                indexedRecipientsForStudentGivers.set(recipientIndex, instructor.isDisplayedToStudents());
+            }
+            break;
+        case TEAMS:
+            for (String team : courseRoster.getTeamToMembersTable().keySet()) {
+                indexedRecipients.set(pairs.addRecipient(team));
+            }
+            break;
+        default:
+            break;
+        }
+        if (relatedQuestion.getRecipientType() != FeedbackParticipantType.INSTRUCTORS) {
+            indexedRecipientsForStudentGivers.or(indexedRecipients);
+        }
 
-        List<String> possibleGivers = getPossibleGivers(relatedQuestion, courseRoster);
-        for (String possibleGiver : possibleGivers) {
+        for (String possibleGiver : getPossibleGivers(relatedQuestion, courseRoster)) {
+            StudentAttributes studentGiver = null;
+            InstructorAttributes instructorGiver = null;
             switch (relatedQuestion.getGiverType()) {
             case STUDENTS:
-                StudentAttributes studentGiver = courseRoster.getStudentForEmail(possibleGiver);
-                completeGiverRecipientMap
-                        .computeIfAbsent(possibleGiver, key -> new HashSet<>())
-                        .addAll(getRecipientsOfQuestion(
-                                relatedQuestion, null, studentGiver, courseRoster).keySet());
+                studentGiver = courseRoster.getStudentForEmail(possibleGiver);
                 break;
             case TEAMS:
-                StudentAttributes oneTeamMember =
-                        courseRoster.getTeamToMembersTable().get(possibleGiver).iterator().next();
-                completeGiverRecipientMap
-                        .computeIfAbsent(possibleGiver, key -> new HashSet<>())
-                        .addAll(getRecipientsOfQuestion(
-                                relatedQuestion, null, oneTeamMember, courseRoster).keySet());
+                studentGiver = courseRoster.getTeamToMembersTable().get(possibleGiver).iterator().next();
                 break;
             case INSTRUCTORS:
             case SELF:
-                InstructorAttributes instructorGiver = courseRoster.getInstructorForEmail(possibleGiver);
-                completeGiverRecipientMap
-                        .computeIfAbsent(possibleGiver, key -> new HashSet<>())
-                        .addAll(getRecipientsOfQuestion(
-                                relatedQuestion, instructorGiver, null, courseRoster).keySet());
+                instructorGiver = courseRoster.getInstructorForEmail(possibleGiver);
                 break;
             default:
                 log.severe("Invalid giver type specified");
-                break;
+                continue;
             }
+
+            int giverIndex = pairs.addGiver(possibleGiver);
+            addRecipientsOfGiver(relatedQuestion, instructorGiver, studentGiver, courseRoster,
+                    studentGiver == null ? indexedRecipients : indexedRecipientsForStudentGivers, pairs, giverIndex);
         }
 
-        return completeGiverRecipientMap;
+        return pairs;
+    }
+
+    private void addRecipientsOfGiver(
+            FeedbackQuestionAttributes question,
+            @Nullable InstructorAttributes instructorGiver, @Nullable StudentAttributes studentGiver,
+            CourseRoster courseRoster, BitSet indexedRecipients, GiverRecipientPairs pairs, int giverIndex) {
+        String giverEmail = "";
+        String giverTeam = "";
+        if (studentGiver != null) {
+            giverEmail = studentGiver.getEmail();
+            giverTeam = studentGiver.getTeam();
+        } else if (instructorGiver != null) {
+            giverEmail = instructorGiver.getEmail();
+            giverTeam = Const.USER_TEAM_FOR_INSTRUCTOR;
+        }
+
+        BitSet recipients = pairs.getRecipientsOfGiver(giverIndex);
+        switch (question.getRecipientType()) {
+        case SELF:
+            recipients.set(pairs.addRecipient(
+                    question.getGiverType() == FeedbackParticipantType.TEAMS ? giverTeam : giverEmail));
+            break;
+        case STUDENTS:
+            recipients.or(indexedRecipients);
+            if (instructorGiver != null) {
+                // instructor can only see students in allowed sections for him/her
+                Map<String, Boolean> isAllowedBySection = new HashMap<>();
+                for (StudentAttributes student : courseRoster.getStudents()) {
+                    boolean isAllowed = isAllowedBySection.computeIfAbsent(student.getSection(),
+                            section -> instructorGiver.isAllowedForPrivilege(section, question.getFeedbackSessionName(),
+                                    Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS));
+                    if (!isAllowed) {
+                        recipients.clear(pairs.getRecipientIndex(student.getEmail()));
+                    }
+                }
+            }
+            clearRecipient(recipients, pairs, giverEmail);
+            break;
+        case INSTRUCTORS:
+            recipients.or(indexedRecipients);
+            clearRecipient(recipients, pairs, giverEmail);
+            break;
+        case TEAMS:
+            recipients.or(indexedRecipients);
+            if (instructorGiver != null) {
+                for (Map.Entry<String, List<StudentAttributes>> team
+                        : courseRoster.getTeamToMembersTable().entrySet()) {
+                    // instructor can only see teams in allowed sections for him/her
+                    if (!instructorGiver.isAllowedForPrivilege(team.getValue().iterator().next().getSection(),
+                            question.getFeedbackSessionName(),
+                            Const.InstructorPermissions.CAN_SUBMIT_SESSION_IN_SECTIONS)) {
+                        recipients.clear(pairs.getRecipientIndex(team.getKey()));
+                    }
+                }
+            }
+            clearRecipient(recipients, pairs, giverTeam);
+            break;
+        case OWN_TEAM:
+            recipients.set(pairs.addRecipient(giverTeam));
+            break;
+        case OWN_TEAM_MEMBERS:
+            for (StudentAttributes student
+                    : courseRoster.getTeamToMembersTable().getOrDefault(giverTeam, Collections.emptyList())) {
+                if (!student.getEmail().equals(giverEmail)) {
+                    recipients.set(pairs.addRecipient(student.getEmail()));
+                }
+            }
+            break;
+        case OWN_TEAM_MEMBERS_INCLUDING_SELF:
+            for (StudentAttributes student
+                    : courseRoster.getTeamToMembersTable().getOrDefault(giverTeam, Collections.emptyList())) {
+                recipients.set(pairs.addRecipient(student.getEmail()));
+            }
+            break;
+        case NONE:
+            recipients.set(pairs.addRecipient(Const.GENERAL_QUESTION));
+            break;
+        default:
+            break;
+        }
+    }
+
+    private void clearRecipient(BitSet recipients, GiverRecipientPairs pairs, String recipient) {
+        int recipientIndex = pairs.getRecipientIndex(recipient);
+        if (recipientIndex != -1) {
+            recipients.clear(recipientIndex);
+        }
     }
 
     /**
@@ -764,6 +894,12 @@ public final class FeedbackQuestionsLogic {
             frLogic.deleteFeedbackResponsesForQuestionCascade(oldQuestion.getId());
         }
 
+        if (oldQuestion.getGiverType() != updatedQuestion.getGiverType()) {
+            fssLogic.deleteFeedbackSessionStats(updatedQuestion.getFeedbackSessionName(), updatedQuestion.getCourseId());
+        }
+        fsrsLogic.deleteFeedbackSessionResultsSnapshot(
+                updatedQuestion.getFeedbackSessionName(), updatedQuestion.getCourseId());
+
         return updatedQuestion;
     }
 
@@ -818,6 +954,9 @@ public final class FeedbackQuestionsLogic {
 
         // delete question
         fqDb.deleteFeedbackQuestion(feedbackQuestionId);
+        fssLogic.deleteFeedbackSessionStats(questionToDelete.getFeedbackSessionName(), questionToDelete.getCourseId());
+        fsrsLogic.deleteFeedbackSessionResultsSnapshot(
+                questionToDelete.getFeedbackSessionName(), questionToDelete.getCourseId());
 
         // adjust question numbers
         if (questionToDelete.getQuestionNumber() < questionsToShiftQnNumber.size()) {
@@ -830,6 +969,10 @@ public final class FeedbackQuestionsLogic {
      */
     public void deleteFeedbackQuestions(AttributesDeletionQuery query) {
         fqDb.deleteFeedbackQuestions(query);
+        if (query.isCourseIdPresent()) {
+            fssLogic.deleteFeedbackSessionStats(query);
+            fsrsLogic.deleteFeedbackSessionResultsSnapshots(query);
+        }
     }
 
     // Shifts all question numbers after questionNumberToShiftFrom down by one.
@@ -1,6 +1,10 @@
 package teammates.logic.core;
 
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -9,6 +13,7 @@ import javax.annotation.Nullable;
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackQuestionVisibility;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
@@ -35,6 +40,7 @@ public final class FeedbackResponseCommentsLogic {
     private CoursesLogic coursesLogic;
     private FeedbackResponsesLogic frLogic;
     private FeedbackSessionsLogic fsLogic;
+    private FeedbackSessionResultsSnapshotsLogic fsrsLogic;
     private InstructorsLogic instructorsLogic;
     private StudentsLogic studentsLogic;
 
@@ -50,6 +56,7 @@ public final class FeedbackResponseCommentsLogic {
         coursesLogic = CoursesLogic.inst();
         frLogic = FeedbackResponsesLogic.inst();
         fsLogic = FeedbackSessionsLogic.inst();
+        fsrsLogic = FeedbackSessionResultsSnapshotsLogic.inst();
         instructorsLogic = InstructorsLogic.inst();
         studentsLogic = StudentsLogic.inst();
     }
@@ -67,7 +74,9 @@ public final class FeedbackResponseCommentsLogic {
                 frComment.isCommentFromFeedbackParticipant());
         verifyIsFeedbackSessionOfCourse(frComment.getCourseId(), frComment.getFeedbackSessionName());
 
-        return frcDb.createEntity(frComment);
+        FeedbackResponseCommentAttributes createdComment = frcDb.createEntity(frComment);
+        deleteResultsSnapshotsOfSessions(Collections.singletonList(createdComment));
+        return createdComment;
     }
 
     /**
@@ -94,6 +103,14 @@ public final class FeedbackResponseCommentsLogic {
         return frcDb.getFeedbackResponseCommentsForResponse(feedbackResponseId);
     }
 
+    /**
+     * Gets all response comments for any of the responses.
+     */
+    public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForResponses(
+            Collection<String> feedbackResponseIds) {
+        return frcDb.getFeedbackResponseCommentsForResponses(feedbackResponseIds);
+    }
+
     /**
      * Gets comment associated with the response.
      *
@@ -175,7 +192,26 @@ public final class FeedbackResponseCommentsLogic {
             FeedbackResponseCommentAttributes.UpdateOptions updateOptions)
             throws InvalidParametersException, EntityDoesNotExistException {
 
-        return frcDb.updateFeedbackResponseComment(updateOptions);
+        FeedbackResponseCommentAttributes updatedComment = frcDb.updateFeedbackResponseComment(updateOptions);
+        deleteResultsSnapshotsOfSessions(Collections.singletonList(updatedComment));
+        return updatedComment;
+    }
+
+    /**
+     * Updates feedback response comments by {@link FeedbackResponseCommentAttributes.UpdateOptions}
+     * in a single batched write.
+     *
+     * @return updated comments, in the order of the update options
+     * @throws InvalidParametersException if attributes to update of any of the comments are not valid
+     * @throws EntityDoesNotExistException if any of the comments cannot be found
+     */
+    public List<FeedbackResponseCommentAttributes> updateFeedbackResponseComments(
+            List<FeedbackResponseCommentAttributes.UpdateOptions> updateOptionsList)
+            throws InvalidParametersException, EntityDoesNotExistException {
+
+        List<FeedbackResponseCommentAttributes> updatedComments = frcDb.updateFeedbackResponseComments(updateOptionsList);
+        deleteResultsSnapshotsOfSessions(updatedComments);
+        return updatedComments;
     }
 
     /**
@@ -190,7 +226,21 @@ public final class FeedbackResponseCommentsLogic {
      * Deletes a comment.
      */
     public void deleteFeedbackResponseComment(long commentId) {
+        FeedbackResponseCommentAttributes comment = frcDb.getFeedbackResponseComment(commentId);
         frcDb.deleteFeedbackResponseComment(commentId);
+        if (comment != null) {
+            deleteResultsSnapshotsOfSessions(Collections.singletonList(comment));
+        }
+    }
+
+    /**
+     * Deletes comments by their IDs in a single batched delete.
+     *
+     * <p>This is only used when the responses of the comments are written,
+     * which discards the results snapshots of their sessions.
+     */
+    public void deleteFeedbackResponseCommentsByIds(List<Long> commentIds) {
+        frcDb.deleteFeedbackResponseCommentsByIds(commentIds);
     }
 
     /**
@@ -198,6 +248,23 @@ public final class FeedbackResponseCommentsLogic {
      */
     public void deleteFeedbackResponseComments(AttributesDeletionQuery query) {
         frcDb.deleteFeedbackResponseComments(query);
+        // comments deleted by response or question are deleted along with the responses,
+        // which discards the results snapshots of their sessions
+        if (query.isCourseIdPresent()) {
+            fsrsLogic.deleteFeedbackSessionResultsSnapshots(query);
+        }
+    }
+
+    /**
+     * Discards the results snapshots of the sessions of comments which are written.
+     */
+    private void deleteResultsSnapshotsOfSessions(List<FeedbackResponseCommentAttributes> writtenComments) {
+        Set<List<String>> sessions = new HashSet<>();
+        for (FeedbackResponseCommentAttributes comment : writtenComments) {
+            if (sessions.add(Arrays.asList(comment.getCourseId(), comment.getFeedbackSessionName()))) {
+                fsrsLogic.deleteFeedbackSessionResultsSnapshot(comment.getFeedbackSessionName(), comment.getCourseId());
+            }
+        }
     }
 
     /**
@@ -284,39 +351,52 @@ public final class FeedbackResponseCommentsLogic {
             return false;
         }
 
+        return isResponseCommentVisibleForUser(userEmail, isInstructor, student, studentsEmailInTeam, response,
+                relatedQuestion, new FeedbackQuestionVisibility(relatedQuestion), relatedComment);
+    }
+
+    /**
+     * Verifies whether the comment is visible to certain user, using the compiled visibility settings
+     * of the question of the comment.
+     */
+    boolean isResponseCommentVisibleForUser(String userEmail, boolean isInstructor,
+            StudentAttributes student, Set<String> studentsEmailInTeam, FeedbackResponseAttributes response,
+            FeedbackQuestionAttributes relatedQuestion, FeedbackQuestionVisibility questionVisibility,
+            FeedbackResponseCommentAttributes relatedComment) {
         boolean isVisibilityFollowingFeedbackQuestion = relatedComment.isVisibilityFollowingFeedbackQuestion();
         boolean isVisibleToGiver = isVisibilityFollowingFeedbackQuestion
                                  || relatedComment.isVisibleTo(FeedbackParticipantType.GIVER);
 
-        boolean isVisibleToUser = isVisibleToUser(userEmail, response, relatedQuestion, relatedComment,
+        boolean isVisibleToUser = isVisibleToUser(userEmail, response, questionVisibility, relatedComment,
                 isVisibleToGiver, isInstructor, !isInstructor);
 
         boolean isVisibleToUserTeam = isVisibleToUserTeam(student, studentsEmailInTeam, response,
-                relatedQuestion, relatedComment, !isInstructor);
+                relatedQuestion, questionVisibility, relatedComment, !isInstructor);
 
         return isVisibleToUser || isVisibleToUserTeam;
     }
 
     private boolean isVisibleToUserTeam(StudentAttributes student, Set<String> studentsEmailInTeam,
             FeedbackResponseAttributes response, FeedbackQuestionAttributes relatedQuestion,
-            FeedbackResponseCommentAttributes relatedComment, boolean isUserStudent) {
+            FeedbackQuestionVisibility questionVisibility, FeedbackResponseCommentAttributes relatedComment,
+            boolean isUserStudent) {
 
         boolean isUserInResponseRecipientTeamAndRelatedResponseCommentVisibleToRecipients =
                 isUserStudent
                 && relatedQuestion.getRecipientType() == FeedbackParticipantType.TEAMS
-                && isResponseCommentVisibleTo(relatedQuestion, relatedComment,
+                && isResponseCommentVisibleTo(questionVisibility, relatedComment,
                                               FeedbackParticipantType.RECEIVER)
                 && response.getRecipient().equals(student.getTeam());
 
         boolean isUserInResponseGiverTeamAndRelatedResponseCommentVisibleToGiversTeamMembers =
                 (relatedQuestion.getGiverType() == FeedbackParticipantType.TEAMS
-                || isResponseCommentVisibleTo(relatedQuestion, relatedComment,
+                || isResponseCommentVisibleTo(questionVisibility, relatedComment,
                                               FeedbackParticipantType.OWN_TEAM_MEMBERS))
                 && (studentsEmailInTeam.contains(response.getGiver())
                         || (isUserStudent && student.getTeam().equals(response.getGiver())));
 
         boolean isUserInResponseRecipientTeamAndRelatedResponseCommentVisibleToRecipientsTeamMembers =
-                isResponseCommentVisibleTo(relatedQuestion, relatedComment,
+                isResponseCommentVisibleTo(questionVisibility, relatedComment,
                                            FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
                 && studentsEmailInTeam.contains(response.getRecipient());
 
@@ -326,15 +406,15 @@ public final class FeedbackResponseCommentsLogic {
     }
 
     private boolean isVisibleToUser(String userEmail, FeedbackResponseAttributes response,
-            FeedbackQuestionAttributes relatedQuestion, FeedbackResponseCommentAttributes relatedComment,
+            FeedbackQuestionVisibility questionVisibility, FeedbackResponseCommentAttributes relatedComment,
             boolean isVisibleToGiver, boolean isUserInstructor, boolean isUserStudent) {
 
         boolean isUserInstructorAndRelatedResponseCommentVisibleToInstructors =
-                isUserInstructor && isResponseCommentVisibleTo(relatedQuestion, relatedComment,
+                isUserInstructor && isResponseCommentVisibleTo(questionVisibility, relatedComment,
                                                                FeedbackParticipantType.INSTRUCTORS);
 
         boolean isUserResponseRecipientAndRelatedResponseCommentVisibleToRecipients =
-                response.getRecipient().equals(userEmail) && isResponseCommentVisibleTo(relatedQuestion,
+                response.getRecipient().equals(userEmail) && isResponseCommentVisibleTo(questionVisibility,
                         relatedComment, FeedbackParticipantType.RECEIVER);
 
         boolean isUserResponseGiverAndRelatedResponseCommentVisibleToGivers =
@@ -343,7 +423,7 @@ public final class FeedbackResponseCommentsLogic {
         boolean isUserRelatedResponseCommentGiver = relatedComment.getCommentGiver().equals(userEmail);
 
         boolean isUserStudentAndRelatedResponseCommentVisibleToStudents =
-                isUserStudent && isResponseCommentVisibleTo(relatedQuestion,
+                isUserStudent && isResponseCommentVisibleTo(questionVisibility,
                         relatedComment, FeedbackParticipantType.STUDENTS);
 
         return isUserInstructorAndRelatedResponseCommentVisibleToInstructors
@@ -353,12 +433,12 @@ public final class FeedbackResponseCommentsLogic {
                 || isUserStudentAndRelatedResponseCommentVisibleToStudents;
     }
 
-    private boolean isResponseCommentVisibleTo(FeedbackQuestionAttributes relatedQuestion,
+    private boolean isResponseCommentVisibleTo(FeedbackQuestionVisibility questionVisibility,
                                                FeedbackResponseCommentAttributes relatedComment,
                                                FeedbackParticipantType viewerType) {
         boolean isVisibilityFollowingFeedbackQuestion = relatedComment.isVisibilityFollowingFeedbackQuestion();
         return isVisibilityFollowingFeedbackQuestion
-                ? relatedQuestion.isResponseVisibleTo(viewerType)
+                ? questionVisibility.isResponseVisibleTo(viewerType)
                 : relatedComment.isVisibleTo(viewerType);
     }
 
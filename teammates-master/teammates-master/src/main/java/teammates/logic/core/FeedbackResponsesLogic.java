@@ -1,6 +1,8 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -8,24 +10,29 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackQuestionVisibility;
+import teammates.common.datatransfer.GiverRecipientPairs;
+import teammates.common.datatransfer.MissingResponseList;
 import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
-import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.common.util.RequestTracer;
+import teammates.storage.api.ConcurrentLoader;
 import teammates.storage.api.FeedbackResponsesDb;
 
 /**
@@ -40,8 +47,14 @@ public final class FeedbackResponsesLogic {
 
     private final FeedbackResponsesDb frDb = FeedbackResponsesDb.inst();
 
+    private final SessionResultsBundleCache resultsCache = SessionResultsBundleCache.inst();
+
+    private final CourseRosterCache rosterCache = CourseRosterCache.inst();
+
     private FeedbackQuestionsLogic fqLogic;
     private FeedbackResponseCommentsLogic frcLogic;
+    private FeedbackSessionResultsSnapshotsLogic fsrsLogic;
+    private FeedbackSessionStatsLogic fssLogic;
     private InstructorsLogic instructorsLogic;
     private StudentsLogic studentsLogic;
 
@@ -56,6 +69,8 @@ public final class FeedbackResponsesLogic {
     void initLogicDependencies() {
         fqLogic = FeedbackQuestionsLogic.inst();
         frcLogic = FeedbackResponseCommentsLogic.inst();
+        fsrsLogic = FeedbackSessionResultsSnapshotsLogic.inst();
+        fssLogic = FeedbackSessionStatsLogic.inst();
         instructorsLogic = InstructorsLogic.inst();
         studentsLogic = StudentsLogic.inst();
     }
@@ -76,7 +91,11 @@ public final class FeedbackResponsesLogic {
      */
     public FeedbackResponseAttributes createFeedbackResponse(FeedbackResponseAttributes fra)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return frDb.createEntity(fra);
+        FeedbackResponseAttributes createdResponse = frDb.createEntity(fra);
+        updateGiversInSessionStats(Collections.singletonList(createdResponse), Collections.emptyList(),
+                Collections.emptyList());
+        deleteResultsSnapshotsOfSessions(Collections.singletonList(createdResponse));
+        return createdResponse;
     }
 
     /**
@@ -97,10 +116,14 @@ public final class FeedbackResponsesLogic {
 
     /**
      * Gets all responses for a session.
+     *
+     * <p>The responses are fetched in pages and converted as they arrive, so that the entities of the whole
+     * session are never held in memory alongside their attributes.
      */
     List<FeedbackResponseAttributes> getFeedbackResponsesForSession(
             String feedbackSessionName, String courseId) {
-        return frDb.getFeedbackResponsesForSession(feedbackSessionName, courseId);
+        return frDb.streamFeedbackResponsesForSession(feedbackSessionName, courseId)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -156,6 +179,14 @@ public final class FeedbackResponsesLogic {
         return frDb.getFeedbackResponsesFromGiverForQuestion(feedbackQuestionId, userEmail);
     }
 
+    /**
+     * Gets all responses given by an user in a session.
+     */
+    public List<FeedbackResponseAttributes> getFeedbackResponsesFromGiverForSession(
+            String userEmail, String feedbackSessionName, String courseId) {
+        return frDb.getFeedbackResponsesFromGiverForSession(userEmail, feedbackSessionName, courseId);
+    }
+
     /**
      * Gets all responses received by an user for a question.
      */
@@ -214,80 +245,77 @@ public final class FeedbackResponsesLogic {
             return false;
         }
 
+        return isNameVisibleToUser(question, new FeedbackQuestionVisibility(question), response,
+                userEmail, isInstructor, isGiverName, roster);
+    }
+
+    private boolean isNameVisibleToUser(
+            FeedbackQuestionAttributes question, FeedbackQuestionVisibility visibility,
+            FeedbackResponseAttributes response,
+            String userEmail,
+            boolean isInstructor, boolean isGiverName, CourseRoster roster) {
+        return isNameVisibleToUserForGiver(question, visibility, response.getGiver(),
+                userEmail, isInstructor, isGiverName, roster)
+                || isNameVisibleToUserForRecipient(question, visibility, response.getRecipient(),
+                        userEmail, isGiverName, roster);
+    }
+
+    /**
+     * Returns true if the name is visible to the user because of the giver of the response or the user alone,
+     * regardless of the recipient of the response.
+     */
+    private boolean isNameVisibleToUserForGiver(
+            FeedbackQuestionAttributes question, FeedbackQuestionVisibility visibility, String giver,
+            String userEmail, boolean isInstructor, boolean isGiverName, CourseRoster roster) {
         // Early return if user is giver
         if (question.getGiverType() == FeedbackParticipantType.TEAMS) {
             // if response is given by team, then anyone in the team can see the response
-            if (roster.isStudentInTeam(userEmail, response.getGiver())) {
+            if (roster.isStudentInTeam(userEmail, giver)) {
                 return true;
             }
         } else {
-            if (response.getGiver().equals(userEmail)) {
+            if (giver.equals(userEmail)) {
                 return true;
             }
         }
 
-        return isFeedbackParticipantNameVisibleToUser(question, response,
-                userEmail, isInstructor, isGiverName, roster);
+        if (visibility.isNameVisibleTo(isGiverName, FeedbackParticipantType.INSTRUCTORS)
+                && isInstructor && roster.getInstructorForEmail(userEmail) != null) {
+            return true;
+        }
+        if ((visibility.isNameVisibleTo(isGiverName, FeedbackParticipantType.OWN_TEAM_MEMBERS)
+                || visibility.isNameVisibleTo(isGiverName, FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF))
+                // Refers to Giver's Team Members
+                && roster.isStudentsInSameTeam(giver, userEmail)) {
+            return true;
+        }
+        return visibility.isNameVisibleTo(isGiverName, FeedbackParticipantType.STUDENTS)
+                && roster.isStudentInCourse(userEmail);
     }
 
-    private boolean isFeedbackParticipantNameVisibleToUser(
-            FeedbackQuestionAttributes question, FeedbackResponseAttributes response,
-            String userEmail, boolean isInstructor, boolean isGiverName, CourseRoster roster) {
-        List<FeedbackParticipantType> showNameTo = isGiverName
-                                                 ? question.getShowGiverNameTo()
-                                                 : question.getShowRecipientNameTo();
-        for (FeedbackParticipantType type : showNameTo) {
-            switch (type) {
-            case INSTRUCTORS:
-                if (roster.getInstructorForEmail(userEmail) != null && isInstructor) {
-                    return true;
-                }
-                break;
-            case OWN_TEAM_MEMBERS:
-            case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-                // Refers to Giver's Team Members
-                if (roster.isStudentsInSameTeam(response.getGiver(), userEmail)) {
-                    return true;
-                }
-                break;
-            case RECEIVER:
-                // Response to team
-                if (question.getRecipientType().isTeam()) {
-                    if (roster.isStudentInTeam(userEmail, response.getRecipient())) {
-                        // this is a team name
-                        return true;
-                    }
-                    break;
-                    // Response to individual
-                } else if (response.getRecipient().equals(userEmail)) {
-                    return true;
-                } else {
-                    break;
-                }
-            case RECEIVER_TEAM_MEMBERS:
-                // Response to team; recipient = teamName
-                if (question.getRecipientType().isTeam()) {
-                    if (roster.isStudentInTeam(userEmail, response.getRecipient())) {
-                        // this is a team name
-                        return true;
-                    }
-                    break;
-                } else if (roster.isStudentsInSameTeam(response.getRecipient(), userEmail)) {
-                    // Response to individual
-                    return true;
-                }
-                break;
-            case STUDENTS:
-                if (roster.isStudentInCourse(userEmail)) {
-                    return true;
-                }
-                break;
-            default:
-                assert false : "Invalid FeedbackParticipantType for showNameTo in "
-                        + "FeedbackResponseLogic.isFeedbackParticipantNameVisibleToUser()";
-                break;
+    /**
+     * Returns true if the name is visible to the user because of the recipient of the response,
+     * regardless of the giver of the response.
+     */
+    private boolean isNameVisibleToUserForRecipient(
+            FeedbackQuestionAttributes question, FeedbackQuestionVisibility visibility, String recipient,
+            String userEmail, boolean isGiverName, CourseRoster roster) {
+        boolean isRecipientTeam = question.getRecipientType().isTeam();
+        if (visibility.isNameVisibleTo(isGiverName, FeedbackParticipantType.RECEIVER)) {
+            boolean isReceiver = isRecipientTeam
+                    // Response to team; recipient = teamName
+                    ? roster.isStudentInTeam(userEmail, recipient)
+                    : recipient.equals(userEmail);
+            if (isReceiver) {
+                return true;
             }
         }
+        if (visibility.isNameVisibleTo(isGiverName, FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)) {
+            return isRecipientTeam
+                    // Response to team; recipient = teamName
+                    ? roster.isStudentInTeam(userEmail, recipient)
+                    : roster.isStudentsInSameTeam(recipient, userEmail);
+        }
         return false;
     }
 
@@ -326,33 +354,18 @@ public final class FeedbackResponsesLogic {
     }
 
     private SessionResultsBundle buildResultsBundle(
-            boolean isCourseWide, String feedbackSessionName, String courseId, String section, String questionId,
+            boolean isCourseWide, String feedbackSessionName, String section,
             boolean isInstructor, String userEmail, InstructorAttributes instructor, StudentAttributes student,
             CourseRoster roster, List<FeedbackQuestionAttributes> allQuestions,
-            List<FeedbackResponseAttributes> allResponses) {
-        Map<String, FeedbackQuestionAttributes> allQuestionsMap = new HashMap<>();
-        for (FeedbackQuestionAttributes qn : allQuestions) {
-            allQuestionsMap.put(qn.getId(), qn);
-        }
-
-        // load comment(s)
-        List<FeedbackResponseCommentAttributes> allComments;
-        if (questionId == null) {
-            allComments = frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, section);
-        } else {
-            allComments = frcLogic.getFeedbackResponseCommentForQuestionInSection(questionId, section);
+            List<FeedbackResponseAttributes> allResponses, List<FeedbackResponseCommentAttributes> allComments) {
+        // responses and comments are grouped by question; responses without corresponding question are ignored
+        Map<String, List<FeedbackResponseAttributes>> responsesByQuestion = new HashMap<>();
+        for (FeedbackResponseAttributes response : allResponses) {
+            responsesByQuestion.computeIfAbsent(response.getFeedbackQuestionId(), key -> new ArrayList<>()).add(response);
         }
-        RequestTracer.checkRemainingTime();
-
-        // related questions, responses, and comment
-        Map<String, FeedbackQuestionAttributes> relatedQuestionsMap = new HashMap<>();
-        Map<String, FeedbackResponseAttributes> relatedResponsesMap = new HashMap<>();
-        Map<String, List<FeedbackResponseCommentAttributes>> relatedCommentsMap = new HashMap<>();
-        if (isCourseWide) {
-            // all questions are related questions when viewing course-wide result
-            for (FeedbackQuestionAttributes qn : allQuestions) {
-                relatedQuestionsMap.put(qn.getId(), qn);
-            }
+        Map<String, List<FeedbackResponseCommentAttributes>> commentsByQuestion = new HashMap<>();
+        for (FeedbackResponseCommentAttributes frc : allComments) {
+            commentsByQuestion.computeIfAbsent(frc.getFeedbackQuestionId(), key -> new ArrayList<>()).add(frc);
         }
 
         Set<String> studentsEmailInTeam = new HashSet<>();
@@ -363,69 +376,115 @@ public final class FeedbackResponsesLogic {
             }
         }
 
-        // visibility table for each response and comment
+        // the privileges of the instructor are looked up once per section instead of once per response
+        ViewableSections viewableSections =
+                instructor == null ? null : new ViewableSections(instructor, feedbackSessionName, roster);
+
+        // the results of each question do not depend on other questions and are built concurrently
+        List<CompletableFuture<QuestionResults>> futureQuestionResults = new ArrayList<>();
+        for (FeedbackQuestionAttributes question : allQuestions) {
+            List<FeedbackResponseAttributes> responses =
+                    responsesByQuestion.getOrDefault(question.getId(), Collections.emptyList());
+            if (!isCourseWide && responses.isEmpty()) {
+                // the question is only related if there are viewable responses
+                continue;
+            }
+            List<FeedbackResponseCommentAttributes> comments =
+                    commentsByQuestion.getOrDefault(question.getId(), Collections.emptyList());
+            futureQuestionResults.add(ConcurrentLoader.loadAsync(() -> buildQuestionResults(
+                    isCourseWide, section, isInstructor, userEmail, instructor, viewableSections,
+                    student, studentsEmailInTeam, roster, question, responses, comments)));
+        }
+
+        // the results are merged in the order of the questions, regardless of the order of completion
+        Map<String, FeedbackQuestionAttributes> relatedQuestionsMap = new HashMap<>();
+        List<FeedbackResponseAttributes> existingResponses = new ArrayList<>();
+        Map<String, MissingResponseList> missingResponses = new HashMap<>();
+        Map<String, List<FeedbackResponseCommentAttributes>> relatedCommentsMap = new HashMap<>();
         Map<String, Boolean> responseGiverVisibilityTable = new HashMap<>();
         Map<String, Boolean> responseRecipientVisibilityTable = new HashMap<>();
         Map<Long, Boolean> commentVisibilityTable = new HashMap<>();
+        for (CompletableFuture<QuestionResults> futureResults : futureQuestionResults) {
+            QuestionResults results = ConcurrentLoader.getResult(futureResults);
+            if (isCourseWide || !results.existingResponses.isEmpty()) {
+                relatedQuestionsMap.put(results.question.getId(), results.question);
+            }
+            existingResponses.addAll(results.existingResponses);
+            if (results.missingResponses != null) {
+                missingResponses.put(results.question.getId(), results.missingResponses);
+            }
+            relatedCommentsMap.putAll(results.commentsMap);
+            responseGiverVisibilityTable.putAll(results.responseGiverVisibilityTable);
+            responseRecipientVisibilityTable.putAll(results.responseRecipientVisibilityTable);
+            commentVisibilityTable.putAll(results.commentVisibilityTable);
+        }
+
+        return new SessionResultsBundle(relatedQuestionsMap, existingResponses, missingResponses,
+                responseGiverVisibilityTable, responseRecipientVisibilityTable, relatedCommentsMap,
+                commentVisibilityTable, roster);
+    }
+
+    /**
+     * Builds the viewable responses, comments and, for course-wide results, missing responses of a question.
+     *
+     * <p>This is run concurrently for the questions of a session; the arguments shared by the questions are only read.
+     */
+    private QuestionResults buildQuestionResults(
+            boolean isCourseWide, String section, boolean isInstructor, String userEmail,
+            InstructorAttributes instructor, @Nullable ViewableSections viewableSections, StudentAttributes student,
+            Set<String> studentsEmailInTeam, CourseRoster roster, FeedbackQuestionAttributes question,
+            List<FeedbackResponseAttributes> responses, List<FeedbackResponseCommentAttributes> comments) {
+        QuestionResults results = new QuestionResults(question);
+        // the visibility settings are compiled once for all responses and comments of the question
+        FeedbackQuestionVisibility visibility = new FeedbackQuestionVisibility(question);
 
         // build response
-        for (FeedbackResponseAttributes response : allResponses) {
-            FeedbackQuestionAttributes correspondingQuestion = allQuestionsMap.get(response.getFeedbackQuestionId());
-            if (correspondingQuestion == null) {
-                // orphan response without corresponding question, ignore it
-                continue;
-            }
+        Map<String, FeedbackResponseAttributes> relatedResponsesMap = new HashMap<>();
+        for (FeedbackResponseAttributes response : responses) {
             // check visibility of response
-            boolean isVisibleResponse = isResponseVisibleForUser(
-                    userEmail, isInstructor, student, studentsEmailInTeam, response, correspondingQuestion, instructor);
+            boolean isVisibleResponse = isResponseVisibleForUser(userEmail, isInstructor, student,
+                    studentsEmailInTeam, response, question, visibility, viewableSections);
             if (!isVisibleResponse) {
                 continue;
             }
 
-            // if there are viewable responses, the corresponding question becomes related
-            relatedQuestionsMap.put(response.getFeedbackQuestionId(), correspondingQuestion);
             relatedResponsesMap.put(response.getId(), response);
+            results.existingResponses.add(response);
             // generate giver/recipient name visibility table
-            responseGiverVisibilityTable.put(response.getId(),
-                    isNameVisibleToUser(correspondingQuestion, response, userEmail, isInstructor, true, roster));
-            responseRecipientVisibilityTable.put(response.getId(),
-                    isNameVisibleToUser(correspondingQuestion, response, userEmail, isInstructor, false, roster));
+            results.responseGiverVisibilityTable.put(response.getId(),
+                    isNameVisibleToUser(question, visibility, response, userEmail, isInstructor, true, roster));
+            results.responseRecipientVisibilityTable.put(response.getId(),
+                    isNameVisibleToUser(question, visibility, response, userEmail, isInstructor, false, roster));
         }
         RequestTracer.checkRemainingTime();
 
         // build comment
-        for (FeedbackResponseCommentAttributes frc : allComments) {
+        for (FeedbackResponseCommentAttributes frc : comments) {
             FeedbackResponseAttributes relatedResponse = relatedResponsesMap.get(frc.getFeedbackResponseId());
-            FeedbackQuestionAttributes relatedQuestion = relatedQuestionsMap.get(frc.getFeedbackQuestionId());
-            // the comment needs to be relevant to the question and response
-            if (relatedQuestion == null || relatedResponse == null) {
+            // the comment needs to be relevant to the response
+            if (relatedResponse == null) {
                 continue;
             }
             // check visibility of comment
             boolean isVisibleResponseComment = frcLogic.isResponseCommentVisibleForUser(
-                    userEmail, isInstructor, student, studentsEmailInTeam, relatedResponse, relatedQuestion, frc);
+                    userEmail, isInstructor, student, studentsEmailInTeam, relatedResponse, question, visibility, frc);
             if (!isVisibleResponseComment) {
                 continue;
             }
 
-            relatedCommentsMap.computeIfAbsent(relatedResponse.getId(), key -> new ArrayList<>()).add(frc);
+            results.commentsMap.computeIfAbsent(relatedResponse.getId(), key -> new ArrayList<>()).add(frc);
             // generate comment giver name visibility table
-            commentVisibilityTable.put(frc.getId(), frcLogic.isNameVisibleToUser(frc, relatedResponse, userEmail, roster));
+            results.commentVisibilityTable.put(frc.getId(),
+                    frcLogic.isNameVisibleToUser(frc, relatedResponse, userEmail, roster));
         }
         RequestTracer.checkRemainingTime();
 
-        List<FeedbackResponseAttributes> existingResponses = new ArrayList<>(relatedResponsesMap.values());
-        List<FeedbackResponseAttributes> missingResponses = Collections.emptyList();
         if (isCourseWide) {
-            missingResponses = buildMissingResponses(
-                    courseId, feedbackSessionName, instructor, responseGiverVisibilityTable,
-                    responseRecipientVisibilityTable, relatedQuestionsMap, existingResponses, roster, section);
+            buildMissingResponses(instructor, viewableSections, question, visibility, roster, section, results);
+            RequestTracer.checkRemainingTime();
         }
-        RequestTracer.checkRemainingTime();
 
-        return new SessionResultsBundle(relatedQuestionsMap, existingResponses, missingResponses,
-                responseGiverVisibilityTable, responseRecipientVisibilityTable, relatedCommentsMap,
-                commentVisibilityTable, roster);
+        return results;
     }
 
     /**
@@ -436,34 +495,101 @@ public final class FeedbackResponsesLogic {
      * @param instructorEmail the instructor viewing the feedback session
      * @param questionId if not null, will only return partial bundle for the question
      * @param section if not null, will only return partial bundle for the section
-     * @return the session result bundle
+     * @return the session result bundle, which may be shared with other requests and must not be modified
+     * @see SessionResultsBundleCache
      */
     public SessionResultsBundle getSessionResultsForCourse(
             String feedbackSessionName, String courseId, String instructorEmail,
             @Nullable String questionId, @Nullable String section) {
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        // consider the current viewing user
+        InstructorAttributes instructor = instructorsLogic.getInstructorForEmail(courseId, instructorEmail);
+        if (instructor != null) {
+            SessionResultsBundle cachedBundle =
+                    resultsCache.getResults(courseId, feedbackSessionName, section, questionId, instructor);
+            if (cachedBundle != null) {
+                return cachedBundle;
+            }
+        }
+        long invalidationCountBeforeLoad = resultsCache.getInvalidationCount();
 
-        // load question(s)
-        List<FeedbackQuestionAttributes> allQuestions = getQuestionsForSession(feedbackSessionName, courseId, questionId);
+        // the loads do not depend on one another and are issued concurrently
+        CompletableFuture<CourseRoster> futureRoster = ConcurrentLoader.loadAsync(() -> rosterCache.getRoster(courseId));
+        CompletableFuture<List<FeedbackQuestionAttributes>> futureQuestions =
+                ConcurrentLoader.loadAsync(() -> getQuestionsForSession(feedbackSessionName, courseId, questionId));
+        // load all response for instructors and passively filter them later
+        CompletableFuture<List<FeedbackResponseAttributes>> futureResponses =
+                ConcurrentLoader.loadAsync(() -> questionId == null
+                        ? getFeedbackResponsesForSessionInSection(feedbackSessionName, courseId, section)
+                        : getFeedbackResponsesForQuestionInSection(questionId, section));
+        CompletableFuture<List<FeedbackResponseCommentAttributes>> futureComments =
+                ConcurrentLoader.loadAsync(() -> getCommentsInSection(
+                        feedbackSessionName, courseId, questionId, section));
+
+        CourseRoster roster = ConcurrentLoader.getResult(futureRoster);
+        List<FeedbackQuestionAttributes> allQuestions = ConcurrentLoader.getResult(futureQuestions);
+        List<FeedbackResponseAttributes> allResponses = ConcurrentLoader.getResult(futureResponses);
+        List<FeedbackResponseCommentAttributes> allComments = ConcurrentLoader.getResult(futureComments);
         RequestTracer.checkRemainingTime();
 
-        // load response(s)
-        List<FeedbackResponseAttributes> allResponses;
-        // load all response for instructors and passively filter them later
-        if (questionId == null) {
-            allResponses = getFeedbackResponsesForSessionInSection(feedbackSessionName, courseId, section);
-        } else {
-            allResponses = getFeedbackResponsesForQuestionInSection(questionId, section);
+        SessionResultsBundle bundle = buildResultsBundle(true, feedbackSessionName, section, true,
+                instructorEmail, instructor, null, roster, allQuestions, allResponses, allComments);
+        if (instructor != null) {
+            resultsCache.putResults(courseId, feedbackSessionName, section, questionId, instructor, bundle,
+                    getParticipantEmails(roster, allQuestions, allResponses, allComments),
+                    invalidationCountBeforeLoad);
         }
-        RequestTracer.checkRemainingTime();
+        return bundle;
+    }
 
-        // consider the current viewing user
-        InstructorAttributes instructor = instructorsLogic.getInstructorForEmail(courseId, instructorEmail);
+    /**
+     * Gets the emails of the users whose view of the results may differ from that of other users
+     * with the same privileges, i.e. the students of the course, the givers and recipients of the responses
+     * and comments, and the instructors who can be givers or recipients of the missing responses of a question.
+     */
+    private Set<String> getParticipantEmails(CourseRoster roster, List<FeedbackQuestionAttributes> questions,
+            List<FeedbackResponseAttributes> responses, List<FeedbackResponseCommentAttributes> comments) {
+        Set<String> participantEmails = new HashSet<>();
+        for (StudentAttributes student : roster.getStudents()) {
+            participantEmails.add(student.getEmail());
+        }
+        for (FeedbackQuestionAttributes question : questions) {
+            if (isMissingResponseViewDependentOnInstructor(question)) {
+                for (InstructorAttributes instructor : roster.getInstructors()) {
+                    participantEmails.add(instructor.getEmail());
+                }
+                break;
+            }
+        }
+        for (FeedbackResponseAttributes response : responses) {
+            participantEmails.add(response.getGiver());
+            participantEmails.add(response.getRecipient());
+        }
+        for (FeedbackResponseCommentAttributes comment : comments) {
+            participantEmails.add(comment.getCommentGiver());
+        }
+        return participantEmails;
+    }
 
-        return buildResultsBundle(true, feedbackSessionName, courseId, section, questionId, true, instructorEmail,
-                instructor, null, roster, allQuestions, allResponses);
+    /**
+     * Returns true if an instructor may see different missing responses of the question, or see their names
+     * differently, from other instructors with the same privileges, i.e. if instructors can be givers
+     * or recipients of the question and its responses or the names in them are not all shown to instructors.
+     *
+     * @see #buildMissingResponses
+     */
+    private boolean isMissingResponseViewDependentOnInstructor(FeedbackQuestionAttributes question) {
+        FeedbackParticipantType giverType = question.getGiverType();
+        boolean hasInstructorParticipants = giverType == FeedbackParticipantType.INSTRUCTORS
+                || giverType == FeedbackParticipantType.SELF
+                || question.getRecipientType() == FeedbackParticipantType.INSTRUCTORS;
+        if (!hasInstructorParticipants) {
+            return false;
+        }
+        // the giver or recipient of a response sees it and the names in it as any instructor would
+        FeedbackQuestionVisibility visibility = new FeedbackQuestionVisibility(question);
+        return !visibility.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
+                || !visibility.isNameVisibleTo(true, FeedbackParticipantType.INSTRUCTORS)
+                || !visibility.isNameVisibleTo(false, FeedbackParticipantType.INSTRUCTORS);
     }
 
     /**
@@ -479,9 +605,7 @@ public final class FeedbackResponsesLogic {
     public SessionResultsBundle getSessionResultsForUser(
             String feedbackSessionName, String courseId, String userEmail, boolean isInstructor,
             @Nullable String questionId) {
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = rosterCache.getRoster(courseId);
 
         // load question(s)
         List<FeedbackQuestionAttributes> allQuestions = getQuestionsForSession(feedbackSessionName, courseId, questionId);
@@ -501,148 +625,151 @@ public final class FeedbackResponsesLogic {
         }
         RequestTracer.checkRemainingTime();
 
-        return buildResultsBundle(false, feedbackSessionName, courseId, null, questionId, isInstructor, userEmail,
-                instructor, student, roster, allQuestions, allResponses);
+        // load comment(s)
+        List<FeedbackResponseCommentAttributes> allComments =
+                getCommentsInSection(feedbackSessionName, courseId, questionId, null);
+        RequestTracer.checkRemainingTime();
+
+        return buildResultsBundle(false, feedbackSessionName, null, isInstructor, userEmail,
+                instructor, student, roster, allQuestions, allResponses, allComments);
+    }
+
+    private List<FeedbackResponseCommentAttributes> getCommentsInSection(
+            String feedbackSessionName, String courseId, @Nullable String questionId, @Nullable String section) {
+        if (questionId == null) {
+            return frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, section);
+        }
+        return frcLogic.getFeedbackResponseCommentForQuestionInSection(questionId, section);
     }
 
     /**
-     * Builds viewable missing responses for the session for instructor.
+     * Builds viewable missing responses of a question for instructor.
      *
      * @param instructor the instructor
-     * @param responseGiverVisibilityTable
-     *         the giver visibility table which will be updated with the visibility of missing responses
-     * @param responseRecipientVisibilityTable
-     *         the recipient visibility table which will be updated with the visibility of missing responses
-     * @param relatedQuestionsMap the relevant questions
-     * @param existingResponses existing responses
+     * @param viewableSections the sections of which the instructor can view the responses
+     * @param question the question
+     * @param visibility the compiled visibility settings of the question
      * @param courseRoster the course roster
      * @param section if not null, will only build missing responses for the section
-     * @return a list of missing responses for the session.
+     * @param results the results of the question, which existing responses are used to find the missing responses
+     *         and which will be updated with the missing responses and their visibility
      */
-    private List<FeedbackResponseAttributes> buildMissingResponses(
-            String courseId, String feedbackSessionName, InstructorAttributes instructor,
-            Map<String, Boolean> responseGiverVisibilityTable, Map<String, Boolean> responseRecipientVisibilityTable,
-            Map<String, FeedbackQuestionAttributes> relatedQuestionsMap,
-            List<FeedbackResponseAttributes> existingResponses, CourseRoster courseRoster, @Nullable String section) {
+    private void buildMissingResponses(
+            InstructorAttributes instructor, ViewableSections viewableSections, FeedbackQuestionAttributes question,
+            FeedbackQuestionVisibility visibility, CourseRoster courseRoster, @Nullable String section,
+            QuestionResults results) {
+        if (!question.getQuestionDetailsCopy().shouldGenerateMissingResponses(question)) {
+            return;
+        }
 
         // first get all possible giver recipient pairs
-        Map<String, Map<String, Set<String>>> questionCompleteGiverRecipientMap = new HashMap<>();
-        for (FeedbackQuestionAttributes feedbackQuestion : relatedQuestionsMap.values()) {
-            if (feedbackQuestion.getQuestionDetailsCopy().shouldGenerateMissingResponses(feedbackQuestion)) {
-                questionCompleteGiverRecipientMap.put(feedbackQuestion.getId(),
-                        fqLogic.buildCompleteGiverRecipientMap(feedbackQuestion, courseRoster));
-            } else {
-                questionCompleteGiverRecipientMap.put(feedbackQuestion.getId(), new HashMap<>());
-            }
-        }
+        GiverRecipientPairs missingPairs = fqLogic.buildCompleteGiverRecipientPairs(question, courseRoster);
 
         // remove the existing responses in those pairs
-        for (FeedbackResponseAttributes existingResponse : existingResponses) {
-            Map<String, Set<String>> currGiverRecipientMap =
-                    questionCompleteGiverRecipientMap.get(existingResponse.getFeedbackQuestionId());
-            if (!currGiverRecipientMap.containsKey(existingResponse.getGiver())) {
-                continue;
-            }
-            currGiverRecipientMap.get(existingResponse.getGiver()).remove(existingResponse.getRecipient());
-        }
-
-        List<FeedbackResponseAttributes> missingResponses = new ArrayList<>();
-        // build dummy responses
-        for (Map.Entry<String, Map<String, Set<String>>> currGiverRecipientMapEntry
-                : questionCompleteGiverRecipientMap.entrySet()) {
-            FeedbackQuestionAttributes correspondingQuestion =
-                    relatedQuestionsMap.get(currGiverRecipientMapEntry.getKey());
-            String questionId = correspondingQuestion.getId();
-
-            for (Map.Entry<String, Set<String>> giverRecipientEntry
-                    : currGiverRecipientMapEntry.getValue().entrySet()) {
-                // giver
-                String giverIdentifier = giverRecipientEntry.getKey();
-                CourseRoster.ParticipantInfo giverInfo = courseRoster.getInfoForIdentifier(giverIdentifier);
-
-                for (String recipientIdentifier : giverRecipientEntry.getValue()) {
-                    // recipient
-                    CourseRoster.ParticipantInfo recipientInfo = courseRoster.getInfoForIdentifier(recipientIdentifier);
-
-                    // skip responses not in current section
-                    if (section != null
-                            && !giverInfo.getSectionName().equals(section)
-                            && !recipientInfo.getSectionName().equals(section)) {
-                        continue;
-                    }
-
-                    FeedbackResponseAttributes missingResponse =
-                            FeedbackResponseAttributes.builder(questionId, giverIdentifier, recipientIdentifier)
-                                    .withCourseId(courseId)
-                                    .withFeedbackSessionName(feedbackSessionName)
-                                    .withGiverSection(giverInfo.getSectionName())
-                                    .withRecipientSection(recipientInfo.getSectionName())
-                                    .withResponseDetails(new FeedbackTextResponseDetails("No Response"))
-                                    .build();
-
-                    // check visibility of the missing response
-                    boolean isVisibleResponse = isResponseVisibleForUser(
-                            instructor.getEmail(), true, null, Collections.emptySet(),
-                            missingResponse, correspondingQuestion, instructor);
-                    if (!isVisibleResponse) {
-                        continue;
-                    }
-
-                    // generate giver/recipient name visibility table
-                    responseGiverVisibilityTable.put(missingResponse.getId(),
-                            isNameVisibleToUser(correspondingQuestion, missingResponse,
-                                    instructor.getEmail(), true, true, courseRoster));
-                    responseRecipientVisibilityTable.put(missingResponse.getId(),
-                            isNameVisibleToUser(correspondingQuestion, missingResponse,
-                                    instructor.getEmail(), true, false, courseRoster));
-                    missingResponses.add(missingResponse);
+        for (FeedbackResponseAttributes existingResponse : results.existingResponses) {
+            missingPairs.remove(existingResponse.getGiver(), existingResponse.getRecipient());
+        }
+
+        // the visibility of a missing response depends on its giver and its recipient separately;
+        // it is checked once for each giver and each recipient and applied to the pairs as bit operations
+        String instructorEmail = instructor.getEmail();
+        boolean isRecipientTypeNone = question.getRecipientType() == FeedbackParticipantType.NONE;
+        BitSet viewableRecipients = new BitSet();
+        BitSet recipientsInSection = new BitSet();
+        BitSet giverNameVisibleForRecipients = new BitSet();
+        BitSet recipientNameVisibleForRecipients = new BitSet();
+        for (int recipientIndex = 0; recipientIndex < missingPairs.getNumberOfRecipients(); recipientIndex++) {
+            String recipient = missingPairs.getRecipient(recipientIndex);
+            String recipientSection = courseRoster.getInfoForIdentifier(recipient).getSectionName();
+            // instructors are allowed to view responses to GENERAL, subject to visibility options
+            viewableRecipients.set(recipientIndex, isRecipientTypeNone || viewableSections.isViewable(recipientSection));
+            recipientsInSection.set(recipientIndex, section == null || recipientSection.equals(section));
+            giverNameVisibleForRecipients.set(recipientIndex, isNameVisibleToUserForRecipient(
+                    question, visibility, recipient, instructorEmail, true, courseRoster));
+            recipientNameVisibleForRecipients.set(recipientIndex, isNameVisibleToUserForRecipient(
+                    question, visibility, recipient, instructorEmail, false, courseRoster));
+        }
+
+        int instructorAsReceiverIndex = visibility.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
+                ? missingPairs.getRecipientIndex(instructorEmail)
+                : -1;
+        BitSet giverNameVisibleForGivers = new BitSet();
+        BitSet recipientNameVisibleForGivers = new BitSet();
+        for (int giverIndex = 0; giverIndex < missingPairs.getNumberOfGivers(); giverIndex++) {
+            String giver = missingPairs.getGiver(giverIndex);
+            String giverSection = courseRoster.getInfoForIdentifier(giver).getSectionName();
+            BitSet missingRecipients = missingPairs.getRecipientsOfGiver(giverIndex);
+
+            // check visibility of the missing responses, as for the responses of the question
+            boolean isVisibleForAnyRecipient = visibility.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
+                    || giver.equals(instructorEmail);
+            if (!isVisibleForAnyRecipient) {
+                boolean isMissingResponseToInstructor =
+                        instructorAsReceiverIndex != -1 && missingRecipients.get(instructorAsReceiverIndex);
+                missingRecipients.clear();
+                if (isMissingResponseToInstructor) {
+                    missingRecipients.set(instructorAsReceiverIndex);
                 }
             }
+            if (!viewableSections.isViewable(giverSection)) {
+                missingRecipients.clear();
+            }
+            missingRecipients.and(viewableRecipients);
+
+            // skip responses not in current section
+            if (section != null && !giverSection.equals(section)) {
+                missingRecipients.and(recipientsInSection);
+            }
+
+            giverNameVisibleForGivers.set(giverIndex, isNameVisibleToUserForGiver(
+                    question, visibility, giver, instructorEmail, true, true, courseRoster));
+            recipientNameVisibleForGivers.set(giverIndex, isNameVisibleToUserForGiver(
+                    question, visibility, giver, instructorEmail, true, false, courseRoster));
         }
 
-        return missingResponses;
+        // the missing responses are only created when they are read
+        MissingResponseList missingResponses = new MissingResponseList(question, missingPairs, courseRoster);
+        missingResponses.setNameVisibility(true, giverNameVisibleForGivers, giverNameVisibleForRecipients);
+        missingResponses.setNameVisibility(false, recipientNameVisibleForGivers, recipientNameVisibleForRecipients);
+        results.missingResponses = missingResponses;
     }
 
     private boolean isResponseVisibleForUser(
             String userEmail, boolean isInstructor, StudentAttributes student,
             Set<String> studentsEmailInTeam, FeedbackResponseAttributes response,
-            FeedbackQuestionAttributes relatedQuestion, InstructorAttributes instructor) {
+            FeedbackQuestionAttributes relatedQuestion, FeedbackQuestionVisibility visibility,
+            @Nullable ViewableSections viewableSections) {
 
         boolean isVisibleResponse = false;
-        if (isInstructor && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
-                || response.getRecipient().equals(userEmail)
-                && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
+        if (isInstructor && visibility.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
+                || visibility.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
+                && response.getRecipient().equals(userEmail)
                 || response.getGiver().equals(userEmail)
-                || !isInstructor && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
+                || !isInstructor && visibility.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
             isVisibleResponse = true;
         } else if (studentsEmailInTeam != null && !isInstructor) {
             if (relatedQuestion.getRecipientType() == FeedbackParticipantType.TEAMS
-                    && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
+                    && visibility.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
                     && response.getRecipient().equals(student.getTeam())) {
                 isVisibleResponse = true;
             } else if (relatedQuestion.getGiverType() == FeedbackParticipantType.TEAMS
                     && response.getGiver().equals(student.getTeam())) {
                 isVisibleResponse = true;
-            } else if (relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS)
+            } else if (visibility.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS)
                     && studentsEmailInTeam.contains(response.getGiver())) {
                 isVisibleResponse = true;
-            } else if (relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
+            } else if (visibility.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
                     && studentsEmailInTeam.contains(response.getRecipient())) {
                 isVisibleResponse = true;
             }
         }
-        if (isVisibleResponse && instructor != null) {
-            boolean isGiverSectionRestricted =
-                    !instructor.isAllowedForPrivilege(response.getGiverSection(),
-                            response.getFeedbackSessionName(),
-                            Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS);
+        if (isVisibleResponse && viewableSections != null) {
+            boolean isGiverSectionRestricted = !viewableSections.isViewable(response.getGiverSection());
             // If instructors are not restricted to view the giver's section,
             // they are allowed to view responses to GENERAL, subject to visibility options
             boolean isRecipientSectionRestricted =
                     relatedQuestion.getRecipientType() != FeedbackParticipantType.NONE
-                            && !instructor.isAllowedForPrivilege(response.getRecipientSection(),
-                            response.getFeedbackSessionName(),
-                            Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS);
+                            && !viewableSections.isViewable(response.getRecipientSection());
 
             boolean isNotAllowedForInstructor = isGiverSectionRestricted || isRecipientSectionRestricted;
             if (isNotAllowedForInstructor) {
@@ -679,35 +806,199 @@ public final class FeedbackResponsesLogic {
 
         FeedbackResponseAttributes oldResponse = frDb.getFeedbackResponse(updateOptions.getFeedbackResponseId());
         FeedbackResponseAttributes newResponse = frDb.updateFeedbackResponse(updateOptions);
+        deleteResultsSnapshotsOfSessions(Collections.singletonList(newResponse));
 
-        boolean isResponseIdChanged = !oldResponse.getId().equals(newResponse.getId());
-        boolean isGiverSectionChanged = !oldResponse.getGiverSection().equals(newResponse.getGiverSection());
-        boolean isRecipientSectionChanged = !oldResponse.getRecipientSection().equals(newResponse.getRecipientSection());
+        if (!oldResponse.getGiver().equals(newResponse.getGiver())) {
+            updateGiversInSessionStats(Collections.singletonList(newResponse), Collections.singletonList(oldResponse),
+                    Collections.singletonList(newResponse));
+        }
 
-        if (isResponseIdChanged || isGiverSectionChanged || isRecipientSectionChanged) {
+        if (isChangeCascadedToComments(oldResponse, newResponse)) {
             List<FeedbackResponseCommentAttributes> responseComments =
                     frcLogic.getFeedbackResponseCommentForResponse(oldResponse.getId());
             for (FeedbackResponseCommentAttributes responseComment : responseComments) {
-                FeedbackResponseCommentAttributes.UpdateOptions.Builder updateOptionsBuilder =
-                        FeedbackResponseCommentAttributes.updateOptionsBuilder(responseComment.getId());
+                frcLogic.updateFeedbackResponseComment(
+                        makeCascadedCommentUpdateOptions(responseComment, oldResponse, newResponse));
+            }
+        }
 
-                if (isResponseIdChanged) {
-                    updateOptionsBuilder.withFeedbackResponseId(newResponse.getId());
-                }
+        return newResponse;
+    }
 
-                if (isGiverSectionChanged) {
-                    updateOptionsBuilder.withGiverSection(newResponse.getGiverSection());
-                }
+    /**
+     * Creates, updates and deletes feedback responses in batched writes.
+     *
+     * <p>The responses can belong to any number of questions of the same feedback session.
+     *
+     * <p>Cascade updates the associated feedback response comments of updated responses
+     * (e.g. associated response ID, giverSection and recipientSection) and cascade deletes the associated
+     * feedback response comments of deleted responses, also in batched writes.
+     *
+     * <p>All responses are validated before anything is written, but the batched writes of the responses,
+     * of their comments and of the session statistics and results snapshot are not done in a transaction.
+     * If one of them fails, e.g. because the request runs out of time, the writes before it are kept.
+     *
+     * @return created responses followed by updated responses, in the order they are given
+     * @throws InvalidParametersException if any of the responses to create or update is not valid
+     * @throws EntityDoesNotExistException if any of the responses to update cannot be found
+     * @throws EntityAlreadyExistsException if any of the responses to create or recreate already exists
+     * @see FeedbackResponsesDb#batchUpdateFeedbackResponses(List, List, List)
+     */
+    public List<FeedbackResponseAttributes> batchUpdateFeedbackResponsesCascade(
+            List<FeedbackResponseAttributes> responsesToCreate,
+            List<FeedbackResponseAttributes.UpdateOptions> responsesToUpdate,
+            List<String> responseIdsToDelete)
+            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
 
-                if (isRecipientSectionChanged) {
-                    updateOptionsBuilder.withReceiverSection(newResponse.getRecipientSection());
-                }
+        List<String> responseIdsToUpdate = responsesToUpdate.stream()
+                .map(FeedbackResponseAttributes.UpdateOptions::getFeedbackResponseId)
+                .collect(Collectors.toList());
+        List<String> responseIdsToLoad = new ArrayList<>(responseIdsToUpdate);
+        responseIdsToLoad.addAll(responseIdsToDelete);
+        List<FeedbackResponseAttributes> oldResponses = frDb.getFeedbackResponses(responseIdsToLoad);
+
+        List<FeedbackResponseAttributes> updatedResponses =
+                frDb.batchUpdateFeedbackResponses(responsesToCreate, responsesToUpdate, responseIdsToDelete);
+
+        Map<String, FeedbackResponseAttributes> oldResponsesWithCascadedChanges = new HashMap<>();
+        Map<String, FeedbackResponseAttributes> newResponsesWithCascadedChanges = new HashMap<>();
+        List<FeedbackResponseAttributes> responsesOfNewGivers =
+                new ArrayList<>(updatedResponses.subList(0, responsesToCreate.size()));
+        List<FeedbackResponseAttributes> responsesOfOldGivers = new ArrayList<>();
+        for (int i = 0; i < responseIdsToUpdate.size(); i++) {
+            FeedbackResponseAttributes oldResponse = oldResponses.get(i);
+            FeedbackResponseAttributes newResponse = updatedResponses.get(responsesToCreate.size() + i);
+            if (isChangeCascadedToComments(oldResponse, newResponse)) {
+                oldResponsesWithCascadedChanges.put(oldResponse.getId(), oldResponse);
+                newResponsesWithCascadedChanges.put(oldResponse.getId(), newResponse);
+            }
+            if (!oldResponse.getGiver().equals(newResponse.getGiver())) {
+                responsesOfNewGivers.add(newResponse);
+                responsesOfOldGivers.add(oldResponse);
+            }
+        }
+        Set<String> deletedResponseIds = new HashSet<>();
+        for (FeedbackResponseAttributes deletedResponse
+                : oldResponses.subList(responseIdsToUpdate.size(), oldResponses.size())) {
+            // responses that no longer exist have no comments left to delete
+            if (deletedResponse != null) {
+                deletedResponseIds.add(deletedResponse.getId());
+                responsesOfOldGivers.add(deletedResponse);
+            }
+        }
+        updateGiversInSessionStats(responsesOfNewGivers, responsesOfOldGivers, updatedResponses);
+        deleteResultsSnapshotsOfSessions(updatedResponses);
+        deleteResultsSnapshotsOfSessions(responsesOfOldGivers);
+
+        List<FeedbackResponseCommentAttributes.UpdateOptions> commentsToUpdate = new ArrayList<>();
+        List<Long> commentIdsToDelete = new ArrayList<>();
+        // only the comments of the deleted responses and of the responses with cascaded changes are fetched
+        Set<String> responseIdsWithCascadedChanges = new HashSet<>(deletedResponseIds);
+        responseIdsWithCascadedChanges.addAll(oldResponsesWithCascadedChanges.keySet());
+        for (FeedbackResponseCommentAttributes comment
+                : frcLogic.getFeedbackResponseCommentsForResponses(responseIdsWithCascadedChanges)) {
+            String responseId = comment.getFeedbackResponseId();
+            if (deletedResponseIds.contains(responseId)) {
+                commentIdsToDelete.add(comment.getId());
+            } else {
+                commentsToUpdate.add(makeCascadedCommentUpdateOptions(comment,
+                        oldResponsesWithCascadedChanges.get(responseId),
+                        newResponsesWithCascadedChanges.get(responseId)));
+            }
+        }
+        if (!commentsToUpdate.isEmpty()) {
+            frcLogic.updateFeedbackResponseComments(commentsToUpdate);
+        }
+        if (!commentIdsToDelete.isEmpty()) {
+            frcLogic.deleteFeedbackResponseCommentsByIds(commentIdsToDelete);
+        }
+
+        return updatedResponses;
+    }
 
-                frcLogic.updateFeedbackResponseComment(updateOptionsBuilder.build());
+    /**
+     * Keeps the submission statistics of the affected sessions up to date after responses are written.
+     *
+     * @param responsesOfNewGivers responses which are created, possibly by givers new to the session
+     * @param responsesOfOldGivers responses which are deleted, possibly the last ones of their givers in the session
+     * @param remainingResponses responses which are known to exist after the write
+     */
+    private void updateGiversInSessionStats(
+            List<FeedbackResponseAttributes> responsesOfNewGivers, List<FeedbackResponseAttributes> responsesOfOldGivers,
+            List<FeedbackResponseAttributes> remainingResponses) {
+        for (FeedbackResponseAttributes response : getOneResponsePerGiverInSession(responsesOfNewGivers)) {
+            fssLogic.addGivers(response.getFeedbackSessionName(), response.getCourseId(),
+                    Collections.singletonList(response.getGiver()));
+        }
+        Set<List<String>> remainingGiversInSession = getOneResponsePerGiverInSession(remainingResponses).stream()
+                .map(response -> Arrays.asList(
+                        response.getCourseId(), response.getFeedbackSessionName(), response.getGiver()))
+                .collect(Collectors.toSet());
+        for (FeedbackResponseAttributes response : getOneResponsePerGiverInSession(responsesOfOldGivers)) {
+            String giver = response.getGiver();
+            // the giver still counts as having submitted as long as any other response remains,
+            // which only needs to be queried for givers recorded in the statistics
+            if (remainingGiversInSession.contains(
+                    Arrays.asList(response.getCourseId(), response.getFeedbackSessionName(), giver))
+                    || !fssLogic.isGiverRecorded(response.getFeedbackSessionName(), response.getCourseId(), giver)) {
+                continue;
+            }
+            if (!frDb.hasResponsesFromGiverInSession(giver, response.getFeedbackSessionName(), response.getCourseId())) {
+                fssLogic.removeGivers(response.getFeedbackSessionName(), response.getCourseId(),
+                        Collections.singletonList(giver));
             }
         }
+    }
 
-        return newResponse;
+    /**
+     * Discards the results snapshots of the sessions of responses which are written.
+     */
+    private void deleteResultsSnapshotsOfSessions(List<FeedbackResponseAttributes> writtenResponses) {
+        Set<List<String>> sessions = new HashSet<>();
+        for (FeedbackResponseAttributes response : writtenResponses) {
+            if (sessions.add(Arrays.asList(response.getCourseId(), response.getFeedbackSessionName()))) {
+                fsrsLogic.deleteFeedbackSessionResultsSnapshot(response.getFeedbackSessionName(), response.getCourseId());
+            }
+        }
+    }
+
+    private Collection<FeedbackResponseAttributes> getOneResponsePerGiverInSession(
+            List<FeedbackResponseAttributes> responses) {
+        Map<List<String>, FeedbackResponseAttributes> responsePerGiverInSession = new HashMap<>();
+        for (FeedbackResponseAttributes response : responses) {
+            responsePerGiverInSession.putIfAbsent(
+                    Arrays.asList(response.getCourseId(), response.getFeedbackSessionName(), response.getGiver()),
+                    response);
+        }
+        return responsePerGiverInSession.values();
+    }
+
+    private boolean isChangeCascadedToComments(
+            FeedbackResponseAttributes oldResponse, FeedbackResponseAttributes newResponse) {
+        return !oldResponse.getId().equals(newResponse.getId())
+                || !oldResponse.getGiverSection().equals(newResponse.getGiverSection())
+                || !oldResponse.getRecipientSection().equals(newResponse.getRecipientSection());
+    }
+
+    private FeedbackResponseCommentAttributes.UpdateOptions makeCascadedCommentUpdateOptions(
+            FeedbackResponseCommentAttributes responseComment,
+            FeedbackResponseAttributes oldResponse, FeedbackResponseAttributes newResponse) {
+        FeedbackResponseCommentAttributes.UpdateOptions.Builder updateOptionsBuilder =
+                FeedbackResponseCommentAttributes.updateOptionsBuilder(responseComment.getId());
+
+        if (!oldResponse.getId().equals(newResponse.getId())) {
+            updateOptionsBuilder.withFeedbackResponseId(newResponse.getId());
+        }
+
+        if (!oldResponse.getGiverSection().equals(newResponse.getGiverSection())) {
+            updateOptionsBuilder.withGiverSection(newResponse.getGiverSection());
+        }
+
+        if (!oldResponse.getRecipientSection().equals(newResponse.getRecipientSection())) {
+            updateOptionsBuilder.withReceiverSection(newResponse.getRecipientSection());
+        }
+
+        return updateOptionsBuilder.build();
     }
 
     /**
@@ -837,18 +1128,38 @@ public final class FeedbackResponsesLogic {
      * Deletes responses using {@link AttributesDeletionQuery}.
      */
     public void deleteFeedbackResponses(AttributesDeletionQuery query) {
+        FeedbackQuestionAttributes question =
+                query.isQuestionIdPresent() ? fqLogic.getFeedbackQuestion(query.getQuestionId()) : null;
+
         frDb.deleteFeedbackResponses(query);
+
+        // the deleted givers are not known, so the statistics and results snapshots of the affected sessions are discarded
+        if (query.isCourseIdPresent()) {
+            fssLogic.deleteFeedbackSessionStats(query);
+            fsrsLogic.deleteFeedbackSessionResultsSnapshots(query);
+        } else if (question != null) {
+            fssLogic.deleteFeedbackSessionStats(question.getFeedbackSessionName(), question.getCourseId());
+            fsrsLogic.deleteFeedbackSessionResultsSnapshot(question.getFeedbackSessionName(), question.getCourseId());
+        }
     }
 
     /**
      * Deletes a feedback response cascade its associated comments.
      */
     public void deleteFeedbackResponseCascade(String responseId) {
+        FeedbackResponseAttributes response = frDb.getFeedbackResponse(responseId);
+
         frcLogic.deleteFeedbackResponseComments(
                 AttributesDeletionQuery.builder()
                         .withResponseId(responseId)
                         .build());
         frDb.deleteFeedbackResponse(responseId);
+
+        if (response != null) {
+            updateGiversInSessionStats(Collections.emptyList(), Collections.singletonList(response),
+                    Collections.emptyList());
+            deleteResultsSnapshotsOfSessions(Collections.singletonList(response));
+        }
     }
 
     /**
@@ -985,6 +1296,58 @@ public final class FeedbackResponsesLogic {
         return viewableResponses.getResponses();
     }
 
+    /**
+     * Viewable responses and comments of a question, built independently of other questions.
+     */
+    private static class QuestionResults {
+
+        private final FeedbackQuestionAttributes question;
+        private final List<FeedbackResponseAttributes> existingResponses = new ArrayList<>();
+        private final Map<String, List<FeedbackResponseCommentAttributes>> commentsMap = new HashMap<>();
+        private final Map<String, Boolean> responseGiverVisibilityTable = new HashMap<>();
+        private final Map<String, Boolean> responseRecipientVisibilityTable = new HashMap<>();
+        private final Map<Long, Boolean> commentVisibilityTable = new HashMap<>();
+        // null if missing responses are not generated for the question
+        private MissingResponseList missingResponses;
+
+        private QuestionResults(FeedbackQuestionAttributes question) {
+            this.question = question;
+        }
+    }
+
+    /**
+     * Sections of a session of which an instructor can view the responses.
+     *
+     * <p>The privilege of the instructor is looked up once for each section of the course, so that checking the
+     * section of a response takes a single map lookup. Sections which are not in the course are looked up as needed.
+     */
+    private static class ViewableSections {
+
+        private final InstructorAttributes instructor;
+        private final String feedbackSessionName;
+        private final Map<String, Boolean> isViewableBySection = new HashMap<>();
+
+        private ViewableSections(InstructorAttributes instructor, String feedbackSessionName, CourseRoster roster) {
+            this.instructor = instructor;
+            this.feedbackSessionName = feedbackSessionName;
+            isViewableBySection.put(Const.DEFAULT_SECTION, isAllowedToView(Const.DEFAULT_SECTION));
+            for (String sectionName : roster.getSectionNames()) {
+                isViewableBySection.computeIfAbsent(sectionName, this::isAllowedToView);
+            }
+        }
+
+        private boolean isViewable(String sectionName) {
+            // the map is only read after construction, as it is shared by the questions built concurrently
+            Boolean isViewable = isViewableBySection.get(sectionName);
+            return isViewable == null ? isAllowedToView(sectionName) : isViewable;
+        }
+
+        private boolean isAllowedToView(String sectionName) {
+            return instructor.isAllowedForPrivilege(sectionName, feedbackSessionName,
+                    Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS);
+        }
+    }
+
     /**
      * Set contains only unique response.
      */
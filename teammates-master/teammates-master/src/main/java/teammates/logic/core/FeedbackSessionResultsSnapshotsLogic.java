@@ -0,0 +1,129 @@
+package teammates.logic.core;
+
+import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.attributes.FeedbackSessionResultsSnapshotAttributes;
+import teammates.common.exception.EntityAlreadyExistsException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.storage.api.FeedbackSessionResultsSnapshotsDb;
+
+/**
+ * Handles operations related to the results snapshots of feedback sessions.
+ *
+ * <p>A snapshot is generated when a session is published, after which the views of the participants are served
+ * from it. Any change that may affect the results (e.g. to responses, comments, questions or the course roster)
+ * discards the snapshot, after which the results are computed for every request again
+ * until a new snapshot is generated, which is requested by {@link #createFeedbackSessionResultsSnapshot}.
+ * A snapshot is only generated by the request which creates it, never by requests of an earlier generation.
+ * The results of the session cached in memory by {@link SessionResultsBundleCache} are discarded along with it.
+ *
+ * @see FeedbackSessionResultsSnapshotAttributes
+ * @see FeedbackSessionResultsSnapshotsDb
+ */
+public final class FeedbackSessionResultsSnapshotsLogic {
+
+    private static final FeedbackSessionResultsSnapshotsLogic instance = new FeedbackSessionResultsSnapshotsLogic();
+
+    private final FeedbackSessionResultsSnapshotsDb fsrsDb = FeedbackSessionResultsSnapshotsDb.inst();
+
+    private final SessionResultsBundleCache resultsCache = SessionResultsBundleCache.inst();
+
+    private FeedbackSessionResultsSnapshotsLogic() {
+        // prevent initialization
+    }
+
+    public static FeedbackSessionResultsSnapshotsLogic inst() {
+        return instance;
+    }
+
+    void initLogicDependencies() {
+        // No dependency to other logic class
+    }
+
+    /**
+     * Gets the results snapshot of a feedback session if the views of all its participants have been stored.
+     *
+     * @return null if there is no complete snapshot
+     */
+    public FeedbackSessionResultsSnapshotAttributes getCompleteFeedbackSessionResultsSnapshot(
+            String feedbackSessionName, String courseId) {
+        FeedbackSessionResultsSnapshotAttributes snapshot =
+                fsrsDb.getFeedbackSessionResultsSnapshot(feedbackSessionName, courseId);
+        return snapshot != null && snapshot.isComplete() ? snapshot : null;
+    }
+
+    /**
+     * Gets the results snapshot of a feedback session, complete or not.
+     *
+     * @return null if there is no snapshot
+     */
+    public FeedbackSessionResultsSnapshotAttributes getFeedbackSessionResultsSnapshot(
+            String feedbackSessionName, String courseId) {
+        return fsrsDb.getFeedbackSessionResultsSnapshot(feedbackSessionName, courseId);
+    }
+
+    /**
+     * Creates the results snapshot of a new generation for a feedback session which has none,
+     * e.g. because it has just been published or its snapshot has been discarded.
+     *
+     * @return null if the session already has a snapshot, complete or not, in which case nothing is created
+     */
+    public FeedbackSessionResultsSnapshotAttributes createFeedbackSessionResultsSnapshot(
+            String feedbackSessionName, String courseId) {
+        if (fsrsDb.getFeedbackSessionResultsSnapshot(feedbackSessionName, courseId) != null) {
+            return null;
+        }
+
+        try {
+            return fsrsDb.createEntity(
+                    FeedbackSessionResultsSnapshotAttributes.builder(feedbackSessionName, courseId).build());
+        } catch (EntityAlreadyExistsException e) {
+            // created by a concurrent request
+            return null;
+        } catch (InvalidParametersException e) {
+            assert false : "Snapshot of an existing feedback session should be valid";
+            return null;
+        }
+    }
+
+    /**
+     * Marks the results snapshot as complete after the views of all participants have been stored.
+     *
+     * @return false if the snapshot has been discarded since its generation started, in which case
+     *         the stored views may be outdated and are not served
+     */
+    public boolean completeFeedbackSessionResultsSnapshot(FeedbackSessionResultsSnapshotAttributes snapshot) {
+        return fsrsDb.markFeedbackSessionResultsSnapshotComplete(
+                snapshot.getFeedbackSessionName(), snapshot.getCourseId(), snapshot.getGenerationId());
+    }
+
+    /**
+     * Discards the results snapshot of a feedback session.
+     */
+    public void deleteFeedbackSessionResultsSnapshot(String feedbackSessionName, String courseId) {
+        fsrsDb.deleteFeedbackSessionResultsSnapshot(feedbackSessionName, courseId);
+        resultsCache.invalidateSession(courseId, feedbackSessionName);
+    }
+
+    /**
+     * Discards the results snapshots of feedback sessions using {@link AttributesDeletionQuery}.
+     */
+    public void deleteFeedbackSessionResultsSnapshots(AttributesDeletionQuery query) {
+        fsrsDb.deleteFeedbackSessionResultsSnapshots(query);
+        if (query.isFeedbackSessionNamePresent()) {
+            resultsCache.invalidateSession(query.getCourseId(), query.getFeedbackSessionName());
+        } else {
+            resultsCache.invalidateCourse(query.getCourseId());
+        }
+    }
+
+    /**
+     * Discards the results snapshots of all feedback sessions in a course.
+     */
+    public void deleteFeedbackSessionResultsSnapshotsForCourse(String courseId) {
+        fsrsDb.deleteFeedbackSessionResultsSnapshots(AttributesDeletionQuery.builder()
+                .withCourseId(courseId)
+                .build());
+        resultsCache.invalidateCourse(courseId);
+    }
+
+}
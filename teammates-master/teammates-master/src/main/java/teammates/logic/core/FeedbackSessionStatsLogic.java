@@ -0,0 +1,180 @@
+package teammates.logic.core;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.google.cloud.datastore.DatastoreException;
+
+import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionStatsAttributes;
+import teammates.common.util.Logger;
+import teammates.storage.api.FeedbackSessionStatsDb;
+
+/**
+ * Handles operations related to the submission statistics of feedback sessions.
+ *
+ * <p>The statistics are computed in full when they are first requested and kept up to date as responses are
+ * created and deleted. Changes that may affect the expected number of submissions (e.g. changes to the course roster
+ * or to the questions) discard the statistics, which are then computed in full again when next requested.
+ *
+ * <p>Keeping the statistics up to date is best-effort: as all submissions to a session update the same statistics,
+ * an update failing because of contention discards the statistics instead of failing the submission.
+ *
+ * @see FeedbackSessionStatsAttributes
+ * @see FeedbackSessionStatsDb
+ */
+public final class FeedbackSessionStatsLogic {
+
+    /**
+     * Maximum age of the statistics before they are computed in full again,
+     * which bounds the effect of any update missed by concurrent writes.
+     */
+    static final Duration MAX_AGE = Duration.ofHours(1);
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final FeedbackSessionStatsLogic instance = new FeedbackSessionStatsLogic();
+
+    private final FeedbackSessionStatsDb fssDb = FeedbackSessionStatsDb.inst();
+
+    private FeedbackResponsesLogic frLogic;
+    private FeedbackSessionsLogic fsLogic;
+
+    private FeedbackSessionStatsLogic() {
+        // prevent initialization
+    }
+
+    public static FeedbackSessionStatsLogic inst() {
+        return instance;
+    }
+
+    void initLogicDependencies() {
+        frLogic = FeedbackResponsesLogic.inst();
+        fsLogic = FeedbackSessionsLogic.inst();
+    }
+
+    /**
+     * Gets the submission statistics of a feedback session, computing them in full if they are not maintained.
+     */
+    public FeedbackSessionStatsAttributes getFeedbackSessionStats(FeedbackSessionAttributes fsa) {
+        FeedbackSessionStatsAttributes stats =
+                fssDb.getFeedbackSessionStats(fsa.getFeedbackSessionName(), fsa.getCourseId());
+        if (stats != null && stats.getCreatedAt().plus(MAX_AGE).isAfter(Instant.now())) {
+            return stats;
+        }
+
+        // givers added or removed while the statistics are computed are recorded in the existing statistics
+        // and merged into the computed ones
+        FeedbackSessionStatsAttributes baseStats = stats == null
+                ? fssDb.getOrCreateFeedbackSessionStats(fsa.getFeedbackSessionName(), fsa.getCourseId())
+                : stats;
+        FeedbackSessionStatsAttributes newStats = FeedbackSessionStatsAttributes
+                .builder(fsa.getFeedbackSessionName(), fsa.getCourseId())
+                .withExpectedTotal(fsLogic.getExpectedTotalSubmission(fsa))
+                .withGivers(frLogic.getGiverSetThatAnswerFeedbackSession(fsa.getCourseId(), fsa.getFeedbackSessionName()))
+                .build();
+        FeedbackSessionStatsAttributes savedStats = fssDb.putRecomputedFeedbackSessionStats(baseStats, newStats);
+        // the statistics are discarded while being computed if e.g. the course roster changes
+        return savedStats == null ? newStats : savedStats;
+    }
+
+    /**
+     * Checks whether a giver is recorded as having submitted responses to a feedback session.
+     *
+     * @return false if the statistics of the session are not maintained
+     */
+    public boolean isGiverRecorded(String feedbackSessionName, String courseId, String giver) {
+        FeedbackSessionStatsAttributes stats = fssDb.getFeedbackSessionStats(feedbackSessionName, courseId);
+        return stats != null && stats.getGivers().contains(giver);
+    }
+
+    /**
+     * Records givers who have submitted responses to a feedback session.
+     *
+     * <p>Does nothing if the statistics of the session are not maintained.
+     * The statistics are discarded if they cannot be updated.
+     */
+    public void addGivers(String feedbackSessionName, String courseId, Collection<String> givers) {
+        FeedbackSessionStatsAttributes stats = fssDb.getFeedbackSessionStats(feedbackSessionName, courseId);
+        if (stats == null) {
+            return;
+        }
+        // only the first submission of a giver needs to update the statistics
+        List<String> giversToAdd = givers.stream()
+                .filter(giver -> !stats.getGivers().contains(giver))
+                .collect(Collectors.toList());
+        if (giversToAdd.isEmpty()) {
+            return;
+        }
+        try {
+            fssDb.addGivers(feedbackSessionName, courseId, giversToAdd);
+        } catch (DatastoreException e) {
+            discardFeedbackSessionStatsNotUpdated(feedbackSessionName, courseId, e);
+        }
+    }
+
+    /**
+     * Records givers who no longer have any response in a feedback session.
+     *
+     * <p>Does nothing if the statistics of the session are not maintained.
+     * The statistics are discarded if they cannot be updated.
+     */
+    public void removeGivers(String feedbackSessionName, String courseId, Collection<String> givers) {
+        FeedbackSessionStatsAttributes stats = fssDb.getFeedbackSessionStats(feedbackSessionName, courseId);
+        if (stats == null) {
+            return;
+        }
+        List<String> giversToRemove = givers.stream()
+                .filter(giver -> stats.getGivers().contains(giver))
+                .collect(Collectors.toList());
+        if (giversToRemove.isEmpty()) {
+            return;
+        }
+        try {
+            fssDb.removeGivers(feedbackSessionName, courseId, giversToRemove);
+        } catch (DatastoreException e) {
+            discardFeedbackSessionStatsNotUpdated(feedbackSessionName, courseId, e);
+        }
+    }
+
+    private void discardFeedbackSessionStatsNotUpdated(
+            String feedbackSessionName, String courseId, DatastoreException updateFailure) {
+        log.warning("Cannot update the statistics of feedback session " + feedbackSessionName + " in course "
+                + courseId + ", discarding them: " + updateFailure.getMessage());
+        try {
+            fssDb.deleteFeedbackSessionStats(feedbackSessionName, courseId);
+        } catch (DatastoreException e) {
+            // the statistics are computed in full again once they are older than MAX_AGE
+            log.severe("Cannot discard the statistics of feedback session " + feedbackSessionName + " in course "
+                    + courseId, e);
+        }
+    }
+
+    /**
+     * Discards the statistics of a feedback session.
+     */
+    public void deleteFeedbackSessionStats(String feedbackSessionName, String courseId) {
+        fssDb.deleteFeedbackSessionStats(feedbackSessionName, courseId);
+    }
+
+    /**
+     * Discards the statistics of feedback sessions using {@link AttributesDeletionQuery}.
+     */
+    public void deleteFeedbackSessionStats(AttributesDeletionQuery query) {
+        fssDb.deleteFeedbackSessionStats(query);
+    }
+
+    /**
+     * Discards the statistics of all feedback sessions in a course.
+     */
+    public void deleteFeedbackSessionStatsForCourse(String courseId) {
+        fssDb.deleteFeedbackSessionStats(AttributesDeletionQuery.builder()
+                .withCourseId(courseId)
+                .build());
+    }
+
+}
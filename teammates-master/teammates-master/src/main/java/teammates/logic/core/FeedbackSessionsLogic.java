@@ -48,6 +48,8 @@ public final class FeedbackSessionsLogic {
     private FeedbackQuestionsLogic fqLogic;
     private FeedbackResponsesLogic frLogic;
     private FeedbackResponseCommentsLogic frcLogic;
+    private FeedbackSessionResultsSnapshotsLogic fsrsLogic;
+    private FeedbackSessionStatsLogic fssLogic;
     private InstructorsLogic instructorsLogic;
     private StudentsLogic studentsLogic;
 
@@ -64,6 +66,8 @@ public final class FeedbackSessionsLogic {
         fqLogic = FeedbackQuestionsLogic.inst();
         frLogic = FeedbackResponsesLogic.inst();
         frcLogic = FeedbackResponseCommentsLogic.inst();
+        fsrsLogic = FeedbackSessionResultsSnapshotsLogic.inst();
+        fssLogic = FeedbackSessionStatsLogic.inst();
         instructorsLogic = InstructorsLogic.inst();
         studentsLogic = StudentsLogic.inst();
     }
@@ -322,6 +326,12 @@ public final class FeedbackSessionsLogic {
             newUpdateOptions.withSentPublishedEmail(newSession.isPublished());
         }
 
+        // the results snapshot is generated again only when the session is published again
+        if (oldSession.isPublished() && !newSession.isPublished()) {
+            fsrsLogic.deleteFeedbackSessionResultsSnapshot(
+                    oldSession.getFeedbackSessionName(), oldSession.getCourseId());
+        }
+
         return fsDb.updateFeedbackSession(newUpdateOptions.build());
     }
 
@@ -460,7 +470,7 @@ public final class FeedbackSessionsLogic {
     }
 
     /**
-     * Deletes a feedback session cascade to its associated questions, responses and comments.
+     * Deletes a feedback session cascade to its associated questions, responses, comments, statistics and results snapshots.
      */
     public void deleteFeedbackSessionCascade(String feedbackSessionName, String courseId) {
         AttributesDeletionQuery query = AttributesDeletionQuery.builder()
@@ -470,6 +480,8 @@ public final class FeedbackSessionsLogic {
         frcLogic.deleteFeedbackResponseComments(query);
         frLogic.deleteFeedbackResponses(query);
         fqLogic.deleteFeedbackQuestions(query);
+        fssLogic.deleteFeedbackSessionStats(query);
+        fsrsLogic.deleteFeedbackSessionResultsSnapshots(query);
 
         fsDb.deleteFeedbackSession(feedbackSessionName, courseId);
     }
@@ -479,6 +491,8 @@ public final class FeedbackSessionsLogic {
      */
     public void deleteFeedbackSessions(AttributesDeletionQuery query) {
         fsDb.deleteFeedbackSessions(query);
+        fssLogic.deleteFeedbackSessionStats(query);
+        fsrsLogic.deleteFeedbackSessionResultsSnapshots(query);
     }
 
     /**
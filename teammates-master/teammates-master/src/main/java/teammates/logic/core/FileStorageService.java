@@ -1,5 +1,7 @@
 package teammates.logic.core;
 
+import java.util.List;
+
 /**
  * A binary file storage interface used for managing binary files such as profile pictures.
  */
@@ -15,6 +17,11 @@ public interface FileStorageService {
      */
     byte[] getContent(String fileKey);
 
+    /**
+     * Gets the keys of all files whose keys start with the specified {@code fileKeyPrefix}.
+     */
+    List<String> getFileKeys(String fileKeyPrefix);
+
     /**
      * Deletes the file with the specified {@code fileKey}.
      */
@@ -1,5 +1,8 @@
 package teammates.logic.core;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
@@ -15,6 +18,16 @@ public final class GoogleCloudStorageService implements FileStorageService {
 
     private static Storage storage = StorageOptions.getDefaultInstance().getService();
 
+    @Override
+    public List<String> getFileKeys(String fileKeyPrefix) {
+        List<String> fileKeys = new ArrayList<>();
+        for (Blob blob : storage.list(Config.PRODUCTION_GCS_BUCKETNAME, Storage.BlobListOption.prefix(fileKeyPrefix))
+                .iterateAll()) {
+            fileKeys.add(blob.getName());
+        }
+        return fileKeys;
+    }
+
     @Override
     public void delete(String fileKey) {
         storage.delete(BlobId.of(Config.PRODUCTION_GCS_BUCKETNAME, fileKey));
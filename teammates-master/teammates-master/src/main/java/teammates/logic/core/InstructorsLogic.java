@@ -34,6 +34,8 @@ public final class InstructorsLogic {
     private FeedbackResponsesLogic frLogic;
     private FeedbackResponseCommentsLogic frcLogic;
     private FeedbackQuestionsLogic fqLogic;
+    private FeedbackSessionResultsSnapshotsLogic fsrsLogic;
+    private FeedbackSessionStatsLogic fssLogic;
 
     private InstructorsLogic() {
         // prevent initialization
@@ -47,6 +49,8 @@ public final class InstructorsLogic {
         fqLogic = FeedbackQuestionsLogic.inst();
         frLogic = FeedbackResponsesLogic.inst();
         frcLogic = FeedbackResponseCommentsLogic.inst();
+        fsrsLogic = FeedbackSessionResultsSnapshotsLogic.inst();
+        fssLogic = FeedbackSessionStatsLogic.inst();
     }
 
     /**
@@ -78,7 +82,9 @@ public final class InstructorsLogic {
      */
     public InstructorAttributes createInstructor(InstructorAttributes instructorToAdd)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return instructorsDb.createEntity(instructorToAdd);
+        InstructorAttributes createdInstructor = instructorsDb.createEntity(instructorToAdd);
+        fssLogic.deleteFeedbackSessionStatsForCourse(createdInstructor.getCourseId());
+        return createdInstructor;
     }
 
     /**
@@ -132,6 +138,14 @@ public final class InstructorsLogic {
         return instructorReturnList;
     }
 
+    /**
+     * Gets the version of the instructors of a course, which changes whenever any of them is created,
+     * updated or deleted through this application instance.
+     */
+    public long getRosterVersion(String courseId) {
+        return instructorsDb.getRosterVersion(courseId);
+    }
+
     /**
      * Gets all non-archived instructors associated with a googleId.
      */
@@ -235,8 +249,13 @@ public final class InstructorsLogic {
             // cascade comments
             frcLogic.updateFeedbackResponseCommentsEmails(
                     updatedInstructor.getCourseId(), originalInstructor.getEmail(), updatedInstructor.getEmail());
+            // the instructor may no longer be the creator of sessions expecting submissions from their creators
+            fssLogic.deleteFeedbackSessionStatsForCourse(updatedInstructor.getCourseId());
         }
 
+        // the name of the instructor is shown in the results, e.g. as the giver of comments
+        fsrsLogic.deleteFeedbackSessionResultsSnapshotsForCourse(updatedInstructor.getCourseId());
+
         return updatedInstructor;
     }
 
@@ -265,7 +284,9 @@ public final class InstructorsLogic {
         verifyAtLeastOneInstructorIsDisplayed(originalInstructor.getCourseId(), isOriginalInstructorDisplayed,
                 newInstructor.isDisplayedToStudents());
 
-        return instructorsDb.updateInstructorByEmail(updateOptions);
+        InstructorAttributes updatedInstructor = instructorsDb.updateInstructorByEmail(updateOptions);
+        fsrsLogic.deleteFeedbackSessionResultsSnapshotsForCourse(updatedInstructor.getCourseId());
+        return updatedInstructor;
     }
 
     /**
@@ -273,6 +294,10 @@ public final class InstructorsLogic {
      */
     public void deleteInstructors(AttributesDeletionQuery query) {
         instructorsDb.deleteInstructors(query);
+        if (query.isCourseIdPresent()) {
+            fssLogic.deleteFeedbackSessionStats(query);
+            fsrsLogic.deleteFeedbackSessionResultsSnapshots(query);
+        }
     }
 
     /**
@@ -288,6 +313,8 @@ public final class InstructorsLogic {
 
         frLogic.deleteFeedbackResponsesInvolvedEntityOfCourseCascade(courseId, email);
         instructorsDb.deleteInstructor(courseId, email);
+        fssLogic.deleteFeedbackSessionStatsForCourse(courseId);
+        fsrsLogic.deleteFeedbackSessionResultsSnapshotsForCourse(courseId);
     }
 
     /**
@@ -6,6 +6,9 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import com.google.common.io.ByteStreams;
 
@@ -23,6 +26,12 @@ public final class LocalFileStorageService implements FileStorageService {
         return BASE_DIRECTORY + "/" + fileKey;
     }
 
+    @Override
+    public List<String> getFileKeys(String fileKeyPrefix) {
+        String[] fileKeys = new File(BASE_DIRECTORY).list((directory, fileName) -> fileName.startsWith(fileKeyPrefix));
+        return fileKeys == null ? new ArrayList<>() : Arrays.asList(fileKeys);
+    }
+
     @Override
     public void delete(String fileKey) {
         File file = new File(constructFilePath(fileKey));
@@ -22,6 +22,8 @@ public class LogicStarter implements ServletContextListener {
         FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
         FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
         FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+        FeedbackSessionResultsSnapshotsLogic fsrsLogic = FeedbackSessionResultsSnapshotsLogic.inst();
+        FeedbackSessionStatsLogic fssLogic = FeedbackSessionStatsLogic.inst();
         InstructorsLogic instructorsLogic = InstructorsLogic.inst();
         StudentsLogic studentsLogic = StudentsLogic.inst();
         ProfilesLogic profilesLogic = ProfilesLogic.inst();
@@ -32,6 +34,8 @@ public class LogicStarter implements ServletContextListener {
         frLogic.initLogicDependencies();
         frcLogic.initLogicDependencies();
         fsLogic.initLogicDependencies();
+        fsrsLogic.initLogicDependencies();
+        fssLogic.initLogicDependencies();
         instructorsLogic.initLogicDependencies();
         studentsLogic.initLogicDependencies();
         profilesLogic.initLogicDependencies();
@@ -39,6 +43,17 @@ public class LogicStarter implements ServletContextListener {
         log.info("Initialized dependencies between logic classes");
     }
 
+    /**
+     * Discards the results cached in memory by the logic classes.
+     *
+     * <p>Needs to be called when the database is modified without going through the logic classes,
+     * e.g. when the local database is reset in tests.
+     */
+    public static void clearCaches() {
+        SessionResultsBundleCache.inst().invalidateAll();
+        CourseRosterCache.inst().invalidateAll();
+    }
+
     @Override
     public void contextInitialized(ServletContextEvent event) {
         // Invoked by Jetty at application startup.
@@ -0,0 +1,260 @@
+package teammates.logic.core;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import teammates.common.datatransfer.InstructorPrivileges;
+import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.util.Logger;
+
+/**
+ * Cache of the course-wide results of feedback sessions as viewed by instructors,
+ * shared by all requests served by the application instance.
+ *
+ * <p>The results viewed by an instructor depend on the privileges of the instructor, and on the identity of
+ * the instructor only if the instructor takes part in the session, e.g. as the giver of a response or a comment,
+ * or as a possible giver or recipient of a missing response which is not shown to all instructors.
+ * The results are therefore shared by all instructors with the same privileges who do not take part in the session.
+ *
+ * <p>The cached results of a session are discarded whenever its results snapshot is discarded,
+ * i.e. on any change of this instance to the questions, responses or comments of the session or the course roster.
+ * Entries expire {@link #TIME_TO_LIVE} after they are built, which bounds how long changes made by other instances
+ * can go unnoticed. The cache is bounded by the total number of entities held by the cached results.
+ */
+final class SessionResultsBundleCache {
+
+    /**
+     * Duration for which built results are served from the cache.
+     */
+    static final Duration TIME_TO_LIVE = Duration.ofMinutes(1);
+
+    /**
+     * Maximum total number of responses, comments and course members held by the cached results.
+     */
+    static final long MAX_CACHED_ENTITIES = 20000;
+
+    private static final int STATS_LOGGING_INTERVAL = 100;
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final SessionResultsBundleCache instance = new SessionResultsBundleCache();
+
+    private final Cache<ResultsKey, CachedResults> cachedResults = CacheBuilder.newBuilder()
+            .maximumWeight(MAX_CACHED_ENTITIES)
+            .weigher((ResultsKey key, CachedResults results) -> results.weight)
+            .expireAfterWrite(TIME_TO_LIVE)
+            .recordStats()
+            .build();
+
+    private final AtomicLong lookupCount = new AtomicLong();
+
+    // number of lookups of cached results which cannot be shared with the viewing instructor
+    private final AtomicLong unsharedLookupCount = new AtomicLong();
+
+    // number of invalidations; guards against caching results built from data loaded before an invalidation
+    private long invalidationCount;
+
+    private SessionResultsBundleCache() {
+        // prevent initialization
+    }
+
+    static SessionResultsBundleCache inst() {
+        return instance;
+    }
+
+    /**
+     * Gets the cached course-wide results of a session as viewed by the instructor.
+     *
+     * @return null if the results are not cached or the cached results cannot be shared with the instructor
+     */
+    SessionResultsBundle getResults(String courseId, String feedbackSessionName, @Nullable String section,
+            @Nullable String questionId, InstructorAttributes instructor) {
+        logStatsPeriodically();
+
+        CachedResults results = cachedResults.getIfPresent(
+                new ResultsKey(courseId, feedbackSessionName, section, questionId, instructor.getPrivileges()));
+        if (results == null) {
+            return null;
+        }
+        if (!isSharedWithInstructor(results.bundle, results.participantEmails, instructor)) {
+            unsharedLookupCount.incrementAndGet();
+            return null;
+        }
+        return results.bundle;
+    }
+
+    /**
+     * Returns the number of invalidations so far, to be passed to
+     * {@link #putResults(String, String, String, String, InstructorAttributes, SessionResultsBundle, Set, long)}.
+     *
+     * <p>Needs to be called before the data of the results is loaded.
+     */
+    long getInvalidationCount() {
+        synchronized (cachedResults) {
+            return invalidationCount;
+        }
+    }
+
+    /**
+     * Caches the course-wide results of a session built for the instructor.
+     *
+     * <p>The results are not cached if they are specific to the instructor, or if the cache has been invalidated
+     * since the data of the results started loading.
+     *
+     * @param participantEmails the emails of the students, response givers and recipients, comment givers
+     *         and possible instructor givers and recipients of missing responses in the data the results are built from
+     * @param invalidationCountBeforeLoad the value of {@link #getInvalidationCount()} before the data was loaded
+     */
+    void putResults(String courseId, String feedbackSessionName, @Nullable String section,
+            @Nullable String questionId, InstructorAttributes instructor, SessionResultsBundle bundle,
+            Set<String> participantEmails, long invalidationCountBeforeLoad) {
+        if (!isSharedWithInstructor(bundle, participantEmails, instructor)) {
+            return;
+        }
+
+        ResultsKey key = new ResultsKey(courseId, feedbackSessionName, section, questionId, instructor.getPrivileges());
+        CachedResults results = new CachedResults(bundle, participantEmails);
+        synchronized (cachedResults) {
+            if (invalidationCount != invalidationCountBeforeLoad) {
+                // the data was changed while loading; the built results may be stale
+                return;
+            }
+            cachedResults.put(key, results);
+        }
+    }
+
+    /**
+     * Discards the cached results of a session.
+     */
+    void invalidateSession(String courseId, String feedbackSessionName) {
+        synchronized (cachedResults) {
+            invalidationCount++;
+            cachedResults.asMap().keySet().removeIf(key -> key.courseId.equals(courseId)
+                    && key.feedbackSessionName.equals(feedbackSessionName));
+        }
+    }
+
+    /**
+     * Discards the cached results of all sessions in a course.
+     */
+    void invalidateCourse(String courseId) {
+        synchronized (cachedResults) {
+            invalidationCount++;
+            cachedResults.asMap().keySet().removeIf(key -> key.courseId.equals(courseId));
+        }
+    }
+
+    /**
+     * Discards all cached results.
+     */
+    void invalidateAll() {
+        synchronized (cachedResults) {
+            invalidationCount++;
+            cachedResults.invalidateAll();
+        }
+    }
+
+    /**
+     * Returns the hit/miss statistics of the cache.
+     *
+     * <p>Lookups of cached results which cannot be shared with the viewing instructor are counted as misses.
+     */
+    CacheStats getStats() {
+        CacheStats stats = cachedResults.stats();
+        long unsharedLookups = unsharedLookupCount.get();
+        return new CacheStats(stats.hitCount() - unsharedLookups, stats.missCount() + unsharedLookups,
+                stats.loadSuccessCount(), stats.loadExceptionCount(), stats.totalLoadTime(), stats.evictionCount());
+    }
+
+    private static boolean isSharedWithInstructor(
+            SessionResultsBundle bundle, Set<String> participantEmails, InstructorAttributes instructor) {
+        // the results depend on the identity of an instructor who is a student or takes part in the session
+        return bundle.getRoster().getInstructorForEmail(instructor.getEmail()) != null
+                && !participantEmails.contains(instructor.getEmail());
+    }
+
+    private void logStatsPeriodically() {
+        if (lookupCount.incrementAndGet() % STATS_LOGGING_INTERVAL != 0) {
+            return;
+        }
+        CacheStats stats = getStats();
+        log.info(String.format("Session results cache: hits %d, misses %d (unshared %d), hit rate %.2f, "
+                + "evictions %d, size %d", stats.hitCount(), stats.missCount(), unsharedLookupCount.get(),
+                stats.hitRate(), stats.evictionCount(), cachedResults.size()));
+    }
+
+    private static final class ResultsKey {
+
+        private final String courseId;
+        private final String feedbackSessionName;
+        private final String section;
+        private final String questionId;
+        // instructors with equal privileges see equal results
+        private final InstructorPrivileges privileges;
+
+        private ResultsKey(String courseId, String feedbackSessionName, String section, String questionId,
+                InstructorPrivileges privileges) {
+            this.courseId = courseId;
+            this.feedbackSessionName = feedbackSessionName;
+            this.section = section;
+            this.questionId = questionId;
+            this.privileges = privileges;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof ResultsKey)) {
+                return false;
+            }
+            ResultsKey otherKey = (ResultsKey) other;
+            return courseId.equals(otherKey.courseId)
+                    && feedbackSessionName.equals(otherKey.feedbackSessionName)
+                    && Objects.equals(section, otherKey.section)
+                    && Objects.equals(questionId, otherKey.questionId)
+                    && privileges.equals(otherKey.privileges);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(courseId, feedbackSessionName, section, questionId, privileges);
+        }
+
+    }
+
+    private static final class CachedResults {
+
+        private final SessionResultsBundle bundle;
+        private final Set<String> participantEmails;
+        private final int weight;
+
+        private CachedResults(SessionResultsBundle bundle, Set<String> participantEmails) {
+            this.bundle = bundle;
+            this.participantEmails = participantEmails;
+            int entityCount = bundle.getRoster().getStudents().size() + bundle.getRoster().getInstructors().size();
+            for (List<FeedbackResponseAttributes> responses : bundle.getQuestionResponseMap().values()) {
+                entityCount += responses.size();
+            }
+            for (List<FeedbackResponseCommentAttributes> comments : bundle.getResponseCommentsMap().values()) {
+                entityCount += comments.size();
+            }
+            this.weight = Math.max(1, entityCount);
+        }
+
+    }
+
+}
@@ -38,6 +38,8 @@ public final class StudentsLogic {
     private final StudentsDb studentsDb = StudentsDb.inst();
 
     private FeedbackResponsesLogic frLogic;
+    private FeedbackSessionResultsSnapshotsLogic fsrsLogic;
+    private FeedbackSessionStatsLogic fssLogic;
 
     private StudentsLogic() {
         // prevent initialization
@@ -49,6 +51,8 @@ public final class StudentsLogic {
 
     void initLogicDependencies() {
         frLogic = FeedbackResponsesLogic.inst();
+        fsrsLogic = FeedbackSessionResultsSnapshotsLogic.inst();
+        fssLogic = FeedbackSessionStatsLogic.inst();
     }
 
     /**
@@ -60,7 +64,10 @@ public final class StudentsLogic {
      */
     public StudentAttributes createStudent(StudentAttributes studentData)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return studentsDb.createEntity(studentData);
+        StudentAttributes createdStudent = studentsDb.createEntity(studentData);
+        fssLogic.deleteFeedbackSessionStatsForCourse(createdStudent.getCourse());
+        fsrsLogic.deleteFeedbackSessionResultsSnapshotsForCourse(createdStudent.getCourse());
+        return createdStudent;
     }
 
     /**
@@ -105,6 +112,14 @@ public final class StudentsLogic {
         return studentsDb.getStudentsForCourse(courseId);
     }
 
+    /**
+     * Gets the version of the students of a course, which changes whenever any of them is created,
+     * updated or deleted through this application instance.
+     */
+    public long getRosterVersion(String courseId) {
+        return studentsDb.getRosterVersion(courseId);
+    }
+
     /**
      * Gets all students of a team.
      */
@@ -217,6 +232,9 @@ public final class StudentsLogic {
 
         // TODO: check to delete comments for this section/team if the section/team is no longer existent in the course
 
+        // the name, team and section of the student are shown in the results
+        fsrsLogic.deleteFeedbackSessionResultsSnapshotsForCourse(updatedStudent.getCourse());
+
         return updatedStudent;
     }
 
@@ -399,6 +417,8 @@ public final class StudentsLogic {
             frLogic.deleteFeedbackResponsesInvolvedEntityOfCourseCascade(student.getCourse(), student.getTeam());
         }
         studentsDb.deleteStudent(courseId, studentEmail);
+        fssLogic.deleteFeedbackSessionStatsForCourse(courseId);
+        fsrsLogic.deleteFeedbackSessionResultsSnapshotsForCourse(courseId);
     }
 
     /**
@@ -418,6 +438,10 @@ public final class StudentsLogic {
      */
     public void deleteStudents(AttributesDeletionQuery query) {
         studentsDb.deleteStudents(query);
+        if (query.isCourseIdPresent()) {
+            fssLogic.deleteFeedbackSessionStats(query);
+            fsrsLogic.deleteFeedbackSessionResultsSnapshots(query);
+        }
     }
 
     /**
@@ -2,6 +2,9 @@ package teammates.storage.api;
 
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
 
@@ -37,6 +40,22 @@ public final class AccountsDb extends EntitiesDb<Account, AccountAttributes> {
         return googleId.isEmpty() ? null : makeAttributesOrNull(getAccountEntity(googleId));
     }
 
+    /**
+     * Gets accounts in a single batched lookup.
+     *
+     * @return accounts in the same order as the Google IDs, with null for accounts that do not exist
+     */
+    public List<AccountAttributes> getAccounts(List<String> googleIds) {
+        assert googleIds != null;
+
+        List<Key<Account>> keys = googleIds.stream()
+                .map(googleId -> Key.create(Account.class, googleId))
+                .collect(Collectors.toList());
+        return loadEntities(keys).stream()
+                .map(this::makeAttributesOrNull)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Updates an account with {@link AccountAttributes.UpdateOptions}.
      *
@@ -87,7 +106,7 @@ public final class AccountsDb extends EntitiesDb<Account, AccountAttributes> {
     }
 
     private Account getAccountEntity(String googleId) {
-        Account account = load().id(googleId).now();
+        Account account = loadEntity(Key.create(Account.class, googleId));
         if (account == null) {
             return null;
         }
@@ -100,6 +119,11 @@ public final class AccountsDb extends EntitiesDb<Account, AccountAttributes> {
         return ofy().load().type(Account.class);
     }
 
+    @Override
+    boolean isCachedAcrossRequests() {
+        return true;
+    }
+
     @Override
     boolean hasExistingEntities(AccountAttributes entityToCreate) {
         Key<Account> keyToFind = Key.create(Account.class, entityToCreate.getGoogleId());
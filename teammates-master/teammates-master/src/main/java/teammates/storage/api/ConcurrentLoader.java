@@ -0,0 +1,75 @@
+package teammates.storage.api;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.googlecode.objectify.ObjectifyService;
+
+import teammates.common.util.RequestTracer;
+
+/**
+ * Runs independent loads from the database, and other independent database operations, concurrently.
+ * Independent parts of a computation which may load from the database, e.g. the results of each question
+ * of a session, can be run concurrently in the same way.
+ *
+ * <p>Loads are run by a bounded pool of threads shared by all requests. Each load runs in its own Objectify context
+ * and within the trace of the request which issued it, so that it shares the deadline and the request-scoped
+ * entity cache of that request. When all threads of the pool are busy, the load is run by the issuing thread instead.
+ */
+public final class ConcurrentLoader {
+
+    /**
+     * Maximum number of loads run concurrently across all requests.
+     */
+    static final int MAX_CONCURRENT_LOADS = 8;
+
+    private static final ExecutorService EXECUTOR = new ThreadPoolExecutor(
+            0, MAX_CONCURRENT_LOADS, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
+            ConcurrentLoader::newLoaderThread, new ThreadPoolExecutor.CallerRunsPolicy());
+
+    private ConcurrentLoader() {
+        // utility class
+    }
+
+    /**
+     * Starts running the {@code loader} concurrently with the calling thread.
+     *
+     * @return the future result of the loader, to be retrieved with {@link #getResult(CompletableFuture)}
+     */
+    public static <T> CompletableFuture<T> loadAsync(Supplier<T> loader) {
+        Supplier<T> boundLoader = RequestTracer.bindToCurrentRequest(loader);
+        return CompletableFuture.supplyAsync(() -> ObjectifyService.run(boundLoader::get), EXECUTOR);
+    }
+
+    /**
+     * Waits for the result of a load started with {@link #loadAsync(Supplier)}.
+     *
+     * <p>Any exception thrown by the loader is rethrown as is, in the same way as if the load was run
+     * by the calling thread.
+     */
+    public static <T> T getResult(CompletableFuture<T> futureResult) {
+        try {
+            return futureResult.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static Thread newLoaderThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "concurrent-loader");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+}
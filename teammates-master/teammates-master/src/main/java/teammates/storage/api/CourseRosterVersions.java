@@ -0,0 +1,33 @@
+package teammates.storage.api;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Versions of the students or instructors of courses as written by this application instance.
+ *
+ * <p>The version of a course is incremented after every write to its students (or instructors), so that
+ * data derived from them, e.g. a cached course roster, can be recognized as outdated by comparing the versions
+ * before and after. Writes made by other application instances are not counted.
+ */
+final class CourseRosterVersions {
+
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the current version of the course, which is 0 if the course has not been written.
+     */
+    long get(String courseId) {
+        return versions.getOrDefault(courseId, 0L);
+    }
+
+    /**
+     * Increments the version of the course.
+     *
+     * <p>Needs to be called after the write is done.
+     */
+    void increment(String courseId) {
+        versions.merge(courseId, 1L, Long::sum);
+    }
+
+}
@@ -5,6 +5,8 @@ import static com.googlecode.objectify.ObjectifyService.ofy;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
@@ -142,6 +144,11 @@ public final class CoursesDb extends EntitiesDb<Course, CourseAttributes> {
         return ofy().load().type(Course.class);
     }
 
+    @Override
+    boolean isCachedAcrossRequests() {
+        return true;
+    }
+
     @Override
     boolean hasExistingEntities(CourseAttributes entityToCreate) {
         Key<Course> keyToFind = Key.create(Course.class, entityToCreate.getId());
@@ -149,7 +156,7 @@ public final class CoursesDb extends EntitiesDb<Course, CourseAttributes> {
     }
 
     private Course getCourseEntity(String courseId) {
-        return load().id(courseId).now();
+        return loadEntity(Key.create(Course.class, courseId));
     }
 
     private List<Course> getCourseEntities(List<String> courseIds) {
@@ -157,8 +164,11 @@ public final class CoursesDb extends EntitiesDb<Course, CourseAttributes> {
             return new ArrayList<>();
         }
 
-        return new ArrayList<>(
-                load().ids(courseIds).values());
+        List<Course> courses = loadEntities(courseIds.stream()
+                .map(courseId -> Key.create(Course.class, courseId))
+                .collect(Collectors.toList()));
+        courses.removeIf(Objects::isNull);
+        return courses;
     }
 
     @Override
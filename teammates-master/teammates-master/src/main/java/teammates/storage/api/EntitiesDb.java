@@ -2,22 +2,40 @@ package teammates.storage.api;
 
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
+import java.lang.reflect.ParameterizedType;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.google.cloud.datastore.Cursor;
+import com.google.cloud.datastore.QueryResults;
 import com.google.common.base.Objects;
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.Query;
 
 import teammates.common.datatransfer.attributes.EntityAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestTracer;
 import teammates.storage.entity.BaseEntity;
 
 /**
@@ -44,8 +62,33 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
     static final String OPTIMIZED_SAVING_POLICY_APPLIED =
             "Saving request is not issued because entity %s does not change by the update (%s)";
 
+    /**
+     * Number of entities fetched from the database in a single round trip when streaming query results.
+     */
+    static final int STREAMING_PAGE_SIZE = 500;
+
+    /**
+     * Number of entities deleted in a single round trip when deleting the results of a query.
+     *
+     * <p>This is the maximum number of entities the database allows to be written in a single commit.
+     */
+    static final int DELETION_CHUNK_SIZE = 500;
+
+    /**
+     * Maximum number of chunks of a single query deleted concurrently.
+     */
+    static final int MAX_CONCURRENT_DELETIONS = 4;
+
     static final Logger log = Logger.getLogger();
 
+    private final String entityKind;
+
+    EntitiesDb() {
+        Class<?> entityClass = (Class<?>) ((ParameterizedType) getClass().getGenericSuperclass())
+                .getActualTypeArguments()[0];
+        entityKind = Key.getKind(entityClass);
+    }
+
     /**
      * Creates the entity in the database.
      *
@@ -74,7 +117,10 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
 
         E entity = convertToEntityForSaving(entityToAdd);
 
+        invalidateRequestCache();
         ofy().save().entity(entity).now();
+        invalidateSharedCache(Collections.singletonList(Key.create(entity)));
+        afterEntitiesSaved(Collections.singletonList(entity));
         log.info("Entity created: " + JsonUtils.toJson(entityToAdd));
 
         return makeAttributes(entity);
@@ -133,7 +179,10 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
         for (A attributes : entitiesToAdd) {
             log.info("Entity created: " + JsonUtils.toJson(attributes));
         }
+        invalidateRequestCache();
         ofy().save().entities(entities).now();
+        invalidateSharedCache(entities.stream().map(Key::create).collect(Collectors.toList()));
+        afterEntitiesSaved(entities);
 
         return makeAttributes(entities);
     }
@@ -153,7 +202,10 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
 
         log.info("Entity saved: " + JsonUtils.toJson(entityToSave));
 
+        invalidateRequestCache();
         ofy().save().entity(entityToSave).now();
+        invalidateSharedCache(Collections.singletonList(Key.create(entityToSave)));
+        afterEntitiesSaved(Collections.singletonList(entityToSave));
     }
 
     /**
@@ -164,7 +216,18 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
             log.info("Entity saved: " + JsonUtils.toJson(entityToSave));
         }
 
+        invalidateRequestCache();
         ofy().save().entities(entitiesToSave).now();
+        invalidateSharedCache(entitiesToSave.stream().map(Key::create).collect(Collectors.toList()));
+        afterEntitiesSaved(entitiesToSave);
+    }
+
+    /**
+     * Invoked after entities of this kind are created or updated.
+     */
+    @SuppressWarnings("PMD.EmptyMethodInAbstractClassShouldBeAbstract") // most kinds have nothing to do
+    void afterEntitiesSaved(Collection<E> savedEntities) {
+        // nothing to do by default
     }
 
     /**
@@ -186,11 +249,301 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
             log.info(String.format("Delete entity %s of key (id: %d, name: %s)",
                     key.getKind(), key.getRaw().getId(), key.getName()));
         }
+        invalidateRequestCache();
         ofy().delete().keys(keys).now();
+        invalidateSharedCache(keys);
+    }
+
+    /**
+     * Deletes all entities matching a query.
+     *
+     * @return number of entities deleted
+     * @see #deleteEntitiesOfQuery(Query, Consumer)
+     */
+    int deleteEntitiesOfQuery(Query<E> query) {
+        return deleteEntitiesOfQuery(query, keys -> { });
+    }
+
+    /**
+     * Deletes all entities matching a query, in chunks of {@link #DELETION_CHUNK_SIZE}.
+     *
+     * <p>The keys of the entities are paged through with query cursors so that the keys of only a few chunks are
+     * held in memory at any time, and up to {@link #MAX_CONCURRENT_DELETIONS} chunks are deleted concurrently.
+     * The remaining time of the request is checked before every chunk; as deleted entities no longer match the query,
+     * a deletion interrupted by {@link teammates.common.exception.DeadlineExceededException} can be resumed
+     * by simply deleting the entities of the same query again.
+     *
+     * @param beforeChunkDeletion invoked with the keys of each chunk before the chunk is deleted
+     * @return number of entities deleted
+     */
+    int deleteEntitiesOfQuery(Query<E> query, Consumer<List<Key<E>>> beforeChunkDeletion) {
+        assert query != null;
+        assert beforeChunkDeletion != null;
+
+        invalidateRequestCache();
+
+        Deque<CompletableFuture<Integer>> pendingDeletions = new ArrayDeque<>();
+        int numOfEntitiesDeleted = 0;
+        Cursor nextChunkCursor = null;
+        boolean isLastChunkFetched = false;
+        RuntimeException failure = null;
+        try {
+            while (!isLastChunkFetched) {
+                RequestTracer.checkRemainingTime();
+
+                Query<E> chunkQuery = query.limit(DELETION_CHUNK_SIZE);
+                if (nextChunkCursor != null) {
+                    chunkQuery = chunkQuery.startAt(nextChunkCursor);
+                }
+                QueryResults<Key<E>> keysOfChunk = chunkQuery.keys().iterator();
+                List<Key<E>> keys = new ArrayList<>();
+                keysOfChunk.forEachRemaining(keys::add);
+                nextChunkCursor = keysOfChunk.getCursorAfter();
+                isLastChunkFetched = keys.size() < DELETION_CHUNK_SIZE;
+                if (keys.isEmpty()) {
+                    break;
+                }
+
+                if (pendingDeletions.size() >= MAX_CONCURRENT_DELETIONS) {
+                    numOfEntitiesDeleted += ConcurrentLoader.getResult(pendingDeletions.removeFirst());
+                }
+                beforeChunkDeletion.accept(keys);
+                pendingDeletions.addLast(ConcurrentLoader.loadAsync(() -> deleteChunk(keys)));
+            }
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+
+        // chunks already submitted are always waited for so that the progress logged is accurate;
+        // the first failure is rethrown as is, e.g. so that a deletion interrupted by the deadline can be resumed
+        while (!pendingDeletions.isEmpty()) {
+            try {
+                numOfEntitiesDeleted += ConcurrentLoader.getResult(pendingDeletions.removeFirst());
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        log.info(String.format("Deleted %d entities %s of query %s", numOfEntitiesDeleted, entityKind, query));
+        if (failure != null) {
+            throw failure;
+        }
+        return numOfEntitiesDeleted;
+    }
+
+    private int deleteChunk(List<Key<E>> keys) {
+        ofy().delete().keys(keys).now();
+        invalidateSharedCache(keys);
+        return keys.size();
     }
 
     abstract LoadType<E> load();
 
+    /**
+     * Returns true if entities of this kind change rarely enough to be cached across requests.
+     *
+     * <p>Entities cached across requests may be up to {@link SharedEntityCache#TIME_TO_LIVE} out of date
+     * when they are written by another application instance.
+     */
+    boolean isCachedAcrossRequests() {
+        return false;
+    }
+
+    /**
+     * Loads an entity by key.
+     *
+     * <p>Repeated lookups of the same key within a request are served from the request-scoped cache.
+     *
+     * @return null if the entity does not exist
+     */
+    E loadEntity(Key<E> key) {
+        assert key != null;
+
+        RequestEntityCache cache = RequestEntityCache.getForCurrentRequest();
+        if (cache == null) {
+            return loadEntityThroughSharedCache(key);
+        }
+        return cache.getEntity(key, () -> loadEntityThroughSharedCache(key));
+    }
+
+    /**
+     * Loads entities by keys in a single batched lookup.
+     *
+     * <p>Keys already looked up within the request are served from the request-scoped cache.
+     *
+     * @return entities in the same order as the keys, with null for entities that do not exist
+     */
+    List<E> loadEntities(Collection<Key<E>> keys) {
+        assert keys != null;
+
+        List<Key<E>> keyList = new ArrayList<>(keys);
+        if (keyList.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        RequestEntityCache cache = RequestEntityCache.getForCurrentRequest();
+        if (cache == null) {
+            return loadEntitiesThroughSharedCache(keyList);
+        }
+        return cache.getEntities(keyList, this::loadEntitiesThroughSharedCache);
+    }
+
+    /**
+     * Executes a query and returns all matching entities.
+     *
+     * <p>Repeated executions of an identical query within a request are served from the request-scoped cache.
+     */
+    List<E> listEntities(Query<E> query) {
+        assert query != null;
+
+        RequestEntityCache cache = RequestEntityCache.getForCurrentRequest();
+        if (cache == null) {
+            return listEntitiesThroughSharedCache(query);
+        }
+        // the string representation of a query fully describes its kind, filters, orders and limits
+        return cache.getQueryResults(entityKind, query.toString(), () -> listEntitiesThroughSharedCache(query));
+    }
+
+    /**
+     * Executes several queries concurrently and returns the entities matching any of them, without duplicates.
+     *
+     * <p>This serves as an OR of the queries, which the database does not support within a single query.
+     * Each query is cached in the same way as {@link #listEntities(Query)}; the queries which are not cached
+     * are executed in parallel so that the time taken is that of the slowest query rather than the sum of all.
+     */
+    Collection<E> listEntitiesOfAnyQuery(List<Query<E>> queries) {
+        assert queries != null;
+
+        RequestEntityCache cache = RequestEntityCache.getForCurrentRequest();
+        Map<Key<E>, E> entities = new LinkedHashMap<>();
+        List<Query<E>> queriesToExecute = new ArrayList<>();
+        for (Query<E> query : queries) {
+            List<E> cachedResults = cache == null ? null : cache.getCachedQueryResults(entityKind, query.toString());
+            if (cachedResults == null) {
+                queriesToExecute.add(query);
+            } else {
+                addUniqueEntities(entities, cachedResults);
+            }
+        }
+
+        // the first query is executed by the calling thread while the others are executed concurrently
+        List<Supplier<List<E>>> loaders = new ArrayList<>();
+        for (int i = 0; i < queriesToExecute.size(); i++) {
+            Query<E> query = queriesToExecute.get(i);
+            if (i == 0) {
+                loaders.add(() -> listEntitiesThroughSharedCache(query));
+            } else {
+                CompletableFuture<List<E>> futureResults =
+                        ConcurrentLoader.loadAsync(() -> listEntitiesThroughSharedCache(query));
+                loaders.add(() -> ConcurrentLoader.getResult(futureResults));
+            }
+        }
+
+        for (int i = 0; i < queriesToExecute.size(); i++) {
+            Supplier<List<E>> loader = loaders.get(i);
+            List<E> results = cache == null
+                    ? loader.get()
+                    : cache.getQueryResults(entityKind, queriesToExecute.get(i).toString(), loader);
+            addUniqueEntities(entities, results);
+        }
+        return entities.values();
+    }
+
+    private void addUniqueEntities(Map<Key<E>, E> uniqueEntities, List<E> entities) {
+        for (E entity : entities) {
+            uniqueEntities.putIfAbsent(Key.create(entity), entity);
+        }
+    }
+
+    private E loadEntityThroughSharedCache(Key<E> key) {
+        if (!isCachedAcrossRequests()) {
+            return ofy().load().key(key).now();
+        }
+        return SharedEntityCache.forKind(entityKind).getEntity(key);
+    }
+
+    private List<E> loadEntitiesThroughSharedCache(List<Key<E>> keys) {
+        if (!isCachedAcrossRequests()) {
+            Map<Key<E>, E> entities = ofy().load().keys(keys);
+            return keys.stream()
+                    .map(entities::get)
+                    .collect(Collectors.toList());
+        }
+        return SharedEntityCache.forKind(entityKind).getEntities(keys);
+    }
+
+    private List<E> listEntitiesThroughSharedCache(Query<E> query) {
+        if (!isCachedAcrossRequests()) {
+            return query.list();
+        }
+        return SharedEntityCache.forKind(entityKind).getQueryResults(query);
+    }
+
+    /**
+     * Executes a query and returns the first matching entity.
+     *
+     * @return null if there is no matching entity
+     */
+    E firstEntity(Query<E> query) {
+        List<E> entities = listEntities(query.limit(1));
+        return entities.isEmpty() ? null : entities.get(0);
+    }
+
+    /**
+     * Executes a query lazily and returns the matching entities as a stream.
+     *
+     * <p>Entities are fetched from the database in pages of {@link #STREAMING_PAGE_SIZE} as the stream is consumed,
+     * so that the memory needed is bounded by the page size rather than the number of matching entities.
+     * The entities are neither served from nor added to any cache.
+     */
+    Stream<E> streamEntities(Query<E> query) {
+        return streamEntities(query, STREAMING_PAGE_SIZE);
+    }
+
+    /**
+     * Executes a query lazily and returns the matching entities as a stream, fetching them in pages of the given size.
+     */
+    Stream<E> streamEntities(Query<E> query, int pageSize) {
+        assert query != null;
+
+        Iterator<E> entities = new PagedQueryIterator<>(query, pageSize);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(entities, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Executes a query lazily and returns the matching entities as a stream of attributes.
+     *
+     * <p>Each entity is converted to attributes only when the stream reaches it.
+     *
+     * @see #streamEntities(Query)
+     */
+    Stream<A> streamAttributes(Query<E> query) {
+        return streamEntities(query).map(this::makeAttributes);
+    }
+
+    /**
+     * Discards all entities of this kind cached by the current request.
+     */
+    private void invalidateRequestCache() {
+        RequestEntityCache cache = RequestEntityCache.getForCurrentRequest();
+        if (cache != null) {
+            cache.invalidate(entityKind);
+        }
+    }
+
+    /**
+     * Discards the given entities of this kind and all query results of this kind cached across requests.
+     */
+    private void invalidateSharedCache(List<Key<E>> keys) {
+        if (isCachedAcrossRequests()) {
+            SharedEntityCache.forKind(entityKind).invalidate(keys);
+        }
+    }
+
     /**
      * Converts from entity to attributes.
      */
@@ -171,7 +171,7 @@ public final class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, Feed
             entitiesToDelete = entitiesToDelete.filter("feedbackSessionName =", query.getFeedbackSessionName());
         }
 
-        deleteEntity(entitiesToDelete.keys().list());
+        deleteEntitiesOfQuery(entitiesToDelete);
     }
 
     /**
@@ -181,7 +181,7 @@ public final class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, Feed
         assert feedbackQuestionId != null;
 
         return makeKeyFromWebSafeString(feedbackQuestionId)
-                .map(key -> ofy().load().key(key).now())
+                .map(this::loadEntity)
                 .orElse(null);
     }
 
@@ -190,28 +190,25 @@ public final class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, Feed
      */
     private FeedbackQuestion getFeedbackQuestionEntity(
             String feedbackSessionName, String courseId, int questionNumber) {
-        return load()
+        return firstEntity(load()
                 .filter("feedbackSessionName =", feedbackSessionName)
                 .filter("courseId =", courseId)
-                .filter("questionNumber =", questionNumber)
-                .first().now();
+                .filter("questionNumber =", questionNumber));
     }
 
     private List<FeedbackQuestion> getFeedbackQuestionEntitiesForSession(
             String feedbackSessionName, String courseId) {
-        return load()
+        return listEntities(load()
                 .filter("feedbackSessionName =", feedbackSessionName)
-                .filter("courseId =", courseId)
-                .list();
+                .filter("courseId =", courseId));
     }
 
     private List<FeedbackQuestion> getFeedbackQuestionEntitiesForGiverType(
             String feedbackSessionName, String courseId, FeedbackParticipantType giverType) {
-        return load()
+        return listEntities(load()
                 .filter("feedbackSessionName =", feedbackSessionName)
                 .filter("courseId =", courseId)
-                .filter("giverType =", giverType)
-                .list();
+                .filter("giverType =", giverType));
     }
 
     private boolean hasFeedbackQuestionEntitiesForGiverType(
@@ -230,6 +227,11 @@ public final class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, Feed
         return ofy().load().type(FeedbackQuestion.class);
     }
 
+    @Override
+    boolean isCachedAcrossRequests() {
+        return true;
+    }
+
     @Override
     boolean hasExistingEntities(FeedbackQuestionAttributes entityToCreate) {
         return !load()
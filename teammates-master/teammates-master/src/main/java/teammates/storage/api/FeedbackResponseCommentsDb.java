@@ -3,10 +3,11 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.stream.Collectors;
 
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
@@ -81,6 +82,23 @@ public final class FeedbackResponseCommentsDb
         return makeAttributes(getFeedbackResponseCommentEntitiesForResponse(feedbackResponseId));
     }
 
+    /**
+     * Gets all response comments for any of the responses.
+     *
+     * <p>The comments of each response are queried concurrently.
+     */
+    public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForResponses(
+            Collection<String> feedbackResponseIds) {
+        assert feedbackResponseIds != null;
+
+        if (feedbackResponseIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return makeAttributes(listEntitiesOfAnyQuery(feedbackResponseIds.stream()
+                .map(this::getFeedbackResponseCommentsForResponseQuery)
+                .collect(Collectors.toList())));
+    }
+
     /**
      * Gets comment associated with the response.
      *
@@ -162,9 +180,74 @@ public final class FeedbackResponseCommentsDb
             throw new InvalidParametersException(newAttributes.getInvalidityInfo());
         }
 
-        // update only if change
-        boolean hasSameAttributes =
-                this.<String>hasSameValue(frc.getFeedbackResponseId(), newAttributes.getFeedbackResponseId())
+        if (hasSameAttributes(frc, newAttributes)) {
+            log.info(String.format(
+                    OPTIMIZED_SAVING_POLICY_APPLIED, FeedbackResponseComment.class.getSimpleName(), updateOptions));
+            return newAttributes;
+        }
+
+        copyAttributesToEntity(newAttributes, frc);
+
+        saveEntity(frc);
+
+        return makeAttributes(frc);
+    }
+
+    /**
+     * Updates feedback response comments by {@link FeedbackResponseCommentAttributes.UpdateOptions}
+     * in a single batched write.
+     *
+     * <p>All comments are validated before anything is written.
+     *
+     * @return updated comments, in the order of the update options
+     * @throws InvalidParametersException if attributes to update of any of the comments are not valid
+     * @throws EntityDoesNotExistException if any of the comments cannot be found
+     */
+    public List<FeedbackResponseCommentAttributes> updateFeedbackResponseComments(
+            List<FeedbackResponseCommentAttributes.UpdateOptions> updateOptionsList)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        assert updateOptionsList != null;
+
+        List<FeedbackResponseComment> comments = loadEntities(updateOptionsList.stream()
+                .map(updateOptions ->
+                        Key.create(FeedbackResponseComment.class, updateOptions.getFeedbackResponseCommentId()))
+                .collect(Collectors.toList()));
+
+        List<FeedbackResponseComment> commentsToSave = new ArrayList<>();
+        for (int i = 0; i < updateOptionsList.size(); i++) {
+            FeedbackResponseCommentAttributes.UpdateOptions updateOptions = updateOptionsList.get(i);
+            FeedbackResponseComment frc = comments.get(i);
+            if (frc == null) {
+                throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + updateOptions);
+            }
+
+            FeedbackResponseCommentAttributes newAttributes = makeAttributes(frc);
+            newAttributes.update(updateOptions);
+
+            newAttributes.sanitizeForSaving();
+            if (!newAttributes.isValid()) {
+                throw new InvalidParametersException(newAttributes.getInvalidityInfo());
+            }
+
+            if (hasSameAttributes(frc, newAttributes)) {
+                log.info(String.format(
+                        OPTIMIZED_SAVING_POLICY_APPLIED, FeedbackResponseComment.class.getSimpleName(), updateOptions));
+                continue;
+            }
+
+            copyAttributesToEntity(newAttributes, frc);
+            commentsToSave.add(frc);
+        }
+
+        if (!commentsToSave.isEmpty()) {
+            saveEntities(commentsToSave);
+        }
+
+        return makeAttributes(comments);
+    }
+
+    private boolean hasSameAttributes(FeedbackResponseComment frc, FeedbackResponseCommentAttributes newAttributes) {
+        return this.<String>hasSameValue(frc.getFeedbackResponseId(), newAttributes.getFeedbackResponseId())
                 && this.<String>hasSameValue(frc.getCommentText(), newAttributes.getCommentText())
                 && this.<List<FeedbackParticipantType>>hasSameValue(frc.getShowCommentTo(), newAttributes.getShowCommentTo())
                 && this.<List<FeedbackParticipantType>>hasSameValue(
@@ -173,12 +256,9 @@ public final class FeedbackResponseCommentsDb
                 && this.<Instant>hasSameValue(frc.getLastEditedAt(), newAttributes.getLastEditedAt())
                 && this.<String>hasSameValue(frc.getGiverSection(), newAttributes.getGiverSection())
                 && this.<String>hasSameValue(frc.getReceiverSection(), newAttributes.getReceiverSection());
-        if (hasSameAttributes) {
-            log.info(String.format(
-                    OPTIMIZED_SAVING_POLICY_APPLIED, FeedbackResponseComment.class.getSimpleName(), updateOptions));
-            return newAttributes;
-        }
+    }
 
+    private void copyAttributesToEntity(FeedbackResponseCommentAttributes newAttributes, FeedbackResponseComment frc) {
         frc.setFeedbackResponseId(newAttributes.getFeedbackResponseId());
         frc.setCommentText(newAttributes.getCommentText());
         frc.setShowCommentTo(newAttributes.getShowCommentTo());
@@ -187,10 +267,6 @@ public final class FeedbackResponseCommentsDb
         frc.setLastEditedAt(newAttributes.getLastEditedAt());
         frc.setGiverSection(newAttributes.getGiverSection());
         frc.setReceiverSection(newAttributes.getReceiverSection());
-
-        saveEntity(frc);
-
-        return makeAttributes(frc);
     }
 
     /**
@@ -246,6 +322,20 @@ public final class FeedbackResponseCommentsDb
         deleteEntity(Key.create(FeedbackResponseComment.class, commentId));
     }
 
+    /**
+     * Deletes comments by their IDs in a single batched delete.
+     */
+    public void deleteFeedbackResponseCommentsByIds(List<Long> commentIds) {
+        assert commentIds != null;
+
+        if (commentIds.isEmpty()) {
+            return;
+        }
+        deleteEntity(commentIds.stream()
+                .map(commentId -> Key.create(FeedbackResponseComment.class, commentId))
+                .collect(Collectors.toList()));
+    }
+
     /**
      * Deletes comments using {@link AttributesDeletionQuery}.
      */
@@ -266,28 +356,26 @@ public final class FeedbackResponseCommentsDb
             entitiesToDelete = entitiesToDelete.filter("feedbackResponseId =", query.getResponseId());
         }
 
-        deleteEntity(entitiesToDelete.keys().list());
+        deleteEntitiesOfQuery(entitiesToDelete);
     }
 
     private FeedbackResponseComment getFeedbackResponseCommentEntity(long feedbackResponseCommentId) {
-        return load().id(feedbackResponseCommentId).now();
+        return loadEntity(Key.create(FeedbackResponseComment.class, feedbackResponseCommentId));
     }
 
     private FeedbackResponseComment getFeedbackResponseCommentEntity(
             String feedbackResponseId, String giverEmail, Instant createdAt) {
-        return load()
+        return firstEntity(load()
                 .filter("feedbackResponseId =", feedbackResponseId)
                 .filter("giverEmail =", giverEmail)
-                .filter("createdAt =", createdAt)
-                .first().now();
+                .filter("createdAt =", createdAt));
     }
 
     private List<FeedbackResponseComment> getFeedbackResponseCommentEntitiesForGiverInCourse(
             String courseId, String giverEmail) {
-        return load()
+        return listEntities(load()
                 .filter("courseId =", courseId)
-                .filter("giverEmail =", giverEmail)
-                .list();
+                .filter("giverEmail =", giverEmail));
     }
 
     /**
@@ -295,10 +383,9 @@ public final class FeedbackResponseCommentsDb
      */
     private List<FeedbackResponseComment> getFeedbackResponseCommentEntitiesForLastEditorInCourse(
             String courseId, String lastEditorEmail) {
-        return load()
+        return listEntities(load()
                 .filter("courseId =", courseId)
-                .filter("lastEditorEmail =", lastEditorEmail)
-                .list();
+                .filter("lastEditorEmail =", lastEditorEmail));
     }
 
     private Query<FeedbackResponseComment> getFeedbackResponseCommentsForResponseQuery(String feedbackResponseId) {
@@ -307,82 +394,49 @@ public final class FeedbackResponseCommentsDb
 
     private FeedbackResponseComment getFeedbackResponseCommentEntitiesForResponseFromParticipant(
             String feedbackResponseId) {
-        return load()
+        return firstEntity(load()
                 .filter("feedbackResponseId =", feedbackResponseId)
-                .filter("isCommentFromFeedbackParticipant =", true)
-                .first()
-                .now();
+                .filter("isCommentFromFeedbackParticipant =", true));
     }
 
     private List<FeedbackResponseComment> getFeedbackResponseCommentEntitiesForResponse(String feedbackResponseId) {
-        return getFeedbackResponseCommentsForResponseQuery(feedbackResponseId).list();
+        return listEntities(getFeedbackResponseCommentsForResponseQuery(feedbackResponseId));
     }
 
     private List<FeedbackResponseComment> getFeedbackResponseCommentEntitiesForSession(
             String courseId, String feedbackSessionName) {
-        return load()
+        return listEntities(load()
                 .filter("courseId =", courseId)
-                .filter("feedbackSessionName =", feedbackSessionName)
-                .list();
+                .filter("feedbackSessionName =", feedbackSessionName));
     }
 
     private Collection<FeedbackResponseComment> getFeedbackResponseCommentEntitiesForQuestion(String questionId) {
-        return load()
-                .filter("feedbackQuestionId =", questionId)
-                .list();
+        return listEntities(load()
+                .filter("feedbackQuestionId =", questionId));
     }
 
     private Collection<FeedbackResponseComment> getFeedbackResponseCommentEntitiesForQuestionInSection(
             String questionId, String section) {
-        // creating map to remove duplicates
-        Map<Long, FeedbackResponseComment> comments = new HashMap<>();
-
-        List<FeedbackResponseComment> responseCommentsFromSection = load()
-                .filter("feedbackQuestionId =", questionId)
-                .filter("giverSection =", section)
-                .list();
-
-        for (FeedbackResponseComment comment : responseCommentsFromSection) {
-            comments.put(comment.getFeedbackResponseCommentId(), comment);
-        }
-
-        List<FeedbackResponseComment> responseCommentsToSection = load()
-                .filter("feedbackQuestionId =", questionId)
-                .filter("receiverSection =", section)
-                .list();
-
-        for (FeedbackResponseComment comment : responseCommentsToSection) {
-            comments.put(comment.getFeedbackResponseCommentId(), comment);
-        }
-
-        return comments.values();
+        return listEntitiesOfAnyQuery(Arrays.asList(
+                load()
+                        .filter("feedbackQuestionId =", questionId)
+                        .filter("giverSection =", section),
+                load()
+                        .filter("feedbackQuestionId =", questionId)
+                        .filter("receiverSection =", section)));
     }
 
     private Collection<FeedbackResponseComment> getFeedbackResponseCommentEntitiesForSessionInSection(
             String courseId, String feedbackSessionName, String section) {
-        Map<Long, FeedbackResponseComment> comments = new HashMap<>();
-
-        List<FeedbackResponseComment> firstQueryResponseComments = load()
-                .filter("courseId =", courseId)
-                .filter("feedbackSessionName =", feedbackSessionName)
-                .filter("giverSection =", section)
-                .list();
-
-        for (FeedbackResponseComment comment : firstQueryResponseComments) {
-            comments.put(comment.getFeedbackResponseCommentId(), comment);
-        }
-
-        List<FeedbackResponseComment> secondQueryResponseComments = load()
-                .filter("courseId =", courseId)
-                .filter("feedbackSessionName =", feedbackSessionName)
-                .filter("receiverSection =", section)
-                .list();
-
-        for (FeedbackResponseComment comment : secondQueryResponseComments) {
-            comments.put(comment.getFeedbackResponseCommentId(), comment);
-        }
-
-        return comments.values();
+        return listEntitiesOfAnyQuery(Arrays.asList(
+                load()
+                        .filter("courseId =", courseId)
+                        .filter("feedbackSessionName =", feedbackSessionName)
+                        .filter("giverSection =", section),
+                load()
+                        .filter("courseId =", courseId)
+                        .filter("feedbackSessionName =", feedbackSessionName)
+                        .filter("receiverSection =", section)));
     }
 
     @Override
@@ -3,12 +3,13 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
@@ -91,6 +92,19 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
         return makeAttributesOrNull(fr);
     }
 
+    /**
+     * Gets feedback responses in a single batched lookup.
+     *
+     * @return responses in the same order as the IDs, with null for responses that do not exist
+     */
+    public List<FeedbackResponseAttributes> getFeedbackResponses(List<String> feedbackResponseIds) {
+        assert feedbackResponseIds != null;
+
+        return loadEntities(makeKeys(feedbackResponseIds)).stream()
+                .map(this::makeAttributesOrNull)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Gets all feedback responses of a question in a specific section.
      */
@@ -135,6 +149,23 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
         return makeAttributes(getFeedbackResponseEntitiesForSession(feedbackSessionName, courseId));
     }
 
+    /**
+     * Gets all responses of a feedback session in a course as a stream.
+     *
+     * <p>Unlike {@link #getFeedbackResponsesForSession(String, String)}, the responses are fetched from the database
+     * in fixed-size pages as the stream is consumed, so that sessions with any number of responses
+     * can be processed in bounded memory.
+     */
+    public Stream<FeedbackResponseAttributes> streamFeedbackResponsesForSession(
+            String feedbackSessionName, String courseId) {
+        assert feedbackSessionName != null;
+        assert courseId != null;
+
+        return streamAttributes(load()
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("courseId =", courseId));
+    }
+
     /**
      * Gets all responses given to/from a section in a feedback session in a course.
      */
@@ -158,6 +189,18 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
         return makeAttributes(getFeedbackResponseEntitiesFromGiverForQuestion(feedbackQuestionId, giverEmail));
     }
 
+    /**
+     * Gets all responses given by a user in a feedback session.
+     */
+    public List<FeedbackResponseAttributes> getFeedbackResponsesFromGiverForSession(
+            String giverEmail, String feedbackSessionName, String courseId) {
+        assert giverEmail != null;
+        assert feedbackSessionName != null;
+        assert courseId != null;
+
+        return makeAttributes(getFeedbackResponseEntitiesFromGiverForSession(giverEmail, feedbackSessionName, courseId));
+    }
+
     /**
      * Gets all responses received by a user for a question.
      */
@@ -279,6 +322,127 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
         }
     }
 
+    /**
+     * Creates, updates and deletes feedback responses in batched writes.
+     *
+     * <p>All responses are validated before anything is written. The responses to update are then read with
+     * a single batched lookup, all created and updated responses are saved with a single batched write
+     * and all deleted responses are deleted with a single batched delete.
+     * The writes are not transactional; if the delete fails, the saved responses are kept.
+     *
+     * <p>If the giver/recipient field of a response is changed, the response is updated by recreating the response
+     * as question-giver-recipient is the primary key.
+     *
+     * @return created responses followed by updated responses, in the order they are given
+     * @throws InvalidParametersException if any of the responses to create or update is not valid
+     * @throws EntityDoesNotExistException if any of the responses to update cannot be found
+     * @throws EntityAlreadyExistsException if any of the responses to create or recreate already exists
+     */
+    public List<FeedbackResponseAttributes> batchUpdateFeedbackResponses(
+            List<FeedbackResponseAttributes> responsesToCreate,
+            List<FeedbackResponseAttributes.UpdateOptions> responsesToUpdate,
+            List<String> responseIdsToDelete)
+            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
+        assert responsesToCreate != null;
+        assert responsesToUpdate != null;
+        assert responseIdsToDelete != null;
+
+        List<FeedbackResponse> resultEntities = new ArrayList<>();
+        List<FeedbackResponse> entitiesToCreate = new ArrayList<>();
+
+        for (FeedbackResponseAttributes responseToCreate : responsesToCreate) {
+            responseToCreate.sanitizeForSaving();
+            if (!responseToCreate.isValid()) {
+                throw new InvalidParametersException(responseToCreate.getInvalidityInfo());
+            }
+            FeedbackResponse entity = responseToCreate.toEntity();
+            entitiesToCreate.add(entity);
+            resultEntities.add(entity);
+        }
+
+        List<FeedbackResponse> oldResponses = loadEntities(makeKeys(responsesToUpdate.stream()
+                .map(FeedbackResponseAttributes.UpdateOptions::getFeedbackResponseId)
+                .collect(Collectors.toList())));
+        List<FeedbackResponse> entitiesToSave = new ArrayList<>();
+        List<Key<FeedbackResponse>> keysToDelete = new ArrayList<>(makeKeys(responseIdsToDelete));
+        for (int i = 0; i < responsesToUpdate.size(); i++) {
+            FeedbackResponseAttributes.UpdateOptions updateOptions = responsesToUpdate.get(i);
+            FeedbackResponse oldResponse = oldResponses.get(i);
+            if (oldResponse == null) {
+                throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + updateOptions);
+            }
+
+            FeedbackResponseAttributes newAttributes = makeAttributes(oldResponse);
+            newAttributes.update(updateOptions);
+
+            newAttributes.sanitizeForSaving();
+            if (!newAttributes.isValid()) {
+                throw new InvalidParametersException(newAttributes.getInvalidityInfo());
+            }
+
+            if (newAttributes.getRecipient().equals(oldResponse.getRecipientEmail())
+                    && newAttributes.getGiver().equals(oldResponse.getGiverEmail())) {
+                resultEntities.add(oldResponse);
+
+                // update only if change
+                boolean hasSameAttributes =
+                        this.<String>hasSameValue(oldResponse.getGiverSection(), newAttributes.getGiverSection())
+                        && this.<String>hasSameValue(
+                                oldResponse.getRecipientSection(), newAttributes.getRecipientSection())
+                        && this.<String>hasSameValue(
+                                oldResponse.getAnswer(), newAttributes.getSerializedFeedbackResponseDetail());
+                if (hasSameAttributes) {
+                    log.info(String.format(
+                            OPTIMIZED_SAVING_POLICY_APPLIED, FeedbackResponse.class.getSimpleName(), updateOptions));
+                    continue;
+                }
+
+                oldResponse.setGiverSection(newAttributes.getGiverSection());
+                oldResponse.setRecipientSection(newAttributes.getRecipientSection());
+                oldResponse.setAnswer(newAttributes.getSerializedFeedbackResponseDetail());
+                entitiesToSave.add(oldResponse);
+            } else {
+                // need to recreate the entity
+                FeedbackResponse newResponse = FeedbackResponseAttributes
+                        .builder(newAttributes.getFeedbackQuestionId(), newAttributes.getGiver(),
+                                 newAttributes.getRecipient())
+                        .withCourseId(newAttributes.getCourseId())
+                        .withFeedbackSessionName(newAttributes.getFeedbackSessionName())
+                        .withResponseDetails(newAttributes.getResponseDetailsCopy())
+                        .withGiverSection(newAttributes.getGiverSection())
+                        .withRecipientSection(newAttributes.getRecipientSection())
+                        .build()
+                        .toEntity();
+                entitiesToCreate.add(newResponse);
+                resultEntities.add(newResponse);
+                keysToDelete.add(Key.create(FeedbackResponse.class, oldResponse.getId()));
+            }
+        }
+
+        List<String> idsToCreate = entitiesToCreate.stream()
+                .map(FeedbackResponse::getId)
+                .collect(Collectors.toList());
+        List<FeedbackResponse> existingResponses = loadEntities(makeKeys(idsToCreate));
+        Set<String> distinctIdsToCreate = new HashSet<>();
+        for (int i = 0; i < entitiesToCreate.size(); i++) {
+            // a response cannot be created twice in the same batch either
+            if (existingResponses.get(i) != null || !distinctIdsToCreate.add(idsToCreate.get(i))) {
+                throw new EntityAlreadyExistsException(String.format(
+                        ERROR_CREATE_ENTITY_ALREADY_EXISTS, makeAttributes(entitiesToCreate.get(i)).toString()));
+            }
+        }
+        entitiesToSave.addAll(entitiesToCreate);
+
+        if (!entitiesToSave.isEmpty()) {
+            saveEntities(entitiesToSave);
+        }
+        if (!keysToDelete.isEmpty()) {
+            deleteEntity(keysToDelete);
+        }
+
+        return makeAttributes(resultEntities);
+    }
+
     /**
      * Deletes a feedback response.
      */
@@ -305,7 +469,7 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
             entitiesToDelete = entitiesToDelete.filter("feedbackQuestionId =", query.getQuestionId());
         }
 
-        deleteEntity(entitiesToDelete.keys().list());
+        deleteEntitiesOfQuery(entitiesToDelete);
     }
 
     /**
@@ -316,96 +480,85 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
         return !load().filter("courseId =", courseId).limit(1).list().isEmpty();
     }
 
+    private List<Key<FeedbackResponse>> makeKeys(List<String> feedbackResponseIds) {
+        return feedbackResponseIds.stream()
+                .map(feedbackResponseId -> Key.create(FeedbackResponse.class, feedbackResponseId))
+                .collect(Collectors.toList());
+    }
+
     private FeedbackResponse getFeedbackResponseEntity(String feedbackResponseId) {
-        return load().id(feedbackResponseId).now();
+        return loadEntity(Key.create(FeedbackResponse.class, feedbackResponseId));
     }
 
     private Collection<FeedbackResponse> getFeedbackResponseEntitiesForQuestionInSection(
                 String feedbackQuestionId, String section) {
-        List<FeedbackResponse> allResponses = new ArrayList<>();
-
-        allResponses.addAll(load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("giverSection =", section)
-                .list());
-        allResponses.addAll(load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("receiverSection =", section)
-                .list());
-
-        return removeDuplicates(allResponses);
+        return listEntitiesOfAnyQuery(Arrays.asList(
+                load()
+                        .filter("feedbackQuestionId =", feedbackQuestionId)
+                        .filter("giverSection =", section),
+                load()
+                        .filter("feedbackQuestionId =", feedbackQuestionId)
+                        .filter("receiverSection =", section)));
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForQuestion(String feedbackQuestionId) {
-        return load()
-                .filter("feedbackQuestionId =", feedbackQuestionId)
-                .list();
+        return listEntities(load()
+                .filter("feedbackQuestionId =", feedbackQuestionId));
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForSession(String feedbackSessionName, String courseId) {
-        return load()
+        return listEntities(load()
                 .filter("feedbackSessionName =", feedbackSessionName)
-                .filter("courseId =", courseId)
-                .list();
+                .filter("courseId =", courseId));
     }
 
     private Collection<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSection(
             String feedbackSessionName, String courseId, String section) {
-        List<FeedbackResponse> allResponse = new ArrayList<>();
-
-        allResponse.addAll(load()
-                .filter("feedbackSessionName =", feedbackSessionName)
-                .filter("courseId =", courseId)
-                .filter("giverSection =", section)
-                .list());
-
-        allResponse.addAll(load()
-                .filter("feedbackSessionName =", feedbackSessionName)
-                .filter("courseId =", courseId)
-                .filter("receiverSection =", section)
-                .list());
-
-        return removeDuplicates(allResponse);
-    }
-
-    private Collection<FeedbackResponse> removeDuplicates(Collection<FeedbackResponse> responses) {
-        Map<String, FeedbackResponse> uniqueResponses = new HashMap<>();
-        for (FeedbackResponse response : responses) {
-            uniqueResponses.put(response.getId(), response);
-        }
-        return uniqueResponses.values();
+        return listEntitiesOfAnyQuery(Arrays.asList(
+                load()
+                        .filter("feedbackSessionName =", feedbackSessionName)
+                        .filter("courseId =", courseId)
+                        .filter("giverSection =", section),
+                load()
+                        .filter("feedbackSessionName =", feedbackSessionName)
+                        .filter("courseId =", courseId)
+                        .filter("receiverSection =", section)));
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForQuestion(
             String feedbackQuestionId, String giverEmail) {
-        return load()
+        return listEntities(load()
                 .filter("feedbackQuestionId =", feedbackQuestionId)
+                .filter("giverEmail =", giverEmail));
+    }
+
+    private List<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForSession(
+            String giverEmail, String feedbackSessionName, String courseId) {
+        return listEntities(load()
                 .filter("giverEmail =", giverEmail)
-                .list();
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("courseId =", courseId));
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForQuestion(
             String feedbackQuestionId, String receiver) {
-        return load()
+        return listEntities(load()
                 .filter("feedbackQuestionId =", feedbackQuestionId)
-                .filter("receiver =", receiver)
-                .list();
+                .filter("receiver =", receiver));
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForCourse(
             String courseId, String receiver) {
-        return load()
+        return listEntities(load()
                 .filter("courseId =", courseId)
-                .filter("receiver =", receiver)
-                .list();
+                .filter("receiver =", receiver));
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForCourse(
             String courseId, String giverEmail) {
-        return load()
+        return listEntities(load()
                 .filter("courseId =", courseId)
-                .filter("giverEmail =", giverEmail)
-                .list();
+                .filter("giverEmail =", giverEmail));
     }
 
     @Override
@@ -0,0 +1,129 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.Query;
+
+import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.attributes.FeedbackSessionResultsSnapshotAttributes;
+import teammates.storage.entity.FeedbackSession;
+import teammates.storage.entity.FeedbackSessionResultsSnapshot;
+
+/**
+ * Handles CRUD operations for snapshots of feedback session results.
+ *
+ * <p>A snapshot is marked as complete in a transaction, so that a snapshot deleted or replaced
+ * while its views are being generated is never marked as complete.
+ *
+ * @see FeedbackSessionResultsSnapshot
+ * @see FeedbackSessionResultsSnapshotAttributes
+ */
+public final class FeedbackSessionResultsSnapshotsDb
+        extends EntitiesDb<FeedbackSessionResultsSnapshot, FeedbackSessionResultsSnapshotAttributes> {
+
+    private static final FeedbackSessionResultsSnapshotsDb instance = new FeedbackSessionResultsSnapshotsDb();
+
+    private FeedbackSessionResultsSnapshotsDb() {
+        // prevent initialization
+    }
+
+    public static FeedbackSessionResultsSnapshotsDb inst() {
+        return instance;
+    }
+
+    /**
+     * Gets the results snapshot of a feedback session.
+     *
+     * @return null if the snapshot is not found
+     */
+    public FeedbackSessionResultsSnapshotAttributes getFeedbackSessionResultsSnapshot(
+            String feedbackSessionName, String courseId) {
+        assert feedbackSessionName != null;
+        assert courseId != null;
+
+        return makeAttributesOrNull(loadEntity(makeKey(feedbackSessionName, courseId)));
+    }
+
+    /**
+     * Marks the results snapshot of a feedback session as complete.
+     *
+     * @return false if the snapshot does not exist or is of another generation
+     */
+    public boolean markFeedbackSessionResultsSnapshotComplete(
+            String feedbackSessionName, String courseId, String generationId) {
+        assert feedbackSessionName != null;
+        assert courseId != null;
+        assert generationId != null;
+
+        Key<FeedbackSessionResultsSnapshot> key = makeKey(feedbackSessionName, courseId);
+        return ofy().transact(() -> {
+            // the entity is read within the transaction instead of from the cache
+            FeedbackSessionResultsSnapshot snapshot = ofy().load().key(key).now();
+            if (snapshot == null || !generationId.equals(snapshot.getGenerationId())) {
+                return false;
+            }
+            if (!snapshot.isComplete()) {
+                snapshot.setComplete(true);
+                saveEntity(snapshot);
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Deletes the results snapshot of a feedback session.
+     *
+     * <p>Fails silently if the snapshot does not exist.
+     */
+    public void deleteFeedbackSessionResultsSnapshot(String feedbackSessionName, String courseId) {
+        assert feedbackSessionName != null;
+        assert courseId != null;
+
+        deleteEntity(makeKey(feedbackSessionName, courseId));
+    }
+
+    /**
+     * Deletes the results snapshots of feedback sessions using {@link AttributesDeletionQuery}.
+     */
+    public void deleteFeedbackSessionResultsSnapshots(AttributesDeletionQuery query) {
+        assert query != null;
+        assert query.isCourseIdPresent() : "Snapshots can only be deleted by course or feedback session";
+
+        Query<FeedbackSessionResultsSnapshot> entitiesToDelete = load().project();
+        if (query.isCourseIdPresent()) {
+            entitiesToDelete = entitiesToDelete.filter("courseId =", query.getCourseId());
+        }
+        if (query.isFeedbackSessionNamePresent()) {
+            entitiesToDelete = entitiesToDelete.filter("feedbackSessionName =", query.getFeedbackSessionName());
+        }
+
+        deleteEntitiesOfQuery(entitiesToDelete);
+    }
+
+    private Key<FeedbackSessionResultsSnapshot> makeKey(String feedbackSessionName, String courseId) {
+        return Key.create(FeedbackSessionResultsSnapshot.class,
+                FeedbackSession.generateId(feedbackSessionName, courseId));
+    }
+
+    @Override
+    LoadType<FeedbackSessionResultsSnapshot> load() {
+        return ofy().load().type(FeedbackSessionResultsSnapshot.class);
+    }
+
+    @Override
+    boolean hasExistingEntities(FeedbackSessionResultsSnapshotAttributes entityToCreate) {
+        Key<FeedbackSessionResultsSnapshot> keyToFind =
+                makeKey(entityToCreate.getFeedbackSessionName(), entityToCreate.getCourseId());
+        return !load().filterKey(keyToFind).keys().list().isEmpty();
+    }
+
+    @Override
+    FeedbackSessionResultsSnapshotAttributes makeAttributes(FeedbackSessionResultsSnapshot entity) {
+        assert entity != null;
+
+        return FeedbackSessionResultsSnapshotAttributes.valueOf(entity);
+    }
+
+}
@@ -0,0 +1,225 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.Query;
+
+import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.attributes.FeedbackSessionStatsAttributes;
+import teammates.storage.entity.FeedbackSession;
+import teammates.storage.entity.FeedbackSessionStats;
+
+/**
+ * Handles CRUD operations for feedback session statistics.
+ *
+ * <p>The givers of the statistics are updated in transactions so that concurrent submissions
+ * to the same session do not overwrite one another. As all submissions to a session contend on the same entity,
+ * these transactions are only tried a few times before they fail. Statistics computed in full replace
+ * the existing ones in a transaction as well, keeping the givers added or removed while they were being computed.
+ *
+ * @see FeedbackSessionStats
+ * @see FeedbackSessionStatsAttributes
+ */
+public final class FeedbackSessionStatsDb extends EntitiesDb<FeedbackSessionStats, FeedbackSessionStatsAttributes> {
+
+    /**
+     * Maximum number of tries of a transaction updating the givers of the statistics.
+     */
+    static final int MAX_GIVERS_UPDATE_TRIES = 3;
+
+    private static final FeedbackSessionStatsDb instance = new FeedbackSessionStatsDb();
+
+    private FeedbackSessionStatsDb() {
+        // prevent initialization
+    }
+
+    public static FeedbackSessionStatsDb inst() {
+        return instance;
+    }
+
+    /**
+     * Gets the statistics of a feedback session.
+     *
+     * @return null if the statistics are not found
+     */
+    public FeedbackSessionStatsAttributes getFeedbackSessionStats(String feedbackSessionName, String courseId) {
+        assert feedbackSessionName != null;
+        assert courseId != null;
+
+        return makeAttributesOrNull(loadEntity(makeKey(feedbackSessionName, courseId)));
+    }
+
+    /**
+     * Gets the statistics of a feedback session to be computed in full, creating statistics without givers
+     * if they do not exist, so that the givers added or removed from now on are recorded.
+     *
+     * <p>The created statistics are out of date and are to be replaced by
+     * {@link #putRecomputedFeedbackSessionStats(FeedbackSessionStatsAttributes, FeedbackSessionStatsAttributes)}.
+     */
+    public FeedbackSessionStatsAttributes getOrCreateFeedbackSessionStats(String feedbackSessionName, String courseId) {
+        assert feedbackSessionName != null;
+        assert courseId != null;
+
+        Key<FeedbackSessionStats> key = makeKey(feedbackSessionName, courseId);
+        return makeAttributes(ofy().transact(() -> {
+            FeedbackSessionStats stats = ofy().load().key(key).now();
+            if (stats == null) {
+                stats = new FeedbackSessionStats(feedbackSessionName, courseId, 0, new HashSet<>(), Instant.EPOCH);
+                saveEntity(stats);
+            }
+            return stats;
+        }));
+    }
+
+    /**
+     * Replaces the statistics of a feedback session with statistics computed in full.
+     *
+     * <p>The givers added to or removed from the existing statistics since {@code baseStats} were read are
+     * added to or removed from the new statistics, as the computation may not have seen them.
+     * The existing statistics are kept if they have been computed in full again since.
+     *
+     * @param baseStats the statistics read before the new statistics started to be computed
+     * @param newStats the statistics computed in full
+     * @return the statistics saved, or null if the statistics have been deleted since, in which case
+     *         the new statistics may be out of date and are not saved
+     */
+    public FeedbackSessionStatsAttributes putRecomputedFeedbackSessionStats(
+            FeedbackSessionStatsAttributes baseStats, FeedbackSessionStatsAttributes newStats) {
+        assert baseStats != null;
+        assert newStats != null;
+
+        Key<FeedbackSessionStats> key = makeKey(newStats.getFeedbackSessionName(), newStats.getCourseId());
+        return makeAttributesOrNull(ofy().transact(() -> {
+            FeedbackSessionStats stats = ofy().load().key(key).now();
+            if (stats == null || !Objects.equals(stats.getCreatedAt(), baseStats.getCreatedAt())) {
+                return stats;
+            }
+
+            Set<String> givers = new HashSet<>(newStats.getGivers());
+            for (String giver : stats.getGivers()) {
+                if (!baseStats.getGivers().contains(giver)) {
+                    givers.add(giver);
+                }
+            }
+            for (String giver : baseStats.getGivers()) {
+                if (!stats.getGivers().contains(giver)) {
+                    givers.remove(giver);
+                }
+            }
+            FeedbackSessionStats recomputedStats = new FeedbackSessionStats(newStats.getFeedbackSessionName(),
+                    newStats.getCourseId(), newStats.getExpectedTotal(), givers, newStats.getCreatedAt());
+            saveEntity(recomputedStats);
+            return recomputedStats;
+        }));
+    }
+
+    /**
+     * Adds givers to the statistics of a feedback session.
+     *
+     * <p>Fails silently if the statistics do not exist.
+     *
+     * @throws com.google.cloud.datastore.DatastoreException if the statistics cannot be updated,
+     *         e.g. because of contention with concurrent updates
+     */
+    public void addGivers(String feedbackSessionName, String courseId, Collection<String> giversToAdd) {
+        assert giversToAdd != null;
+
+        updateGivers(feedbackSessionName, courseId, givers -> givers.addAll(giversToAdd));
+    }
+
+    /**
+     * Removes givers from the statistics of a feedback session.
+     *
+     * <p>Fails silently if the statistics do not exist.
+     *
+     * @throws com.google.cloud.datastore.DatastoreException if the statistics cannot be updated,
+     *         e.g. because of contention with concurrent updates
+     */
+    public void removeGivers(String feedbackSessionName, String courseId, Collection<String> giversToRemove) {
+        assert giversToRemove != null;
+
+        updateGivers(feedbackSessionName, courseId, givers -> givers.removeAll(giversToRemove));
+    }
+
+    private void updateGivers(String feedbackSessionName, String courseId, Predicate<Set<String>> giversUpdater) {
+        assert feedbackSessionName != null;
+        assert courseId != null;
+
+        Key<FeedbackSessionStats> key = makeKey(feedbackSessionName, courseId);
+        ofy().transactNew(MAX_GIVERS_UPDATE_TRIES, () -> {
+            // the entity is read within the transaction instead of from the cache
+            FeedbackSessionStats stats = ofy().load().key(key).now();
+            if (stats == null) {
+                return;
+            }
+            boolean isChanged = giversUpdater.test(stats.getGivers());
+            if (!isChanged) {
+                log.info(String.format(OPTIMIZED_SAVING_POLICY_APPLIED,
+                        FeedbackSessionStats.class.getSimpleName(), key.getName()));
+                return;
+            }
+            saveEntity(stats);
+        });
+    }
+
+    /**
+     * Deletes the statistics of a feedback session.
+     *
+     * <p>Fails silently if the statistics do not exist.
+     */
+    public void deleteFeedbackSessionStats(String feedbackSessionName, String courseId) {
+        assert feedbackSessionName != null;
+        assert courseId != null;
+
+        deleteEntity(makeKey(feedbackSessionName, courseId));
+    }
+
+    /**
+     * Deletes the statistics of feedback sessions using {@link AttributesDeletionQuery}.
+     */
+    public void deleteFeedbackSessionStats(AttributesDeletionQuery query) {
+        assert query != null;
+        assert query.isCourseIdPresent() : "Statistics can only be deleted by course or feedback session";
+
+        Query<FeedbackSessionStats> entitiesToDelete = load().project()
+                .filter("courseId =", query.getCourseId());
+        if (query.isFeedbackSessionNamePresent()) {
+            entitiesToDelete = entitiesToDelete.filter("feedbackSessionName =", query.getFeedbackSessionName());
+        }
+
+        deleteEntitiesOfQuery(entitiesToDelete);
+    }
+
+    private Key<FeedbackSessionStats> makeKey(String feedbackSessionName, String courseId) {
+        return Key.create(FeedbackSessionStats.class, FeedbackSession.generateId(feedbackSessionName, courseId));
+    }
+
+    @Override
+    LoadType<FeedbackSessionStats> load() {
+        return ofy().load().type(FeedbackSessionStats.class);
+    }
+
+    @Override
+    boolean hasExistingEntities(FeedbackSessionStatsAttributes entityToCreate) {
+        Key<FeedbackSessionStats> keyToFind =
+                makeKey(entityToCreate.getFeedbackSessionName(), entityToCreate.getCourseId());
+        return !load().filterKey(keyToFind).keys().list().isEmpty();
+    }
+
+    @Override
+    FeedbackSessionStatsAttributes makeAttributes(FeedbackSessionStats entity) {
+        assert entity != null;
+
+        return FeedbackSessionStatsAttributes.valueOf(entity);
+    }
+
+}
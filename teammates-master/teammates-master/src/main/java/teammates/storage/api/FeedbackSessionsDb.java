@@ -99,18 +99,15 @@ public final class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, Feedba
 
         List<FeedbackSession> feedbackSessionList = new LinkedList<>();
 
-        List<FeedbackSession> startEntities = load()
+        List<FeedbackSession> startEntities = listEntities(load()
                 .filter("startTime >=", rangeStart)
-                .filter("startTime <", rangeEnd)
-                .list();
-        List<FeedbackSession> endEntities = load()
+                .filter("startTime <", rangeEnd));
+        List<FeedbackSession> endEntities = listEntities(load()
                 .filter("endTime >=", rangeStart)
-                .filter("endTime <", rangeEnd)
-                .list();
-        List<FeedbackSession> resultsVisibleEntities = load()
+                .filter("endTime <", rangeEnd));
+        List<FeedbackSession> resultsVisibleEntities = listEntities(load()
                 .filter("resultsVisibleFromTime >", rangeStart)
-                .filter("resultsVisibleFromTime <=", rangeEnd)
-                .list();
+                .filter("resultsVisibleFromTime <=", rangeEnd));
 
         endEntities.removeAll(startEntities);
         resultsVisibleEntities.removeAll(startEntities);
@@ -357,53 +354,48 @@ public final class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, Feedba
             entitiesToDelete = entitiesToDelete.filter("courseId =", query.getCourseId());
         }
 
-        deleteEntity(entitiesToDelete.keys().list());
+        deleteEntitiesOfQuery(entitiesToDelete);
     }
 
     private List<FeedbackSession> getFeedbackSessionEntitiesForCourse(String courseId) {
-        return load().filter("courseId =", courseId).list();
+        return listEntities(load().filter("courseId =", courseId));
     }
 
     private List<FeedbackSession> getFeedbackSessionEntitiesPossiblyNeedingOpeningSoonEmail() {
-        return load()
+        return listEntities(load()
                 .filter("startTime >", TimeHelper.getInstantDaysOffsetFromNow(-2))
-                .filter("sentOpeningSoonEmail =", false)
-                .list();
+                .filter("sentOpeningSoonEmail =", false));
     }
 
     private List<FeedbackSession> getFeedbackSessionEntitiesPossiblyNeedingOpenEmail() {
-        return load()
+        return listEntities(load()
                 .filter("startTime >", TimeHelper.getInstantDaysOffsetFromNow(-2))
-                .filter("sentOpenEmail =", false)
-                .list();
+                .filter("sentOpenEmail =", false));
     }
 
     private List<FeedbackSession> getFeedbackSessionEntitiesPossiblyNeedingClosingEmail() {
-        return load()
+        return listEntities(load()
                 .filter("endTime >", TimeHelper.getInstantDaysOffsetFromNow(-2))
                 .filter("sentClosingEmail =", false)
-                .filter("isClosingEmailEnabled =", true)
-                .list();
+                .filter("isClosingEmailEnabled =", true));
     }
 
     private List<FeedbackSession> getFeedbackSessionEntitiesPossiblyNeedingClosedEmail() {
-        return load()
+        return listEntities(load()
                 .filter("endTime >", TimeHelper.getInstantDaysOffsetFromNow(-2))
                 .filter("sentClosedEmail =", false)
-                .filter("isClosingEmailEnabled =", true)
-                .list();
+                .filter("isClosingEmailEnabled =", true));
     }
 
     private List<FeedbackSession> getFeedbackSessionEntitiesPossiblyNeedingPublishedEmail() {
-        return load()
+        return listEntities(load()
                 .filter("resultsVisibleFromTime >", TimeHelper.getInstantDaysOffsetFromNow(-2))
                 .filter("sentPublishedEmail =", false)
-                .filter("isPublishedEmailEnabled =", true)
-                .list();
+                .filter("isPublishedEmailEnabled =", true));
     }
 
     private FeedbackSession getFeedbackSessionEntity(String feedbackSessionName, String courseId) {
-        return load().id(FeedbackSession.generateId(feedbackSessionName, courseId)).now();
+        return loadEntity(Key.create(FeedbackSession.class, FeedbackSession.generateId(feedbackSessionName, courseId)));
     }
 
     @Override
@@ -411,6 +403,11 @@ public final class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, Feedba
         return ofy().load().type(FeedbackSession.class);
     }
 
+    @Override
+    boolean isCachedAcrossRequests() {
+        return true;
+    }
+
     @Override
     boolean hasExistingEntities(FeedbackSessionAttributes entityToCreate) {
         return !load()
@@ -3,6 +3,7 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -32,6 +33,8 @@ public final class InstructorsDb extends EntitiesDb<Instructor, InstructorAttrib
 
     private static final InstructorsDb instance = new InstructorsDb();
 
+    private final CourseRosterVersions rosterVersions = new CourseRosterVersions();
+
     private InstructorsDb() {
         // prevent initialization
     }
@@ -40,6 +43,14 @@ public final class InstructorsDb extends EntitiesDb<Instructor, InstructorAttrib
         return instance;
     }
 
+    /**
+     * Gets the version of the instructors of a course, which changes whenever any of them is created,
+     * updated or deleted through this application instance.
+     */
+    public long getRosterVersion(String courseId) {
+        return rosterVersions.get(courseId);
+    }
+
     private InstructorSearchManager getSearchManager() {
         return SearchManagerFactory.getInstructorSearchManager();
     }
@@ -95,6 +106,23 @@ public final class InstructorsDb extends EntitiesDb<Instructor, InstructorAttrib
         return makeAttributesOrNull(getInstructorEntityById(courseId, email));
     }
 
+    /**
+     * Gets instructors by their unique IDs in a single batched lookup.
+     *
+     * @return instructors in the same order as the IDs, with null for instructors that do not exist
+     * @see Instructor#generateId(String, String)
+     */
+    public List<InstructorAttributes> getInstructorsForUniqueIds(List<String> instructorUniqueIds) {
+        assert instructorUniqueIds != null;
+
+        List<Key<Instructor>> keys = instructorUniqueIds.stream()
+                .map(instructorUniqueId -> Key.create(Instructor.class, instructorUniqueId))
+                .collect(Collectors.toList());
+        return loadEntities(keys).stream()
+                .map(this::makeAttributesOrNull)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Gets an instructor by unique constraint courseId-googleId.
      */
@@ -270,6 +298,7 @@ public final class InstructorsDb extends EntitiesDb<Instructor, InstructorAttrib
         deleteDocumentByInstructorId(instructorToDelete.getUniqueId());
 
         deleteEntity(Key.create(Instructor.class, instructorToDelete.getUniqueId()));
+        rosterVersions.increment(courseId);
     }
 
     /**
@@ -279,45 +308,42 @@ public final class InstructorsDb extends EntitiesDb<Instructor, InstructorAttrib
         assert query != null;
 
         if (query.isCourseIdPresent()) {
-            List<Instructor> instructorsToDelete = load().filter("courseId =", query.getCourseId()).list();
-            getSearchManager().deleteDocuments(
-                    instructorsToDelete.stream()
-                            .map(Instructor::getUniqueId)
-                            .collect(Collectors.toList()));
-
-            deleteEntity(instructorsToDelete.stream()
-                    .map(s -> Key.create(Instructor.class, s.getUniqueId()))
-                    .collect(Collectors.toList()));
+            try {
+                // the key name of an instructor is its unique ID, which also identifies its search document
+                deleteEntitiesOfQuery(load().filter("courseId =", query.getCourseId()),
+                        keys -> getSearchManager().deleteDocuments(
+                                keys.stream().map(Key::getName).collect(Collectors.toList())));
+            } finally {
+                // some instructors may have been deleted even if the deletion is interrupted
+                rosterVersions.increment(query.getCourseId());
+            }
         }
     }
 
     private Instructor getInstructorEntityForGoogleId(String courseId, String googleId) {
-        return load()
+        return firstEntity(load()
                 .filter("courseId =", courseId)
-                .filter("googleId =", googleId)
-                .first().now();
+                .filter("googleId =", googleId));
     }
 
     private Instructor getInstructorEntityForEmail(String courseId, String email) {
-        return load()
+        return firstEntity(load()
                 .filter("courseId =", courseId)
-                .filter("email =", email)
-                .first().now();
+                .filter("email =", email));
     }
 
     private Instructor getInstructorEntityById(String courseId, String email) {
-        return load().id(Instructor.generateId(email, courseId)).now();
+        return loadEntity(Key.create(Instructor.class, Instructor.generateId(email, courseId)));
     }
 
     private List<Instructor> getInstructorEntitiesThatAreDisplayedInCourse(String courseId) {
-        return load()
+        return listEntities(load()
                 .filter("courseId =", courseId)
-                .filter("isDisplayedToStudents =", true)
-                .list();
+                .filter("isDisplayedToStudents =", true));
     }
 
     private Instructor getInstructorEntityForRegistrationKey(String key) {
-        List<Instructor> instructorList = load().filter("registrationKey =", key).list();
+        List<Instructor> instructorList = listEntities(load().filter("registrationKey =", key));
 
         // If registration key detected is not unique, something is wrong
         if (instructorList.size() > 1) {
@@ -333,7 +359,7 @@ public final class InstructorsDb extends EntitiesDb<Instructor, InstructorAttrib
     }
 
     private List<Instructor> getInstructorEntitiesForGoogleId(String googleId) {
-        return load().filter("googleId =", googleId).list();
+        return listEntities(load().filter("googleId =", googleId));
     }
 
     /**
@@ -342,16 +368,15 @@ public final class InstructorsDb extends EntitiesDb<Instructor, InstructorAttrib
      */
     private List<Instructor> getInstructorEntitiesForGoogleId(String googleId, boolean omitArchived) {
         if (omitArchived) {
-            return load()
+            return listEntities(load()
                     .filter("googleId =", googleId)
-                    .filter("isArchived =", false)
-                    .list();
+                    .filter("isArchived =", false));
         }
         return getInstructorEntitiesForGoogleId(googleId);
     }
 
     private List<Instructor> getInstructorEntitiesForCourse(String courseId) {
-        return load().filter("courseId =", courseId).list();
+        return listEntities(load().filter("courseId =", courseId));
     }
 
     @Override
@@ -359,6 +384,19 @@ public final class InstructorsDb extends EntitiesDb<Instructor, InstructorAttrib
         return ofy().load().type(Instructor.class);
     }
 
+    @Override
+    boolean isCachedAcrossRequests() {
+        return true;
+    }
+
+    @Override
+    void afterEntitiesSaved(Collection<Instructor> savedEntities) {
+        savedEntities.stream()
+                .map(Instructor::getCourseId)
+                .distinct()
+                .forEach(rosterVersions::increment);
+    }
+
     @Override
     boolean hasExistingEntities(InstructorAttributes entityToCreate) {
         // cannot use direct key query as email of an instructor can be changed
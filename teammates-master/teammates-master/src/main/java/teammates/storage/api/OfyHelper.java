@@ -16,6 +16,8 @@ import teammates.storage.entity.FeedbackQuestion;
 import teammates.storage.entity.FeedbackResponse;
 import teammates.storage.entity.FeedbackResponseComment;
 import teammates.storage.entity.FeedbackSession;
+import teammates.storage.entity.FeedbackSessionResultsSnapshot;
+import teammates.storage.entity.FeedbackSessionStats;
 import teammates.storage.entity.Instructor;
 import teammates.storage.entity.StudentProfile;
 
@@ -43,12 +45,24 @@ public class OfyHelper implements ServletContextListener {
         ObjectifyService.register(FeedbackResponse.class);
         ObjectifyService.register(FeedbackResponseComment.class);
         ObjectifyService.register(FeedbackSession.class);
+        ObjectifyService.register(FeedbackSessionResultsSnapshot.class);
+        ObjectifyService.register(FeedbackSessionStats.class);
         ObjectifyService.register(Instructor.class);
         ObjectifyService.register(StudentProfile.class);
         // enable the ability to use java.time.Instant to issue query
         ObjectifyService.factory().getTranslators().add(new BaseEntity.InstantTranslatorFactory());
     }
 
+    /**
+     * Discards all entities cached across requests.
+     *
+     * <p>Needs to be called when the database is modified without going through the storage layer,
+     * e.g. when the local database is reset in tests.
+     */
+    public static void clearSharedEntityCaches() {
+        SharedEntityCache.clearAll();
+    }
+
     @Override
     public void contextInitialized(ServletContextEvent event) {
         // Invoked by Jetty at application startup.
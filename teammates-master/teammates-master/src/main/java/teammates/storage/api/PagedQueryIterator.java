@@ -0,0 +1,92 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import com.google.cloud.datastore.Cursor;
+import com.google.cloud.datastore.Entity;
+import com.google.cloud.datastore.QueryResults;
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.cmd.Query;
+
+/**
+ * Iterator over the results of a query which fetches the matching entities from the database one page at a time.
+ *
+ * <p>Each page is located with the query cursor left behind by the previous page, so that only the entities
+ * of the current page are held in memory no matter how many entities match the query.
+ *
+ * <p>Entities are fetched in their raw datastore form and converted without going through the Objectify session,
+ * which would otherwise keep every fetched entity reachable until the end of the request.
+ *
+ * @param <E> Specific entity class
+ */
+final class PagedQueryIterator<E> implements Iterator<E> {
+
+    private final Query<E> query;
+    private final int pageSize;
+
+    private Iterator<E> currentPage = Collections.emptyIterator();
+    private Cursor nextPageCursor;
+    private boolean isLastPageFetched;
+
+    /**
+     * Creates an iterator over the results of the query.
+     *
+     * @param query the query to run; any limit set on it is overridden by the page size
+     * @param pageSize the maximum number of entities fetched in a single round trip
+     */
+    PagedQueryIterator(Query<E> query, int pageSize) {
+        assert pageSize > 0;
+
+        this.query = query;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!currentPage.hasNext() && !isLastPageFetched) {
+            currentPage = fetchNextPage().iterator();
+        }
+        return currentPage.hasNext();
+    }
+
+    @Override
+    public E next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return currentPage.next();
+    }
+
+    private List<E> fetchNextPage() {
+        Query<E> pageQuery = query.limit(pageSize);
+        if (nextPageCursor != null) {
+            pageQuery = pageQuery.startAt(nextPageCursor);
+        }
+
+        // key queries are free; only the entities of the page are read
+        QueryResults<Key<E>> keysOfPage = pageQuery.keys().iterator();
+        List<com.google.cloud.datastore.Key> rawKeys = new ArrayList<>();
+        keysOfPage.forEachRemaining(key -> rawKeys.add(key.getRaw()));
+        nextPageCursor = keysOfPage.getCursorAfter();
+        isLastPageFetched = rawKeys.size() < pageSize;
+
+        List<E> entities = new ArrayList<>();
+        if (rawKeys.isEmpty()) {
+            return entities;
+        }
+        for (Entity entity : ofy().factory().datastore().fetch(rawKeys)) {
+            // entities deleted after their keys are queried are skipped
+            if (entity != null) {
+                entities.add(ofy().load().fromEntity(entity));
+            }
+        }
+        return entities;
+    }
+
+}
@@ -112,7 +112,7 @@ public final class ProfilesDb extends EntitiesDb<StudentProfile, StudentProfileA
     private StudentProfile getStudentProfileEntityFromDb(String googleId) {
         Key<Account> parentKey = Key.create(Account.class, googleId);
         Key<StudentProfile> childKey = Key.create(parentKey, StudentProfile.class, googleId);
-        return ofy().load().key(childKey).now();
+        return loadEntity(childKey);
     }
 
     @Override
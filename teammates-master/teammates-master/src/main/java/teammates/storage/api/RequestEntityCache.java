@@ -0,0 +1,166 @@
+package teammates.storage.api;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.googlecode.objectify.Key;
+
+import teammates.common.util.RequestTracer;
+import teammates.storage.entity.BaseEntity;
+
+/**
+ * Identity map of entities loaded during a single HTTP request.
+ *
+ * <p>Repeated key lookups and identical queries within the same request are served from memory.
+ * Cached values are grouped by entity kind so that any write to a kind discards everything cached for it.
+ *
+ * <p>The cache is bound to the request trace maintained by {@link RequestTracer}; outside of a traced request
+ * (e.g. in scripts and tests) there is no cache and all loads go to the database.
+ */
+final class RequestEntityCache {
+
+    private static final String REQUEST_SCOPED_OBJECT_NAME = RequestEntityCache.class.getName();
+
+    // <kind, <key or query description, cached value>>
+    private final Map<String, Map<Object, Object>> cachedValuesByKind = new HashMap<>();
+
+    // <kind, number of times the kind has been invalidated>; guards against caching values loaded before a write
+    private final Map<String, Integer> invalidationCounts = new HashMap<>();
+
+    private RequestEntityCache() {
+        // use getForCurrentRequest() instead
+    }
+
+    /**
+     * Returns the cache of the current request.
+     *
+     * @return null if there is no request being traced
+     */
+    static RequestEntityCache getForCurrentRequest() {
+        return RequestTracer.getOrCreateRequestScopedObject(REQUEST_SCOPED_OBJECT_NAME, RequestEntityCache::new);
+    }
+
+    /**
+     * Gets the entity of the given key, loading it with {@code loader} on a cache miss.
+     *
+     * <p>Non-existence of the entity is cached as well.
+     */
+    @SuppressWarnings("unchecked")
+    <E extends BaseEntity> E getEntity(Key<E> key, Supplier<E> loader) {
+        String kind = key.getKind();
+        Optional<E> entity = (Optional<E>) getCachedValue(kind, key);
+        if (entity == null) {
+            int invalidationCount = getInvalidationCount(kind);
+            entity = Optional.ofNullable(loader.get());
+            putCachedValue(kind, key, entity, invalidationCount);
+        }
+        return entity.orElse(null);
+    }
+
+    /**
+     * Gets the entities of the given keys, loading all that are not cached with a single call to {@code loader}.
+     *
+     * @param loader loads entities in the same order as the given keys, with null for entities that do not exist
+     * @return entities in the same order as the keys, with null for entities that do not exist
+     */
+    @SuppressWarnings("unchecked")
+    <E extends BaseEntity> List<E> getEntities(List<Key<E>> keys, Function<List<Key<E>>, List<E>> loader) {
+        Map<Key<E>, Optional<E>> entities = new HashMap<>();
+        Set<Key<E>> keysToLoad = new LinkedHashSet<>();
+        for (Key<E> key : keys) {
+            Optional<E> entity = (Optional<E>) getCachedValue(key.getKind(), key);
+            if (entity == null) {
+                keysToLoad.add(key);
+            } else {
+                entities.put(key, entity);
+            }
+        }
+
+        if (!keysToLoad.isEmpty()) {
+            List<Key<E>> distinctKeysToLoad = new ArrayList<>(keysToLoad);
+            String kind = distinctKeysToLoad.get(0).getKind();
+            int invalidationCount = getInvalidationCount(kind);
+            List<E> loadedEntities = loader.apply(distinctKeysToLoad);
+            for (int i = 0; i < distinctKeysToLoad.size(); i++) {
+                Optional<E> entity = Optional.ofNullable(loadedEntities.get(i));
+                entities.put(distinctKeysToLoad.get(i), entity);
+                putCachedValue(kind, distinctKeysToLoad.get(i), entity, invalidationCount);
+            }
+        }
+
+        List<E> results = new ArrayList<>();
+        for (Key<E> key : keys) {
+            results.add(entities.get(key).orElse(null));
+        }
+        return results;
+    }
+
+    /**
+     * Gets the results of the query identified by {@code queryDescription},
+     * running the query with {@code loader} on a cache miss.
+     *
+     * @return a new list which can be modified by the caller
+     */
+    @SuppressWarnings("unchecked")
+    <E extends BaseEntity> List<E> getQueryResults(String kind, String queryDescription, Supplier<List<E>> loader) {
+        List<E> results = (List<E>) getCachedValue(kind, queryDescription);
+        if (results == null) {
+            int invalidationCount = getInvalidationCount(kind);
+            results = new ArrayList<>(loader.get());
+            putCachedValue(kind, queryDescription, results, invalidationCount);
+        }
+        return new ArrayList<>(results);
+    }
+
+    /**
+     * Gets the cached results of the query identified by {@code queryDescription} without running the query.
+     *
+     * @return a new list which can be modified by the caller, or null if the results are not cached
+     */
+    @SuppressWarnings("unchecked")
+    <E extends BaseEntity> List<E> getCachedQueryResults(String kind, String queryDescription) {
+        List<E> results = (List<E>) getCachedValue(kind, queryDescription);
+        return results == null ? null : new ArrayList<>(results);
+    }
+
+    /**
+     * Discards all cached keys and query results of an entity kind.
+     */
+    void invalidate(String kind) {
+        synchronized (cachedValuesByKind) {
+            cachedValuesByKind.remove(kind);
+            invalidationCounts.merge(kind, 1, Integer::sum);
+        }
+    }
+
+    private Object getCachedValue(String kind, Object cacheKey) {
+        synchronized (cachedValuesByKind) {
+            Map<Object, Object> cachedValues = cachedValuesByKind.get(kind);
+            return cachedValues == null ? null : cachedValues.get(cacheKey);
+        }
+    }
+
+    private void putCachedValue(String kind, Object cacheKey, Object value, int invalidationCountBeforeLoad) {
+        synchronized (cachedValuesByKind) {
+            if (getInvalidationCount(kind) != invalidationCountBeforeLoad) {
+                // the kind was written to while loading; the loaded value may be stale
+                return;
+            }
+            cachedValuesByKind.computeIfAbsent(kind, k -> new HashMap<>()).put(cacheKey, value);
+        }
+    }
+
+    private int getInvalidationCount(String kind) {
+        synchronized (cachedValuesByKind) {
+            return invalidationCounts.getOrDefault(kind, 0);
+        }
+    }
+
+}
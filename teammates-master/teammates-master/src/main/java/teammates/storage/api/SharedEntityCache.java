@@ -0,0 +1,235 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import com.google.cloud.datastore.Entity;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.cmd.Query;
+
+import teammates.common.util.Logger;
+
+/**
+ * Cache of entities of a rarely-changing kind, shared by all requests served by the application instance.
+ *
+ * <p>The cache is bounded in size and entries expire {@link #TIME_TO_LIVE} after they are loaded.
+ * Writes made through the storage layer of this instance discard the written entities and all cached query results
+ * of the kind immediately; the time-to-live bounds how long writes made by other instances can go unnoticed.
+ *
+ * <p>Entities are cached in their raw datastore form, which is immutable,
+ * so that every lookup gets its own copy of the entity which it is free to modify.
+ */
+final class SharedEntityCache {
+
+    /**
+     * Duration for which a loaded entity or query result is served from the cache.
+     */
+    static final Duration TIME_TO_LIVE = Duration.ofMinutes(1);
+
+    /**
+     * Maximum number of entities cached per kind.
+     */
+    static final int MAX_CACHED_ENTITIES = 2000;
+
+    /**
+     * Maximum number of query results cached per kind.
+     */
+    static final int MAX_CACHED_QUERIES = 500;
+
+    private static final int STATS_LOGGING_INTERVAL = 1000;
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final Map<String, SharedEntityCache> CACHES_BY_KIND = new ConcurrentHashMap<>();
+
+    private final String kind;
+
+    private final Cache<com.google.cloud.datastore.Key, Optional<Entity>> cachedEntities = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_ENTITIES)
+            .expireAfterWrite(TIME_TO_LIVE)
+            .recordStats()
+            .build();
+
+    // <query description, keys of the matching entities in query order>
+    private final Cache<String, List<com.google.cloud.datastore.Key>> cachedQueryResults = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_QUERIES)
+            .expireAfterWrite(TIME_TO_LIVE)
+            .recordStats()
+            .build();
+
+    private final AtomicLong lookupCount = new AtomicLong();
+
+    // number of writes to the kind; guards against caching values loaded before a write
+    private long writeCount;
+
+    private SharedEntityCache(String kind) {
+        this.kind = kind;
+    }
+
+    /**
+     * Returns the cache of an entity kind.
+     */
+    static SharedEntityCache forKind(String kind) {
+        return CACHES_BY_KIND.computeIfAbsent(kind, SharedEntityCache::new);
+    }
+
+    /**
+     * Discards the contents of the caches of all entity kinds.
+     */
+    static void clearAll() {
+        CACHES_BY_KIND.values().forEach(SharedEntityCache::invalidateAll);
+    }
+
+    /**
+     * Gets the entity of the given key, loading it from the database on a cache miss.
+     *
+     * @return null if the entity does not exist
+     */
+    <E> E getEntity(Key<E> key) {
+        return getEntities(List.of(key)).get(0);
+    }
+
+    /**
+     * Gets the entities of the given keys, loading all that are not cached in a single batch on a cache miss.
+     *
+     * @return entities in the same order as the keys, with null for entities that do not exist
+     */
+    <E> List<E> getEntities(List<Key<E>> keys) {
+        return getEntitiesByRawKeys(keys.stream()
+                .map(Key::getRaw)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Gets the entities matching the query, running the query on a cache miss.
+     *
+     * <p>Only the keys of the matching entities are cached per query; the entities themselves are shared with
+     * key lookups.
+     */
+    <E> List<E> getQueryResults(Query<E> query) {
+        // the string representation of a query fully describes its kind, filters, orders and limits
+        String queryDescription = query.toString();
+        List<com.google.cloud.datastore.Key> keys = cachedQueryResults.getIfPresent(queryDescription);
+        if (keys == null) {
+            long writeCountBeforeLoad = getWriteCount();
+            keys = query.keys().list().stream()
+                    .map(Key::getRaw)
+                    .collect(Collectors.toList());
+            List<com.google.cloud.datastore.Key> loadedKeys = keys;
+            putIfNotWritten(() -> cachedQueryResults.put(queryDescription, loadedKeys), writeCountBeforeLoad);
+        }
+        List<E> results = getEntitiesByRawKeys(keys);
+        // entities deleted after the query was cached are no longer part of its results
+        results.removeIf(Objects::isNull);
+        return results;
+    }
+
+    private <E> List<E> getEntitiesByRawKeys(List<com.google.cloud.datastore.Key> keys) {
+        logStatsPeriodically();
+
+        Map<com.google.cloud.datastore.Key, Optional<Entity>> entities = new HashMap<>(cachedEntities.getAllPresent(keys));
+        List<com.google.cloud.datastore.Key> keysToLoad = keys.stream()
+                .filter(key -> !entities.containsKey(key))
+                .distinct()
+                .collect(Collectors.toList());
+
+        if (!keysToLoad.isEmpty()) {
+            long writeCountBeforeLoad = getWriteCount();
+            List<Entity> loadedEntities = ofy().factory().datastore().fetch(keysToLoad);
+            Map<com.google.cloud.datastore.Key, Optional<Entity>> entitiesToCache = new HashMap<>();
+            for (int i = 0; i < keysToLoad.size(); i++) {
+                entitiesToCache.put(keysToLoad.get(i), Optional.ofNullable(loadedEntities.get(i)));
+            }
+            entities.putAll(entitiesToCache);
+            putIfNotWritten(() -> cachedEntities.putAll(entitiesToCache), writeCountBeforeLoad);
+        }
+
+        List<E> results = new ArrayList<>();
+        for (com.google.cloud.datastore.Key key : keys) {
+            Optional<Entity> entity = entities.get(key);
+            results.add(entity.isPresent() ? ofy().load().fromEntity(entity.get()) : null);
+        }
+        return results;
+    }
+
+    /**
+     * Discards the cached entities of the given keys and all cached query results.
+     *
+     * <p>Needs to be called after the entities are written to the database.
+     */
+    void invalidate(Collection<? extends Key<?>> keys) {
+        synchronized (cachedEntities) {
+            writeCount++;
+            cachedEntities.invalidateAll(keys.stream().map(Key::getRaw).collect(Collectors.toList()));
+            cachedQueryResults.invalidateAll();
+        }
+    }
+
+    /**
+     * Discards all cached entities and query results.
+     */
+    void invalidateAll() {
+        synchronized (cachedEntities) {
+            writeCount++;
+            cachedEntities.invalidateAll();
+            cachedQueryResults.invalidateAll();
+        }
+    }
+
+    /**
+     * Returns the hit/miss statistics of key lookups, including the lookups made for query results.
+     */
+    CacheStats getEntityStats() {
+        return cachedEntities.stats();
+    }
+
+    /**
+     * Returns the hit/miss statistics of query lookups.
+     */
+    CacheStats getQueryStats() {
+        return cachedQueryResults.stats();
+    }
+
+    private long getWriteCount() {
+        synchronized (cachedEntities) {
+            return writeCount;
+        }
+    }
+
+    private void putIfNotWritten(Runnable put, long writeCountBeforeLoad) {
+        synchronized (cachedEntities) {
+            if (writeCount != writeCountBeforeLoad) {
+                // the kind was written to while loading; the loaded value may be stale
+                return;
+            }
+            put.run();
+        }
+    }
+
+    private void logStatsPeriodically() {
+        if (lookupCount.incrementAndGet() % STATS_LOGGING_INTERVAL != 0) {
+            return;
+        }
+        CacheStats entityStats = getEntityStats();
+        CacheStats queryStats = getQueryStats();
+        log.info(String.format("Shared cache of %s: entity hits %d, misses %d, evictions %d; "
+                        + "query hits %d, misses %d, evictions %d",
+                kind, entityStats.hitCount(), entityStats.missCount(), entityStats.evictionCount(),
+                queryStats.hitCount(), queryStats.missCount(), queryStats.evictionCount()));
+    }
+
+}
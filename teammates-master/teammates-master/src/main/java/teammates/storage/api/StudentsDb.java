@@ -3,6 +3,7 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -37,6 +38,8 @@ public final class StudentsDb extends EntitiesDb<CourseStudent, StudentAttribute
 
     private static final StudentsDb instance = new StudentsDb();
 
+    private final CourseRosterVersions rosterVersions = new CourseRosterVersions();
+
     private StudentsDb() {
         // prevent initialization
     }
@@ -45,6 +48,14 @@ public final class StudentsDb extends EntitiesDb<CourseStudent, StudentAttribute
         return instance;
     }
 
+    /**
+     * Gets the version of the students of a course, which changes whenever any of them is created,
+     * updated or deleted through this application instance.
+     */
+    public long getRosterVersion(String courseId) {
+        return rosterVersions.get(courseId);
+    }
+
     private StudentSearchManager getSearchManager() {
         return SearchManagerFactory.getStudentSearchManager();
     }
@@ -123,6 +134,23 @@ public final class StudentsDb extends EntitiesDb<CourseStudent, StudentAttribute
         return makeAttributesOrNull(getCourseStudentEntityForEmail(courseId, email));
     }
 
+    /**
+     * Gets students by their unique IDs in a single batched lookup.
+     *
+     * @return students in the same order as the IDs, with null for students that do not exist
+     * @see StudentAttributes#getId()
+     */
+    public List<StudentAttributes> getStudentsForUniqueIds(List<String> studentUniqueIds) {
+        assert studentUniqueIds != null;
+
+        List<Key<CourseStudent>> keys = studentUniqueIds.stream()
+                .map(studentUniqueId -> Key.create(CourseStudent.class, studentUniqueId))
+                .collect(Collectors.toList());
+        return loadEntities(keys).stream()
+                .map(this::makeAttributesOrNull)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Gets list of students by email.
      */
@@ -140,10 +168,9 @@ public final class StudentsDb extends EntitiesDb<CourseStudent, StudentAttribute
         assert googleId != null;
         assert courseId != null;
 
-        CourseStudent student = load()
+        CourseStudent student = firstEntity(load()
                 .filter("courseId =", courseId)
-                .filter("googleId =", googleId)
-                .first().now();
+                .filter("googleId =", googleId));
 
         return makeAttributesOrNull(student);
     }
@@ -276,6 +303,7 @@ public final class StudentsDb extends EntitiesDb<CourseStudent, StudentAttribute
         if (courseStudentToDelete != null) {
             deleteDocumentByStudentId(courseStudentToDelete.getUniqueId());
             deleteEntity(Key.create(CourseStudent.class, courseStudentToDelete.getUniqueId()));
+            rosterVersions.increment(courseId);
         }
     }
 
@@ -284,26 +312,28 @@ public final class StudentsDb extends EntitiesDb<CourseStudent, StudentAttribute
      */
     public void deleteStudents(AttributesDeletionQuery query) {
         if (query.isCourseIdPresent()) {
-            List<CourseStudent> studentsToDelete = getCourseStudentsForCourseQuery(query.getCourseId()).list();
-            getSearchManager().deleteDocuments(
-                    studentsToDelete.stream().map(CourseStudent::getUniqueId).collect(Collectors.toList()));
-
-            deleteEntity(studentsToDelete.stream()
-                    .map(s -> Key.create(CourseStudent.class, s.getUniqueId()))
-                    .collect(Collectors.toList()));
+            try {
+                // the key name of a student is its unique ID, which also identifies its search document
+                deleteEntitiesOfQuery(getCourseStudentsForCourseQuery(query.getCourseId()),
+                        keys -> getSearchManager().deleteDocuments(
+                                keys.stream().map(Key::getName).collect(Collectors.toList())));
+            } finally {
+                // some students may have been deleted even if the deletion is interrupted
+                rosterVersions.increment(query.getCourseId());
+            }
         }
     }
 
     private CourseStudent getCourseStudentEntityForEmail(String courseId, String email) {
-        return load().id(CourseStudent.generateId(email, courseId)).now();
+        return loadEntity(Key.create(CourseStudent.class, CourseStudent.generateId(email, courseId)));
     }
 
     private List<CourseStudent> getAllCourseStudentEntitiesForEmail(String email) {
-        return load().filter("email =", email).list();
+        return listEntities(load().filter("email =", email));
     }
 
     private CourseStudent getCourseStudentEntityForRegistrationKey(String registrationKey) {
-        List<CourseStudent> studentList = load().filter("registrationKey =", registrationKey).list();
+        List<CourseStudent> studentList = listEntities(load().filter("registrationKey =", registrationKey));
 
         // If registration key detected is not unique, something is wrong
         if (studentList.size() > 1) {
@@ -323,7 +353,7 @@ public final class StudentsDb extends EntitiesDb<CourseStudent, StudentAttribute
     }
 
     private List<CourseStudent> getCourseStudentEntitiesForCourse(String courseId) {
-        return getCourseStudentsForCourseQuery(courseId).list();
+        return listEntities(getCourseStudentsForCourseQuery(courseId));
     }
 
     private Query<CourseStudent> getCourseStudentsForGoogleIdQuery(String googleId) {
@@ -331,14 +361,13 @@ public final class StudentsDb extends EntitiesDb<CourseStudent, StudentAttribute
     }
 
     private List<CourseStudent> getCourseStudentEntitiesForGoogleId(String googleId) {
-        return getCourseStudentsForGoogleIdQuery(googleId).list();
+        return listEntities(getCourseStudentsForGoogleIdQuery(googleId));
     }
 
     private List<CourseStudent> getCourseStudentEntitiesForTeam(String teamName, String courseId) {
-        return load()
+        return listEntities(load()
                 .filter("teamName =", teamName)
-                .filter("courseId =", courseId)
-                .list();
+                .filter("courseId =", courseId));
     }
 
     @Override
@@ -346,6 +375,14 @@ public final class StudentsDb extends EntitiesDb<CourseStudent, StudentAttribute
         return ofy().load().type(CourseStudent.class);
     }
 
+    @Override
+    void afterEntitiesSaved(Collection<CourseStudent> savedEntities) {
+        savedEntities.stream()
+                .map(CourseStudent::getCourseId)
+                .distinct()
+                .forEach(rosterVersions::increment);
+    }
+
     @Override
     boolean hasExistingEntities(StudentAttributes entityToCreate) {
         return !load()
@@ -0,0 +1,88 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Translate;
+import com.googlecode.objectify.annotation.Unindex;
+
+/**
+ * Represents the pre-rendered results of a published feedback session, whose views are kept in the file storage.
+ */
+@Entity
+@Index
+public class FeedbackSessionResultsSnapshot extends BaseEntity {
+
+    // PMD.UnusedPrivateField and SingularField are suppressed
+    // as feedbackSessionResultsSnapshotId is persisted to the database
+    /**
+     * The unique id of the entity.
+     *
+     * @see FeedbackSession#generateId(String, String)
+     */
+    @SuppressWarnings({"PMD.UnusedPrivateField", "PMD.SingularField"})
+    @Id
+    private transient String feedbackSessionResultsSnapshotId;
+
+    private String feedbackSessionName;
+
+    private String courseId;
+
+    @Unindex
+    private String generationId;
+
+    @Unindex
+    private boolean isComplete;
+
+    @Unindex
+    @Translate(InstantTranslatorFactory.class)
+    private Instant createdAt;
+
+    @SuppressWarnings("unused")
+    private FeedbackSessionResultsSnapshot() {
+        // required by Objectify
+    }
+
+    public FeedbackSessionResultsSnapshot(String feedbackSessionName, String courseId, String generationId,
+            boolean isComplete, Instant createdAt) {
+        this.feedbackSessionName = feedbackSessionName;
+        this.courseId = courseId;
+        this.generationId = generationId;
+        this.isComplete = isComplete;
+        this.createdAt = createdAt;
+        this.feedbackSessionResultsSnapshotId = FeedbackSession.generateId(this.feedbackSessionName, this.courseId);
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    /**
+     * Returns the identifier of the generation of the snapshot, which is part of the keys of its files.
+     */
+    public String getGenerationId() {
+        return generationId;
+    }
+
+    /**
+     * Returns true if the views of all participants have been stored.
+     */
+    public boolean isComplete() {
+        return isComplete;
+    }
+
+    public void setComplete(boolean isComplete) {
+        this.isComplete = isComplete;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+}
@@ -0,0 +1,87 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Translate;
+import com.googlecode.objectify.annotation.Unindex;
+
+/**
+ * Represents the submission statistics of a feedback session, maintained as responses are submitted.
+ */
+@Entity
+@Index
+public class FeedbackSessionStats extends BaseEntity {
+
+    // PMD.UnusedPrivateField and SingularField are suppressed
+    // as feedbackSessionStatsId is persisted to the database
+    /**
+     * The unique id of the entity.
+     *
+     * @see FeedbackSession#generateId(String, String)
+     */
+    @SuppressWarnings({"PMD.UnusedPrivateField", "PMD.SingularField"})
+    @Id
+    private transient String feedbackSessionStatsId;
+
+    private String feedbackSessionName;
+
+    private String courseId;
+
+    @Unindex
+    private int expectedTotal;
+
+    @Unindex
+    private Set<String> givers = new HashSet<>();
+
+    @Unindex
+    @Translate(InstantTranslatorFactory.class)
+    private Instant createdAt;
+
+    @SuppressWarnings("unused")
+    private FeedbackSessionStats() {
+        // required by Objectify
+    }
+
+    public FeedbackSessionStats(String feedbackSessionName, String courseId, int expectedTotal, Set<String> givers,
+            Instant createdAt) {
+        this.feedbackSessionName = feedbackSessionName;
+        this.courseId = courseId;
+        this.expectedTotal = expectedTotal;
+        this.givers = new HashSet<>(givers);
+        this.createdAt = createdAt;
+        this.feedbackSessionStatsId = FeedbackSession.generateId(this.feedbackSessionName, this.courseId);
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public int getExpectedTotal() {
+        return expectedTotal;
+    }
+
+    /**
+     * Returns the identifiers of the givers who have submitted at least one response to the session.
+     */
+    public Set<String> getGivers() {
+        // empty sets are not persisted to the database
+        if (givers == null) {
+            givers = new HashSet<>();
+        }
+        return givers;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+}
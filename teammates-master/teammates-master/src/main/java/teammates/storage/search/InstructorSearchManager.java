@@ -5,7 +5,6 @@ import java.util.List;
 
 import org.apache.solr.client.solrj.SolrQuery;
 import org.apache.solr.client.solrj.response.QueryResponse;
-import org.apache.solr.common.SolrDocument;
 
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -37,10 +36,8 @@ public class InstructorSearchManager extends SearchManager<InstructorAttributes>
     }
 
     @Override
-    InstructorAttributes getAttributeFromDocument(SolrDocument document) {
-        String courseId = (String) document.getFirstValue("courseId");
-        String email = (String) document.getFirstValue("email");
-        return instructorsDb.getInstructorById(courseId, email);
+    List<InstructorAttributes> getAttributesFromDocuments(List<String> documentIds) {
+        return instructorsDb.getInstructorsForUniqueIds(documentIds);
     }
 
     @Override
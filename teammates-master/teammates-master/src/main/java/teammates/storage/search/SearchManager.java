@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang.StringUtils;
 import org.apache.http.HttpStatus;
@@ -212,7 +213,13 @@ abstract class SearchManager<T extends EntityAttributes<?>> {
         }
     }
 
-    abstract T getAttributeFromDocument(SolrDocument document);
+    /**
+     * Gets the attributes of the entities of the documents in a single batched lookup.
+     *
+     * @param documentIds IDs of the documents, which are the unique IDs of the entities
+     * @return attributes in the same order as the document IDs, with null for entities that no longer exist
+     */
+    abstract List<T> getAttributesFromDocuments(List<String> documentIds);
 
     abstract void sortResult(List<T> result);
 
@@ -221,19 +228,24 @@ abstract class SearchManager<T extends EntityAttributes<?>> {
             return new ArrayList<>();
         }
 
-        List<T> result = new ArrayList<>();
+        List<String> documentIds = documents.stream()
+                .map(document -> (String) document.getFirstValue("id"))
+                .collect(Collectors.toList());
+        List<T> attributes = getAttributesFromDocuments(documentIds);
 
-        for (SolrDocument document : documents) {
-            T attribute = getAttributeFromDocument(document);
+        List<T> result = new ArrayList<>();
+        List<String> documentIdsToDelete = new ArrayList<>();
+        for (int i = 0; i < documentIds.size(); i++) {
+            T attribute = attributes.get(i);
             if (attribute == null) {
                 // search engine out of sync as SearchManager may fail to delete documents
                 // the chance is low and it is generally not a big problem
-                String id = (String) document.getFirstValue("id");
-                deleteDocuments(Collections.singletonList(id));
+                documentIdsToDelete.add(documentIds.get(i));
                 continue;
             }
             result.add(attribute);
         }
+        deleteDocuments(documentIdsToDelete);
         sortResult(result);
 
         return result;
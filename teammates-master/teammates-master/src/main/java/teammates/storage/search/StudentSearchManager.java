@@ -42,10 +42,8 @@ public class StudentSearchManager extends SearchManager<StudentAttributes> {
     }
 
     @Override
-    StudentAttributes getAttributeFromDocument(SolrDocument document) {
-        String courseId = (String) document.getFirstValue("courseId");
-        String email = (String) document.getFirstValue("email");
-        return studentsDb.getStudentForEmail(courseId, email);
+    List<StudentAttributes> getAttributesFromDocuments(List<String> documentIds) {
+        return studentsDb.getStudentsForUniqueIds(documentIds);
     }
 
     @Override
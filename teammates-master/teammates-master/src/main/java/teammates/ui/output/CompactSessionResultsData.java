@@ -0,0 +1,294 @@
+package teammates.ui.output;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackResponseDetails;
+import teammates.ui.output.SessionResultsData.CommentOutput;
+import teammates.ui.output.SessionResultsData.ResponseOutput;
+
+/**
+ * API output format for session results in compact form, including statistics.
+ *
+ * <p>This carries the same information as {@link SessionResultsData#initForInstructor(SessionResultsBundle)}, but
+ * the participants, teams and sections are listed once in lookup tables and referred to by their index
+ * in the responses. Missing responses are listed only by the indices of their givers and recipients,
+ * as they are not stored and have neither answers nor comments.
+ */
+public class CompactSessionResultsData extends ApiOutput {
+
+    private final List<ParticipantOutput> participants = new ArrayList<>();
+    private final List<String> teams = new ArrayList<>();
+    private final List<String> sections = new ArrayList<>();
+
+    private final List<QuestionOutput> questions = new ArrayList<>();
+
+    private CompactSessionResultsData() {
+        // use factory method instead
+    }
+
+    /**
+     * Factory method to construct API output for instructor.
+     */
+    public static CompactSessionResultsData initForInstructor(SessionResultsBundle bundle) {
+        CompactSessionResultsData compactData = new CompactSessionResultsData();
+        LookupTable<ParticipantOutput> participantsTable = new LookupTable<>(compactData.participants);
+        LookupTable<String> teamsTable = new LookupTable<>(compactData.teams);
+        LookupTable<String> sectionsTable = new LookupTable<>(compactData.sections);
+        Function<ResponseOutput, int[]> participantsIndexer = output -> new int[] {
+                participantsTable.indexOf(new ParticipantOutput(
+                        output.getGiver(), output.getGiverEmail(), output.getRelatedGiverEmail())),
+                teamsTable.indexOf(output.getGiverTeam()),
+                sectionsTable.indexOf(output.getGiverSection()),
+                participantsTable.indexOf(new ParticipantOutput(output.getRecipient(), output.getRecipientEmail(), null)),
+                teamsTable.indexOf(output.getRecipientTeam()),
+                sectionsTable.indexOf(output.getRecipientSection()),
+        };
+
+        bundle.getQuestionResponseMap().forEach((questionId, responses) -> {
+            FeedbackQuestionAttributes question = bundle.getQuestionsMap().get(questionId);
+            FeedbackQuestionDetails questionDetails = question.getQuestionDetailsCopy();
+            QuestionOutput qnOutput = new QuestionOutput(question,
+                    questionDetails.getQuestionResultStatisticsJson(question, null, bundle));
+
+            for (FeedbackResponseAttributes response : responses) {
+                ResponseOutput output = SessionResultsData.buildSingleResponseForInstructor(response, bundle, false);
+                qnOutput.responses.add(new CompactResponseOutput(output, participantsIndexer.apply(output)));
+            }
+
+            // missing responses are not encrypted nor given details as only their participants are needed
+            for (FeedbackResponseAttributes missingResponse : bundle.getQuestionMissingResponseMap().get(questionId)) {
+                qnOutput.missingResponses.add(participantsIndexer.apply(SessionResultsData
+                        .buildParticipantsOfResponseForInstructor(missingResponse, bundle)
+                        .build()));
+            }
+
+            compactData.questions.add(qnOutput);
+        });
+
+        return compactData;
+    }
+
+    public List<ParticipantOutput> getParticipants() {
+        return participants;
+    }
+
+    public List<String> getTeams() {
+        return teams;
+    }
+
+    public List<String> getSections() {
+        return sections;
+    }
+
+    public List<QuestionOutput> getQuestions() {
+        return questions;
+    }
+
+    /**
+     * Assigns each distinct value an index in the order the values are first seen.
+     *
+     * @param <T> type of the values
+     */
+    private static class LookupTable<T> {
+
+        private final List<T> values;
+        private final Map<T, Integer> indices = new HashMap<>();
+
+        LookupTable(List<T> values) {
+            this.values = values;
+        }
+
+        int indexOf(T value) {
+            return indices.computeIfAbsent(value, k -> {
+                values.add(k);
+                return values.size() - 1;
+            });
+        }
+
+    }
+
+    /**
+     * API output format for a giver or recipient of responses, as displayed to the user.
+     */
+    public static class ParticipantOutput {
+
+        private final String name;
+        @Nullable
+        private final String email;
+        @Nullable
+        private final String relatedEmail;
+
+        private ParticipantOutput(String name, @Nullable String email, @Nullable String relatedEmail) {
+            this.name = name;
+            this.email = email;
+            this.relatedEmail = relatedEmail;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        @Nullable
+        public String getEmail() {
+            return email;
+        }
+
+        /**
+         * Depending on the question giver type, this may contain the giver's email, any team member's email or null.
+         * Always null for recipients.
+         */
+        @Nullable
+        public String getRelatedEmail() {
+            return relatedEmail;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof ParticipantOutput)) {
+                return false;
+            }
+            ParticipantOutput otherParticipant = (ParticipantOutput) other;
+            return Objects.equals(name, otherParticipant.name)
+                    && Objects.equals(email, otherParticipant.email)
+                    && Objects.equals(relatedEmail, otherParticipant.relatedEmail);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, email, relatedEmail);
+        }
+
+    }
+
+    /**
+     * API output format for questions in compact session results.
+     */
+    public static class QuestionOutput {
+
+        private final FeedbackQuestionData feedbackQuestion;
+        private final String questionStatistics;
+
+        private final List<CompactResponseOutput> responses = new ArrayList<>();
+
+        /**
+         * Each missing response is given as the indices of its giver, giver team, giver section,
+         * recipient, recipient team and recipient section in that order.
+         */
+        private final List<int[]> missingResponses = new ArrayList<>();
+
+        private QuestionOutput(FeedbackQuestionAttributes feedbackQuestionAttributes, String questionStatistics) {
+            this.feedbackQuestion = new FeedbackQuestionData(feedbackQuestionAttributes);
+            this.questionStatistics = questionStatistics;
+        }
+
+        public FeedbackQuestionData getFeedbackQuestion() {
+            return feedbackQuestion;
+        }
+
+        public String getQuestionStatistics() {
+            return questionStatistics;
+        }
+
+        public List<CompactResponseOutput> getResponses() {
+            return responses;
+        }
+
+        public List<int[]> getMissingResponses() {
+            return missingResponses;
+        }
+
+    }
+
+    /**
+     * API output format for question responses in compact session results.
+     *
+     * <p>The participants, teams and sections are given as indices of the lookup tables.
+     */
+    public static class CompactResponseOutput {
+
+        private final String responseId;
+
+        private final int giver;
+        private final int giverTeam;
+        private final int giverSection;
+        private final int recipient;
+        private final int recipientTeam;
+        private final int recipientSection;
+        private final FeedbackResponseDetails responseDetails;
+
+        // comments
+        @Nullable
+        private final CommentOutput participantComment;
+        private final List<CommentOutput> instructorComments;
+
+        private CompactResponseOutput(ResponseOutput output, int[] participantIndices) {
+            this.responseId = output.getResponseId();
+            this.giver = participantIndices[0];
+            this.giverTeam = participantIndices[1];
+            this.giverSection = participantIndices[2];
+            this.recipient = participantIndices[3];
+            this.recipientTeam = participantIndices[4];
+            this.recipientSection = participantIndices[5];
+            this.responseDetails = output.getResponseDetails();
+            this.participantComment = output.getParticipantComment();
+            this.instructorComments = output.getInstructorComments();
+        }
+
+        public String getResponseId() {
+            return responseId;
+        }
+
+        public int getGiver() {
+            return giver;
+        }
+
+        public int getGiverTeam() {
+            return giverTeam;
+        }
+
+        public int getGiverSection() {
+            return giverSection;
+        }
+
+        public int getRecipient() {
+            return recipient;
+        }
+
+        public int getRecipientTeam() {
+            return recipientTeam;
+        }
+
+        public int getRecipientSection() {
+            return recipientSection;
+        }
+
+        public FeedbackResponseDetails getResponseDetails() {
+            return responseDetails;
+        }
+
+        @Nullable
+        public CommentOutput getParticipantComment() {
+            return participantComment;
+        }
+
+        public List<CommentOutput> getInstructorComments() {
+            return instructorComments;
+        }
+
+    }
+
+}
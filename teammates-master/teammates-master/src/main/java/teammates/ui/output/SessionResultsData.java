@@ -1,5 +1,6 @@
 package teammates.ui.output;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -10,6 +11,8 @@ import java.util.Queue;
 
 import javax.annotation.Nullable;
 
+import com.google.gson.stream.JsonWriter;
+
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.SessionResultsBundle;
@@ -21,6 +24,7 @@ import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 import teammates.common.util.StringHelper;
 
 /**
@@ -64,6 +68,66 @@ public class SessionResultsData extends ApiOutput {
         return sessionResultsData;
     }
 
+    /**
+     * Factory method to construct API output for instructor with the statistics of the questions only,
+     * without any response.
+     */
+    public static SessionResultsData initStatisticsForInstructor(SessionResultsBundle bundle) {
+        SessionResultsData sessionResultsData = new SessionResultsData();
+
+        for (String questionId : bundle.getQuestionResponseMap().keySet()) {
+            FeedbackQuestionAttributes question = bundle.getQuestionsMap().get(questionId);
+            FeedbackQuestionDetails questionDetails = question.getQuestionDetailsCopy();
+            sessionResultsData.questions.add(new QuestionOutput(question,
+                    questionDetails.getQuestionResultStatisticsJson(question, null, bundle)));
+        }
+
+        return sessionResultsData;
+    }
+
+    /**
+     * Writes the API output for instructor to a JSON writer while the bundle is walked.
+     *
+     * <p>The JSON written is the same as the serialized form of {@link #initForInstructor(SessionResultsBundle)},
+     * but the output of only one response is held in memory at any one time.
+     */
+    public static void writeForInstructor(SessionResultsBundle bundle, @Nullable String requestId, JsonWriter writer)
+            throws IOException {
+        writer.beginObject();
+        writer.name("questions").beginArray();
+        for (Map.Entry<String, List<FeedbackResponseAttributes>> questionWithResponses
+                : bundle.getQuestionResponseMap().entrySet()) {
+            String questionId = questionWithResponses.getKey();
+            FeedbackQuestionAttributes question = bundle.getQuestionsMap().get(questionId);
+            FeedbackQuestionDetails questionDetails = question.getQuestionDetailsCopy();
+
+            // the fields are written in the same order as they are declared in QuestionOutput
+            writer.beginObject();
+            writer.name("feedbackQuestion");
+            JsonUtils.toCompactJson(new FeedbackQuestionData(question), writer);
+            writer.name("questionStatistics")
+                    .value(questionDetails.getQuestionResultStatisticsJson(question, null, bundle));
+            writer.name("allResponses").beginArray();
+            // put normal responses
+            for (FeedbackResponseAttributes response : questionWithResponses.getValue()) {
+                JsonUtils.toCompactJson(buildSingleResponseForInstructor(response, bundle, false), writer);
+            }
+            // put missing responses
+            for (FeedbackResponseAttributes response : bundle.getQuestionMissingResponseMap().get(questionId)) {
+                JsonUtils.toCompactJson(buildSingleResponseForInstructor(response, bundle, true), writer);
+            }
+            writer.endArray();
+            // student view only lists are always empty for instructor
+            writer.name("responsesToSelf").beginArray().endArray();
+            writer.name("responsesFromSelf").beginArray().endArray();
+            writer.name("otherResponses").beginArray().endArray();
+            writer.endObject();
+        }
+        writer.endArray();
+        writer.name("requestId").value(requestId);
+        writer.endObject();
+    }
+
     /**
      * Factory method to construct API output for student.
      */
@@ -202,8 +266,32 @@ public class SessionResultsData extends ApiOutput {
         return output;
     }
 
-    private static ResponseOutput buildSingleResponseForInstructor(
+    /**
+     * Builds the output of a single response as seen by instructor.
+     */
+    static ResponseOutput buildSingleResponseForInstructor(
             FeedbackResponseAttributes response, SessionResultsBundle bundle, boolean isMissingResponse) {
+        // process comments
+        List<FeedbackResponseCommentAttributes> feedbackResponseComments =
+                bundle.getResponseCommentsMap().getOrDefault(response.getId(), Collections.emptyList());
+        Queue<CommentOutput> comments = buildComments(feedbackResponseComments, bundle);
+
+        return buildParticipantsOfResponseForInstructor(response, bundle)
+                .withIsMissingResponse(isMissingResponse)
+                .withResponseId(response.getId())
+                .withResponseDetails(response.getResponseDetailsCopy())
+                .withParticipantComment(comments.poll())
+                .withInstructorComments(new ArrayList<>(comments))
+                .build();
+    }
+
+    /**
+     * Builds the output of the giver and the recipient of a response as seen by instructor.
+     *
+     * <p>The other fields of the output are left to be filled by the caller.
+     */
+    static ResponseOutput.Builder buildParticipantsOfResponseForInstructor(
+            FeedbackResponseAttributes response, SessionResultsBundle bundle) {
         // process giver
         String giverEmail = null;
         String relatedGiverEmail = null;
@@ -253,14 +341,7 @@ public class SessionResultsData extends ApiOutput {
             }
         }
 
-        // process comments
-        List<FeedbackResponseCommentAttributes> feedbackResponseComments =
-                bundle.getResponseCommentsMap().getOrDefault(response.getId(), Collections.emptyList());
-        Queue<CommentOutput> comments = buildComments(feedbackResponseComments, bundle);
-
         return ResponseOutput.builder()
-                .withIsMissingResponse(isMissingResponse)
-                .withResponseId(response.getId())
                 .withGiver(giverName)
                 .withGiverTeam(giverTeam)
                 .withGiverEmail(giverEmail)
@@ -269,11 +350,7 @@ public class SessionResultsData extends ApiOutput {
                 .withRecipient(recipientName)
                 .withRecipientTeam(recipientTeam)
                 .withRecipientEmail(recipientEmail)
-                .withRecipientSection(recipientSection)
-                .withResponseDetails(response.getResponseDetailsCopy())
-                .withParticipantComment(comments.poll())
-                .withInstructorComments(new ArrayList<>(comments))
-                .build();
+                .withRecipientSection(recipientSection);
     }
 
     /**
@@ -289,7 +366,7 @@ public class SessionResultsData extends ApiOutput {
         String name = userInfo.getName();
 
         if (!bundle.isResponseGiverVisible(response)) {
-            name = SessionResultsBundle.getAnonName(participantType, name);
+            name = bundle.getMemoizedAnonName(participantType, name);
         }
 
         return name;
@@ -315,7 +392,7 @@ public class SessionResultsData extends ApiOutput {
             name = Const.USER_NOBODY_TEXT;
         }
         if (!bundle.isResponseRecipientVisible(response)) {
-            name = SessionResultsBundle.getAnonName(participantType, name);
+            name = bundle.getMemoizedAnonName(participantType, name);
         }
 
         return name;
@@ -0,0 +1,70 @@
+package teammates.ui.request;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The request of submitting the feedback responses to multiple questions of a feedback session.
+ */
+public class FeedbackSessionResponsesRequest extends BasicRequest {
+
+    private List<FeedbackQuestionResponsesRequest> questions = new ArrayList<>();
+
+    public List<FeedbackQuestionResponsesRequest> getQuestions() {
+        return questions;
+    }
+
+    public void setQuestions(List<FeedbackQuestionResponsesRequest> questions) {
+        this.questions = questions;
+    }
+
+    public List<String> getQuestionIds() {
+        return questions.stream().map(FeedbackQuestionResponsesRequest::getQuestionId).collect(Collectors.toList());
+    }
+
+    @Override
+    public void validate() throws InvalidHttpRequestBodyException {
+        assertTrue(questions != null, "List of questions cannot be null");
+        for (FeedbackQuestionResponsesRequest question : questions) {
+            assertTrue(question != null, "Question cannot be null");
+            question.validateQuestion();
+        }
+        List<String> questionIds = getQuestionIds();
+        assertTrue(questionIds.stream().distinct().count() == questionIds.size(),
+                "Each question can only be submitted once");
+    }
+
+    /**
+     * The request of submitting a list of feedback responses to one of the questions.
+     */
+    public static class FeedbackQuestionResponsesRequest extends FeedbackResponsesRequest {
+
+        private String questionId;
+
+        public String getQuestionId() {
+            return questionId;
+        }
+
+        public void setQuestionId(String questionId) {
+            this.questionId = questionId;
+        }
+
+        /**
+         * Validates the question and the recipients to submit to; each response entities will be validated separately.
+         */
+        void validateQuestion() throws InvalidHttpRequestBodyException {
+            assertTrue(questionId != null && !questionId.isEmpty(), "Question ID cannot be empty");
+            assertTrue(getResponses() != null, "List of responses cannot be null");
+            for (FeedbackResponseRequest response : getResponses()) {
+                assertTrue(response != null, "Response cannot be null");
+                response.validate();
+            }
+            List<String> recipients = getRecipients();
+            assertTrue(recipients.stream().distinct().count() == recipients.size(),
+                    "Each recipient can only be given one response to a question");
+        }
+
+    }
+
+}
@@ -73,24 +73,29 @@ public class RequestTraceFilter implements Filter {
 
         RequestTracer.init(traceId, spanId, timeoutInSeconds);
 
-        if (Config.MAINTENANCE) {
-            throwError(request, response, HttpStatus.SC_SERVICE_UNAVAILABLE,
-                    "The server is currently undergoing some maintenance.");
-            return;
-        }
-
         try {
-            // Make sure that all parameters are valid UTF-8
-            request.getParameterMap();
-        } catch (RuntimeException e) {
-            if (e.getClass().getSimpleName().equals("BadMessageException")) {
-                throwError(request, response, HttpStatus.SC_BAD_REQUEST, e.getMessage());
+            if (Config.MAINTENANCE) {
+                throwError(request, response, HttpStatus.SC_SERVICE_UNAVAILABLE,
+                        "The server is currently undergoing some maintenance.");
                 return;
             }
-            throw e;
-        }
 
-        chain.doFilter(req, resp);
+            try {
+                // Make sure that all parameters are valid UTF-8
+                request.getParameterMap();
+            } catch (RuntimeException e) {
+                if (e.getClass().getSimpleName().equals("BadMessageException")) {
+                    throwError(request, response, HttpStatus.SC_BAD_REQUEST, e.getMessage());
+                    return;
+                }
+                throw e;
+            }
+
+            chain.doFilter(req, resp);
+        } finally {
+            // objects bound to the request (e.g. cached entities) must not leak to the next request served by the thread
+            RequestTracer.end();
+        }
     }
 
     @Override
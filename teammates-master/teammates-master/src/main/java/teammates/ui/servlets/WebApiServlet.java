@@ -103,7 +103,7 @@ public class WebApiServlet extends HttpServlet {
             String actionClass = null;
             if (action != null) {
                 if (action.hasDefinedRequestBody()) {
-                    requestBody = action.getRequestBody();
+                    requestBody = action.getRequestBodyForLogging();
                 }
                 actionClass = action.getClass().getSimpleName();
                 userInfo = action.getUserInfoForLogging();
@@ -134,6 +134,11 @@ public class WebApiServlet extends HttpServlet {
     }
 
     private void throwError(HttpServletResponse resp, int statusCode, String message) throws IOException {
+        if (resp.isCommitted()) {
+            // the status and part of the body of the result have been sent, e.g. by a streamed result;
+            // the error is propagated to the servlet container, which aborts the response instead of completing it
+            throw new IOException("Response is aborted as it has been committed before the error: " + message);
+        }
         JsonResult result = new JsonResult(message, statusCode);
         result.send(resp);
     }
@@ -1,7 +1,9 @@
 package teammates.ui.webapi;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -24,6 +26,7 @@ import teammates.logic.api.LogsProcessor;
 import teammates.logic.api.RecaptchaVerifier;
 import teammates.logic.api.TaskQueuer;
 import teammates.logic.api.UserProvision;
+import teammates.ui.output.ApiOutput;
 import teammates.ui.output.InstructorPrivilegeData;
 import teammates.ui.request.BasicRequest;
 import teammates.ui.request.InvalidHttpRequestBodyException;
@@ -35,6 +38,9 @@ import teammates.ui.request.InvalidHttpRequestBodyException;
  */
 public abstract class Action {
 
+    private static final int MAX_LOGGED_REQUEST_BODY_LENGTH = 10_000;
+    private static final String TRUNCATED_REQUEST_BODY_SUFFIX = "... (truncated)";
+
     Logic logic = Logic.inst();
     UserProvision userProvision = UserProvision.inst();
     GateKeeper gateKeeper = GateKeeper.inst();
@@ -52,6 +58,10 @@ public abstract class Action {
 
     // buffer to store the request body
     private String requestBody;
+    private PrefixCapturingReader requestBodyReader;
+    private Object deserializedRequestBody;
+    private Type deserializedRequestBodyType;
+    private RuntimeException requestBodyDeserializationFailure;
 
     /**
      * Initializes the action object based on the HTTP request.
@@ -203,9 +213,12 @@ public abstract class Action {
 
     /**
      * Returns the request body payload.
+     *
+     * <p>Prefer {@link #getDeserializedRequestBody(Type)} for JSON payloads, which does not hold
+     * the whole payload in memory.
      */
     public String getRequestBody() {
-        if (!hasDefinedRequestBody()) {
+        if (requestBody == null) {
             requestBody = HttpRequestHelper.getRequestBody(req);
         }
         return requestBody;
@@ -215,7 +228,57 @@ public abstract class Action {
      * Returns true if the action has a request body already defined in it.
      */
     public boolean hasDefinedRequestBody() {
-        return requestBody != null;
+        return requestBody != null || requestBodyReader != null;
+    }
+
+    /**
+     * Returns the request body payload to be logged, truncated to a bounded length.
+     */
+    public String getRequestBodyForLogging() {
+        if (requestBody != null) {
+            return requestBody.length() > MAX_LOGGED_REQUEST_BODY_LENGTH
+                    ? requestBody.substring(0, MAX_LOGGED_REQUEST_BODY_LENGTH) + TRUNCATED_REQUEST_BODY_SUFFIX
+                    : requestBody;
+        }
+        if (requestBodyReader != null) {
+            return requestBodyReader.isTruncated()
+                    ? requestBodyReader.getPrefix() + TRUNCATED_REQUEST_BODY_SUFFIX
+                    : requestBodyReader.getPrefix();
+        }
+        return null;
+    }
+
+    /**
+     * Deserializes the JSON request body payload as it is read from the request.
+     *
+     * <p>The payload can only be read once; subsequent calls must be for the same type,
+     * and return the same deserialized object or fail in the same way as the first call.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T getDeserializedRequestBody(Type typeOfBody) {
+        if (requestBody != null) {
+            // the payload has been read as a whole
+            return JsonUtils.fromJson(requestBody, typeOfBody);
+        }
+        if (deserializedRequestBodyType == null) {
+            deserializedRequestBodyType = typeOfBody;
+            try {
+                requestBodyReader = new PrefixCapturingReader(req.getReader(), MAX_LOGGED_REQUEST_BODY_LENGTH);
+                deserializedRequestBody = JsonUtils.fromJson(requestBodyReader, typeOfBody);
+            } catch (IOException e) {
+                // consistent with reading the payload as a whole, which treats unreadable payload as empty
+                deserializedRequestBody = null;
+            } catch (RuntimeException e) {
+                // the payload cannot be read again, e.g. after it is found to be malformed
+                requestBodyDeserializationFailure = e;
+            }
+        }
+        assert deserializedRequestBodyType.equals(typeOfBody)
+                : "Request body is deserialized as " + deserializedRequestBodyType + ", not " + typeOfBody;
+        if (requestBodyDeserializationFailure != null) {
+            throw requestBodyDeserializationFailure;
+        }
+        return (T) deserializedRequestBody;
     }
 
     FeedbackSessionAttributes getNonNullFeedbackSession(String feedbackSessionName, String courseId) {
@@ -230,7 +293,7 @@ public abstract class Action {
      * Deserializes and validates the request body payload.
      */
     <T extends BasicRequest> T getAndValidateRequestBody(Type typeOfBody) throws InvalidHttpRequestBodyException {
-        T requestBody = JsonUtils.fromJson(getRequestBody(), typeOfBody);
+        T requestBody = getDeserializedRequestBody(typeOfBody);
         if (requestBody == null) {
             throw new InvalidHttpRequestBodyException("The request body is null");
         }
@@ -238,6 +301,70 @@ public abstract class Action {
         return requestBody;
     }
 
+    /**
+     * Returns a result of the output which the client may cache, identified by the content of the output.
+     *
+     * <p>This should only be used by actions which do not modify any data.
+     */
+    JsonResult getCacheableJsonResult(ApiOutput output) {
+        CacheableJsonResult result = CacheableJsonResult.fromContent(output, req.getHeader("If-None-Match"));
+        result.setCompressed(isGzipAccepted());
+        return result;
+    }
+
+    /**
+     * Returns a result of the output which the client may cache, identified by the version of the data
+     * which the output is built from, e.g. the update timestamps of the entities.
+     * The output is not built at all if the client already holds the output of the same version.
+     *
+     * <p>The version needs to change whenever the output for the same request by the same user changes.
+     * This should only be used by actions which do not modify any data.
+     */
+    JsonResult getCacheableJsonResult(String version, Supplier<ApiOutput> outputSupplier) {
+        CacheableJsonResult result = CacheableJsonResult.fromVersion(
+                getVersionOfOutput(version), outputSupplier, req.getHeader("If-None-Match"));
+        result.setCompressed(isGzipAccepted());
+        return result;
+    }
+
+    /**
+     * Returns a result of an output which is already serialized and compressed with gzip, e.g. a stored snapshot,
+     * which the client may cache. The output is identified by the version of the data which it is built from.
+     *
+     * @see #getCacheableJsonResult(String, Supplier)
+     */
+    JsonResult getCacheableJsonResult(String version, byte[] compressedJson, Class<? extends ApiOutput> outputType) {
+        CacheableJsonResult result = CacheableJsonResult.fromCompressedJson(
+                getVersionOfOutput(version), compressedJson, outputType, req.getHeader("If-None-Match"));
+        result.setCompressed(isGzipAccepted());
+        return result;
+    }
+
+    private String getVersionOfOutput(String version) {
+        // the same version of data may give different outputs for different requests, users and app versions
+        return String.join("|", Config.APP_VERSION, req.getRequestURI(),
+                String.valueOf(req.getQueryString()), userInfo == null ? "" : userInfo.getId(), version);
+    }
+
+    /**
+     * Returns true if the client accepts responses compressed with gzip.
+     */
+    boolean isGzipAccepted() {
+        String acceptEncoding = req.getHeader("Accept-Encoding");
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String encoding : acceptEncoding.split(",")) {
+            // each encoding is in the form of NAME;q=WEIGHT, where a weight of 0 means "not acceptable"
+            String[] nameAndWeight = encoding.trim().split(";", 2);
+            boolean isGzip = "gzip".equalsIgnoreCase(nameAndWeight[0].trim());
+            if (isGzip && (nameAndWeight.length == 1 || !nameAndWeight[1].trim().matches("q=0(\\.0*)?"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Gets the unregistered student by the HTTP param.
      */
@@ -90,6 +90,7 @@ public final class ActionFactory {
         map(ResourceURIs.SESSION_PUBLISH, POST, PublishFeedbackSessionAction.class);
         map(ResourceURIs.SESSION_PUBLISH, DELETE, UnpublishFeedbackSessionAction.class);
         map(ResourceURIs.SESSION_SUBMITTED_GIVER_SET, GET, GetFeedbackSessionSubmittedGiverSetAction.class);
+        map(ResourceURIs.SESSION_RESPONSES, PUT, SubmitFeedbackSessionResponsesAction.class);
         map(ResourceURIs.SESSION_REMIND_SUBMISSION, POST, RemindFeedbackSessionSubmissionAction.class);
         map(ResourceURIs.SESSION_REMIND_RESULT, POST, RemindFeedbackSessionResultAction.class);
         map(ResourceURIs.SESSIONS, GET, GetFeedbackSessionsAction.class);
@@ -150,6 +151,10 @@ public final class ActionFactory {
         map(TaskQueue.STUDENT_COURSE_JOIN_EMAIL_WORKER_URL, POST, StudentCourseJoinEmailWorkerAction.class);
         map(TaskQueue.INSTRUCTOR_SEARCH_INDEXING_WORKER_URL, POST, InstructorSearchIndexingWorkerAction.class);
         map(TaskQueue.STUDENT_SEARCH_INDEXING_WORKER_URL, POST, StudentSearchIndexingWorkerAction.class);
+        map(TaskQueue.COURSE_DELETION_WORKER_URL, POST, CourseDeletionWorkerAction.class);
+        map(TaskQueue.FEEDBACK_SESSION_DELETION_WORKER_URL, POST, FeedbackSessionDeletionWorkerAction.class);
+        map(TaskQueue.FEEDBACK_SESSION_RESULTS_SNAPSHOT_WORKER_URL, POST,
+                FeedbackSessionResultsSnapshotWorkerAction.class);
 
     }
 
@@ -6,6 +6,7 @@ import com.google.rpc.Code;
 import teammates.common.exception.DeadlineExceededException;
 import teammates.common.util.Config;
 import teammates.common.util.Const;
+import teammates.ui.output.MessageOutput;
 
 /**
  * Action specifically created for testing exception handling at API servlet.
@@ -51,6 +52,12 @@ class AdminExceptionTestAction extends Action {
         if (error.equals(EntityNotFoundException.class.getSimpleName())) {
             throw new EntityNotFoundException("EntityNotFoundException testing");
         }
+        if (error.equals(StreamingJsonResult.class.getSimpleName())) {
+            return new StreamingJsonResult(() -> new MessageOutput("Test output"), (requestId, writer) -> {
+                writer.beginObject();
+                throw new IllegalStateException("StreamingJsonResult testing");
+            });
+        }
         return new JsonResult("Test output");
     }
 
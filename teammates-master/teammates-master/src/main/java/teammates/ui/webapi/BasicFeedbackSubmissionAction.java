@@ -1,12 +1,27 @@
 package teammates.ui.webapi;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackResponseDetails;
+import teammates.common.exception.EntityAlreadyExistsException;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.common.util.StringHelper;
+import teammates.ui.request.FeedbackResponsesRequest;
+import teammates.ui.request.InvalidHttpRequestBodyException;
 
 /**
  * The basic action for feedback submission.
@@ -159,12 +174,153 @@ abstract class BasicFeedbackSubmissionAction extends Action {
         }
     }
 
+    /**
+     * Sorts the responses submitted to a question into responses to create, update and delete.
+     *
+     * <p>Existing responses of the giver to recipients not in the submission are deleted.
+     *
+     * @param recipientSectionGetter gets the section of a recipient of the question
+     * @throws InvalidOperationException if any of the recipients is not a valid recipient of the question
+     * @throws InvalidHttpRequestBodyException if the responses fail the question-specific validation
+     */
+    void addResponsesToSubmit(FeedbackResponsesToSubmit responsesToSubmit, FeedbackQuestionAttributes feedbackQuestion,
+            String giverIdentifier, String giverSection, List<FeedbackResponseAttributes> existingResponses,
+            Map<String, String> recipientsOfTheQuestion, FeedbackResponsesRequest submitRequest,
+            Function<String, String> recipientSectionGetter)
+            throws InvalidOperationException, InvalidHttpRequestBodyException {
+        Map<String, FeedbackResponseAttributes> existingResponsesPerRecipient = new HashMap<>();
+        existingResponses.forEach(response -> existingResponsesPerRecipient.put(response.getRecipient(), response));
+
+        for (String recipient : submitRequest.getRecipients()) {
+            if (!recipientsOfTheQuestion.containsKey(recipient)) {
+                throw new InvalidOperationException(
+                        "The recipient " + recipient + " is not a valid recipient of the question");
+            }
+        }
+
+        List<FeedbackResponseAttributes> feedbackResponsesToValidate = new ArrayList<>();
+        List<FeedbackResponseAttributes> feedbackResponsesToAdd = new ArrayList<>();
+        List<FeedbackResponseAttributes.UpdateOptions> feedbackResponsesToUpdate = new ArrayList<>();
+
+        submitRequest.getResponses().forEach(responseRequest -> {
+            String recipient = responseRequest.getRecipient();
+            FeedbackResponseDetails responseDetails = responseRequest.getResponseDetails();
+
+            if (existingResponsesPerRecipient.containsKey(recipient)) {
+                String recipientSection = recipientSectionGetter.apply(recipient);
+                FeedbackResponseAttributes updatedResponse =
+                        new FeedbackResponseAttributes(existingResponsesPerRecipient.get(recipient));
+                FeedbackResponseAttributes.UpdateOptions updateOptions =
+                        FeedbackResponseAttributes.updateOptionsBuilder(updatedResponse.getId())
+                                .withGiver(giverIdentifier)
+                                .withGiverSection(giverSection)
+                                .withRecipient(recipient)
+                                .withRecipientSection(recipientSection)
+                                .withResponseDetails(responseDetails)
+                                .build();
+                updatedResponse.update(updateOptions);
+
+                feedbackResponsesToValidate.add(updatedResponse);
+                feedbackResponsesToUpdate.add(updateOptions);
+            } else {
+                FeedbackResponseAttributes feedbackResponse = FeedbackResponseAttributes
+                        .builder(feedbackQuestion.getId(), giverIdentifier, recipient)
+                        .withGiverSection(giverSection)
+                        .withRecipientSection(recipientSectionGetter.apply(recipient))
+                        .withCourseId(feedbackQuestion.getCourseId())
+                        .withFeedbackSessionName(feedbackQuestion.getFeedbackSessionName())
+                        .withResponseDetails(responseDetails)
+                        .build();
+
+                feedbackResponsesToValidate.add(feedbackResponse);
+                feedbackResponsesToAdd.add(feedbackResponse);
+            }
+        });
+
+        List<FeedbackResponseDetails> responseDetails = feedbackResponsesToValidate.stream()
+                .map(FeedbackResponseAttributes::getResponseDetailsCopy)
+                .collect(Collectors.toList());
+
+        int numRecipients = feedbackQuestion.getNumberOfEntitiesToGiveFeedbackTo();
+        if (numRecipients == Const.MAX_POSSIBLE_RECIPIENTS
+                || numRecipients > recipientsOfTheQuestion.size()) {
+            numRecipients = recipientsOfTheQuestion.size();
+        }
+
+        List<String> questionSpecificErrors =
+                feedbackQuestion.getQuestionDetailsCopy()
+                        .validateResponsesDetails(responseDetails, numRecipients);
+
+        if (!questionSpecificErrors.isEmpty()) {
+            throw new InvalidHttpRequestBodyException(questionSpecificErrors.toString());
+        }
+
+        List<String> recipients = submitRequest.getRecipients();
+        existingResponsesPerRecipient.entrySet().stream()
+                .filter(entry -> !recipients.contains(entry.getKey()))
+                .map(entry -> entry.getValue().getId())
+                .forEach(responsesToSubmit.responseIdsToDelete::add);
+        responsesToSubmit.responsesToAdd.addAll(feedbackResponsesToAdd);
+        responsesToSubmit.responsesToUpdate.addAll(feedbackResponsesToUpdate);
+    }
+
+    /**
+     * Writes the responses of a submission in batched writes.
+     *
+     * <p>The responses are validated before they are written, but the writes are not transactional.
+     * A submission failing during the writes may be partially saved, and is to be submitted again.
+     *
+     * @return created responses followed by updated responses
+     */
+    List<FeedbackResponseAttributes> submitResponses(FeedbackResponsesToSubmit responsesToSubmit)
+            throws InvalidHttpRequestBodyException, InvalidOperationException {
+        try {
+            return logic.batchUpdateFeedbackResponsesCascade(responsesToSubmit.responsesToAdd,
+                    responsesToSubmit.responsesToUpdate, responsesToSubmit.responseIdsToDelete);
+        } catch (InvalidParametersException e) {
+            throw new InvalidHttpRequestBodyException(e);
+        } catch (EntityAlreadyExistsException e) {
+            throw new InvalidOperationException(e);
+        } catch (EntityDoesNotExistException e) {
+            throw new EntityNotFoundException(e);
+        }
+    }
+
     /**
      * Gets the section of a recipient.
      */
     String getRecipientSection(
             String courseId, FeedbackParticipantType giverType, FeedbackParticipantType recipientType,
             String recipientIdentifier) {
+        return getRecipientSection(giverType, recipientType, recipientIdentifier,
+                teamName -> logic.getSectionForTeam(courseId, teamName),
+                studentEmail -> {
+                    StudentAttributes student = logic.getStudentForEmail(courseId, studentEmail);
+                    return student == null ? Const.DEFAULT_SECTION : student.getSection();
+                });
+    }
+
+    /**
+     * Gets the section of a recipient using the roster of the course instead of reading the database.
+     */
+    String getRecipientSection(
+            CourseRoster courseRoster, FeedbackParticipantType giverType, FeedbackParticipantType recipientType,
+            String recipientIdentifier) {
+        return getRecipientSection(giverType, recipientType, recipientIdentifier,
+                teamName -> {
+                    List<StudentAttributes> teamMembers = courseRoster.getTeamToMembersTable().get(teamName);
+                    return teamMembers == null || teamMembers.isEmpty()
+                            ? Const.DEFAULT_SECTION : teamMembers.get(0).getSection();
+                },
+                studentEmail -> {
+                    StudentAttributes student = courseRoster.getStudentForEmail(studentEmail);
+                    return student == null ? Const.DEFAULT_SECTION : student.getSection();
+                });
+    }
+
+    private String getRecipientSection(
+            FeedbackParticipantType giverType, FeedbackParticipantType recipientType, String recipientIdentifier,
+            Function<String, String> teamSectionGetter, Function<String, String> studentSectionGetter) {
         switch (recipientType) {
         case SELF:
             switch (giverType) {
@@ -172,10 +328,9 @@ abstract class BasicFeedbackSubmissionAction extends Action {
             case SELF:
                 return Const.DEFAULT_SECTION;
             case TEAMS:
-                return logic.getSectionForTeam(courseId, recipientIdentifier);
+                return teamSectionGetter.apply(recipientIdentifier);
             case STUDENTS:
-                StudentAttributes student = logic.getStudentForEmail(courseId, recipientIdentifier);
-                return student == null ? Const.DEFAULT_SECTION : student.getSection();
+                return studentSectionGetter.apply(recipientIdentifier);
             default:
                 assert false : "Invalid giver type " + giverType + " for recipient type " + recipientType;
                 return null;
@@ -185,16 +340,26 @@ abstract class BasicFeedbackSubmissionAction extends Action {
             return Const.DEFAULT_SECTION;
         case TEAMS:
         case OWN_TEAM:
-            return logic.getSectionForTeam(courseId, recipientIdentifier);
+            return teamSectionGetter.apply(recipientIdentifier);
         case STUDENTS:
         case OWN_TEAM_MEMBERS:
         case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-            StudentAttributes student = logic.getStudentForEmail(courseId, recipientIdentifier);
-            return student == null ? Const.DEFAULT_SECTION : student.getSection();
+            return studentSectionGetter.apply(recipientIdentifier);
         default:
             assert false : "Unknown recipient type " + recipientType;
             return null;
         }
     }
 
+    /**
+     * Feedback responses to create, update and delete in a submission.
+     */
+    static class FeedbackResponsesToSubmit {
+
+        final List<FeedbackResponseAttributes> responsesToAdd = new ArrayList<>();
+        final List<FeedbackResponseAttributes.UpdateOptions> responsesToUpdate = new ArrayList<>();
+        final List<String> responseIdsToDelete = new ArrayList<>();
+
+    }
+
 }
@@ -0,0 +1,145 @@
+package teammates.ui.webapi;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.http.HttpStatus;
+
+import teammates.common.util.JsonUtils;
+import teammates.ui.output.ApiOutput;
+
+/**
+ * Action result in form of JSON object which the client may cache and revalidate with a conditional request.
+ *
+ * <p>The output is identified by a strong entity tag. If the client holds an output with the same entity tag,
+ * as indicated by the {@code If-None-Match} header of the request, only the status 304 (Not Modified) is sent.
+ *
+ * <p>The request ID is left out of the output, as a cached output is reused for later requests.
+ */
+final class CacheableJsonResult extends JsonResult {
+
+    private final Supplier<ApiOutput> outputSupplier;
+    private final String eTag;
+    private final boolean isNotModified;
+    @Nullable
+    private final String json;
+    @Nullable
+    private final byte[] compressedJson;
+
+    private CacheableJsonResult(Supplier<ApiOutput> outputSupplier, String eTag, boolean isNotModified,
+                                @Nullable String json, @Nullable byte[] compressedJson) {
+        super((ApiOutput) null);
+        this.outputSupplier = outputSupplier;
+        this.eTag = eTag;
+        this.isNotModified = isNotModified;
+        this.json = json;
+        this.compressedJson = compressedJson;
+    }
+
+    /**
+     * Creates a result whose entity tag is computed from the content of the output.
+     *
+     * @param ifNoneMatch the value of the {@code If-None-Match} header of the request, if any
+     */
+    static CacheableJsonResult fromContent(ApiOutput output, @Nullable String ifNoneMatch) {
+        // the output is serialized only once, for both computing the entity tag and sending
+        String json = JsonUtils.toCompactJson(output);
+        String eTag = createETag(json);
+        return new CacheableJsonResult(() -> output, eTag, isMatchingETag(ifNoneMatch, eTag), json, null);
+    }
+
+    /**
+     * Creates a result whose entity tag is computed from the version of the data which the output is built from.
+     * The output is only built if it needs to be sent.
+     *
+     * @param version identifies the output among all the outputs which may be sent for the same request
+     * @param ifNoneMatch the value of the {@code If-None-Match} header of the request, if any
+     */
+    static CacheableJsonResult fromVersion(String version, Supplier<ApiOutput> outputSupplier,
+                                           @Nullable String ifNoneMatch) {
+        String eTag = createETag(version);
+        return new CacheableJsonResult(outputSupplier, eTag, isMatchingETag(ifNoneMatch, eTag), null, null);
+    }
+
+    /**
+     * Creates a result whose output is already serialized and compressed with gzip, e.g. a stored snapshot.
+     * The compressed output is sent as it is if compression is enabled for the result.
+     *
+     * @param version identifies the output among all the outputs which may be sent for the same request
+     * @param outputType the type of the output; it is only deserialized when the output is inspected directly
+     * @param ifNoneMatch the value of the {@code If-None-Match} header of the request, if any
+     */
+    static CacheableJsonResult fromCompressedJson(String version, byte[] compressedJson,
+                                                  Class<? extends ApiOutput> outputType, @Nullable String ifNoneMatch) {
+        String eTag = createETag(version);
+        Supplier<ApiOutput> outputSupplier = () -> {
+            try (Reader reader = newDecompressingReader(compressedJson)) {
+                return JsonUtils.fromJson(reader, outputType);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+        return new CacheableJsonResult(outputSupplier, eTag, isMatchingETag(ifNoneMatch, eTag), null, compressedJson);
+    }
+
+    private static String createETag(String data) {
+        return '"' + DigestUtils.sha256Hex(data) + '"';
+    }
+
+    /**
+     * Returns true if any of the entity tags listed in the {@code If-None-Match} header matches the given entity tag.
+     * Weak entity tags in the header are compared as if they were strong.
+     */
+    private static boolean isMatchingETag(@Nullable String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmedCandidate = candidate.trim();
+            if ("*".equals(trimmedCandidate) || eTag.equals(trimmedCandidate.replaceFirst("^W/", ""))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    ApiOutput getOutput() {
+        return outputSupplier.get();
+    }
+
+    String getETag() {
+        return eTag;
+    }
+
+    @Override
+    public int getStatusCode() {
+        return isNotModified ? HttpStatus.SC_NOT_MODIFIED : super.getStatusCode();
+    }
+
+    @Override
+    public void send(HttpServletResponse resp) throws IOException {
+        resp.setHeader("ETag", eTag);
+        // the client may keep the output, but must revalidate it before every use
+        resp.setHeader("Cache-Control", "private, no-cache");
+        resp.setStatus(getStatusCode());
+        if (isNotModified) {
+            return;
+        }
+
+        resp.setContentType("application/json");
+        if (compressedJson != null) {
+            writeCompressedBody(resp, compressedJson);
+            return;
+        }
+        String body = json == null ? JsonUtils.toCompactJson(outputSupplier.get()) : json;
+        writeBody(resp, writer -> writer.write(body));
+    }
+
+}
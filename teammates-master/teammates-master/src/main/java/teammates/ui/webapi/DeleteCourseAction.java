@@ -1,10 +1,14 @@
 package teammates.ui.webapi;
 
+import teammates.common.exception.DeadlineExceededException;
 import teammates.common.util.Const;
 import teammates.ui.output.MessageOutput;
 
 /**
  * Delete a course.
+ *
+ * <p>If the course is too large to be deleted within the time limit of the request,
+ * the rest of the deletion is completed in the background.
  */
 class DeleteCourseAction extends Action {
 
@@ -28,7 +32,12 @@ class DeleteCourseAction extends Action {
     public JsonResult execute() {
         String idOfCourseToDelete = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
 
-        logic.deleteCourseCascade(idOfCourseToDelete);
+        try {
+            logic.deleteCourseCascade(idOfCourseToDelete);
+        } catch (DeadlineExceededException e) {
+            taskQueuer.scheduleCourseDeletion(idOfCourseToDelete);
+            return new JsonResult(new MessageOutput("The course is being deleted in the background."));
+        }
 
         return new JsonResult(new MessageOutput("OK"));
     }
@@ -2,7 +2,6 @@ package teammates.ui.webapi;
 
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.util.Config;
-import teammates.common.util.JsonUtils;
 
 /**
  * Deletes a data bundle from the DB.
@@ -23,7 +22,7 @@ class DeleteDataBundleAction extends Action {
 
     @Override
     public JsonResult execute() {
-        DataBundle dataBundle = JsonUtils.fromJson(getRequestBody(), DataBundle.class);
+        DataBundle dataBundle = getDeserializedRequestBody(DataBundle.class);
         logic.removeDataBundle(dataBundle);
         return new JsonResult("Data bundle successfully persisted.");
     }
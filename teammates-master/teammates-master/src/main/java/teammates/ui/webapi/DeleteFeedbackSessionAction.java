@@ -1,10 +1,14 @@
 package teammates.ui.webapi;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.exception.DeadlineExceededException;
 import teammates.common.util.Const;
 
 /**
  * Delete a feedback session.
+ *
+ * <p>If the session is too large to be deleted within the time limit of the request,
+ * the rest of the deletion is completed in the background.
  */
 class DeleteFeedbackSessionAction extends Action {
 
@@ -29,7 +33,13 @@ class DeleteFeedbackSessionAction extends Action {
         String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
         String feedbackSessionName = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
 
-        logic.deleteFeedbackSessionCascade(feedbackSessionName, courseId);
+        try {
+            logic.deleteFeedbackSessionCascade(feedbackSessionName, courseId);
+        } catch (DeadlineExceededException e) {
+            taskQueuer.scheduleFeedbackSessionDeletion(courseId, feedbackSessionName);
+            return new JsonResult("The feedback session is being deleted in the background.");
+        }
+        FeedbackSessionResultsSnapshotWorkerAction.deleteStoredViews(fileStorage, feedbackSessionName, courseId, null);
 
         return new JsonResult("The feedback session is deleted.");
     }
@@ -0,0 +1,36 @@
+package teammates.ui.webapi;
+
+import org.apache.http.HttpStatus;
+
+import teammates.common.exception.DeadlineExceededException;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: deletes a feedback session along with all its associated entities.
+ *
+ * <p>Entities are deleted in chunks until the time limit of the request is reached. As deleted entities are
+ * no longer matched, a retry of the task resumes the deletion where the previous attempt stopped.
+ */
+class FeedbackSessionDeletionWorkerAction extends AdminOnlyAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public JsonResult execute() {
+        String courseId = getNonNullRequestParamValue(ParamsNames.COURSE_ID);
+        String feedbackSessionName = getNonNullRequestParamValue(ParamsNames.FEEDBACK_SESSION_NAME);
+
+        try {
+            logic.deleteFeedbackSessionCascade(feedbackSessionName, courseId);
+        } catch (DeadlineExceededException e) {
+            log.info("Deletion of feedback session " + feedbackSessionName + " in course " + courseId
+                    + " is incomplete and will be resumed");
+            // Set an arbitrary retry code outside of the range 200-299 to trigger automatic retry
+            return new JsonResult("Incomplete", HttpStatus.SC_BAD_GATEWAY);
+        }
+        FeedbackSessionResultsSnapshotWorkerAction.deleteStoredViews(fileStorage, feedbackSessionName, courseId, null);
+
+        return new JsonResult("Successful");
+    }
+}
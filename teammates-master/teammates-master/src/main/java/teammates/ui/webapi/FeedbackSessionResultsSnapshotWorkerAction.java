@@ -0,0 +1,125 @@
+package teammates.ui.webapi;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.Nullable;
+
+import org.apache.http.HttpStatus;
+
+import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionResultsSnapshotAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.DeadlineExceededException;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.Logger;
+import teammates.common.util.RequestTracer;
+import teammates.logic.api.FileStorage;
+import teammates.ui.output.SessionResultsData;
+
+/**
+ * Task queue worker action: generates a generation of the results snapshot of a published feedback session.
+ *
+ * <p>The results view of every student is built as it would be for the student's own request, and stored
+ * compressed in the file storage. The snapshot is only served once the views of all students are stored.
+ *
+ * <p>The views are generated until the time limit of the request is reached. As the stored views are skipped,
+ * a retry of the task resumes the generation where the previous attempt stopped.
+ *
+ * <p>If the generation is discarded before or during its generation, the task is not retried. As for a snapshot
+ * discarded after it is complete, a new one is scheduled when the results are next requested by a student.
+ * The stored views of the other generations of the snapshot are deleted once a generation is completed or discarded.
+ *
+ * @see GetSessionResultsAction
+ */
+class FeedbackSessionResultsSnapshotWorkerAction extends AdminOnlyAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public JsonResult execute() {
+        String feedbackSessionName = getNonNullRequestParamValue(ParamsNames.FEEDBACK_SESSION_NAME);
+        String courseId = getNonNullRequestParamValue(ParamsNames.COURSE_ID);
+        String generationId = getNonNullRequestParamValue(ParamsNames.FEEDBACK_RESULTS_SNAPSHOT_GENERATION_ID);
+
+        FeedbackSessionResultsSnapshotAttributes snapshot =
+                logic.getFeedbackSessionResultsSnapshot(feedbackSessionName, courseId);
+        FeedbackSessionAttributes session = logic.getFeedbackSession(feedbackSessionName, courseId);
+        if (snapshot == null || !snapshot.getGenerationId().equals(generationId)
+                || session == null || !session.isPublished()) {
+            // the generation is discarded, e.g. because the results are changed or no longer visible to the students;
+            // a newer generation is generated by its own task, after the data cached across requests is refreshed
+            deleteStoredViews(fileStorage, feedbackSessionName, courseId, snapshot);
+            return new JsonResult("Discarded");
+        }
+        if (snapshot.isComplete()) {
+            return new JsonResult("Successful");
+        }
+
+        try {
+            for (StudentAttributes student : logic.getStudentsForCourse(courseId)) {
+                RequestTracer.checkRemainingTime();
+
+                String fileKey = snapshot.getFileKey(student.getEmail());
+                if (fileStorage.doesFileExist(fileKey)) {
+                    // stored by an earlier attempt of the same generation
+                    continue;
+                }
+                SessionResultsBundle bundle = logic.getSessionResultsForUser(
+                        feedbackSessionName, courseId, student.getEmail(), false, null);
+                fileStorage.create(fileKey, compress(SessionResultsData.initForStudent(bundle, student)),
+                        "application/json");
+            }
+        } catch (DeadlineExceededException e) {
+            log.info("Results snapshot of feedback session " + courseId + "/" + feedbackSessionName
+                    + " is incomplete and will be resumed");
+            // Set an arbitrary retry code outside of the range 200-299 to trigger automatic retry
+            return new JsonResult("Incomplete", HttpStatus.SC_BAD_GATEWAY);
+        }
+
+        if (!logic.completeFeedbackSessionResultsSnapshot(snapshot)) {
+            log.info("Results snapshot of feedback session " + courseId + "/" + feedbackSessionName
+                    + " is discarded during its generation and will be generated when next requested");
+            deleteStoredViews(fileStorage, feedbackSessionName, courseId,
+                    logic.getFeedbackSessionResultsSnapshot(feedbackSessionName, courseId));
+            return new JsonResult("Discarded");
+        }
+
+        deleteStoredViews(fileStorage, feedbackSessionName, courseId, snapshot);
+        return new JsonResult("Successful");
+    }
+
+    /**
+     * Deletes the stored views of all generations of the results snapshot of a feedback session
+     * other than the given one.
+     *
+     * @param keptSnapshot the snapshot whose views are kept, or null to delete the views of all generations
+     */
+    static void deleteStoredViews(FileStorage fileStorage, String feedbackSessionName, String courseId,
+            @Nullable FeedbackSessionResultsSnapshotAttributes keptSnapshot) {
+        String fileKeyPrefix = FeedbackSessionResultsSnapshotAttributes.getFileKeyPrefix(feedbackSessionName, courseId);
+        for (String fileKey : fileStorage.getFileKeys(fileKeyPrefix)) {
+            if (keptSnapshot == null || !keptSnapshot.isFileOfGeneration(fileKey)) {
+                fileStorage.delete(fileKey);
+            }
+        }
+    }
+
+    private static byte[] compress(SessionResultsData output) {
+        // the output is stored as it would be sent, i.e. without request ID
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(bytes), StandardCharsets.UTF_8)) {
+            JsonUtils.toCompactJson(output, writer);
+        } catch (IOException e) {
+            assert false : "Writing to memory should not fail";
+        }
+        return bytes.toByteArray();
+    }
+
+}
@@ -57,6 +57,6 @@ class GetCourseAction extends Action {
                 output.setPrivileges(privilege);
             }
         }
-        return new JsonResult(output);
+        return getCacheableJsonResult(output);
     }
 }
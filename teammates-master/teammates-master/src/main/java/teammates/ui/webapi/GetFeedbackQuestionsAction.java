@@ -1,6 +1,7 @@
 package teammates.ui.webapi;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -97,6 +98,19 @@ class GetFeedbackQuestionsAction extends BasicFeedbackSubmissionAction {
             questions.removeIf(question -> !canInstructorSeeQuestion(question));
         }
 
+        if (intent == Intent.FULL_DETAIL || intent == Intent.INSTRUCTOR_RESULT) {
+            // the questions are sent as they are stored, so they are identified by their update timestamps
+            String version = questions.stream()
+                    .map(question -> question.getId() + "@" + question.getUpdatedAt())
+                    .collect(Collectors.joining(","));
+            List<FeedbackQuestionAttributes> questionsToSend = questions;
+            return getCacheableJsonResult(version, () -> buildQuestionsData(questionsToSend, intent));
+        }
+        // generated fields of the questions depend on the course roster, so the content is used to identify them
+        return getCacheableJsonResult(buildQuestionsData(questions, intent));
+    }
+
+    private FeedbackQuestionsData buildQuestionsData(List<FeedbackQuestionAttributes> questions, Intent intent) {
         FeedbackQuestionsData response = new FeedbackQuestionsData(questions);
         response.normalizeQuestionNumber();
         if (intent.equals(Intent.STUDENT_SUBMISSION)) {
@@ -104,7 +118,7 @@ class GetFeedbackQuestionsAction extends BasicFeedbackSubmissionAction {
                 questionData.hideInformationForStudent();
             }
         }
-        return new JsonResult(response);
+        return response;
     }
 
 }
@@ -81,10 +81,22 @@ class GetOngoingSessionsAction extends AdminOnlyAction {
             courseIdToFeedbackSessionsMap.computeIfAbsent(courseId, k -> new ArrayList<>()).add(fs);
         }
 
-        Map<String, List<OngoingSession>> instituteToFeedbackSessionsMap = new HashMap<>();
+        Map<String, String> courseIdToRegisteredInstructorGoogleIdMap = new HashMap<>();
         for (String courseId : courseIds) {
             List<InstructorAttributes> instructors = logic.getInstructorsForCourse(courseId);
-            AccountAttributes account = getRegisteredInstructorAccountFromInstructors(instructors);
+            instructors.stream()
+                    .filter(InstructorAttributes::isRegistered)
+                    .findFirst()
+                    .ifPresent(instructor ->
+                            courseIdToRegisteredInstructorGoogleIdMap.put(courseId, instructor.getGoogleId()));
+        }
+        Map<String, AccountAttributes> googleIdToAccountMap =
+                getAccounts(new HashSet<>(courseIdToRegisteredInstructorGoogleIdMap.values()));
+
+        Map<String, List<OngoingSession>> instituteToFeedbackSessionsMap = new HashMap<>();
+        for (String courseId : courseIds) {
+            AccountAttributes account =
+                    googleIdToAccountMap.get(courseIdToRegisteredInstructorGoogleIdMap.get(courseId));
 
             String institute = logic.getCourseInstitute(courseId);
             List<OngoingSession> sessions = courseIdToFeedbackSessionsMap.get(courseId).stream()
@@ -109,12 +121,14 @@ class GetOngoingSessionsAction extends AdminOnlyAction {
         return new JsonResult(output);
     }
 
-    private AccountAttributes getRegisteredInstructorAccountFromInstructors(List<InstructorAttributes> instructors) {
-        for (InstructorAttributes instructor : instructors) {
-            if (instructor.isRegistered()) {
-                return logic.getAccount(instructor.getGoogleId());
-            }
+    private Map<String, AccountAttributes> getAccounts(Set<String> googleIds) {
+        List<String> googleIdList = new ArrayList<>(googleIds);
+        List<AccountAttributes> accounts = logic.getAccounts(googleIdList);
+
+        Map<String, AccountAttributes> googleIdToAccountMap = new HashMap<>();
+        for (int i = 0; i < googleIdList.size(); i++) {
+            googleIdToAccountMap.put(googleIdList.get(i), accounts.get(i));
         }
-        return null;
+        return googleIdToAccountMap;
     }
 }
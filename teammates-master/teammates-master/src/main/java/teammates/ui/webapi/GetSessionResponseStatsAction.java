@@ -1,6 +1,7 @@
 package teammates.ui.webapi;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionStatsAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.util.Const;
 import teammates.ui.output.FeedbackSessionStatsData;
@@ -34,9 +35,9 @@ class GetSessionResponseStatsAction extends Action {
         String feedbackSessionName = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
 
         FeedbackSessionAttributes fsa = getNonNullFeedbackSession(feedbackSessionName, courseId);
-        int expectedTotal = logic.getExpectedTotalSubmission(fsa);
-        int actualTotal = logic.getActualTotalSubmission(fsa);
-        FeedbackSessionStatsData output = new FeedbackSessionStatsData(actualTotal, expectedTotal);
+        FeedbackSessionStatsAttributes stats = logic.getFeedbackSessionStats(fsa);
+        FeedbackSessionStatsData output =
+                new FeedbackSessionStatsData(stats.getSubmittedTotal(), stats.getExpectedTotal());
         return new JsonResult(output);
     }
 
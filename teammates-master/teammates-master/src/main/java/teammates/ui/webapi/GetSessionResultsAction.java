@@ -1,10 +1,14 @@
 package teammates.ui.webapi;
 
+import javax.annotation.Nullable;
+
 import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionResultsSnapshotAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.util.Const;
+import teammates.ui.output.CompactSessionResultsData;
 import teammates.ui.output.SessionResultsData;
 import teammates.ui.request.Intent;
 
@@ -76,7 +80,14 @@ class GetSessionResultsAction extends Action {
             bundle = logic.getSessionResultsForCourse(feedbackSessionName, courseId, instructor.getEmail(),
                     questionId, selectedSection);
 
-            return new JsonResult(SessionResultsData.initForInstructor(bundle));
+            if (Boolean.parseBoolean(getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_STATISTICS_ONLY))) {
+                return getCacheableJsonResult(SessionResultsData.initStatisticsForInstructor(bundle));
+            }
+            if (Boolean.parseBoolean(getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_COMPACT))) {
+                return getCacheableJsonResult(CompactSessionResultsData.initForInstructor(bundle));
+            }
+            // the full results can be large; they are streamed to avoid holding the whole output in memory
+            return getStreamingResultForInstructor(bundle);
         case INSTRUCTOR_RESULT:
             // Section name filter is not applicable here
             instructor = logic.getInstructorForGoogleId(courseId, userInfo.id);
@@ -89,15 +100,22 @@ class GetSessionResultsAction extends Action {
                     .withTeamName(Const.USER_TEAM_FOR_INSTRUCTOR)
                     .build();
 
-            return new JsonResult(SessionResultsData.initForStudent(bundle, student));
+            return getCacheableJsonResult(SessionResultsData.initForStudent(bundle, student));
         case STUDENT_RESULT:
             // Section name filter is not applicable here
             student = getStudent(courseId);
 
+            if (questionId == null) {
+                JsonResult snapshotResult = getSnapshotResult(feedbackSessionName, courseId, student.getEmail());
+                if (snapshotResult != null) {
+                    return snapshotResult;
+                }
+            }
+
             bundle = logic.getSessionResultsForUser(feedbackSessionName, courseId, student.getEmail(),
                     false, questionId);
 
-            return new JsonResult(SessionResultsData.initForStudent(bundle, student));
+            return getCacheableJsonResult(SessionResultsData.initForStudent(bundle, student));
         case INSTRUCTOR_SUBMISSION:
         case STUDENT_SUBMISSION:
             throw new InvalidHttpParameterException("Invalid intent for this action");
@@ -106,4 +124,42 @@ class GetSessionResultsAction extends Action {
         }
     }
 
+    /**
+     * Gets the results of the student from the results snapshot of the session, if there is a complete one.
+     *
+     * <p>If the session has no snapshot, e.g. because it has been discarded after a change to the results,
+     * the generation of a new one is scheduled. The generation is delayed, so that a snapshot is not generated
+     * for each of a series of changes made in a short time, e.g. by an instructor editing comments,
+     * and so that it is not generated from data cached across requests before the change.
+     */
+    @Nullable
+    private JsonResult getSnapshotResult(String feedbackSessionName, String courseId, String studentEmail) {
+        FeedbackSessionResultsSnapshotAttributes snapshot =
+                logic.getCompleteFeedbackSessionResultsSnapshot(feedbackSessionName, courseId);
+        if (snapshot == null) {
+            // only the request which creates the snapshot schedules its generation
+            FeedbackSessionResultsSnapshotAttributes newSnapshot =
+                    logic.createFeedbackSessionResultsSnapshot(feedbackSessionName, courseId);
+            if (newSnapshot != null) {
+                taskQueuer.scheduleFeedbackSessionResultsSnapshot(courseId, feedbackSessionName,
+                        newSnapshot.getGenerationId(), Const.RESULTS_SNAPSHOT_GENERATION_DELAY.toMillis());
+            }
+            return null;
+        }
+        byte[] compressedJson = fileStorage.getContent(snapshot.getFileKey(studentEmail));
+        if (compressedJson == null || compressedJson.length == 0) {
+            // the file may be unavailable, e.g. if it is deleted from the storage
+            return null;
+        }
+        return getCacheableJsonResult(snapshot.getGenerationId(), compressedJson, SessionResultsData.class);
+    }
+
+    private JsonResult getStreamingResultForInstructor(SessionResultsBundle bundle) {
+        JsonResult result = new StreamingJsonResult(() -> SessionResultsData.initForInstructor(bundle),
+                (requestId, writer) -> SessionResultsData.writeForInstructor(bundle, requestId, writer));
+        // the output is not known in advance for an entity tag to be computed, but it can still be compressed
+        result.setCompressed(isGzipAccepted());
+        return result;
+    }
+
 }
@@ -25,6 +25,6 @@ class GetTimeZonesAction extends AdminOnlyAction {
             }
         }
         TimeZonesData output = new TimeZonesData(tzVersion, tzOffsets);
-        return new JsonResult(output);
+        return getCacheableJsonResult(output);
     }
 }
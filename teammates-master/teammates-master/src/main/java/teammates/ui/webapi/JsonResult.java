@@ -1,9 +1,17 @@
 package teammates.ui.webapi;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletResponse;
@@ -25,6 +33,7 @@ public class JsonResult extends ActionResult {
 
     private final ApiOutput output;
     private List<Cookie> cookies;
+    private boolean isCompressed;
 
     JsonResult(ApiOutput output) {
         super(HttpStatus.SC_OK);
@@ -60,12 +69,89 @@ public class JsonResult extends ActionResult {
         }
         resp.setStatus(getStatusCode());
         resp.setContentType("application/json");
-        PrintWriter pw = resp.getWriter();
-        JsonUtils.toCompactJson(output, pw);
+        writeBody(resp, writer -> JsonUtils.toCompactJson(output, writer));
+    }
+
+    /**
+     * Writes the body of the response, compressing it with gzip if compression is enabled for the result.
+     */
+    void writeBody(HttpServletResponse resp, BodyWriter bodyWriter) throws IOException {
+        resp.addHeader("Vary", "Accept-Encoding");
+        if (!isCompressed) {
+            PrintWriter pw = resp.getWriter();
+            bodyWriter.write(pw);
+            pw.flush();
+            return;
+        }
+
+        setGzipEncoding(resp);
+        Writer writer = new OutputStreamWriter(new GZIPOutputStream(resp.getOutputStream()), StandardCharsets.UTF_8);
+        bodyWriter.write(writer);
+        // closing the writer finishes the compressed stream; it is not closed if the body fails to be written,
+        // so that a truncated body is never sent as a complete compressed stream
+        writer.close();
+    }
+
+    /**
+     * Writes a body which is already compressed with gzip, decompressing it if compression is not enabled
+     * for the result.
+     */
+    void writeCompressedBody(HttpServletResponse resp, byte[] compressedBody) throws IOException {
+        if (!isCompressed) {
+            writeBody(resp, writer -> {
+                try (Reader reader = newDecompressingReader(compressedBody)) {
+                    reader.transferTo(writer);
+                }
+            });
+            return;
+        }
+
+        resp.addHeader("Vary", "Accept-Encoding");
+        setGzipEncoding(resp);
+        resp.getOutputStream().write(compressedBody);
+    }
+
+    private void setGzipEncoding(HttpServletResponse resp) {
+        resp.setHeader("Content-Encoding", "gzip");
+        resp.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    }
+
+    /**
+     * Returns a reader of the text compressed with gzip in the given bytes.
+     */
+    static Reader newDecompressingReader(byte[] compressedText) throws IOException {
+        return new InputStreamReader(new GZIPInputStream(new ByteArrayInputStream(compressedText)),
+                StandardCharsets.UTF_8);
     }
 
     List<Cookie> getCookies() {
         return cookies;
     }
 
+    boolean isCompressed() {
+        return isCompressed;
+    }
+
+    /**
+     * Sets whether the body of the response is compressed with gzip.
+     *
+     * <p>This should only be enabled if the client accepts gzip-encoded responses.
+     */
+    void setCompressed(boolean isCompressed) {
+        this.isCompressed = isCompressed;
+    }
+
+    /**
+     * Writes the body of a response to a writer.
+     */
+    @FunctionalInterface
+    interface BodyWriter {
+
+        /**
+         * Writes the body to the writer.
+         */
+        void write(Writer writer) throws IOException;
+
+    }
+
 }
@@ -0,0 +1,62 @@
+package teammates.ui.webapi;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reader which keeps a copy of the characters read from the underlying reader, up to a maximum length.
+ *
+ * <p>This allows a payload to be consumed as a stream while a bounded prefix of it is kept, e.g. for logging.
+ */
+class PrefixCapturingReader extends FilterReader {
+
+    private final int maxPrefixLength;
+    @SuppressWarnings("PMD.AvoidStringBufferField") // bounded by the maximum length
+    private final StringBuilder prefix = new StringBuilder();
+    private boolean isTruncated;
+
+    PrefixCapturingReader(Reader in, int maxPrefixLength) {
+        super(in);
+        this.maxPrefixLength = maxPrefixLength;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int c = super.read();
+        if (c != -1) {
+            capture(new char[] { (char) c }, 0, 1);
+        }
+        return c;
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        int numOfCharsRead = super.read(cbuf, off, len);
+        if (numOfCharsRead > 0) {
+            capture(cbuf, off, numOfCharsRead);
+        }
+        return numOfCharsRead;
+    }
+
+    private void capture(char[] cbuf, int off, int len) {
+        int numOfCharsToCapture = Math.min(len, maxPrefixLength - prefix.length());
+        prefix.append(cbuf, off, numOfCharsToCapture);
+        isTruncated = isTruncated || numOfCharsToCapture < len;
+    }
+
+    /**
+     * Returns the characters read so far, up to the maximum length.
+     */
+    String getPrefix() {
+        return prefix.toString();
+    }
+
+    /**
+     * Returns true if more characters than the maximum length have been read.
+     */
+    boolean isTruncated() {
+        return isTruncated;
+    }
+
+}
@@ -3,6 +3,7 @@ package teammates.ui.webapi;
 import org.apache.http.HttpStatus;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionResultsSnapshotAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
@@ -51,6 +52,14 @@ class PublishFeedbackSessionAction extends Action {
                 taskQueuer.scheduleFeedbackSessionPublishedEmail(publishFeedbackSession.getCourseId(),
                         publishFeedbackSession.getFeedbackSessionName());
             }
+            // the results are pre-rendered in the background, as they are usually viewed by many students at once;
+            // the generation is delayed so that it does not see data cached across requests before the publishing
+            FeedbackSessionResultsSnapshotAttributes snapshot =
+                    logic.createFeedbackSessionResultsSnapshot(feedbackSessionName, courseId);
+            if (snapshot != null) {
+                taskQueuer.scheduleFeedbackSessionResultsSnapshot(courseId, feedbackSessionName,
+                        snapshot.getGenerationId(), Const.RESULTS_SNAPSHOT_GENERATION_DELAY.toMillis());
+            }
 
             return new JsonResult(new FeedbackSessionData(publishFeedbackSession));
         } catch (EntityDoesNotExistException e) {
@@ -25,7 +25,7 @@ class PutDataBundleAction extends Action {
 
     @Override
     public JsonResult execute() throws InvalidHttpRequestBodyException {
-        DataBundle dataBundle = JsonUtils.fromJson(getRequestBody(), DataBundle.class);
+        DataBundle dataBundle = getDeserializedRequestBody(DataBundle.class);
 
         try {
             dataBundle = logic.persistDataBundle(dataBundle);
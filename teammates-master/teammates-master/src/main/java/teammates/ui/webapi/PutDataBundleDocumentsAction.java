@@ -5,7 +5,6 @@ import org.apache.http.HttpStatus;
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.exception.SearchServiceException;
 import teammates.common.util.Config;
-import teammates.common.util.JsonUtils;
 
 /**
  * Puts searchable documents from the data bundle into the DB.
@@ -26,7 +25,7 @@ class PutDataBundleDocumentsAction extends Action {
 
     @Override
     public JsonResult execute() {
-        DataBundle dataBundle = JsonUtils.fromJson(getRequestBody(), DataBundle.class);
+        DataBundle dataBundle = getDeserializedRequestBody(DataBundle.class);
         try {
             logic.putDocuments(dataBundle);
         } catch (SearchServiceException e) {
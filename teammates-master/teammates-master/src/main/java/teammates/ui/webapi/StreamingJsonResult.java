@@ -0,0 +1,73 @@
+package teammates.ui.webapi;
+
+import java.io.IOException;
+import java.util.function.Supplier;
+
+import javax.servlet.http.HttpServletResponse;
+
+import com.google.gson.stream.JsonWriter;
+
+import teammates.common.util.JsonUtils;
+import teammates.common.util.RequestTracer;
+import teammates.ui.output.ApiOutput;
+
+/**
+ * Action result in form of JSON object which is written to the HTTP response as it is generated.
+ *
+ * <p>This is used for large outputs, so that the whole output does not need to be built in memory
+ * before it is serialized.
+ *
+ * <p>The status and headers are sent before the output is written. If the output fails to be written,
+ * the exception is propagated with the response already committed, so that the connection is aborted
+ * instead of the partial output being completed or followed by an error message.
+ */
+class StreamingJsonResult extends JsonResult {
+
+    private final Supplier<ApiOutput> outputSupplier;
+    private final OutputWriter outputWriter;
+
+    /**
+     * Creates a JSON result which is streamed to the HTTP response.
+     *
+     * @param outputSupplier builds the whole output in memory; it is used only when the output is inspected directly
+     * @param outputWriter writes the same output to the HTTP response incrementally
+     */
+    StreamingJsonResult(Supplier<ApiOutput> outputSupplier, OutputWriter outputWriter) {
+        super((ApiOutput) null);
+        this.outputSupplier = outputSupplier;
+        this.outputWriter = outputWriter;
+    }
+
+    @Override
+    ApiOutput getOutput() {
+        return outputSupplier.get();
+    }
+
+    @Override
+    public void send(HttpServletResponse resp) throws IOException {
+        resp.setStatus(getStatusCode());
+        resp.setContentType("application/json");
+        writeBody(resp, bodyWriter -> {
+            // commits the response with all its headers, so that a failure while writing the output
+            // cannot be reported as another result on top of the partial output
+            resp.flushBuffer();
+            JsonWriter writer = JsonUtils.newCompactJsonWriter(bodyWriter);
+            outputWriter.write(RequestTracer.getTraceId(), writer);
+            writer.flush();
+        });
+    }
+
+    /**
+     * Writes an output to a JSON writer.
+     */
+    @FunctionalInterface
+    interface OutputWriter {
+
+        /**
+         * Writes the output with the given request ID to the JSON writer.
+         */
+        void write(String requestId, JsonWriter writer) throws IOException;
+
+    }
+
+}
@@ -1,10 +1,7 @@
 package teammates.ui.webapi;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
@@ -12,10 +9,6 @@ import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
-import teammates.common.datatransfer.questions.FeedbackResponseDetails;
-import teammates.common.exception.EntityAlreadyExistsException;
-import teammates.common.exception.EntityDoesNotExistException;
-import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
@@ -112,109 +105,16 @@ class SubmitFeedbackResponsesAction extends BasicFeedbackSubmissionAction {
             throw new InvalidHttpParameterException("Unknown intent " + intent);
         }
 
-        Map<String, FeedbackResponseAttributes> existingResponsesPerRecipient = new HashMap<>();
-        existingResponses.forEach(response -> existingResponsesPerRecipient.put(response.getRecipient(), response));
-
         FeedbackResponsesRequest submitRequest = getAndValidateRequestBody(FeedbackResponsesRequest.class);
         log.info(JsonUtils.toCompactJson(submitRequest));
 
-        for (String recipient : submitRequest.getRecipients()) {
-            if (!recipientsOfTheQuestion.containsKey(recipient)) {
-                throw new InvalidOperationException(
-                        "The recipient " + recipient + " is not a valid recipient of the question");
-            }
-        }
-
-        List<FeedbackResponseAttributes> feedbackResponsesToValidate = new ArrayList<>();
-        List<FeedbackResponseAttributes> feedbackResponsesToAdd = new ArrayList<>();
-        List<FeedbackResponseAttributes.UpdateOptions> feedbackResponsesToUpdate = new ArrayList<>();
-
-        submitRequest.getResponses().forEach(responseRequest -> {
-            String recipient = responseRequest.getRecipient();
-            FeedbackResponseDetails responseDetails = responseRequest.getResponseDetails();
-
-            if (existingResponsesPerRecipient.containsKey(recipient)) {
-                String recipientSection = getRecipientSection(feedbackQuestion.getCourseId(),
-                        feedbackQuestion.getGiverType(),
-                        feedbackQuestion.getRecipientType(), recipient);
-                FeedbackResponseAttributes updatedResponse =
-                        new FeedbackResponseAttributes(existingResponsesPerRecipient.get(recipient));
-                FeedbackResponseAttributes.UpdateOptions updateOptions =
-                        FeedbackResponseAttributes.updateOptionsBuilder(updatedResponse.getId())
-                                .withGiver(giverIdentifier)
-                                .withGiverSection(giverSection)
-                                .withRecipient(recipient)
-                                .withRecipientSection(recipientSection)
-                                .withResponseDetails(responseDetails)
-                                .build();
-                updatedResponse.update(updateOptions);
-
-                feedbackResponsesToValidate.add(updatedResponse);
-                feedbackResponsesToUpdate.add(updateOptions);
-            } else {
-                FeedbackResponseAttributes feedbackResponse = FeedbackResponseAttributes
-                        .builder(feedbackQuestion.getId(), giverIdentifier, recipient)
-                        .withGiverSection(giverSection)
-                        .withRecipientSection(getRecipientSection(feedbackQuestion.getCourseId(),
-                                feedbackQuestion.getGiverType(),
-                                feedbackQuestion.getRecipientType(), recipient))
-                        .withCourseId(feedbackQuestion.getCourseId())
-                        .withFeedbackSessionName(feedbackQuestion.getFeedbackSessionName())
-                        .withResponseDetails(responseDetails)
-                        .build();
-
-                feedbackResponsesToValidate.add(feedbackResponse);
-                feedbackResponsesToAdd.add(feedbackResponse);
-            }
-        });
-
-        List<FeedbackResponseDetails> responseDetails = feedbackResponsesToValidate.stream()
-                .map(FeedbackResponseAttributes::getResponseDetailsCopy)
-                .collect(Collectors.toList());
-
-        int numRecipients = feedbackQuestion.getNumberOfEntitiesToGiveFeedbackTo();
-        if (numRecipients == Const.MAX_POSSIBLE_RECIPIENTS
-                || numRecipients > recipientsOfTheQuestion.size()) {
-            numRecipients = recipientsOfTheQuestion.size();
-        }
-
-        List<String> questionSpecificErrors =
-                feedbackQuestion.getQuestionDetailsCopy()
-                        .validateResponsesDetails(responseDetails, numRecipients);
-
-        if (!questionSpecificErrors.isEmpty()) {
-            throw new InvalidHttpRequestBodyException(questionSpecificErrors.toString());
-        }
-
-        List<String> recipients = submitRequest.getRecipients();
-        List<FeedbackResponseAttributes> feedbackResponsesToDelete = existingResponsesPerRecipient.entrySet().stream()
-                .filter(entry -> !recipients.contains(entry.getKey()))
-                .map(entry -> entry.getValue())
-                .collect(Collectors.toList());
-
-        for (FeedbackResponseAttributes feedbackResponse : feedbackResponsesToDelete) {
-            logic.deleteFeedbackResponseCascade(feedbackResponse.getId());
-        }
-
-        List<FeedbackResponseAttributes> output = new ArrayList<>();
+        FeedbackResponsesToSubmit responsesToSubmit = new FeedbackResponsesToSubmit();
+        addResponsesToSubmit(responsesToSubmit, feedbackQuestion, giverIdentifier, giverSection, existingResponses,
+                recipientsOfTheQuestion, submitRequest,
+                recipient -> getRecipientSection(feedbackQuestion.getCourseId(),
+                        feedbackQuestion.getGiverType(), feedbackQuestion.getRecipientType(), recipient));
 
-        for (FeedbackResponseAttributes feedbackResponse : feedbackResponsesToAdd) {
-            try {
-                output.add(logic.createFeedbackResponse(feedbackResponse));
-            } catch (InvalidParametersException | EntityAlreadyExistsException e) {
-                // None of the exceptions should be happening as the responses have been pre-validated
-                log.severe("Encountered exception when creating response: " + e.getMessage(), e);
-            }
-        }
-
-        for (FeedbackResponseAttributes.UpdateOptions feedbackResponse : feedbackResponsesToUpdate) {
-            try {
-                output.add(logic.updateFeedbackResponseCascade(feedbackResponse));
-            } catch (InvalidParametersException | EntityAlreadyExistsException | EntityDoesNotExistException e) {
-                // None of the exceptions should be happening as the responses have been pre-validated
-                log.severe("Encountered exception when updating response: " + e.getMessage(), e);
-            }
-        }
+        List<FeedbackResponseAttributes> output = submitResponses(responsesToSubmit);
 
         return new JsonResult(new FeedbackResponsesData(output));
     }
@@ -0,0 +1,181 @@
+package teammates.ui.webapi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.Logger;
+import teammates.ui.output.FeedbackResponsesData;
+import teammates.ui.request.FeedbackSessionResponsesRequest;
+import teammates.ui.request.FeedbackSessionResponsesRequest.FeedbackQuestionResponsesRequest;
+import teammates.ui.request.Intent;
+import teammates.ui.request.InvalidHttpRequestBodyException;
+
+/**
+ * Submits the feedback responses to multiple questions of a feedback session in one request.
+ *
+ * <p>For each question in the request, this action completely overwrites the feedback responses that are
+ * previously attached to the question, in the same way as {@link SubmitFeedbackResponsesAction}.
+ * The giver and the course roster are resolved once for all the questions and the responses of all the questions
+ * are written in batched writes.
+ */
+class SubmitFeedbackSessionResponsesAction extends BasicFeedbackSubmissionAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    AuthType getMinAuthLevel() {
+        return AuthType.PUBLIC;
+    }
+
+    @Override
+    void checkSpecificAccessControl() throws UnauthorizedAccessException {
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        String feedbackSessionName = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
+        FeedbackSessionAttributes feedbackSession = getNonNullFeedbackSession(feedbackSessionName, courseId);
+
+        verifySessionOpenExceptForModeration(feedbackSession);
+        verifyNotPreview();
+
+        List<FeedbackQuestionAttributes> questionsToSubmitTo = new ArrayList<>();
+        FeedbackSessionResponsesRequest submitRequest =
+                getDeserializedRequestBody(FeedbackSessionResponsesRequest.class);
+        if (submitRequest != null && submitRequest.getQuestions() != null) {
+            // invalid request bodies are rejected when the action is executed
+            Map<String, FeedbackQuestionAttributes> questionsOfSession = getQuestionsOfSession(feedbackSession);
+            for (FeedbackQuestionResponsesRequest questionRequest : submitRequest.getQuestions()) {
+                if (questionRequest != null) {
+                    questionsToSubmitTo.add(getNonNullQuestion(questionsOfSession, questionRequest.getQuestionId()));
+                }
+            }
+        }
+        for (FeedbackQuestionAttributes feedbackQuestion : questionsToSubmitTo) {
+            verifyInstructorCanSeeQuestionIfInModeration(feedbackQuestion);
+        }
+
+        Intent intent = Intent.valueOf(getNonNullRequestParamValue(Const.ParamsNames.INTENT));
+        switch (intent) {
+        case STUDENT_SUBMISSION:
+            for (FeedbackQuestionAttributes feedbackQuestion : questionsToSubmitTo) {
+                gateKeeper.verifyAnswerableForStudent(feedbackQuestion);
+            }
+            StudentAttributes studentAttributes = getStudentOfCourseFromRequest(courseId);
+            checkAccessControlForStudentFeedbackSubmission(studentAttributes, feedbackSession);
+            break;
+        case INSTRUCTOR_SUBMISSION:
+            for (FeedbackQuestionAttributes feedbackQuestion : questionsToSubmitTo) {
+                gateKeeper.verifyAnswerableForInstructor(feedbackQuestion);
+            }
+            InstructorAttributes instructorAttributes = getInstructorOfCourseFromRequest(courseId);
+            checkAccessControlForInstructorFeedbackSubmission(instructorAttributes, feedbackSession);
+            break;
+        case INSTRUCTOR_RESULT:
+        case STUDENT_RESULT:
+            throw new InvalidHttpParameterException("Invalid intent for this action");
+        default:
+            throw new InvalidHttpParameterException("Unknown intent " + intent);
+        }
+    }
+
+    @Override
+    public JsonResult execute() throws InvalidHttpRequestBodyException, InvalidOperationException {
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+
+        FeedbackSessionResponsesRequest submitRequest = getAndValidateRequestBody(FeedbackSessionResponsesRequest.class);
+        log.info(JsonUtils.toCompactJson(submitRequest));
+
+        StudentAttributes studentAttributes = null;
+        InstructorAttributes instructorAttributes = null;
+        String giverEmail;
+        String giverSection;
+        Intent intent = Intent.valueOf(getNonNullRequestParamValue(Const.ParamsNames.INTENT));
+        switch (intent) {
+        case STUDENT_SUBMISSION:
+            studentAttributes = getStudentOfCourseFromRequest(courseId);
+            giverEmail = studentAttributes.getEmail();
+            giverSection = studentAttributes.getSection();
+            break;
+        case INSTRUCTOR_SUBMISSION:
+            instructorAttributes = getInstructorOfCourseFromRequest(courseId);
+            giverEmail = instructorAttributes.getEmail();
+            giverSection = Const.DEFAULT_SECTION;
+            break;
+        default:
+            throw new InvalidHttpParameterException("Unknown intent " + intent);
+        }
+
+        String feedbackSessionName = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
+        FeedbackSessionAttributes feedbackSession = getNonNullFeedbackSession(feedbackSessionName, courseId);
+        Map<String, FeedbackQuestionAttributes> questionsOfSession = getQuestionsOfSession(feedbackSession);
+        CourseRoster courseRoster = logic.getCourseRoster(courseId);
+
+        // a single query fetches the existing responses of the giver to all questions
+        Map<String, List<FeedbackResponseAttributes>> existingResponsesPerQuestion =
+                logic.getFeedbackResponsesFromGiverForSession(giverEmail, feedbackSessionName, courseId).stream()
+                        .collect(Collectors.groupingBy(FeedbackResponseAttributes::getFeedbackQuestionId));
+
+        FeedbackResponsesToSubmit responsesToSubmit = new FeedbackResponsesToSubmit();
+        for (FeedbackQuestionResponsesRequest questionRequest : submitRequest.getQuestions()) {
+            FeedbackQuestionAttributes feedbackQuestion =
+                    getNonNullQuestion(questionsOfSession, questionRequest.getQuestionId());
+
+            String giverIdentifier;
+            List<FeedbackResponseAttributes> existingResponses;
+            Map<String, String> recipientsOfTheQuestion;
+            if (studentAttributes == null) {
+                giverIdentifier = giverEmail;
+                existingResponses = existingResponsesPerQuestion.getOrDefault(
+                        feedbackQuestion.getId(), Collections.emptyList());
+                recipientsOfTheQuestion =
+                        logic.getRecipientsOfQuestion(feedbackQuestion, instructorAttributes, null, courseRoster);
+                logic.populateFieldsToGenerateInQuestion(feedbackQuestion, giverEmail, null);
+            } else {
+                boolean isTeamQuestion = feedbackQuestion.getGiverType() == FeedbackParticipantType.TEAMS;
+                giverIdentifier = isTeamQuestion ? studentAttributes.getTeam() : giverEmail;
+                // responses to team questions may have been given by any member of the team
+                existingResponses = isTeamQuestion
+                        ? logic.getFeedbackResponsesFromStudentOrTeamForQuestion(feedbackQuestion, studentAttributes)
+                        : existingResponsesPerQuestion.getOrDefault(feedbackQuestion.getId(), Collections.emptyList());
+                recipientsOfTheQuestion =
+                        logic.getRecipientsOfQuestion(feedbackQuestion, null, studentAttributes, courseRoster);
+                logic.populateFieldsToGenerateInQuestion(feedbackQuestion, giverEmail, studentAttributes.getTeam());
+            }
+
+            addResponsesToSubmit(responsesToSubmit, feedbackQuestion, giverIdentifier, giverSection, existingResponses,
+                    recipientsOfTheQuestion, questionRequest,
+                    recipient -> getRecipientSection(courseRoster,
+                            feedbackQuestion.getGiverType(), feedbackQuestion.getRecipientType(), recipient));
+        }
+
+        List<FeedbackResponseAttributes> output = submitResponses(responsesToSubmit);
+
+        return new JsonResult(new FeedbackResponsesData(output));
+    }
+
+    private Map<String, FeedbackQuestionAttributes> getQuestionsOfSession(FeedbackSessionAttributes feedbackSession) {
+        return logic.getFeedbackQuestionsForSession(feedbackSession.getFeedbackSessionName(), feedbackSession.getCourseId())
+                .stream()
+                .collect(Collectors.toMap(FeedbackQuestionAttributes::getId, question -> question));
+    }
+
+    private FeedbackQuestionAttributes getNonNullQuestion(
+            Map<String, FeedbackQuestionAttributes> questionsOfSession, String feedbackQuestionId) {
+        FeedbackQuestionAttributes feedbackQuestion = questionsOfSession.get(feedbackQuestionId);
+        if (feedbackQuestion == null) {
+            throw new EntityNotFoundException("The feedback question does not exist.");
+        }
+        return feedbackQuestion;
+    }
+
+}
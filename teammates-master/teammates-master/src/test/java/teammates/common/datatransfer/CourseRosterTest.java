@@ -180,6 +180,51 @@ public class CourseRosterTest extends BaseTestCase {
         assertEquals(Const.DEFAULT_SECTION, info.getSectionName());
     }
 
+    @Test
+    public void testIndices_typicalCase_shouldNumberTeamsAndSectionsInOrderOfAppearance() {
+        CourseRoster roster = new CourseRoster(
+                createStudentList(
+                        "team 1", "s1@gmail.com",
+                        "team 2", "s2@gmail.com",
+                        "team 1", "s3@gmail.com"),
+                null);
+
+        assertEquals(1, roster.getStudentIndex("s2@gmail.com"));
+        assertEquals(-1, roster.getStudentIndex("non-existent@gmail.com"));
+
+        assertEquals(0, roster.getTeamIndexOfStudent(roster.getStudentIndex("s1@gmail.com")));
+        assertEquals(1, roster.getTeamIndexOfStudent(roster.getStudentIndex("s2@gmail.com")));
+        assertEquals(0, roster.getTeamIndexOfStudent(roster.getStudentIndex("s3@gmail.com")));
+
+        assertEquals(List.of("team 1's Section", "team 2's Section"), roster.getSectionNames());
+        assertEquals(1, roster.getSectionIndexOfStudent(roster.getStudentIndex("s2@gmail.com")));
+    }
+
+    @Test
+    public void testGetters_typicalCase_shouldNotBeModifiable() {
+        CourseRoster roster = new CourseRoster(
+                createStudentList("team 1", "s1@gmail.com"),
+                createInstructorList("John", "ins1@email.com"));
+
+        assertThrows(UnsupportedOperationException.class, () -> roster.getStudents().clear());
+        assertThrows(UnsupportedOperationException.class, () -> roster.getInstructors().clear());
+        assertThrows(UnsupportedOperationException.class, () -> roster.getTeamToMembersTable().clear());
+        assertThrows(UnsupportedOperationException.class, () -> roster.getTeamToMembersTable().get("team 1").clear());
+        assertThrows(UnsupportedOperationException.class, () -> roster.getSectionNames().clear());
+    }
+
+    @Test
+    public void testConstructor_duplicateEmails_shouldKeepLaterParticipant() {
+        CourseRoster roster = new CourseRoster(
+                createStudentList(
+                        "team 1", "s1@gmail.com",
+                        "team 2", "s1@gmail.com"),
+                null);
+
+        assertEquals(1, roster.getStudents().size());
+        assertTrue(roster.isStudentInTeam("s1@gmail.com", "team 2"));
+    }
+
     private List<StudentAttributes> createStudentList(String... studentData) {
         List<StudentAttributes> students = new ArrayList<>();
         for (int i = 0; i < studentData.length; i += 2) {
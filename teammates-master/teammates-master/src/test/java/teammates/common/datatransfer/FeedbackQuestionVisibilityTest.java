@@ -0,0 +1,76 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.questions.FeedbackTextQuestionDetails;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link FeedbackQuestionVisibility}.
+ */
+public class FeedbackQuestionVisibilityTest extends BaseTestCase {
+
+    @Test
+    public void testVisibility_shouldMatchVisibilityListsOfQuestion() {
+        FeedbackQuestionAttributes question = createQuestion(
+                Arrays.asList(FeedbackParticipantType.INSTRUCTORS, FeedbackParticipantType.RECEIVER,
+                        FeedbackParticipantType.OWN_TEAM_MEMBERS),
+                Arrays.asList(FeedbackParticipantType.INSTRUCTORS),
+                Arrays.asList(FeedbackParticipantType.INSTRUCTORS, FeedbackParticipantType.RECEIVER));
+
+        FeedbackQuestionVisibility visibility = new FeedbackQuestionVisibility(question);
+
+        for (FeedbackParticipantType type : FeedbackParticipantType.values()) {
+            assertEquals(question.isResponseVisibleTo(type), visibility.isResponseVisibleTo(type));
+            assertEquals(question.getShowGiverNameTo().contains(type), visibility.isNameVisibleTo(true, type));
+            assertEquals(question.getShowRecipientNameTo().contains(type), visibility.isNameVisibleTo(false, type));
+        }
+    }
+
+    @Test
+    public void testVisibility_noVisibility_shouldNotBeVisibleToAnyone() {
+        FeedbackQuestionVisibility visibility = new FeedbackQuestionVisibility(
+                createQuestion(new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
+
+        for (FeedbackParticipantType type : FeedbackParticipantType.values()) {
+            assertFalse(visibility.isResponseVisibleTo(type));
+            assertFalse(visibility.isNameVisibleTo(true, type));
+            assertFalse(visibility.isNameVisibleTo(false, type));
+        }
+    }
+
+    @Test
+    public void testVisibility_questionChangedAfterCompilation_shouldNotBeReflected() {
+        FeedbackQuestionAttributes question = createQuestion(
+                new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+        FeedbackQuestionVisibility visibility = new FeedbackQuestionVisibility(question);
+
+        question.getShowResponsesTo().add(FeedbackParticipantType.STUDENTS);
+
+        assertTrue(question.isResponseVisibleTo(FeedbackParticipantType.STUDENTS));
+        assertFalse(visibility.isResponseVisibleTo(FeedbackParticipantType.STUDENTS));
+    }
+
+    private FeedbackQuestionAttributes createQuestion(List<FeedbackParticipantType> showResponsesTo,
+            List<FeedbackParticipantType> showGiverNameTo, List<FeedbackParticipantType> showRecipientNameTo) {
+        return FeedbackQuestionAttributes.builder()
+                .withCourseId("course")
+                .withFeedbackSessionName("session")
+                .withQuestionDetails(new FeedbackTextQuestionDetails("question"))
+                .withQuestionDescription("")
+                .withQuestionNumber(1)
+                .withGiverType(FeedbackParticipantType.STUDENTS)
+                .withRecipientType(FeedbackParticipantType.STUDENTS)
+                .withNumberOfEntitiesToGiveFeedbackTo(1)
+                .withShowResponsesTo(showResponsesTo)
+                .withShowGiverNameTo(showGiverNameTo)
+                .withShowRecipientNameTo(showRecipientNameTo)
+                .build();
+    }
+
+}
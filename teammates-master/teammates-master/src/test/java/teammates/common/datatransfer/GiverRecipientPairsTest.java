@@ -0,0 +1,54 @@
+package teammates.common.datatransfer;
+
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link GiverRecipientPairs}.
+ */
+public class GiverRecipientPairsTest extends BaseTestCase {
+
+    @Test
+    public void testAddGiverAndRecipient_shouldIndexInOrderOfAddition() {
+        GiverRecipientPairs pairs = new GiverRecipientPairs();
+
+        assertEquals(0, pairs.addGiver("giver1@email.tmt"));
+        assertEquals(1, pairs.addGiver("giver2@email.tmt"));
+        assertEquals(0, pairs.addGiver("giver1@email.tmt"));
+        assertEquals(0, pairs.addRecipient("recipient1@email.tmt"));
+        assertEquals(1, pairs.addRecipient("giver1@email.tmt"));
+
+        assertEquals(2, pairs.getNumberOfGivers());
+        assertEquals(2, pairs.getNumberOfRecipients());
+        assertEquals("giver2@email.tmt", pairs.getGiver(1));
+        assertEquals("giver1@email.tmt", pairs.getRecipient(1));
+        assertEquals(1, pairs.getGiverIndex("giver2@email.tmt"));
+        assertEquals(-1, pairs.getGiverIndex("recipient1@email.tmt"));
+        assertEquals(-1, pairs.getRecipientIndex("giver2@email.tmt"));
+        assertEquals(0, pairs.size());
+    }
+
+    @Test
+    public void testPairs_addedAndRemoved_shouldBeReflected() {
+        GiverRecipientPairs pairs = new GiverRecipientPairs();
+        int giverIndex = pairs.addGiver("giver@email.tmt");
+        pairs.getRecipientsOfGiver(giverIndex).set(pairs.addRecipient("recipient1@email.tmt"));
+        pairs.getRecipientsOfGiver(giverIndex).set(pairs.addRecipient("recipient2@email.tmt"));
+
+        assertTrue(pairs.contains("giver@email.tmt", "recipient1@email.tmt"));
+        assertTrue(pairs.contains("giver@email.tmt", "recipient2@email.tmt"));
+        assertFalse(pairs.contains("recipient1@email.tmt", "giver@email.tmt"));
+        assertEquals(2, pairs.size());
+
+        pairs.remove("giver@email.tmt", "recipient1@email.tmt");
+        // pairs which are not in the set are ignored
+        pairs.remove("giver@email.tmt", "non-existent@email.tmt");
+        pairs.remove("non-existent@email.tmt", "recipient2@email.tmt");
+
+        assertFalse(pairs.contains("giver@email.tmt", "recipient1@email.tmt"));
+        assertTrue(pairs.contains("giver@email.tmt", "recipient2@email.tmt"));
+        assertEquals(1, pairs.size());
+    }
+
+}
@@ -0,0 +1,144 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackTextQuestionDetails;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link MissingResponseList}.
+ */
+public class MissingResponseListTest extends BaseTestCase {
+
+    private final CourseRoster roster = new CourseRoster(Arrays.asList(
+            createStudent("student1@email.tmt", "Team 1", "Section 1"),
+            createStudent("student2@email.tmt", "Team 1", "Section 1"),
+            createStudent("student3@email.tmt", "Team 2", "Section 2")), new ArrayList<>());
+    private final FeedbackQuestionAttributes question = createQuestion();
+
+    @Test
+    public void testGetAndIterate_shouldGenerateResponsesOfPairsInOrder() {
+        GiverRecipientPairs pairs = createPairs();
+        // the second student has no missing response
+        pairs.getRecipientsOfGiver(0).set(2);
+        pairs.getRecipientsOfGiver(0).set(1);
+        pairs.getRecipientsOfGiver(2).set(0);
+
+        MissingResponseList missingResponses = new MissingResponseList(question, pairs, roster);
+
+        assertEquals(3, missingResponses.size());
+        verifyMissingResponse("student1@email.tmt", "student2@email.tmt", "Section 1", missingResponses.get(0));
+        verifyMissingResponse("student1@email.tmt", "student3@email.tmt", "Section 2", missingResponses.get(1));
+        verifyMissingResponse("student3@email.tmt", "student1@email.tmt", "Section 1", missingResponses.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> missingResponses.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> missingResponses.get(-1));
+
+        List<FeedbackResponseAttributes> iteratedResponses = new ArrayList<>();
+        Iterator<FeedbackResponseAttributes> iterator = missingResponses.iterator();
+        while (iterator.hasNext()) {
+            iteratedResponses.add(iterator.next());
+        }
+        assertThrows(NoSuchElementException.class, iterator::next);
+        assertEquals(3, iteratedResponses.size());
+        for (int i = 0; i < iteratedResponses.size(); i++) {
+            assertEquals(missingResponses.get(i).getId(), iteratedResponses.get(i).getId());
+        }
+    }
+
+    @Test
+    public void testGetAndIterate_noMissingResponses_shouldBeEmpty() {
+        MissingResponseList missingResponses = new MissingResponseList(question, createPairs(), roster);
+
+        assertEquals(0, missingResponses.size());
+        assertTrue(missingResponses.isEmpty());
+        assertFalse(missingResponses.iterator().hasNext());
+    }
+
+    @Test
+    public void testIsNameVisible_shouldBeVisibleIfVisibleForGiverOrRecipient() {
+        GiverRecipientPairs pairs = createPairs();
+        pairs.getRecipientsOfGiver(0).set(1);
+        pairs.getRecipientsOfGiver(1).set(2);
+        pairs.getRecipientsOfGiver(2).set(0);
+        MissingResponseList missingResponses = new MissingResponseList(question, pairs, roster);
+
+        // giver names are visible for responses given by the first student or given to the third student
+        BitSet giverNameVisibleForGivers = new BitSet();
+        giverNameVisibleForGivers.set(0);
+        BitSet giverNameVisibleForRecipients = new BitSet();
+        giverNameVisibleForRecipients.set(2);
+        missingResponses.setNameVisibility(true, giverNameVisibleForGivers, giverNameVisibleForRecipients);
+
+        assertTrue(missingResponses.isNameVisible(true, missingResponses.get(0)));
+        assertTrue(missingResponses.isNameVisible(true, missingResponses.get(1)));
+        assertFalse(missingResponses.isNameVisible(true, missingResponses.get(2)));
+        for (FeedbackResponseAttributes missingResponse : missingResponses) {
+            assertFalse(missingResponses.isNameVisible(false, missingResponse));
+        }
+
+        FeedbackResponseAttributes responseOfOtherGiver = FeedbackResponseAttributes
+                .builder(question.getId(), "non-existent@email.tmt", "student3@email.tmt")
+                .build();
+        assertFalse(missingResponses.isNameVisible(true, responseOfOtherGiver));
+    }
+
+    private GiverRecipientPairs createPairs() {
+        GiverRecipientPairs pairs = new GiverRecipientPairs();
+        for (StudentAttributes student : Arrays.asList(roster.getStudentForEmail("student1@email.tmt"),
+                roster.getStudentForEmail("student2@email.tmt"), roster.getStudentForEmail("student3@email.tmt"))) {
+            pairs.addGiver(student.getEmail());
+            pairs.addRecipient(student.getEmail());
+        }
+        return pairs;
+    }
+
+    private void verifyMissingResponse(String giver, String recipient, String recipientSection,
+            FeedbackResponseAttributes missingResponse) {
+        assertEquals(question.getId(), missingResponse.getFeedbackQuestionId());
+        assertEquals(question.getCourseId(), missingResponse.getCourseId());
+        assertEquals(question.getFeedbackSessionName(), missingResponse.getFeedbackSessionName());
+        assertEquals(giver, missingResponse.getGiver());
+        assertEquals(recipient, missingResponse.getRecipient());
+        assertEquals(roster.getStudentForEmail(giver).getSection(), missingResponse.getGiverSection());
+        assertEquals(recipientSection, missingResponse.getRecipientSection());
+        assertEquals("No Response", missingResponse.getResponseDetailsCopy().getAnswerString());
+    }
+
+    private static StudentAttributes createStudent(String email, String team, String section) {
+        return StudentAttributes.builder("course", email)
+                .withName(email)
+                .withTeamName(team)
+                .withSectionName(section)
+                .withComment("")
+                .build();
+    }
+
+    private static FeedbackQuestionAttributes createQuestion() {
+        FeedbackQuestionAttributes question = FeedbackQuestionAttributes.builder()
+                .withCourseId("course")
+                .withFeedbackSessionName("session")
+                .withQuestionDetails(new FeedbackTextQuestionDetails("question"))
+                .withQuestionDescription("")
+                .withQuestionNumber(1)
+                .withGiverType(FeedbackParticipantType.STUDENTS)
+                .withRecipientType(FeedbackParticipantType.STUDENTS)
+                .withNumberOfEntitiesToGiveFeedbackTo(1)
+                .withShowResponsesTo(new ArrayList<>())
+                .withShowGiverNameTo(new ArrayList<>())
+                .withShowRecipientNameTo(new ArrayList<>())
+                .build();
+        question.setId("question");
+        return question;
+    }
+
+}
@@ -146,4 +146,20 @@ public class SessionResultsBundleTest extends BaseTestCase {
         anonName = SessionResultsBundle.getAnonName(FeedbackParticipantType.STUDENTS, "test@gmail.com");
         assertTrue(anonName.startsWith(Const.DISPLAYED_NAME_FOR_ANONYMOUS_PARTICIPANT));
     }
+
+    @Test
+    public void testGetMemoizedAnonName_shouldBeSameAsAnonName() {
+        SessionResultsBundle bundle = new SessionResultsBundle(new HashMap<>(), new ArrayList<>(), new ArrayList<>(),
+                new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>(),
+                new CourseRoster(new ArrayList<>(), new ArrayList<>()));
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals(SessionResultsBundle.getAnonName(FeedbackParticipantType.STUDENTS, "Student 1"),
+                    bundle.getMemoizedAnonName(FeedbackParticipantType.STUDENTS, "Student 1"));
+            assertEquals(SessionResultsBundle.getAnonName(FeedbackParticipantType.TEAMS, "Student 1"),
+                    bundle.getMemoizedAnonName(FeedbackParticipantType.TEAMS, "Student 1"));
+            assertEquals(SessionResultsBundle.getAnonName(FeedbackParticipantType.STUDENTS, "Student 2"),
+                    bundle.getMemoizedAnonName(FeedbackParticipantType.STUDENTS, "Student 2"));
+        }
+    }
 }
@@ -0,0 +1,110 @@
+package teammates.common.datatransfer;
+
+import static teammates.common.datatransfer.TeamEvalResult.NSB;
+import static teammates.common.datatransfer.TeamEvalResult.NSU;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link TeamEvalResultBatch}.
+ */
+public class TeamEvalResultBatchTest extends BaseTestCase {
+
+    private static final int MAX_TEAM_SIZE = 8;
+    private static final int MAX_POINTS = 200;
+
+    @Test
+    public void testBatch_randomSubmissions_shouldMatchTeamEvalResultOfEachTeam() {
+        Random random = new Random(20211017);
+        for (int round = 0; round < 20; round++) {
+            List<int[][]> submissionValues = createRandomSubmissions(random, 50);
+
+            verifySameAsTeamEvalResults(submissionValues, new TeamEvalResultBatch(submissionValues, false));
+            verifySameAsTeamEvalResults(submissionValues, new TeamEvalResultBatch(submissionValues, true));
+        }
+    }
+
+    @Test
+    public void testBatch_specialSubmissions_shouldMatchTeamEvalResultOfEachTeam() {
+        List<int[][]> submissionValues = new ArrayList<>();
+        // nobody submitted
+        submissionValues.add(new int[][] {
+                { NSB, NSB, NSB },
+                { NSB, NSB, NSB },
+                { NSB, NSB, NSB },
+        });
+        // everybody is not sure
+        submissionValues.add(new int[][] {
+                { NSU, NSU },
+                { NSU, NSU },
+        });
+        // zero points given
+        submissionValues.add(new int[][] {
+                { 0, 0, 0 },
+                { 0, 100, 0 },
+                { NSB, NSB, NSB },
+        });
+        // team of one
+        submissionValues.add(new int[][] {
+                { 100 },
+        });
+
+        verifySameAsTeamEvalResults(submissionValues, new TeamEvalResultBatch(submissionValues, false));
+    }
+
+    @Test
+    public void testBatch_noTeams_shouldHaveNoResults() {
+        TeamEvalResultBatch batch = new TeamEvalResultBatch(new ArrayList<>(), true);
+
+        assertEquals(0, batch.getNumberOfTeams());
+    }
+
+    private List<int[][]> createRandomSubmissions(Random random, int numberOfTeams) {
+        List<int[][]> submissionValues = new ArrayList<>();
+        for (int team = 0; team < numberOfTeams; team++) {
+            int teamSize = 1 + random.nextInt(MAX_TEAM_SIZE);
+            int[][] submissions = new int[teamSize][teamSize];
+            for (int i = 0; i < teamSize; i++) {
+                boolean hasSubmitted = random.nextInt(5) != 0;
+                for (int j = 0; j < teamSize; j++) {
+                    if (!hasSubmitted) {
+                        submissions[i][j] = NSB;
+                    } else if (random.nextInt(10) == 0) {
+                        submissions[i][j] = NSU;
+                    } else {
+                        submissions[i][j] = random.nextInt(MAX_POINTS + 1);
+                    }
+                }
+            }
+            submissionValues.add(submissions);
+        }
+        return submissionValues;
+    }
+
+    private void verifySameAsTeamEvalResults(List<int[][]> submissionValues, TeamEvalResultBatch batch) {
+        assertEquals(submissionValues.size(), batch.getNumberOfTeams());
+        for (int team = 0; team < submissionValues.size(); team++) {
+            TeamEvalResult expected = new TeamEvalResult(submissionValues.get(team));
+            int teamSize = submissionValues.get(team).length;
+            assertEquals(teamSize, batch.getTeamSize(team));
+            for (int i = 0; i < teamSize; i++) {
+                assertEquals(expected.normalizedAveragePerceived[i], batch.getNormalizedAveragePerceived(team, i));
+                for (int j = 0; j < teamSize; j++) {
+                    assertEquals(expected.claimed[i][j], batch.getClaimed(team, i, j));
+                    assertEquals(expected.normalizedClaimed[i][j], batch.getNormalizedClaimed(team, i, j));
+                    assertEquals(expected.normalizedPeerContributionRatio[i][j],
+                            batch.getNormalizedPeerContributionRatio(team, i, j));
+                    assertEquals(expected.denormalizedAveragePerceived[i][j],
+                            batch.getDenormalizedAveragePerceived(team, i, j));
+                }
+            }
+        }
+    }
+
+}
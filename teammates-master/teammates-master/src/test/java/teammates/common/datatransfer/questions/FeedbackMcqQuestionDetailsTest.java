@@ -1,11 +1,20 @@
 package teammates.common.datatransfer.questions;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 import teammates.test.BaseTestCase;
 
 /**
@@ -116,4 +125,63 @@ public class FeedbackMcqQuestionDetailsTest extends BaseTestCase {
         assertTrue(feedbackQuestionDetails.isFeedbackParticipantCommentsOnResponsesAllowed());
     }
 
+    @Test
+    public void testGetQuestionResultStatisticsJson_weightedChoices_shouldCountAndWeighAnswers() {
+        FeedbackMcqQuestionDetails mcqDetails = new FeedbackMcqQuestionDetails("mcq question");
+        mcqDetails.setNumOfMcqChoices(2);
+        mcqDetails.setMcqChoices(Arrays.asList("A", "B"));
+        mcqDetails.setOtherEnabled(true);
+        mcqDetails.setHasAssignedWeights(true);
+        mcqDetails.setMcqWeights(Arrays.asList(1.0, 2.0));
+        mcqDetails.setMcqOtherWeight(3.0);
+        FeedbackQuestionAttributes question = FeedbackQuestionAttributes.builder()
+                .withCourseId("course")
+                .withFeedbackSessionName("session")
+                .withQuestionDetails(mcqDetails)
+                .withQuestionDescription("")
+                .withQuestionNumber(1)
+                .withGiverType(FeedbackParticipantType.STUDENTS)
+                .withRecipientType(FeedbackParticipantType.NONE)
+                .withNumberOfEntitiesToGiveFeedbackTo(1)
+                .withShowResponsesTo(new ArrayList<>())
+                .withShowGiverNameTo(new ArrayList<>())
+                .withShowRecipientNameTo(new ArrayList<>())
+                .build();
+        question.setId("question");
+
+        List<FeedbackResponseAttributes> responses = Arrays.asList(
+                createResponse("student1@email.tmt", "A", false),
+                createResponse("student2@email.tmt", "B", false),
+                createResponse("student3@email.tmt", "B", false),
+                createResponse("student4@email.tmt", "some other answer", true));
+        SessionResultsBundle bundle = new SessionResultsBundle(Collections.singletonMap("question", question),
+                responses, new ArrayList<>(), new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>(),
+                new CourseRoster(new ArrayList<>(), new ArrayList<>()));
+
+        ChoiceQuestionStatistics statistics = JsonUtils.fromJson(
+                mcqDetails.getQuestionResultStatisticsJson(question, null, bundle), ChoiceQuestionStatistics.class);
+
+        assertEquals(Arrays.asList("A", "B", "Other"), new ArrayList<>(statistics.getAnswerFrequency().keySet()));
+        assertEquals(Arrays.asList(1, 2, 1), new ArrayList<>(statistics.getAnswerFrequency().values()));
+        assertEquals(Arrays.asList(25.0, 50.0, 25.0), new ArrayList<>(statistics.getPercentagePerOption().values()));
+        assertEquals(Arrays.asList(1.0, 2.0, 3.0), new ArrayList<>(statistics.getWeightPerOption().values()));
+        assertEquals(Arrays.asList(12.5, 50.0, 37.5),
+                new ArrayList<>(statistics.getWeightedPercentagePerOption().values()));
+        assertEquals(1, statistics.getPerRecipientStatistics().size());
+        assertEquals(8.0, statistics.getPerRecipientStatistics().get(0).getTotal());
+        assertEquals(2.0, statistics.getPerRecipientStatistics().get(0).getAverage());
+    }
+
+    private FeedbackResponseAttributes createResponse(String giver, String answer, boolean isOther) {
+        FeedbackMcqResponseDetails responseDetails = new FeedbackMcqResponseDetails();
+        responseDetails.setAnswer(answer);
+        responseDetails.setOther(isOther);
+        responseDetails.setOtherFieldContent(isOther ? answer : "");
+        return FeedbackResponseAttributes.builder("question", giver, Const.GENERAL_QUESTION)
+                .withCourseId("course")
+                .withFeedbackSessionName("session")
+                .withResponseDetails(responseDetails)
+                .build();
+    }
+
 }
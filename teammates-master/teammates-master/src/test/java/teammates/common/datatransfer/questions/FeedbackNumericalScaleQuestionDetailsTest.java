@@ -1,10 +1,22 @@
 package teammates.common.datatransfer.questions;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 import teammates.test.BaseTestCase;
 
 /**
@@ -142,4 +154,90 @@ public class FeedbackNumericalScaleQuestionDetailsTest extends BaseTestCase {
         assertEquals(FeedbackNumericalScaleQuestionDetails.NUMSCALE_ERROR_MIN_MAX, errors.get(0));
         assertEquals(FeedbackNumericalScaleQuestionDetails.NUMSCALE_ERROR_STEP, errors.get(1));
     }
+
+    @Test
+    public void testGetQuestionResultStatisticsJson_shouldAggregateAnswersOfEachRecipient() {
+        FeedbackQuestionAttributes question = FeedbackQuestionAttributes.builder()
+                .withCourseId("course")
+                .withFeedbackSessionName("session")
+                .withQuestionDetails(new FeedbackNumericalScaleQuestionDetails("numerical scale question"))
+                .withQuestionDescription("")
+                .withQuestionNumber(1)
+                .withGiverType(FeedbackParticipantType.STUDENTS)
+                .withRecipientType(FeedbackParticipantType.STUDENTS)
+                .withNumberOfEntitiesToGiveFeedbackTo(Const.MAX_POSSIBLE_RECIPIENTS)
+                .withShowResponsesTo(new ArrayList<>())
+                .withShowGiverNameTo(new ArrayList<>())
+                .withShowRecipientNameTo(new ArrayList<>())
+                .build();
+        question.setId("question");
+
+        List<FeedbackResponseAttributes> responses = Arrays.asList(
+                createResponse("response1", "student1@email.tmt", "student2@email.tmt", 3),
+                createResponse("response2", "student2@email.tmt", "student2@email.tmt", 5),
+                createResponse("response3", "student3@email.tmt", "student2@email.tmt", 4),
+                createResponse("response4", "student1@email.tmt", "student3@email.tmt", 2));
+        Map<String, Boolean> recipientVisibilityTable = new HashMap<>();
+        recipientVisibilityTable.put("response1", true);
+        recipientVisibilityTable.put("response2", true);
+        recipientVisibilityTable.put("response3", true);
+        recipientVisibilityTable.put("response4", false);
+        List<StudentAttributes> students = Arrays.asList(
+                createStudent("student1@email.tmt", "Student 1"),
+                createStudent("student2@email.tmt", "Student 2"),
+                createStudent("student3@email.tmt", "Student 3"));
+        SessionResultsBundle bundle = new SessionResultsBundle(Collections.singletonMap("question", question),
+                responses, new ArrayList<>(), new HashMap<>(), recipientVisibilityTable, new HashMap<>(),
+                new HashMap<>(), new CourseRoster(students, new ArrayList<>()));
+
+        String statisticsJson = question.getQuestionDetailsCopy().getQuestionResultStatisticsJson(question, null, bundle);
+        FeedbackNumericalScaleQuestionDetails.NumericalScaleStatistics numScaleStatistics = JsonUtils.fromJson(
+                statisticsJson, FeedbackNumericalScaleQuestionDetails.NumericalScaleStatistics.class);
+        List<RecipientStatistics> statistics = numScaleStatistics.getRecipients();
+
+        assertEquals(2, statistics.size());
+
+        ______TS("recipient visible in all responses to it");
+        RecipientStatistics visibleRecipient = statistics.get(0);
+        assertEquals("Student 2", visibleRecipient.getRecipient());
+        assertEquals("Team 1", visibleRecipient.getRecipientTeam());
+        assertEquals(3, visibleRecipient.getNumberOfAnswers());
+        assertEquals(12.0, visibleRecipient.getTotal());
+        assertEquals(4.0, visibleRecipient.getAverage());
+        assertEquals(3.0, visibleRecipient.getMin());
+        assertEquals(5.0, visibleRecipient.getMax());
+        assertEquals(3.5, visibleRecipient.getAverageExcludingSelf());
+        assertEquals(5.0, visibleRecipient.getSelfAnswer());
+
+        ______TS("hidden recipient is anonymized as in the responses");
+        RecipientStatistics hiddenRecipient = statistics.get(1);
+        assertEquals(SessionResultsBundle.getAnonName(FeedbackParticipantType.STUDENTS, "Student 3"),
+                hiddenRecipient.getRecipient());
+        assertNull(hiddenRecipient.getRecipientTeam());
+        assertEquals(1, hiddenRecipient.getNumberOfAnswers());
+        assertEquals(2.0, hiddenRecipient.getAverage());
+        assertEquals(2.0, hiddenRecipient.getAverageExcludingSelf());
+        assertNull(hiddenRecipient.getSelfAnswer());
+    }
+
+    private FeedbackResponseAttributes createResponse(String id, String giver, String recipient, double answer) {
+        FeedbackNumericalScaleResponseDetails responseDetails = new FeedbackNumericalScaleResponseDetails();
+        responseDetails.setAnswer(answer);
+        FeedbackResponseAttributes response = FeedbackResponseAttributes.builder("question", giver, recipient)
+                .withCourseId("course")
+                .withFeedbackSessionName("session")
+                .withResponseDetails(responseDetails)
+                .build();
+        response.setId(id);
+        return response;
+    }
+
+    private StudentAttributes createStudent(String email, String name) {
+        return StudentAttributes.builder("course", email)
+                .withName(name)
+                .withTeamName("Team 1")
+                .withSectionName("Section 1")
+                .build();
+    }
+
 }
@@ -1,7 +1,13 @@
 package teammates.common.datatransfer.questions;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.util.JsonUtils;
 import teammates.test.BaseTestCase;
 
 /**
@@ -41,4 +47,34 @@ public class FeedbackQuestionDetailsTest extends BaseTestCase {
         assertEquals(ftqd1, ftqd2);
 
     }
+
+    @Test
+    public void testGetDeepCopy_allQuestionTypes_shouldBeSameAsSerializedCopy() {
+        DataBundle dataBundle = loadDataBundle("/FeedbackSessionQuestionTypeTest.json");
+
+        for (FeedbackQuestionAttributes question : dataBundle.feedbackQuestions.values()) {
+            FeedbackQuestionDetails details = question.getQuestionDetails();
+            FeedbackQuestionDetails copy = details.getDeepCopy();
+
+            assertNotSame(details, copy);
+            assertEquals(details.getClass(), copy.getClass());
+            assertEquals(details.getQuestionType(), copy.getQuestionType());
+            assertEquals(JsonUtils.fromJson(details.getJsonString(), details.getClass()), copy);
+        }
+    }
+
+    @Test
+    public void testGetDeepCopy_nestedListsModified_shouldNotAffectCopy() {
+        FeedbackRubricQuestionDetails details = new FeedbackRubricQuestionDetails("rubric question");
+        details.setRubricChoices(new ArrayList<>(Arrays.asList("Yes", "No")));
+        details.setRubricDescriptions(new ArrayList<>(Arrays.asList(
+                new ArrayList<>(Arrays.asList("a", "b")), new ArrayList<>(Arrays.asList("c", "d")))));
+
+        FeedbackRubricQuestionDetails copy = details.getDeepCopy();
+        details.getRubricChoices().add("Maybe");
+        details.getRubricDescriptions().get(0).set(0, "changed");
+
+        assertEquals(Arrays.asList("Yes", "No"), copy.getRubricChoices());
+        assertEquals(Arrays.asList("a", "b"), copy.getRubricDescriptions().get(0));
+    }
 }
@@ -44,4 +44,18 @@ public class FeedbackRankQuestionDetailsTest extends BaseTestCase {
         assertEquals(feedbackRankQuestionDetails.getMaxOptionsToBeRanked(), Const.POINTS_NO_VALUE);
         assertEquals(feedbackRankQuestionDetails.getMinOptionsToBeRanked(), Const.POINTS_NO_VALUE);
     }
+
+    @Test
+    public void testGetOverallRanks_tiedAndUnrankedEntities_shouldShareRanksAndBeSkipped() {
+        double[] averageRanks = { 2.5, 1.0, Double.NaN, 2.5, 4.0 };
+
+        int[] overallRanks = FeedbackRankQuestionDetails.getOverallRanks(averageRanks);
+
+        assertEquals(2, overallRanks[0]);
+        assertEquals(1, overallRanks[1]);
+        assertEquals(Const.POINTS_NOT_SUBMITTED, overallRanks[2]);
+        assertEquals(2, overallRanks[3]);
+        assertEquals(4, overallRanks[4]);
+    }
+
 }
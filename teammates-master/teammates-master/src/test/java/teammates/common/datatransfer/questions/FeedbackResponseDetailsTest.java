@@ -1,7 +1,12 @@
 package teammates.common.datatransfer.questions;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.test.BaseTestCase;
 
 /**
@@ -18,4 +23,30 @@ public class FeedbackResponseDetailsTest extends BaseTestCase {
         assertEquals("updated", frd.getAnswerString());
         assertEquals("original", frdDeep.getAnswerString());
     }
+
+    @Test
+    public void testGetDeepCopy_allQuestionTypes_shouldBeSameAsOriginal() {
+        DataBundle dataBundle = loadDataBundle("/FeedbackSessionQuestionTypeTest.json");
+
+        for (FeedbackResponseAttributes response : dataBundle.feedbackResponses.values()) {
+            FeedbackResponseDetails details = response.getResponseDetails();
+            FeedbackResponseDetails copy = details.getDeepCopy();
+
+            assertNotSame(details, copy);
+            assertEquals(details.getClass(), copy.getClass());
+            assertEquals(details.getQuestionType(), copy.getQuestionType());
+            assertEquals(details.getJsonString(), copy.getJsonString());
+        }
+    }
+
+    @Test
+    public void testGetDeepCopy_listModified_shouldNotAffectCopy() {
+        FeedbackMsqResponseDetails details = new FeedbackMsqResponseDetails();
+        details.setAnswers(new ArrayList<>(Arrays.asList("A", "B")));
+
+        FeedbackMsqResponseDetails copy = details.getDeepCopy();
+        details.getAnswers().add("C");
+
+        assertEquals(Arrays.asList("A", "B"), copy.getAnswers());
+    }
 }
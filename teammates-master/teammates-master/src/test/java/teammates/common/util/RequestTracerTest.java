@@ -0,0 +1,92 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link RequestTracer}.
+ */
+public class RequestTracerTest extends BaseTestCase {
+
+    @Test
+    public void testGetOrCreateRequestScopedObject() {
+
+        ______TS("no request being traced: nothing is bound");
+
+        RequestTracer.end();
+        assertNull(RequestTracer.getOrCreateRequestScopedObject("list", ArrayList::new));
+
+        ______TS("typical case: same object is returned within the same request");
+
+        RequestTracer.init("traceId", "spanId", 60);
+        try {
+            List<String> list = RequestTracer.getOrCreateRequestScopedObject("list", ArrayList::new);
+            list.add("value");
+
+            List<String> sameList = RequestTracer.getOrCreateRequestScopedObject("list", ArrayList::new);
+            assertSame(list, sameList);
+            assertEquals(1, sameList.size());
+
+            ______TS("new request: objects bound to the previous request are discarded");
+
+            RequestTracer.init("anotherTraceId", "spanId", 60);
+            List<String> newList = RequestTracer.getOrCreateRequestScopedObject("list", ArrayList::new);
+            assertNotSame(list, newList);
+            assertTrue(newList.isEmpty());
+        } finally {
+            RequestTracer.end();
+        }
+
+        ______TS("request ended: trace information is cleared");
+
+        assertNull(RequestTracer.getTraceId());
+        assertNull(RequestTracer.getOrCreateRequestScopedObject("list", ArrayList::new));
+    }
+
+    @Test
+    public void testBindToCurrentRequest() throws Exception {
+        RequestTracer.init("traceId", "spanId", 60);
+        Supplier<String> task;
+        try {
+            List<String> list = RequestTracer.getOrCreateRequestScopedObject("list", ArrayList::new);
+            list.add("value");
+            task = RequestTracer.bindToCurrentRequest(() -> {
+                List<String> boundList = RequestTracer.getOrCreateRequestScopedObject("list", ArrayList::new);
+                return RequestTracer.getTraceId() + ":" + boundList.get(0);
+            });
+        } finally {
+            RequestTracer.end();
+        }
+
+        ______TS("task run by another thread shares the trace of the request");
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertEquals("traceId:value", executor.submit(task::get).get());
+
+            ______TS("trace is not left behind in the other thread");
+
+            assertNull(executor.submit(RequestTracer::getTraceId).get());
+        } finally {
+            executor.shutdown();
+        }
+
+        ______TS("task run by a thread serving another request restores the trace of that request");
+
+        RequestTracer.init("anotherTraceId", "spanId", 60);
+        try {
+            assertEquals("traceId:value", task.get());
+            assertEquals("anotherTraceId", RequestTracer.getTraceId());
+        } finally {
+            RequestTracer.end();
+        }
+    }
+
+}
@@ -138,6 +138,15 @@ public class StringHelperTest extends BaseTestCase {
         }
     }
 
+    @Test
+    public void testDecryptingAfterInvalidCiphertext_shouldStillDecrypt() throws Exception {
+        String ciphertext = StringHelper.encrypt("Test decryption");
+
+        assertThrows(InvalidParametersException.class, () -> StringHelper.decrypt("AAAAAAAAAABBBBBBBBBBCCCCCCCCCC"));
+        assertEquals("Test decryption", StringHelper.decrypt(ciphertext));
+        assertEquals(ciphertext, StringHelper.encrypt("Test decryption"));
+    }
+
     @Test
     public void testRemoveExtraSpace() {
 
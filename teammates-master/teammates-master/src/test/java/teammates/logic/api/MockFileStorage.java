@@ -1,7 +1,9 @@
 package teammates.logic.api;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Allows mocking of {@link FileStorage}.
@@ -20,6 +22,13 @@ public class MockFileStorage extends FileStorage {
         return fileMap.getOrDefault(fileKey, new byte[0]);
     }
 
+    @Override
+    public List<String> getFileKeys(String fileKeyPrefix) {
+        return fileMap.keySet().stream()
+                .filter(fileKey -> fileKey.startsWith(fileKeyPrefix))
+                .collect(Collectors.toList());
+    }
+
     @Override
     public void delete(String fileKey) {
         fileMap.remove(fileKey);
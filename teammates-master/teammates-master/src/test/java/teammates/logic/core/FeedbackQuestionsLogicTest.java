@@ -13,6 +13,7 @@ import org.testng.annotations.Test;
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.GiverRecipientPairs;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -953,6 +954,50 @@ public class FeedbackQuestionsLogicTest extends BaseLogicTest {
         assertTrue(completeGiverRecipientMap.get("Team 1.2").contains("Team 1.1</td></div>'\""));
     }
 
+    @Test
+    public void testBuildCompleteGiverRecipientPairs_shouldMatchRecipientsOfQuestion() {
+        CourseRoster courseRoster = new CourseRoster(
+                studentsLogic.getStudentsForCourse("idOfTypicalCourse1"),
+                instructorsLogic.getInstructorsForCourse("idOfTypicalCourse1"));
+        FeedbackQuestionAttributes question = getQuestionFromDatabase("qn1InSession1InCourse1");
+        List<FeedbackParticipantType> recipientTypes = Arrays.asList(FeedbackParticipantType.SELF,
+                FeedbackParticipantType.STUDENTS, FeedbackParticipantType.INSTRUCTORS, FeedbackParticipantType.TEAMS,
+                FeedbackParticipantType.OWN_TEAM, FeedbackParticipantType.OWN_TEAM_MEMBERS,
+                FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF, FeedbackParticipantType.NONE);
+
+        for (FeedbackParticipantType giverType : Arrays.asList(FeedbackParticipantType.STUDENTS,
+                FeedbackParticipantType.TEAMS, FeedbackParticipantType.INSTRUCTORS)) {
+            for (FeedbackParticipantType recipientType : recipientTypes) {
+                question.setGiverType(giverType);
+                question.setRecipientType(recipientType);
+
+                GiverRecipientPairs pairs = fqLogic.buildCompleteGiverRecipientPairs(question, courseRoster);
+
+                int numberOfPairs = 0;
+                for (int giverIndex = 0; giverIndex < pairs.getNumberOfGivers(); giverIndex++) {
+                    String giver = pairs.getGiver(giverIndex);
+                    Set<String> expectedRecipients;
+                    if (giverType == FeedbackParticipantType.INSTRUCTORS) {
+                        expectedRecipients = fqLogic.getRecipientsOfQuestion(
+                                question, courseRoster.getInstructorForEmail(giver), null, courseRoster).keySet();
+                    } else {
+                        StudentAttributes studentGiver = giverType == FeedbackParticipantType.TEAMS
+                                ? courseRoster.getTeamToMembersTable().get(giver).iterator().next()
+                                : courseRoster.getStudentForEmail(giver);
+                        expectedRecipients = fqLogic.getRecipientsOfQuestion(
+                                question, null, studentGiver, courseRoster).keySet();
+                    }
+                    for (String recipient : expectedRecipients) {
+                        assertTrue(pairs.contains(giver, recipient));
+                    }
+                    assertEquals(expectedRecipients.size(), pairs.getRecipientsOfGiver(giverIndex).cardinality());
+                    numberOfPairs += expectedRecipients.size();
+                }
+                assertEquals(numberOfPairs, pairs.size());
+            }
+        }
+    }
+
     private void testGetFeedbackQuestionsForInstructor() throws Exception {
         List<FeedbackQuestionAttributes> expectedQuestions;
         List<FeedbackQuestionAttributes> actualQuestions;
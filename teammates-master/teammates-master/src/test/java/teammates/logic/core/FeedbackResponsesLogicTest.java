@@ -1,6 +1,8 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -25,6 +27,7 @@ import teammates.common.datatransfer.questions.FeedbackResponseDetails;
 import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.InvalidParametersException;
 import teammates.test.AssertHelper;
 
 /**
@@ -170,6 +173,123 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
                                 .build()));
     }
 
+    @Test
+    public void testBatchUpdateFeedbackResponsesCascade() throws Exception {
+        FeedbackResponseAttributes responseToDelete = getResponseFromDatabase("response1ForQ1S1C1");
+        FeedbackResponseAttributes responseToUpdate = getResponseFromDatabase("response2ForQ1S1C1");
+        String questionId = responseToDelete.getFeedbackQuestionId();
+        FeedbackResponseAttributes responseToCreate = FeedbackResponseAttributes
+                .builder(questionId, "student3InCourse1@gmail.tmt", "student3InCourse1@gmail.tmt")
+                .withFeedbackSessionName(responseToDelete.getFeedbackSessionName())
+                .withCourseId(responseToDelete.getCourseId())
+                .withGiverSection(responseToDelete.getGiverSection())
+                .withRecipientSection(responseToDelete.getRecipientSection())
+                .withResponseDetails(new FeedbackTextResponseDetails("New Response"))
+                .build();
+        FeedbackResponseAttributes.UpdateOptions updateOptions =
+                FeedbackResponseAttributes.updateOptionsBuilder(responseToUpdate.getId())
+                        .withResponseDetails(new FeedbackTextResponseDetails("Updated Response"))
+                        .build();
+
+        ______TS("failure: invalid response, nothing should be written");
+
+        FeedbackResponseAttributes invalidResponse = FeedbackResponseAttributes
+                .builder(questionId, "student4InCourse1@gmail.tmt", "student4InCourse1@gmail.tmt")
+                .withFeedbackSessionName(responseToDelete.getFeedbackSessionName())
+                .withCourseId("invalid course id")
+                .withResponseDetails(new FeedbackTextResponseDetails("Invalid Response"))
+                .build();
+        assertThrows(InvalidParametersException.class,
+                () -> frLogic.batchUpdateFeedbackResponsesCascade(
+                        Arrays.asList(responseToCreate, invalidResponse), Collections.singletonList(updateOptions),
+                        Collections.singletonList(responseToDelete.getId())));
+        assertNull(frLogic.getFeedbackResponse(responseToCreate.getId()));
+        assertEquals(responseToUpdate.toString(), frLogic.getFeedbackResponse(responseToUpdate.getId()).toString());
+        assertNotNull(frLogic.getFeedbackResponse(responseToDelete.getId()));
+
+        ______TS("failure: no such response to update, nothing should be written");
+
+        assertThrows(EntityDoesNotExistException.class,
+                () -> frLogic.batchUpdateFeedbackResponsesCascade(
+                        Collections.singletonList(responseToCreate),
+                        Collections.singletonList(FeedbackResponseAttributes.updateOptionsBuilder("non-existent")
+                                .withGiver("random")
+                                .build()),
+                        Collections.singletonList(responseToDelete.getId())));
+        assertNull(frLogic.getFeedbackResponse(responseToCreate.getId()));
+        assertNotNull(frLogic.getFeedbackResponse(responseToDelete.getId()));
+
+        ______TS("success: create, update and delete in one batch, should do cascade deletion to comments");
+
+        assertFalse(frcLogic.getFeedbackResponseCommentForResponse(responseToDelete.getId()).isEmpty());
+
+        List<FeedbackResponseAttributes> results = frLogic.batchUpdateFeedbackResponsesCascade(
+                Collections.singletonList(responseToCreate), Collections.singletonList(updateOptions),
+                Collections.singletonList(responseToDelete.getId()));
+
+        assertEquals(2, results.size());
+        assertEquals(responseToCreate.getId(), results.get(0).getId());
+        assertEquals("New Response", results.get(0).getResponseDetails().getAnswerString());
+        assertEquals(responseToUpdate.getId(), results.get(1).getId());
+        assertEquals("Updated Response", results.get(1).getResponseDetails().getAnswerString());
+
+        assertEquals("New Response",
+                frLogic.getFeedbackResponse(responseToCreate.getId()).getResponseDetails().getAnswerString());
+        assertEquals("Updated Response",
+                frLogic.getFeedbackResponse(responseToUpdate.getId()).getResponseDetails().getAnswerString());
+        assertNull(frLogic.getFeedbackResponse(responseToDelete.getId()));
+        assertTrue(frcLogic.getFeedbackResponseCommentForResponse(responseToDelete.getId()).isEmpty());
+
+        ______TS("failure: response to create already exists");
+
+        EntityAlreadyExistsException eaee = assertThrows(EntityAlreadyExistsException.class,
+                () -> frLogic.batchUpdateFeedbackResponsesCascade(
+                        Collections.singletonList(responseToCreate), new ArrayList<>(), new ArrayList<>()));
+        AssertHelper.assertContains("Trying to create an entity that exists", eaee.getMessage());
+    }
+
+    @Test
+    public void testBatchUpdateFeedbackResponsesCascade_recipientChanged_shouldDoCascadeUpdateToComments()
+            throws Exception {
+        FeedbackResponseAttributes responseToUpdate = getResponseFromDatabase("response1ForQ1S1C1");
+        assertFalse(frcLogic.getFeedbackResponseCommentForResponse(responseToUpdate.getId()).isEmpty());
+
+        List<FeedbackResponseAttributes> results = frLogic.batchUpdateFeedbackResponsesCascade(new ArrayList<>(),
+                Collections.singletonList(FeedbackResponseAttributes.updateOptionsBuilder(responseToUpdate.getId())
+                        .withRecipient("test@example.com")
+                        .withRecipientSection("recipientSection")
+                        .build()),
+                new ArrayList<>());
+
+        FeedbackResponseAttributes updatedResponse = results.get(0);
+        assertEquals("test@example.com", updatedResponse.getRecipient());
+        assertEquals("recipientSection", updatedResponse.getRecipientSection());
+        assertNull(frLogic.getFeedbackResponse(responseToUpdate.getId()));
+        assertTrue(frcLogic.getFeedbackResponseCommentForResponse(responseToUpdate.getId()).isEmpty());
+        List<FeedbackResponseCommentAttributes> associatedComments =
+                frcLogic.getFeedbackResponseCommentForResponse(updatedResponse.getId());
+        assertFalse(associatedComments.isEmpty());
+        assertTrue(associatedComments.stream()
+                .allMatch(c -> "recipientSection".equals(c.getReceiverSection())));
+    }
+
+    @Test
+    public void testBatchUpdateFeedbackResponsesCascade_responsesOfDifferentQuestions_shouldDoCascadeDeletionToComments()
+            throws Exception {
+        FeedbackResponseAttributes responseOfQ1 = getResponseFromDatabase("response1ForQ1S1C1");
+        FeedbackResponseAttributes responseOfQ2 = getResponseFromDatabase("response1ForQ2S1C1");
+        assertFalse(frcLogic.getFeedbackResponseCommentForResponse(responseOfQ1.getId()).isEmpty());
+        assertFalse(frcLogic.getFeedbackResponseCommentForResponse(responseOfQ2.getId()).isEmpty());
+
+        frLogic.batchUpdateFeedbackResponsesCascade(new ArrayList<>(), new ArrayList<>(),
+                Arrays.asList(responseOfQ1.getId(), responseOfQ2.getId()));
+
+        assertNull(frLogic.getFeedbackResponse(responseOfQ1.getId()));
+        assertNull(frLogic.getFeedbackResponse(responseOfQ2.getId()));
+        assertTrue(frcLogic.getFeedbackResponseCommentForResponse(responseOfQ1.getId()).isEmpty());
+        assertTrue(frcLogic.getFeedbackResponseCommentForResponse(responseOfQ2.getId()).isEmpty());
+    }
+
     @Test
     public void testUpdateFeedbackResponsesForChangingTeam_typicalData_shouldDoCascadeDeletion() throws Exception {
 
@@ -1003,7 +1123,8 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         assertTrue(responseGiverVisibilityTable.get(getResponseId("qn4.resp3", responseBundle)));
         assertFalse(responseGiverVisibilityTable.get(getResponseId("qn5.resp1", responseBundle)));
         assertTrue(responseGiverVisibilityTable.get(getResponseId("qn6.resp1", responseBundle)));
-        assertEquals(totalResponse + totalMissingResponse, responseGiverVisibilityTable.size());
+        // missing responses are generated as they are read and are not in the tables
+        assertEquals(totalResponse, responseGiverVisibilityTable.size());
 
         Map<String, Boolean> responseRecipientVisibilityTable = bundle.getResponseRecipientVisibilityTable();
         assertFalse(responseRecipientVisibilityTable.get(getResponseId("qn2.resp1", responseBundle)));
@@ -1016,13 +1137,31 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         assertTrue(responseRecipientVisibilityTable.get(getResponseId("qn4.resp3", responseBundle)));
         assertTrue(responseRecipientVisibilityTable.get(getResponseId("qn5.resp1", responseBundle)));
         assertTrue(responseRecipientVisibilityTable.get(getResponseId("qn6.resp1", responseBundle)));
-        assertEquals(totalResponse + totalMissingResponse, responseRecipientVisibilityTable.size());
+        assertEquals(totalResponse, responseRecipientVisibilityTable.size());
+        verifyNameVisibilityOfMissingResponses(bundle, instructor);
 
         // no entry in comment visibility table
         Map<Long, Boolean> commentGiverVisibilityTable = bundle.getCommentGiverVisibilityTable();
         assertEquals(0, commentGiverVisibilityTable.size());
     }
 
+    private void verifyNameVisibilityOfMissingResponses(SessionResultsBundle bundle, InstructorAttributes instructor) {
+        for (List<FeedbackResponseAttributes> missingResponses : bundle.getQuestionMissingResponseMap().values()) {
+            for (FeedbackResponseAttributes missingResponse : missingResponses) {
+                FeedbackQuestionAttributes question =
+                        bundle.getQuestionsMap().get(missingResponse.getFeedbackQuestionId());
+                assertEquals(question.getGiverType() == FeedbackParticipantType.NONE
+                                || frLogic.isNameVisibleToUser(question, missingResponse, instructor.getEmail(),
+                                        true, true, bundle.getRoster()),
+                        bundle.isResponseGiverVisible(missingResponse));
+                assertEquals(question.getRecipientType() == FeedbackParticipantType.NONE
+                                || frLogic.isNameVisibleToUser(question, missingResponse, instructor.getEmail(),
+                                        true, false, bundle.getRoster()),
+                        bundle.isResponseRecipientVisible(missingResponse));
+            }
+        }
+    }
+
     @Test
     public void testGetSessionResultsForCourse_allQuestionsSpecificSection_shouldGenerateCorrectBundle() {
         DataBundle responseBundle = loadDataBundle("/FeedbackSessionResultsTest.json");
@@ -1061,15 +1200,17 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         assertTrue(responseGiverVisibilityTable.get(getResponseId("qn4.resp3", responseBundle)));
         assertFalse(responseGiverVisibilityTable.get(getResponseId("qn2.resp3", responseBundle)));
         assertFalse(responseGiverVisibilityTable.get(getResponseId("qn2.resp1", responseBundle)));
-        assertEquals(totalResponse + totalMissingResponse, responseGiverVisibilityTable.size());
+        // missing responses are generated as they are read and are not in the tables
+        assertEquals(totalResponse, responseGiverVisibilityTable.size());
 
         Map<String, Boolean> responseRecipientVisibilityTable = bundle.getResponseRecipientVisibilityTable();
         assertFalse(responseRecipientVisibilityTable.get(getResponseId("qn3.resp1", responseBundle)));
         assertTrue(responseRecipientVisibilityTable.get(getResponseId("qn4.resp3", responseBundle)));
         assertFalse(responseRecipientVisibilityTable.get(getResponseId("qn2.resp3", responseBundle)));
         assertFalse(responseRecipientVisibilityTable.get(getResponseId("qn2.resp1", responseBundle)));
-        assertEquals(totalResponse + totalMissingResponse, responseGiverVisibilityTable.size());
-        assertEquals(totalResponse + totalMissingResponse, responseRecipientVisibilityTable.size());
+        assertEquals(totalResponse, responseGiverVisibilityTable.size());
+        assertEquals(totalResponse, responseRecipientVisibilityTable.size());
+        verifyNameVisibilityOfMissingResponses(bundle, instructor);
 
         // no entry in comment visibility table
         Map<Long, Boolean> commentGiverVisibilityTable = bundle.getCommentGiverVisibilityTable();
@@ -1078,6 +1219,103 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
 
     // TODO: check for cases where a person is both a student and an instructor
 
+    @Test
+    public void testGetSessionResultsForCourse_sameViewOfResults_shouldShareCachedBundle() throws Exception {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        String sessionName = session.getFeedbackSessionName();
+        String courseId = session.getCourseId();
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor3OfCourse1");
+        InstructorAttributes instructorWithSamePrivileges = dataBundle.instructors.get("instructorNotYetJoinCourse1");
+        InstructorAttributes participatingInstructor = dataBundle.instructors.get("instructor1OfCourse1");
+
+        ______TS("instructors with the same privileges share the results");
+
+        SessionResultsBundle bundle = frLogic.getSessionResultsForCourse(
+                sessionName, courseId, instructor.getEmail(), null, null);
+        assertSame(bundle, frLogic.getSessionResultsForCourse(
+                sessionName, courseId, instructorWithSamePrivileges.getEmail(), null, null));
+
+        ______TS("results of another section are not shared");
+
+        SessionResultsBundle sectionBundle = frLogic.getSessionResultsForCourse(
+                sessionName, courseId, instructor.getEmail(), null, "Section 1");
+        assertNotSame(bundle, sectionBundle);
+        assertSame(sectionBundle, frLogic.getSessionResultsForCourse(
+                sessionName, courseId, instructorWithSamePrivileges.getEmail(), null, "Section 1"));
+
+        ______TS("results of an instructor taking part in the session are not shared");
+
+        SessionResultsBundle participantBundle = frLogic.getSessionResultsForCourse(
+                sessionName, courseId, participatingInstructor.getEmail(), null, null);
+        assertNotSame(bundle, participantBundle);
+        assertNotSame(participantBundle, frLogic.getSessionResultsForCourse(
+                sessionName, courseId, participatingInstructor.getEmail(), null, null));
+
+        ______TS("results are built again after a response is written");
+
+        FeedbackQuestionAttributes question = getQuestionFromDatabase("qn1InSession1InCourse1");
+        frLogic.createFeedbackResponse(
+                FeedbackResponseAttributes.builder(question.getId(), "student3InCourse1@gmail.tmt",
+                        "student3InCourse1@gmail.tmt")
+                        .withFeedbackSessionName(sessionName)
+                        .withCourseId(courseId)
+                        .withGiverSection("Section 1")
+                        .withRecipientSection("Section 1")
+                        .withResponseDetails(new FeedbackTextResponseDetails("New response"))
+                        .build());
+
+        SessionResultsBundle rebuiltBundle = frLogic.getSessionResultsForCourse(
+                sessionName, courseId, instructor.getEmail(), null, null);
+        assertNotSame(bundle, rebuiltBundle);
+        assertEquals(bundle.getQuestionResponseMap().get(question.getId()).size() + 1,
+                rebuiltBundle.getQuestionResponseMap().get(question.getId()).size());
+
+        ______TS("results are built again after the roster changes");
+
+        studentsLogic.deleteStudentCascade(courseId, "student5InCourse1@gmail.tmt");
+
+        assertNotSame(rebuiltBundle, frLogic.getSessionResultsForCourse(
+                sessionName, courseId, instructor.getEmail(), null, null));
+    }
+
+    @Test
+    public void testGetSessionResultsForCourse_missingResponsesOfViewers_shouldNotShareCachedBundle() throws Exception {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        String sessionName = session.getFeedbackSessionName();
+        String courseId = session.getCourseId();
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor3OfCourse1");
+        InstructorAttributes instructorWithSamePrivileges = dataBundle.instructors.get("instructorNotYetJoinCourse1");
+
+        // a question answered by instructors, of which the responses are visible to their givers only
+        FeedbackQuestionAttributes question = getQuestionFromDatabase("qn4InSession1InCourse1");
+        fqLogic.updateFeedbackQuestionCascade(
+                FeedbackQuestionAttributes.updateOptionsBuilder(question.getId())
+                        .withShowResponsesTo(new ArrayList<>())
+                        .withShowGiverNameTo(new ArrayList<>())
+                        .withShowRecipientNameTo(new ArrayList<>())
+                        .build());
+
+        SessionResultsBundle bundle = frLogic.getSessionResultsForCourse(
+                sessionName, courseId, instructor.getEmail(), null, null);
+        SessionResultsBundle bundleOfOtherInstructor = frLogic.getSessionResultsForCourse(
+                sessionName, courseId, instructorWithSamePrivileges.getEmail(), null, null);
+
+        assertNotSame(bundle, bundleOfOtherInstructor);
+        assertEquals(Collections.singleton(instructor.getEmail()),
+                getGiversOfMissingResponses(bundle, question.getId()));
+        assertEquals(Collections.singleton(instructorWithSamePrivileges.getEmail()),
+                getGiversOfMissingResponses(bundleOfOtherInstructor, question.getId()));
+        assertEquals(Collections.singleton(instructor.getEmail()), getGiversOfMissingResponses(
+                frLogic.getSessionResultsForCourse(sessionName, courseId, instructor.getEmail(), null, null),
+                question.getId()));
+    }
+
+    private Set<String> getGiversOfMissingResponses(SessionResultsBundle bundle, String questionId) {
+        return bundle.getQuestionMissingResponseMap().get(questionId).stream()
+                .map(FeedbackResponseAttributes::getGiver)
+                .collect(Collectors.toSet());
+    }
+
     @Test
     public void testGetSessionResultsForUser_orphanResponseInDB_shouldStillHandleCorrectly() throws Exception {
         dataBundle = getTypicalDataBundle();
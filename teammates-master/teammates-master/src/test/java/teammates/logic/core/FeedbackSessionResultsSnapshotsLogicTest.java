@@ -0,0 +1,128 @@
+package teammates.logic.core;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionResultsSnapshotAttributes;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+
+/**
+ * SUT: {@link FeedbackSessionResultsSnapshotsLogic}.
+ */
+public class FeedbackSessionResultsSnapshotsLogicTest extends BaseLogicTest {
+
+    private final FeedbackSessionResultsSnapshotsLogic fsrsLogic = FeedbackSessionResultsSnapshotsLogic.inst();
+    private final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+    private final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
+
+    @Override
+    protected void prepareTestData() {
+        // test data is refreshed before each test case
+    }
+
+    @BeforeMethod
+    public void refreshTestData() {
+        dataBundle = getTypicalDataBundle();
+        removeAndRestoreTypicalDataBundle();
+    }
+
+    @Test
+    public void testCompleteFeedbackSessionResultsSnapshot() {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        String sessionName = session.getFeedbackSessionName();
+        String courseId = session.getCourseId();
+
+        ______TS("snapshot is not served before it is complete");
+
+        FeedbackSessionResultsSnapshotAttributes snapshot =
+                fsrsLogic.createFeedbackSessionResultsSnapshot(sessionName, courseId);
+        assertFalse(snapshot.isComplete());
+        assertNull(fsrsLogic.getCompleteFeedbackSessionResultsSnapshot(sessionName, courseId));
+
+        ______TS("no new generation is created while the snapshot exists");
+
+        assertNull(fsrsLogic.createFeedbackSessionResultsSnapshot(sessionName, courseId));
+        assertEquals(snapshot.getGenerationId(),
+                fsrsLogic.getFeedbackSessionResultsSnapshot(sessionName, courseId).getGenerationId());
+
+        ______TS("complete snapshot is served");
+
+        assertTrue(fsrsLogic.completeFeedbackSessionResultsSnapshot(snapshot));
+        FeedbackSessionResultsSnapshotAttributes completeSnapshot =
+                fsrsLogic.getCompleteFeedbackSessionResultsSnapshot(sessionName, courseId);
+        assertEquals(snapshot.getGenerationId(), completeSnapshot.getGenerationId());
+        assertEquals(snapshot.getFileKey("student@gmail.tmt"), completeSnapshot.getFileKey("student@gmail.tmt"));
+        assertNotEquals(snapshot.getFileKey("student@gmail.tmt"), snapshot.getFileKey("other.student@gmail.tmt"));
+        assertTrue(snapshot.getFileKey("student@gmail.tmt").startsWith(
+                FeedbackSessionResultsSnapshotAttributes.getFileKeyPrefix(sessionName, courseId)));
+        assertTrue(snapshot.isFileOfGeneration(snapshot.getFileKey("student@gmail.tmt")));
+
+        ______TS("snapshot discarded during its generation is not completed");
+
+        fsrsLogic.deleteFeedbackSessionResultsSnapshot(sessionName, courseId);
+        FeedbackSessionResultsSnapshotAttributes newSnapshot =
+                fsrsLogic.createFeedbackSessionResultsSnapshot(sessionName, courseId);
+        assertNotEquals(snapshot.getGenerationId(), newSnapshot.getGenerationId());
+        assertFalse(newSnapshot.isFileOfGeneration(snapshot.getFileKey("student@gmail.tmt")));
+
+        assertFalse(fsrsLogic.completeFeedbackSessionResultsSnapshot(snapshot));
+        assertNull(fsrsLogic.getCompleteFeedbackSessionResultsSnapshot(sessionName, courseId));
+    }
+
+    @Test
+    public void testDeleteFeedbackSessionResultsSnapshot_resultsChanged_shouldDiscardSnapshot() throws Exception {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        String sessionName = session.getFeedbackSessionName();
+        String courseId = session.getCourseId();
+        FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(sessionName, courseId, 1);
+
+        ______TS("snapshot is discarded when a response is created");
+
+        generateSnapshot(sessionName, courseId);
+        FeedbackResponseAttributes response = frLogic.createFeedbackResponse(
+                FeedbackResponseAttributes.builder(question.getId(), "snapshot.giver@gmail.tmt",
+                        "student1InCourse1@gmail.tmt")
+                        .withFeedbackSessionName(sessionName)
+                        .withCourseId(courseId)
+                        .withGiverSection("Section 1")
+                        .withRecipientSection("Section 1")
+                        .withResponseDetails(new FeedbackTextResponseDetails("Response for snapshot"))
+                        .build());
+        assertNull(fsrsLogic.getCompleteFeedbackSessionResultsSnapshot(sessionName, courseId));
+
+        ______TS("snapshot is discarded when a comment is deleted");
+
+        FeedbackResponseCommentAttributes comment = frcLogic
+                .getFeedbackResponseCommentForSessionInSection(courseId, sessionName, null).get(0);
+        generateSnapshot(sessionName, courseId);
+        frcLogic.deleteFeedbackResponseComment(comment.getId());
+        assertNull(fsrsLogic.getCompleteFeedbackSessionResultsSnapshot(sessionName, courseId));
+
+        ______TS("snapshot is discarded when a response is deleted");
+
+        generateSnapshot(sessionName, courseId);
+        frLogic.deleteFeedbackResponseCascade(response.getId());
+        assertNull(fsrsLogic.getCompleteFeedbackSessionResultsSnapshot(sessionName, courseId));
+
+        ______TS("snapshot is discarded when the session is unpublished");
+
+        fsLogic.publishFeedbackSession(sessionName, courseId);
+        generateSnapshot(sessionName, courseId);
+        fsLogic.unpublishFeedbackSession(sessionName, courseId);
+        assertNull(fsrsLogic.getCompleteFeedbackSessionResultsSnapshot(sessionName, courseId));
+    }
+
+    private void generateSnapshot(String feedbackSessionName, String courseId) {
+        FeedbackSessionResultsSnapshotAttributes snapshot =
+                fsrsLogic.createFeedbackSessionResultsSnapshot(feedbackSessionName, courseId);
+        assertTrue(fsrsLogic.completeFeedbackSessionResultsSnapshot(snapshot));
+        assertNotNull(fsrsLogic.getCompleteFeedbackSessionResultsSnapshot(feedbackSessionName, courseId));
+    }
+
+}
@@ -0,0 +1,134 @@
+package teammates.logic.core;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionStatsAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+
+/**
+ * SUT: {@link FeedbackSessionStatsLogic}.
+ */
+public class FeedbackSessionStatsLogicTest extends BaseLogicTest {
+
+    private final FeedbackSessionStatsLogic fssLogic = FeedbackSessionStatsLogic.inst();
+    private final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+    private final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    @Override
+    protected void prepareTestData() {
+        // test data is refreshed before each test case
+    }
+
+    @BeforeMethod
+    public void refreshTestData() {
+        dataBundle = getTypicalDataBundle();
+        removeAndRestoreTypicalDataBundle();
+    }
+
+    @Test
+    public void testGetFeedbackSessionStats_responsesCreatedAndDeleted_shouldKeepGiversUpToDate() throws Exception {
+        FeedbackSessionAttributes session = getSessionFromDatabase("session1InCourse1");
+        FeedbackQuestionAttributes question =
+                fqLogic.getFeedbackQuestion(session.getFeedbackSessionName(), session.getCourseId(), 1);
+        String newGiver = "stats.new.giver@gmail.tmt";
+
+        ______TS("statistics are computed in full when first requested");
+
+        FeedbackSessionStatsAttributes stats = fssLogic.getFeedbackSessionStats(session);
+        int originalSubmittedTotal = stats.getSubmittedTotal();
+        assertEquals(fsLogic.getExpectedTotalSubmission(session), stats.getExpectedTotal());
+        assertEquals(fsLogic.getActualTotalSubmission(session), originalSubmittedTotal);
+        assertFalse(stats.getGivers().contains(newGiver));
+
+        ______TS("giver is added when the giver's first response is created");
+
+        FeedbackResponseAttributes firstResponse =
+                frLogic.createFeedbackResponse(makeResponse(question, newGiver, "student1InCourse1@gmail.tmt"));
+        stats = fssLogic.getFeedbackSessionStats(session);
+        assertTrue(stats.getGivers().contains(newGiver));
+        assertEquals(originalSubmittedTotal + 1, stats.getSubmittedTotal());
+        assertEquals(fsLogic.getActualTotalSubmission(session), stats.getSubmittedTotal());
+
+        FeedbackResponseAttributes secondResponse =
+                frLogic.createFeedbackResponse(makeResponse(question, newGiver, "student2InCourse1@gmail.tmt"));
+        assertEquals(originalSubmittedTotal + 1, fssLogic.getFeedbackSessionStats(session).getSubmittedTotal());
+
+        ______TS("giver is removed only when the giver's last response is deleted");
+
+        frLogic.deleteFeedbackResponseCascade(firstResponse.getId());
+        assertTrue(fssLogic.getFeedbackSessionStats(session).getGivers().contains(newGiver));
+
+        frLogic.deleteFeedbackResponseCascade(secondResponse.getId());
+        stats = fssLogic.getFeedbackSessionStats(session);
+        assertFalse(stats.getGivers().contains(newGiver));
+        assertEquals(originalSubmittedTotal, stats.getSubmittedTotal());
+        assertEquals(fsLogic.getActualTotalSubmission(session), stats.getSubmittedTotal());
+    }
+
+    @Test
+    public void testIsGiverRecorded() throws Exception {
+        FeedbackSessionAttributes session = getSessionFromDatabase("session1InCourse1");
+        FeedbackQuestionAttributes question =
+                fqLogic.getFeedbackQuestion(session.getFeedbackSessionName(), session.getCourseId(), 1);
+        String newGiver = "stats.new.giver@gmail.tmt";
+
+        ______TS("givers are not recorded when the statistics are not maintained");
+
+        frLogic.createFeedbackResponse(makeResponse(question, newGiver, "student1InCourse1@gmail.tmt"));
+        assertFalse(fssLogic.isGiverRecorded(session.getFeedbackSessionName(), session.getCourseId(), newGiver));
+
+        ______TS("givers are recorded once the statistics are maintained");
+
+        fssLogic.getFeedbackSessionStats(session);
+        assertTrue(fssLogic.isGiverRecorded(session.getFeedbackSessionName(), session.getCourseId(), newGiver));
+        assertFalse(fssLogic.isGiverRecorded(session.getFeedbackSessionName(), session.getCourseId(),
+                "stats.non.existent.giver@gmail.tmt"));
+    }
+
+    @Test
+    public void testGetFeedbackSessionStats_rosterChanged_shouldRecomputeExpectedTotal() throws Exception {
+        FeedbackSessionAttributes session = getSessionFromDatabase("session1InCourse1");
+        int originalExpectedTotal = fssLogic.getFeedbackSessionStats(session).getExpectedTotal();
+
+        ______TS("statistics are recomputed after a student is enrolled");
+
+        studentsLogic.createStudent(StudentAttributes
+                .builder(session.getCourseId(), "stats.new.student@gmail.tmt")
+                .withName("New Student")
+                .withSectionName("Section 1")
+                .withTeamName("Team 1.1</td></div>'\"")
+                .withComment("")
+                .build());
+        FeedbackSessionStatsAttributes stats = fssLogic.getFeedbackSessionStats(session);
+        assertEquals(fsLogic.getExpectedTotalSubmission(session), stats.getExpectedTotal());
+        assertEquals(originalExpectedTotal + 1, stats.getExpectedTotal());
+
+        ______TS("statistics are recomputed after the student is removed");
+
+        studentsLogic.deleteStudentCascade(session.getCourseId(), "stats.new.student@gmail.tmt");
+        assertEquals(originalExpectedTotal, fssLogic.getFeedbackSessionStats(session).getExpectedTotal());
+    }
+
+    private FeedbackSessionAttributes getSessionFromDatabase(String jsonId) {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get(jsonId);
+        return fsLogic.getFeedbackSession(session.getFeedbackSessionName(), session.getCourseId());
+    }
+
+    private FeedbackResponseAttributes makeResponse(FeedbackQuestionAttributes question, String giver, String recipient) {
+        return FeedbackResponseAttributes.builder(question.getId(), giver, recipient)
+                .withFeedbackSessionName(question.getFeedbackSessionName())
+                .withCourseId(question.getCourseId())
+                .withGiverSection("Section 1")
+                .withRecipientSection("Section 1")
+                .withResponseDetails(new FeedbackTextResponseDetails("Response for statistics"))
+                .build();
+    }
+
+}
@@ -1,5 +1,9 @@
 package teammates.storage.api;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.AccountAttributes;
@@ -41,6 +45,28 @@ public class AccountsDbTest extends BaseTestCaseWithLocalDatabaseAccess {
         accountsDb.deleteAccount(a.getGoogleId());
     }
 
+    @Test
+    public void testGetAccounts() throws Exception {
+        AccountAttributes a = createNewAccount();
+
+        ______TS("typical success case: accounts are returned in the order of the Google IDs");
+        List<AccountAttributes> retrieved =
+                accountsDb.getAccounts(Arrays.asList("non.existent", a.getGoogleId(), a.getGoogleId()));
+        assertEquals(3, retrieved.size());
+        assertNull(retrieved.get(0));
+        assertEquals(a.getGoogleId(), retrieved.get(1).getGoogleId());
+        assertEquals(a.getGoogleId(), retrieved.get(2).getGoogleId());
+
+        ______TS("no Google IDs");
+        assertTrue(accountsDb.getAccounts(new ArrayList<>()).isEmpty());
+
+        ______TS("failure: null parameter");
+        assertThrows(AssertionError.class, () -> accountsDb.getAccounts(null));
+
+        // delete created account
+        accountsDb.deleteAccount(a.getGoogleId());
+    }
+
     @Test
     public void testCreateAccount() throws Exception {
 
@@ -4,13 +4,21 @@ import static teammates.common.util.FieldValidator.COURSE_ID_ERROR_MESSAGE;
 import static teammates.common.util.FieldValidator.REASON_INCORRECT_FORMAT;
 
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.testng.annotations.Test;
 
+import com.googlecode.objectify.Key;
+
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.FieldValidator;
+import teammates.common.util.RequestTracer;
+import teammates.storage.entity.Course;
 import teammates.test.AssertHelper;
 import teammates.test.BaseTestCaseWithLocalDatabaseAccess;
 
@@ -68,4 +76,178 @@ public class EntitiesDbTest extends BaseTestCaseWithLocalDatabaseAccess {
         assertThrows(AssertionError.class, () -> coursesDb.createEntity(null));
     }
 
+    @Test
+    public void testRequestScopedCache_writes_shouldInvalidateCachedEntities() throws Exception {
+        CourseAttributes c = CourseAttributes
+                .builder("Computing101-cached")
+                .withName("Basic Computing")
+                .withTimezone(ZoneId.of("UTC"))
+                .withInstitute("Test institute")
+                .build();
+        coursesDb.deleteCourse(c.getId());
+
+        RequestTracer.init("traceId", "spanId", 60);
+        try {
+            ______TS("non-existence is served from cache until the entity is created");
+
+            assertNull(coursesDb.getCourse(c.getId()));
+            assertNull(coursesDb.getCourse(c.getId()));
+
+            coursesDb.createEntity(c);
+            assertEquals("Basic Computing", coursesDb.getCourse(c.getId()).getName());
+
+            ______TS("updates are visible to subsequent lookups in the same request");
+
+            coursesDb.updateCourse(
+                    CourseAttributes.updateOptionsBuilder(c.getId())
+                            .withName("Advanced Computing")
+                            .build());
+            assertEquals("Advanced Computing", coursesDb.getCourse(c.getId()).getName());
+
+            ______TS("deletions are visible to subsequent lookups in the same request");
+
+            coursesDb.deleteCourse(c.getId());
+            assertNull(coursesDb.getCourse(c.getId()));
+        } finally {
+            RequestTracer.end();
+        }
+
+        verifyAbsentInDatabase(c);
+    }
+
+    @Test
+    public void testSharedCache_writes_shouldInvalidateCachedEntities() throws Exception {
+        SharedEntityCache cache = SharedEntityCache.forKind(Key.getKind(Course.class));
+        CourseAttributes c = CourseAttributes
+                .builder("Computing101-shared")
+                .withName("Basic Computing")
+                .withTimezone(ZoneId.of("UTC"))
+                .withInstitute("Test institute")
+                .build();
+        coursesDb.deleteCourse(c.getId());
+
+        ______TS("repeated lookups across requests are served from cache");
+
+        coursesDb.createEntity(c);
+        assertEquals("Basic Computing", coursesDb.getCourse(c.getId()).getName());
+        long hitCount = cache.getEntityStats().hitCount();
+        assertEquals("Basic Computing", coursesDb.getCourse(c.getId()).getName());
+        assertEquals(hitCount + 1, cache.getEntityStats().hitCount());
+
+        ______TS("updates are visible to subsequent lookups");
+
+        coursesDb.updateCourse(
+                CourseAttributes.updateOptionsBuilder(c.getId())
+                        .withName("Advanced Computing")
+                        .build());
+        assertEquals("Advanced Computing", coursesDb.getCourse(c.getId()).getName());
+
+        ______TS("deletions are visible to subsequent lookups");
+
+        coursesDb.deleteCourse(c.getId());
+        assertNull(coursesDb.getCourse(c.getId()));
+        verifyAbsentInDatabase(c);
+    }
+
+    @Test
+    public void testStreamEntities_resultsSpanningMultiplePages_shouldReturnAllResults() throws Exception {
+        List<String> courseIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            CourseAttributes c = CourseAttributes
+                    .builder("Computing101-streamed-" + i)
+                    .withName("Basic Computing")
+                    .withTimezone(ZoneId.of("UTC"))
+                    .withInstitute("Streamed institute")
+                    .build();
+            coursesDb.deleteCourse(c.getId());
+            coursesDb.createEntity(c);
+            courseIds.add(c.getId());
+        }
+
+        ______TS("results are fetched page by page");
+
+        List<String> streamedCourseIds = coursesDb
+                .streamEntities(coursesDb.load().filter("institute =", "Streamed institute"), 2)
+                .map(Course::getUniqueId)
+                .collect(Collectors.toList());
+        assertEquals(courseIds, streamedCourseIds);
+
+        ______TS("results ending on a page boundary");
+
+        streamedCourseIds = coursesDb
+                .streamEntities(coursesDb.load().filter("institute =", "Streamed institute"), 5)
+                .map(Course::getUniqueId)
+                .collect(Collectors.toList());
+        assertEquals(courseIds, streamedCourseIds);
+
+        ______TS("stream can be short-circuited");
+
+        assertEquals(courseIds.subList(0, 3), coursesDb
+                .streamAttributes(coursesDb.load().filter("institute =", "Streamed institute"))
+                .limit(3)
+                .map(CourseAttributes::getId)
+                .collect(Collectors.toList()));
+
+        ______TS("no results");
+
+        assertEquals(0, coursesDb.streamEntities(coursesDb.load().filter("institute =", "non-existent"), 2).count());
+
+        for (String courseId : courseIds) {
+            coursesDb.deleteCourse(courseId);
+        }
+    }
+
+    @Test
+    public void testListEntitiesOfAnyQuery_overlappingQueries_shouldReturnEachEntityOnce() throws Exception {
+        List<String> courseIds = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            CourseAttributes c = CourseAttributes
+                    .builder("Computing101-any-" + i)
+                    .withName(i % 2 == 0 ? "Basic Computing" : "Advanced Computing")
+                    .withTimezone(ZoneId.of("UTC"))
+                    .withInstitute(i < 2 ? "Any query institute" : "Other any query institute")
+                    .build();
+            coursesDb.deleteCourse(c.getId());
+            coursesDb.createEntity(c);
+            courseIds.add(c.getId());
+        }
+
+        ______TS("entities matching several queries are returned once");
+
+        List<String> courseIdsOfAnyQuery = coursesDb.listEntitiesOfAnyQuery(Arrays.asList(
+                coursesDb.load().filter("institute =", "Any query institute"),
+                coursesDb.load().filter("name =", "Basic Computing")))
+                .stream()
+                .map(Course::getUniqueId)
+                .filter(courseIds::contains)
+                .sorted()
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList(courseIds.get(0), courseIds.get(1), courseIds.get(2)), courseIdsOfAnyQuery);
+
+        ______TS("queries cached by the request are combined with those which are not");
+
+        RequestTracer.init("traceId", "spanId", 60);
+        try {
+            coursesDb.listEntities(coursesDb.load().filter("institute =", "Other any query institute"));
+            courseIdsOfAnyQuery = coursesDb.listEntitiesOfAnyQuery(Arrays.asList(
+                    coursesDb.load().filter("institute =", "Any query institute"),
+                    coursesDb.load().filter("institute =", "Other any query institute")))
+                    .stream()
+                    .map(Course::getUniqueId)
+                    .sorted()
+                    .collect(Collectors.toList());
+            assertEquals(courseIds, courseIdsOfAnyQuery);
+        } finally {
+            RequestTracer.end();
+        }
+
+        ______TS("no queries");
+
+        assertTrue(coursesDb.listEntitiesOfAnyQuery(new ArrayList<>()).isEmpty());
+
+        for (String courseId : courseIds) {
+            coursesDb.deleteCourse(courseId);
+        }
+    }
+
 }
@@ -2,6 +2,8 @@ package teammates.storage.api;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.testng.annotations.AfterMethod;
@@ -622,6 +624,26 @@ public class FeedbackResponseCommentsDbTest extends BaseTestCaseWithLocalDatabas
         assertEquals(0, comments.size());
     }
 
+    @Test
+    public void testGetFeedbackResponseCommentsForResponses_typicalCase_shouldQueryCorrectly() {
+        FeedbackResponseCommentAttributes frc = dataBundle.feedbackResponseComments.get("comment1FromT1C1ToR1Q1S1C1");
+        frc = getFeedbackResponseComment(frc.getCourseId(), frc.getCreatedAt(), frc.getCommentGiver());
+        FeedbackResponseCommentAttributes anotherFrc =
+                dataBundle.feedbackResponseComments.get("comment1FromT1C1ToR1Q2S1C1");
+        anotherFrc = getFeedbackResponseComment(
+                anotherFrc.getCourseId(), anotherFrc.getCreatedAt(), anotherFrc.getCommentGiver());
+
+        List<FeedbackResponseCommentAttributes> comments = frcDb.getFeedbackResponseCommentsForResponses(
+                Arrays.asList(frc.getFeedbackResponseId(), anotherFrc.getFeedbackResponseId(), "not_exist"));
+        List<FeedbackResponseCommentAttributes> expectedComments =
+                new ArrayList<>(frcDb.getFeedbackResponseCommentsForResponse(frc.getFeedbackResponseId()));
+        expectedComments.addAll(frcDb.getFeedbackResponseCommentsForResponse(anotherFrc.getFeedbackResponseId()));
+        verifyListsContainSameResponseCommentAttributes(expectedComments, comments);
+
+        comments = frcDb.getFeedbackResponseCommentsForResponses(Collections.emptyList());
+        assertTrue(comments.isEmpty());
+    }
+
     private FeedbackResponseCommentAttributes getFeedbackResponseComment(String courseId, Instant createdAt, String giver) {
         return frcDb.getFeedbackResponseCommentForGiver(courseId, giver)
                 .stream()
@@ -3,6 +3,7 @@ package teammates.storage.api;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeClass;
@@ -438,6 +439,37 @@ public class FeedbackResponsesDbTest extends BaseTestCaseWithLocalDatabaseAccess
 
     }
 
+    @Test
+    public void testStreamFeedbackResponsesForSession() {
+
+        ______TS("standard success case");
+
+        String feedbackSessionName = fras.get("response1ForQ1S1C1").getFeedbackSessionName();
+        String courseId = fras.get("response1ForQ1S1C1").getCourseId();
+
+        Set<String> streamedResponseIds = frDb.streamFeedbackResponsesForSession(feedbackSessionName, courseId)
+                .map(FeedbackResponseAttributes::getId)
+                .collect(Collectors.toSet());
+        Set<String> responseIds = frDb.getFeedbackResponsesForSession(feedbackSessionName, courseId).stream()
+                .map(FeedbackResponseAttributes::getId)
+                .collect(Collectors.toSet());
+
+        assertEquals(6, streamedResponseIds.size());
+        assertEquals(responseIds, streamedResponseIds);
+
+        ______TS("null params");
+
+        assertThrows(AssertionError.class,
+                () -> frDb.streamFeedbackResponsesForSession(null, courseId));
+
+        assertThrows(AssertionError.class,
+                () -> frDb.streamFeedbackResponsesForSession(feedbackSessionName, null));
+
+        ______TS("non-existent feedback session");
+
+        assertEquals(0, frDb.streamFeedbackResponsesForSession("non-existent feedback session", courseId).count());
+    }
+
     @Test
     public void testGetFeedbackResponsesForReceiverForCourse() {
 
@@ -564,6 +596,44 @@ public class FeedbackResponsesDbTest extends BaseTestCaseWithLocalDatabaseAccess
                 courseId, "non-existentStudentInCourse1@gmail.tmt").isEmpty());
     }
 
+    @Test
+    public void testGetFeedbackResponsesFromGiverForSession() {
+
+        ______TS("standard success case");
+
+        FeedbackResponseAttributes response = fras.get("response1ForQ1S1C1");
+        String courseId = response.getCourseId();
+        String feedbackSessionName = response.getFeedbackSessionName();
+
+        List<FeedbackResponseAttributes> responses =
+                frDb.getFeedbackResponsesFromGiverForSession("student1InCourse1@gmail.tmt", feedbackSessionName, courseId);
+
+        assertEquals(1, responses.size());
+        assertEquals(response.getId(), responses.get(0).getId());
+
+        ______TS("null params");
+
+        assertThrows(AssertionError.class,
+                () -> frDb.getFeedbackResponsesFromGiverForSession(null, feedbackSessionName, courseId));
+
+        assertThrows(AssertionError.class,
+                () -> frDb.getFeedbackResponsesFromGiverForSession("student1InCourse1@gmail.tmt", null, courseId));
+
+        assertThrows(AssertionError.class,
+                () -> frDb.getFeedbackResponsesFromGiverForSession(
+                        "student1InCourse1@gmail.tmt", feedbackSessionName, null));
+
+        ______TS("non-existent feedback session");
+
+        assertTrue(frDb.getFeedbackResponsesFromGiverForSession(
+                "student1InCourse1@gmail.tmt", "non-existent session", courseId).isEmpty());
+
+        ______TS("non-existent giver");
+
+        assertTrue(frDb.getFeedbackResponsesFromGiverForSession(
+                "non-existentStudentInCourse1@gmail.tmt", feedbackSessionName, courseId).isEmpty());
+    }
+
     @Test
     public void testGetFeedbackResponsesForSessionInSection() {
 
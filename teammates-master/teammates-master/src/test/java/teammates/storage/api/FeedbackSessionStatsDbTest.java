@@ -0,0 +1,77 @@
+package teammates.storage.api;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionStatsAttributes;
+import teammates.test.BaseTestCaseWithLocalDatabaseAccess;
+
+/**
+ * SUT: {@link FeedbackSessionStatsDb}.
+ */
+public class FeedbackSessionStatsDbTest extends BaseTestCaseWithLocalDatabaseAccess {
+
+    private static final String SESSION_NAME = "Stats Session";
+    private static final String COURSE_ID = "FSSDbT.course";
+
+    private final FeedbackSessionStatsDb fssDb = FeedbackSessionStatsDb.inst();
+
+    @AfterMethod
+    public void deleteStatsFromDb() {
+        fssDb.deleteFeedbackSessionStats(SESSION_NAME, COURSE_ID);
+    }
+
+    @Test
+    public void testPutRecomputedFeedbackSessionStats_giversUpdatedWhileComputing_shouldKeepUpdates() {
+        ______TS("statistics are created without givers before being computed");
+
+        FeedbackSessionStatsAttributes baseStats = fssDb.getOrCreateFeedbackSessionStats(SESSION_NAME, COURSE_ID);
+        assertEquals(0, baseStats.getSubmittedTotal());
+        assertEquals(baseStats.getCreatedAt(),
+                fssDb.getOrCreateFeedbackSessionStats(SESSION_NAME, COURSE_ID).getCreatedAt());
+
+        ______TS("givers added and removed while computing are merged into the computed statistics");
+
+        fssDb.addGivers(SESSION_NAME, COURSE_ID, Arrays.asList("giver1@gmail.tmt", "giver2@gmail.tmt"));
+        fssDb.removeGivers(SESSION_NAME, COURSE_ID, Collections.singletonList("giver2@gmail.tmt"));
+
+        // the computation saw giver2 before it was removed, but not giver1
+        FeedbackSessionStatsAttributes newStats = FeedbackSessionStatsAttributes.builder(SESSION_NAME, COURSE_ID)
+                .withExpectedTotal(5)
+                .withGivers(new HashSet<>(Arrays.asList("giver2@gmail.tmt", "giver3@gmail.tmt")))
+                .build();
+        FeedbackSessionStatsAttributes savedStats = fssDb.putRecomputedFeedbackSessionStats(baseStats, newStats);
+
+        assertEquals(new HashSet<>(Arrays.asList("giver1@gmail.tmt", "giver3@gmail.tmt")), savedStats.getGivers());
+        assertEquals(5, savedStats.getExpectedTotal());
+        assertEquals(savedStats.getGivers(), fssDb.getFeedbackSessionStats(SESSION_NAME, COURSE_ID).getGivers());
+
+        ______TS("statistics computed in full again since are kept");
+
+        FeedbackSessionStatsAttributes outdatedStats = FeedbackSessionStatsAttributes.builder(SESSION_NAME, COURSE_ID)
+                .withExpectedTotal(4)
+                .build();
+        savedStats = fssDb.putRecomputedFeedbackSessionStats(baseStats, outdatedStats);
+
+        assertEquals(5, savedStats.getExpectedTotal());
+        assertEquals(5, fssDb.getFeedbackSessionStats(SESSION_NAME, COURSE_ID).getExpectedTotal());
+    }
+
+    @Test
+    public void testPutRecomputedFeedbackSessionStats_statsDeletedWhileComputing_shouldNotSave() {
+        FeedbackSessionStatsAttributes baseStats = fssDb.getOrCreateFeedbackSessionStats(SESSION_NAME, COURSE_ID);
+        fssDb.deleteFeedbackSessionStats(SESSION_NAME, COURSE_ID);
+
+        FeedbackSessionStatsAttributes newStats = FeedbackSessionStatsAttributes.builder(SESSION_NAME, COURSE_ID)
+                .withExpectedTotal(5)
+                .build();
+
+        assertNull(fssDb.putRecomputedFeedbackSessionStats(baseStats, newStats));
+        assertNull(fssDb.getFeedbackSessionStats(SESSION_NAME, COURSE_ID));
+    }
+
+}
@@ -3,6 +3,9 @@ package teammates.storage.api;
 import static teammates.common.util.FieldValidator.COURSE_ID_ERROR_MESSAGE;
 import static teammates.common.util.FieldValidator.REASON_INCORRECT_FORMAT;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
@@ -155,6 +158,26 @@ public class StudentsDbTest extends BaseTestCaseWithLocalDatabaseAccess {
         studentsDb.deleteStudent(s2.getCourse(), s2.getEmail());
     }
 
+    @Test
+    public void testGetStudentsForUniqueIds() throws Exception {
+        StudentAttributes s = createNewStudent();
+        StudentAttributes s2 = createNewStudent("one.new@gmail.com");
+
+        ______TS("typical success case: students are returned in the order of the IDs");
+        List<StudentAttributes> retrieved = studentsDb.getStudentsForUniqueIds(
+                Arrays.asList(s2.getId(), "non-existent@email.com%any-course-id", s.getId()));
+        assertEquals(3, retrieved.size());
+        assertTrue(isEnrollInfoSameAs(s2, retrieved.get(0)));
+        assertNull(retrieved.get(1));
+        assertTrue(isEnrollInfoSameAs(s, retrieved.get(2)));
+
+        ______TS("null params case");
+        assertThrows(AssertionError.class, () -> studentsDb.getStudentsForUniqueIds(null));
+
+        studentsDb.deleteStudent(s.getCourse(), s.getEmail());
+        studentsDb.deleteStudent(s2.getCourse(), s2.getEmail());
+    }
+
     @Test
     public void testUpdateStudent_noChangeToStudent_shouldNotIssueSaveRequest() throws Exception {
         StudentAttributes s = createNewStudent();
@@ -78,6 +78,8 @@ public abstract class BaseTestCaseWithLocalDatabaseAccess extends BaseTestCaseWi
         SearchManagerFactory.getStudentSearchManager().resetCollections();
 
         LOCAL_DATASTORE_HELPER.reset();
+        OfyHelper.clearSharedEntityCaches();
+        LogicStarter.clearCaches();
     }
 
     @AfterSuite
@@ -1,12 +1,16 @@
 package teammates.test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletResponse;
 
@@ -22,6 +26,9 @@ public class MockHttpServletResponse implements HttpServletResponse {
     private int statusCode = HttpStatus.SC_OK;
     private String redirectUrl;
     private List<Cookie> cookies = new ArrayList<>();
+    private Map<String, List<String>> headers = new HashMap<>();
+    private ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    private boolean isCommitted;
 
     @Override
     public void addCookie(Cookie cookie) {
@@ -30,7 +37,7 @@ public class MockHttpServletResponse implements HttpServletResponse {
 
     @Override
     public boolean containsHeader(String name) {
-        return false;
+        return headers.containsKey(name);
     }
 
     @Override
@@ -84,12 +91,14 @@ public class MockHttpServletResponse implements HttpServletResponse {
 
     @Override
     public void setHeader(String name, String value) {
-        // not used
+        List<String> values = new ArrayList<>();
+        values.add(value);
+        headers.put(name, values);
     }
 
     @Override
     public void addHeader(String name, String value) {
-        // not used
+        headers.computeIfAbsent(name, k -> new ArrayList<>()).add(value);
     }
 
     @Override
@@ -119,17 +128,18 @@ public class MockHttpServletResponse implements HttpServletResponse {
 
     @Override
     public String getHeader(String s) {
-        return null;
+        List<String> values = headers.get(s);
+        return values == null ? null : values.get(0);
     }
 
     @Override
     public Collection<String> getHeaders(String s) {
-        return null;
+        return headers.getOrDefault(s, new ArrayList<>());
     }
 
     @Override
     public Collection<String> getHeaderNames() {
-        return null;
+        return headers.keySet();
     }
 
     @Override
@@ -144,7 +154,22 @@ public class MockHttpServletResponse implements HttpServletResponse {
 
     @Override
     public ServletOutputStream getOutputStream() {
-        return null;
+        return new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                outputStream.write(b);
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                // not used
+            }
+        };
     }
 
     @Override
@@ -184,7 +209,7 @@ public class MockHttpServletResponse implements HttpServletResponse {
 
     @Override
     public void flushBuffer() {
-        // not used
+        isCommitted = true;
     }
 
     @Override
@@ -194,7 +219,7 @@ public class MockHttpServletResponse implements HttpServletResponse {
 
     @Override
     public boolean isCommitted() {
-        return false;
+        return isCommitted;
     }
 
     @Override
@@ -216,4 +241,11 @@ public class MockHttpServletResponse implements HttpServletResponse {
         return this.cookies;
     }
 
+    /**
+     * Returns the bytes written to the output stream of the response.
+     */
+    public byte[] getOutputBytes() {
+        return outputStream.toByteArray();
+    }
+
 }
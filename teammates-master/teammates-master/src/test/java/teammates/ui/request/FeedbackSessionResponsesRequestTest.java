@@ -0,0 +1,71 @@
+package teammates.ui.request;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+import teammates.test.BaseTestCase;
+import teammates.ui.request.FeedbackResponsesRequest.FeedbackResponseRequest;
+import teammates.ui.request.FeedbackSessionResponsesRequest.FeedbackQuestionResponsesRequest;
+
+/**
+ * SUT: {@link FeedbackSessionResponsesRequest}.
+ */
+public class FeedbackSessionResponsesRequestTest extends BaseTestCase {
+
+    @Test
+    public void testValidate_withValidRequest_shouldPass() throws Exception {
+        FeedbackSessionResponsesRequest request = new FeedbackSessionResponsesRequest();
+        request.setQuestions(Arrays.asList(
+                getQuestionResponsesRequest("question1", "recipient1@email.com", "recipient2@email.com"),
+                getQuestionResponsesRequest("question2", "recipient1@email.com")));
+        request.validate();
+    }
+
+    @Test
+    public void testValidate_withEmptyQuestionId_shouldFail() {
+        FeedbackSessionResponsesRequest request = new FeedbackSessionResponsesRequest();
+        request.setQuestions(Arrays.asList(getQuestionResponsesRequest("", "recipient1@email.com")));
+        assertThrows(InvalidHttpRequestBodyException.class, request::validate);
+    }
+
+    @Test
+    public void testValidate_withDuplicateQuestionId_shouldFail() {
+        FeedbackSessionResponsesRequest request = new FeedbackSessionResponsesRequest();
+        request.setQuestions(Arrays.asList(
+                getQuestionResponsesRequest("question1", "recipient1@email.com"),
+                getQuestionResponsesRequest("question1", "recipient2@email.com")));
+        InvalidHttpRequestBodyException actualException =
+                assertThrows(InvalidHttpRequestBodyException.class, request::validate);
+        assertEquals("Each question can only be submitted once", actualException.getMessage());
+    }
+
+    @Test
+    public void testValidate_withDuplicateRecipient_shouldFail() {
+        FeedbackSessionResponsesRequest request = new FeedbackSessionResponsesRequest();
+        request.setQuestions(Arrays.asList(
+                getQuestionResponsesRequest("question1", "recipient1@email.com", "recipient1@email.com")));
+        InvalidHttpRequestBodyException actualException =
+                assertThrows(InvalidHttpRequestBodyException.class, request::validate);
+        assertEquals("Each recipient can only be given one response to a question", actualException.getMessage());
+    }
+
+    @Test
+    public void testValidate_withEmptyRecipient_shouldFail() {
+        FeedbackSessionResponsesRequest request = new FeedbackSessionResponsesRequest();
+        request.setQuestions(Arrays.asList(getQuestionResponsesRequest("question1", "")));
+        assertThrows(InvalidHttpRequestBodyException.class, request::validate);
+    }
+
+    private FeedbackQuestionResponsesRequest getQuestionResponsesRequest(String questionId, String... recipients) {
+        FeedbackQuestionResponsesRequest request = new FeedbackQuestionResponsesRequest();
+        request.setQuestionId(questionId);
+        request.setResponses(Arrays.stream(recipients)
+                .map(recipient -> new FeedbackResponseRequest(recipient, new FeedbackTextResponseDetails("answer")))
+                .collect(Collectors.toList()));
+        return request;
+    }
+
+}
@@ -1,5 +1,6 @@
 package teammates.ui.servlets;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -120,6 +121,15 @@ public class WebApiServletTest extends BaseTestCase {
         SERVLET.doGet(mockRequest, mockResponse);
         assertEquals(HttpStatus.SC_INTERNAL_SERVER_ERROR, mockResponse.getStatus());
 
+        ______TS("Failure case: exception after the response is committed");
+
+        setupMocks(HttpGet.METHOD_NAME, Const.ResourceURIs.EXCEPTION);
+        mockRequest.addParam(Const.ParamsNames.ERROR, "StreamingJsonResult");
+
+        assertThrows(IOException.class, () -> SERVLET.doGet(mockRequest, mockResponse));
+        assertTrue(mockResponse.isCommitted());
+        assertEquals(HttpStatus.SC_OK, mockResponse.getStatus());
+
     }
 
     @Test
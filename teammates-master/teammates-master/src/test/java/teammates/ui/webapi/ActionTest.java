@@ -0,0 +1,57 @@
+package teammates.ui.webapi;
+
+import org.apache.http.client.methods.HttpPut;
+import org.testng.annotations.Test;
+
+import com.google.gson.JsonParseException;
+
+import teammates.common.util.Const;
+import teammates.test.BaseTestCase;
+import teammates.test.MockHttpServletRequest;
+import teammates.ui.request.FeedbackResponsesRequest;
+import teammates.ui.request.FeedbackSessionResponsesRequest;
+
+/**
+ * SUT: {@link Action}.
+ */
+public class ActionTest extends BaseTestCase {
+
+    @Test
+    public void testGetDeserializedRequestBody_calledAgain_shouldReturnSameObject() {
+        Action action = getActionWithBody("{\"questions\":[]}");
+
+        FeedbackSessionResponsesRequest request = action.getDeserializedRequestBody(FeedbackSessionResponsesRequest.class);
+        assertTrue(request.getQuestions().isEmpty());
+        assertSame(request, action.getDeserializedRequestBody(FeedbackSessionResponsesRequest.class));
+        assertEquals("{\"questions\":[]}", action.getRequestBodyForLogging());
+    }
+
+    @Test
+    public void testGetDeserializedRequestBody_malformedBody_shouldFailOnEveryCall() {
+        Action action = getActionWithBody("{\"questions\":");
+
+        assertThrows(JsonParseException.class,
+                () -> action.getDeserializedRequestBody(FeedbackSessionResponsesRequest.class));
+        assertThrows(JsonParseException.class,
+                () -> action.getDeserializedRequestBody(FeedbackSessionResponsesRequest.class));
+        assertEquals("{\"questions\":", action.getRequestBodyForLogging());
+    }
+
+    @Test
+    public void testGetDeserializedRequestBody_calledAgainWithAnotherType_shouldFail() {
+        Action action = getActionWithBody("{\"questions\":[]}");
+
+        action.getDeserializedRequestBody(FeedbackSessionResponsesRequest.class);
+        assertThrows(AssertionError.class,
+                () -> action.getDeserializedRequestBody(FeedbackResponsesRequest.class));
+    }
+
+    private Action getActionWithBody(String body) {
+        MockHttpServletRequest req = new MockHttpServletRequest(HttpPut.METHOD_NAME, Const.ResourceURIs.EXCEPTION);
+        req.setBody(body);
+        Action action = new AdminExceptionTestAction();
+        action.init(req);
+        return action;
+    }
+
+}
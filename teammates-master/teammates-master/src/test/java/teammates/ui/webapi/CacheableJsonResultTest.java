@@ -0,0 +1,140 @@
+package teammates.ui.webapi;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.http.HttpStatus;
+import org.testng.annotations.Test;
+
+import teammates.common.util.JsonUtils;
+import teammates.test.BaseTestCase;
+import teammates.test.MockHttpServletResponse;
+import teammates.ui.output.MessageOutput;
+
+/**
+ * SUT: {@link CacheableJsonResult}.
+ */
+public class CacheableJsonResultTest extends BaseTestCase {
+
+    @Test
+    public void testFromContent() throws Exception {
+
+        ______TS("no entity tag from client: output is sent with entity tag");
+
+        CacheableJsonResult result = CacheableJsonResult.fromContent(new MessageOutput("output message"), null);
+
+        assertEquals(HttpStatus.SC_OK, result.getStatusCode());
+        assertEquals("output message", ((MessageOutput) result.getOutput()).getMessage());
+
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        result.send(resp);
+        assertEquals(HttpStatus.SC_OK, resp.getStatus());
+        assertEquals(result.getETag(), resp.getHeader("ETag"));
+        assertEquals("private, no-cache", resp.getHeader("Cache-Control"));
+
+        ______TS("same content: same entity tag");
+
+        String eTag = result.getETag();
+        assertEquals(eTag, CacheableJsonResult.fromContent(new MessageOutput("output message"), null).getETag());
+
+        ______TS("different content: different entity tag");
+
+        assertNotEquals(eTag, CacheableJsonResult.fromContent(new MessageOutput("other message"), null).getETag());
+
+        ______TS("matching entity tag from client: not modified");
+
+        result = CacheableJsonResult.fromContent(new MessageOutput("output message"), eTag);
+        assertEquals(HttpStatus.SC_NOT_MODIFIED, result.getStatusCode());
+
+        resp = new MockHttpServletResponse();
+        result.send(resp);
+        assertEquals(HttpStatus.SC_NOT_MODIFIED, resp.getStatus());
+        assertEquals(eTag, resp.getHeader("ETag"));
+        assertNull(resp.getHeader("Content-Encoding"));
+
+        ______TS("matching entity tag among multiple entity tags from client: not modified");
+
+        result = CacheableJsonResult.fromContent(new MessageOutput("output message"), "\"other\", W/" + eTag);
+        assertEquals(HttpStatus.SC_NOT_MODIFIED, result.getStatusCode());
+
+        ______TS("wildcard from client: not modified");
+
+        result = CacheableJsonResult.fromContent(new MessageOutput("output message"), "*");
+        assertEquals(HttpStatus.SC_NOT_MODIFIED, result.getStatusCode());
+
+        ______TS("non-matching entity tag from client: output is sent");
+
+        result = CacheableJsonResult.fromContent(new MessageOutput("output message"), "\"other\"");
+        assertEquals(HttpStatus.SC_OK, result.getStatusCode());
+    }
+
+    @Test
+    public void testFromVersion() throws Exception {
+
+        ______TS("no entity tag from client: output is built and sent");
+
+        CacheableJsonResult result =
+                CacheableJsonResult.fromVersion("version1", () -> new MessageOutput("output message"), null);
+
+        assertEquals(HttpStatus.SC_OK, result.getStatusCode());
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        result.send(resp);
+        assertEquals(HttpStatus.SC_OK, resp.getStatus());
+        assertEquals(result.getETag(), resp.getHeader("ETag"));
+
+        ______TS("different version: different entity tag");
+
+        String eTag = result.getETag();
+        assertNotEquals(eTag,
+                CacheableJsonResult.fromVersion("version2", () -> new MessageOutput("output message"), null).getETag());
+
+        ______TS("matching entity tag from client: output is not built");
+
+        result = CacheableJsonResult.fromVersion("version1", () -> {
+            throw new AssertionError("Output should not be built");
+        }, eTag);
+        assertEquals(HttpStatus.SC_NOT_MODIFIED, result.getStatusCode());
+
+        resp = new MockHttpServletResponse();
+        result.send(resp);
+        assertEquals(HttpStatus.SC_NOT_MODIFIED, resp.getStatus());
+    }
+
+    @Test
+    public void testFromCompressedJson() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(JsonUtils.toCompactJson(new MessageOutput("output message")).getBytes(StandardCharsets.UTF_8));
+        }
+        byte[] compressedJson = bytes.toByteArray();
+
+        ______TS("compression enabled: compressed output is sent as it is");
+
+        CacheableJsonResult result =
+                CacheableJsonResult.fromCompressedJson("version1", compressedJson, MessageOutput.class, null);
+        result.setCompressed(true);
+
+        assertEquals(HttpStatus.SC_OK, result.getStatusCode());
+        assertEquals("output message", ((MessageOutput) result.getOutput()).getMessage());
+
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        result.send(resp);
+        assertEquals(HttpStatus.SC_OK, resp.getStatus());
+        assertEquals(result.getETag(), resp.getHeader("ETag"));
+        assertEquals("gzip", resp.getHeader("Content-Encoding"));
+        assertArrayEquals(compressedJson, resp.getOutputBytes());
+
+        ______TS("matching entity tag from client: not modified");
+
+        result = CacheableJsonResult.fromCompressedJson("version1", compressedJson, MessageOutput.class,
+                result.getETag());
+        assertEquals(HttpStatus.SC_NOT_MODIFIED, result.getStatusCode());
+
+        resp = new MockHttpServletResponse();
+        result.send(resp);
+        assertEquals(HttpStatus.SC_NOT_MODIFIED, resp.getStatus());
+        assertEquals(0, resp.getOutputBytes().length);
+    }
+
+}
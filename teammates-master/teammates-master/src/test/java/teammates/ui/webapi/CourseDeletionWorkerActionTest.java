@@ -0,0 +1,59 @@
+package teammates.ui.webapi;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.ui.output.MessageOutput;
+
+/**
+ * SUT: {@link CourseDeletionWorkerAction}.
+ */
+public class CourseDeletionWorkerActionTest extends BaseActionTest<CourseDeletionWorkerAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.COURSE_DELETION_WORKER_URL;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return POST;
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() {
+        verifyOnlyAdminCanAccess();
+    }
+
+    @Override
+    @Test
+    public void testExecute() {
+        CourseAttributes course = typicalBundle.courses.get("typicalCourse1");
+
+        ______TS("typical case: course and all its entities are deleted");
+
+        String[] submissionParams = new String[] {
+                ParamsNames.COURSE_ID, course.getId(),
+        };
+
+        CourseDeletionWorkerAction action = getAction(submissionParams);
+        JsonResult result = getJsonResult(action);
+
+        assertEquals("Successful", ((MessageOutput) result.getOutput()).getMessage());
+        assertNull(logic.getCourse(course.getId()));
+        assertTrue(logic.getStudentsForCourse(course.getId()).isEmpty());
+        assertTrue(logic.getInstructorsForCourse(course.getId()).isEmpty());
+        assertTrue(logic.getFeedbackSessionsForCourse(course.getId()).isEmpty());
+
+        ______TS("course already deleted: task completes without error");
+
+        action = getAction(submissionParams);
+        result = getJsonResult(action);
+
+        assertEquals("Successful", ((MessageOutput) result.getOutput()).getMessage());
+    }
+
+}
@@ -0,0 +1,66 @@
+package teammates.ui.webapi;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionResultsSnapshotAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.ui.output.MessageOutput;
+
+/**
+ * SUT: {@link FeedbackSessionDeletionWorkerAction}.
+ */
+public class FeedbackSessionDeletionWorkerActionTest extends BaseActionTest<FeedbackSessionDeletionWorkerAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.FEEDBACK_SESSION_DELETION_WORKER_URL;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return POST;
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() {
+        verifyOnlyAdminCanAccess();
+    }
+
+    @Override
+    @Test
+    public void testExecute() {
+        FeedbackSessionAttributes session = typicalBundle.feedbackSessions.get("session1InCourse1");
+
+        ______TS("typical case: session and all its entities are deleted");
+
+        FeedbackSessionResultsSnapshotAttributes snapshot = logic.createFeedbackSessionResultsSnapshot(
+                session.getFeedbackSessionName(), session.getCourseId());
+        String fileKey = snapshot.getFileKey("student1InCourse1@gmail.tmt");
+        mockFileStorage.create(fileKey, new byte[] { 1 }, "application/json");
+
+        String[] submissionParams = new String[] {
+                ParamsNames.COURSE_ID, session.getCourseId(),
+                ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+        };
+
+        FeedbackSessionDeletionWorkerAction action = getAction(submissionParams);
+        JsonResult result = getJsonResult(action);
+
+        assertEquals("Successful", ((MessageOutput) result.getOutput()).getMessage());
+        assertNull(logic.getFeedbackSession(session.getFeedbackSessionName(), session.getCourseId()));
+        assertTrue(logic.getFeedbackQuestionsForSession(session.getFeedbackSessionName(), session.getCourseId())
+                .isEmpty());
+        assertFalse(mockFileStorage.doesFileExist(fileKey));
+
+        ______TS("session already deleted: task completes without error");
+
+        action = getAction(submissionParams);
+        result = getJsonResult(action);
+
+        assertEquals("Successful", ((MessageOutput) result.getOutput()).getMessage());
+    }
+
+}
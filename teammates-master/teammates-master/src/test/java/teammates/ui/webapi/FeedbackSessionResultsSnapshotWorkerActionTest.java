@@ -0,0 +1,130 @@
+package teammates.ui.webapi;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionResultsSnapshotAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.JsonUtils;
+import teammates.ui.output.MessageOutput;
+import teammates.ui.output.SessionResultsData;
+
+/**
+ * SUT: {@link FeedbackSessionResultsSnapshotWorkerAction}.
+ */
+public class FeedbackSessionResultsSnapshotWorkerActionTest
+        extends BaseActionTest<FeedbackSessionResultsSnapshotWorkerAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.FEEDBACK_SESSION_RESULTS_SNAPSHOT_WORKER_URL;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return POST;
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() {
+        verifyOnlyAdminCanAccess();
+    }
+
+    @Override
+    @Test
+    public void testExecute() throws Exception {
+        FeedbackSessionAttributes publishedSession = typicalBundle.feedbackSessions.get("closedSession");
+        String sessionName = publishedSession.getFeedbackSessionName();
+        String courseId = publishedSession.getCourseId();
+
+        ______TS("typical case: views of all students are stored and the snapshot is completed");
+
+        // a view stored by a discarded generation
+        FeedbackSessionResultsSnapshotAttributes discardedSnapshot =
+                logic.createFeedbackSessionResultsSnapshot(sessionName, courseId);
+        String discardedFileKey = discardedSnapshot.getFileKey("student1InCourse1@gmail.tmt");
+        mockFileStorage.create(discardedFileKey, new byte[] { 1 }, "application/json");
+        logic.unpublishFeedbackSession(sessionName, courseId);
+        logic.publishFeedbackSession(sessionName, courseId);
+
+        FeedbackSessionResultsSnapshotAttributes newSnapshot =
+                logic.createFeedbackSessionResultsSnapshot(sessionName, courseId);
+        String[] submissionParams = getSubmissionParams(sessionName, courseId, newSnapshot.getGenerationId());
+
+        FeedbackSessionResultsSnapshotWorkerAction action = getAction(submissionParams);
+        JsonResult result = getJsonResult(action);
+
+        assertEquals("Successful", ((MessageOutput) result.getOutput()).getMessage());
+        FeedbackSessionResultsSnapshotAttributes snapshot =
+                logic.getCompleteFeedbackSessionResultsSnapshot(sessionName, courseId);
+        assertEquals(newSnapshot.getGenerationId(), snapshot.getGenerationId());
+
+        for (StudentAttributes student : logic.getStudentsForCourse(courseId)) {
+            SessionResultsData expectedView = SessionResultsData.initForStudent(
+                    logic.getSessionResultsForUser(sessionName, courseId, student.getEmail(), false, null), student);
+            byte[] storedView = mockFileStorage.getContent(snapshot.getFileKey(student.getEmail()));
+            try (GZIPInputStream view = new GZIPInputStream(new ByteArrayInputStream(storedView))) {
+                assertEquals(JsonUtils.toCompactJson(expectedView),
+                        new String(view.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        assertFalse(mockFileStorage.doesFileExist(discardedFileKey));
+
+        ______TS("snapshot already complete: task completes without generating again");
+
+        action = getAction(submissionParams);
+        result = getJsonResult(action);
+
+        assertEquals("Successful", ((MessageOutput) result.getOutput()).getMessage());
+        assertEquals(snapshot.getGenerationId(),
+                logic.getCompleteFeedbackSessionResultsSnapshot(sessionName, courseId).getGenerationId());
+
+        ______TS("discarded generation: nothing is generated and its views are deleted");
+
+        String fileKey = snapshot.getFileKey("student1InCourse1@gmail.tmt");
+        logic.unpublishFeedbackSession(sessionName, courseId);
+        logic.publishFeedbackSession(sessionName, courseId);
+        FeedbackSessionResultsSnapshotAttributes nextSnapshot =
+                logic.createFeedbackSessionResultsSnapshot(sessionName, courseId);
+
+        action = getAction(submissionParams);
+        result = getJsonResult(action);
+
+        assertEquals("Discarded", ((MessageOutput) result.getOutput()).getMessage());
+        assertFalse(mockFileStorage.doesFileExist(fileKey));
+        assertNull(logic.getCompleteFeedbackSessionResultsSnapshot(sessionName, courseId));
+        assertEquals(nextSnapshot.getGenerationId(),
+                logic.getFeedbackSessionResultsSnapshot(sessionName, courseId).getGenerationId());
+
+        ______TS("unpublished session: no snapshot is generated");
+
+        FeedbackSessionAttributes unpublishedSession = typicalBundle.feedbackSessions.get("session1InCourse1");
+        FeedbackSessionResultsSnapshotAttributes unpublishedSnapshot = logic.createFeedbackSessionResultsSnapshot(
+                unpublishedSession.getFeedbackSessionName(), unpublishedSession.getCourseId());
+        submissionParams = getSubmissionParams(unpublishedSession.getFeedbackSessionName(),
+                unpublishedSession.getCourseId(), unpublishedSnapshot.getGenerationId());
+
+        action = getAction(submissionParams);
+        result = getJsonResult(action);
+
+        assertEquals("Discarded", ((MessageOutput) result.getOutput()).getMessage());
+        assertNull(logic.getCompleteFeedbackSessionResultsSnapshot(
+                unpublishedSession.getFeedbackSessionName(), unpublishedSession.getCourseId()));
+    }
+
+    private String[] getSubmissionParams(String feedbackSessionName, String courseId, String generationId) {
+        return new String[] {
+                ParamsNames.COURSE_ID, courseId,
+                ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName,
+                ParamsNames.FEEDBACK_RESULTS_SNAPSHOT_GENERATION_ID, generationId,
+        };
+    }
+
+}
@@ -76,6 +76,7 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 FeedbackSessionRemindParticularUsersEmailWorkerAction.class,
                 GetFeedbackResponsesAction.class,
                 SubmitFeedbackResponsesAction.class,
+                SubmitFeedbackSessionResponsesAction.class,
                 FeedbackSessionPublishedEmailWorkerAction.class,
                 FeedbackSessionClosedRemindersAction.class,
                 SendErrorReportAction.class,
@@ -126,7 +127,10 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 CreateFeedbackQuestionAction.class,
                 UpdateFeedbackQuestionAction.class,
                 InstructorSearchIndexingWorkerAction.class,
-                StudentSearchIndexingWorkerAction.class
+                StudentSearchIndexingWorkerAction.class,
+                CourseDeletionWorkerAction.class,
+                FeedbackSessionDeletionWorkerAction.class,
+                FeedbackSessionResultsSnapshotWorkerAction.class
         );
         List<String> expectedActionClassesNames = expectedActionClasses.stream()
                 .map(Class::getSimpleName)
@@ -1,15 +1,21 @@
 package teammates.ui.webapi;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionResultsSnapshotAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.util.Const;
 import teammates.common.util.JsonUtils;
+import teammates.ui.output.CompactSessionResultsData;
 import teammates.ui.output.SessionResultsData;
 import teammates.ui.request.Intent;
 
@@ -30,7 +36,7 @@ public class GetSessionResultsActionTest extends BaseActionTest<GetSessionResult
 
     @Override
     @Test
-    protected void testExecute() {
+    protected void testExecute() throws Exception {
         InstructorAttributes instructorAttributes = typicalBundle.instructors.get("instructor1OfCourse1");
         loginAsInstructor(instructorAttributes.getGoogleId());
 
@@ -56,6 +62,53 @@ public class GetSessionResultsActionTest extends BaseActionTest<GetSessionResult
 
         assertTrue(isSessionResultsDataEqual(expectedResults, output));
 
+        ______TS("typical: instructor accesses results of his/her course in compact form");
+
+        submissionParams = new String[] {
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, accessibleFeedbackSession.getFeedbackSessionName(),
+                Const.ParamsNames.COURSE_ID, accessibleFeedbackSession.getCourseId(),
+                Const.ParamsNames.INTENT, Intent.FULL_DETAIL.name(),
+                Const.ParamsNames.FEEDBACK_RESULTS_COMPACT, "true",
+        };
+
+        a = getAction(submissionParams);
+        r = getJsonResult(a);
+
+        CompactSessionResultsData compactOutput = (CompactSessionResultsData) r.getOutput();
+        CompactSessionResultsData expectedCompactResults = CompactSessionResultsData.initForInstructor(
+                logic.getSessionResultsForCourse(accessibleFeedbackSession.getFeedbackSessionName(),
+                        accessibleFeedbackSession.getCourseId(),
+                        instructorAttributes.getEmail(),
+                        null, null));
+
+        assertEquals(JsonUtils.toJson(expectedCompactResults), JsonUtils.toJson(compactOutput));
+        assertEquals(output.getQuestions().size(), compactOutput.getQuestions().size());
+        for (int i = 0; i < output.getQuestions().size(); i++) {
+            CompactSessionResultsData.QuestionOutput compactQuestion = compactOutput.getQuestions().get(i);
+            assertEquals(output.getQuestions().get(i).getAllResponses().size(),
+                    compactQuestion.getResponses().size() + compactQuestion.getMissingResponses().size());
+        }
+
+        ______TS("typical: instructor accesses statistics only of results of his/her course");
+
+        submissionParams = new String[] {
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, accessibleFeedbackSession.getFeedbackSessionName(),
+                Const.ParamsNames.COURSE_ID, accessibleFeedbackSession.getCourseId(),
+                Const.ParamsNames.INTENT, Intent.FULL_DETAIL.name(),
+                Const.ParamsNames.FEEDBACK_RESULTS_STATISTICS_ONLY, "true",
+        };
+
+        a = getAction(submissionParams);
+        r = getJsonResult(a);
+
+        SessionResultsData statisticsOutput = (SessionResultsData) r.getOutput();
+        assertEquals(output.getQuestions().size(), statisticsOutput.getQuestions().size());
+        for (int i = 0; i < output.getQuestions().size(); i++) {
+            assertEquals(output.getQuestions().get(i).getQuestionStatistics(),
+                    statisticsOutput.getQuestions().get(i).getQuestionStatistics());
+            assertTrue(statisticsOutput.getQuestions().get(i).getAllResponses().isEmpty());
+        }
+
         ______TS("typical: student accesses results of his/her course");
 
         StudentAttributes studentAttributes = typicalBundle.students.get("student1InCourse1");
@@ -80,6 +133,62 @@ public class GetSessionResultsActionTest extends BaseActionTest<GetSessionResult
 
         assertTrue(isSessionResultsDataEqual(expectedResults, output));
 
+        ______TS("typical: student accesses results of his/her course from the results snapshot");
+
+        FeedbackSessionAttributes publishedFeedbackSession = typicalBundle.feedbackSessions.get("closedSession");
+        String sessionName = publishedFeedbackSession.getFeedbackSessionName();
+        String courseId = publishedFeedbackSession.getCourseId();
+        submissionParams = new String[] {
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, sessionName,
+                Const.ParamsNames.COURSE_ID, courseId,
+                Const.ParamsNames.INTENT, Intent.STUDENT_RESULT.name(),
+        };
+
+        // the view of another student is stored so that it can be told apart from the computed view
+        StudentAttributes otherStudent = typicalBundle.students.get("student2InCourse1");
+        SessionResultsData storedView = SessionResultsData.initForStudent(
+                logic.getSessionResultsForUser(sessionName, courseId, otherStudent.getEmail(), false, null),
+                otherStudent);
+        FeedbackSessionResultsSnapshotAttributes snapshot =
+                logic.createFeedbackSessionResultsSnapshot(sessionName, courseId);
+        mockFileStorage.create(snapshot.getFileKey(studentAttributes.getEmail()),
+                compress(JsonUtils.toCompactJson(storedView)), "application/json");
+        logic.completeFeedbackSessionResultsSnapshot(snapshot);
+
+        a = getAction(submissionParams);
+        r = getJsonResult(a);
+
+        assertTrue(isSessionResultsDataEqual(storedView, (SessionResultsData) r.getOutput()));
+
+        ______TS("typical: student accesses results of his/her course after the results snapshot is discarded");
+
+        logic.unpublishFeedbackSession(sessionName, courseId);
+        logic.publishFeedbackSession(sessionName, courseId);
+
+        a = getAction(submissionParams);
+        r = getJsonResult(a);
+
+        expectedResults = SessionResultsData.initForStudent(
+                logic.getSessionResultsForUser(sessionName, courseId, studentAttributes.getEmail(), false, null),
+                studentAttributes);
+        assertTrue(isSessionResultsDataEqual(expectedResults, (SessionResultsData) r.getOutput()));
+        verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_RESULTS_SNAPSHOT_QUEUE_NAME, 1);
+
+        ______TS("typical: new results snapshot is only scheduled once");
+
+        a = getAction(submissionParams);
+        r = getJsonResult(a);
+
+        assertTrue(isSessionResultsDataEqual(expectedResults, (SessionResultsData) r.getOutput()));
+        verifyNoTasksAdded();
+    }
+
+    private byte[] compress(String json) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(json.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
     }
 
     @Override
@@ -1,12 +1,16 @@
 package teammates.ui.webapi;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
 
 import javax.servlet.http.Cookie;
 
 import org.testng.annotations.Test;
 
+import teammates.common.util.JsonUtils;
 import teammates.test.BaseTestCase;
 import teammates.test.MockHttpServletResponse;
 import teammates.ui.output.MessageOutput;
@@ -45,4 +49,21 @@ public class JsonResultTest extends BaseTestCase {
         result.send(respWithCookie);
         assertEquals(1, respWithCookie.getCookies().size());
     }
+
+    @Test
+    public void testSendResponse_compressed() throws Exception {
+        JsonResult result = new JsonResult("output message");
+        result.setCompressed(true);
+
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        result.send(resp);
+
+        assertEquals("gzip", resp.getHeader("Content-Encoding"));
+        assertEquals("Accept-Encoding", resp.getHeader("Vary"));
+        try (GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(resp.getOutputBytes()))) {
+            assertEquals(JsonUtils.toCompactJson(result.getOutput()),
+                    new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
 }
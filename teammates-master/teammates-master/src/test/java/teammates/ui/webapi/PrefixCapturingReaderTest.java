@@ -0,0 +1,61 @@
+package teammates.ui.webapi;
+
+import java.io.StringReader;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.JsonUtils;
+import teammates.test.BaseTestCase;
+import teammates.ui.request.FeedbackSessionResponsesRequest;
+import teammates.ui.request.FeedbackSessionResponsesRequest.FeedbackQuestionResponsesRequest;
+
+/**
+ * SUT: {@link PrefixCapturingReader}.
+ */
+public class PrefixCapturingReaderTest extends BaseTestCase {
+
+    @Test
+    public void testRead_shorterThanMaxLength_wholeContentCaptured() throws Exception {
+        PrefixCapturingReader reader = new PrefixCapturingReader(new StringReader("abc"), 5);
+
+        assertEquals('a', reader.read());
+        char[] buffer = new char[10];
+        assertEquals(2, reader.read(buffer, 0, 10));
+        assertEquals(-1, reader.read());
+
+        assertEquals("abc", reader.getPrefix());
+        assertFalse(reader.isTruncated());
+    }
+
+    @Test
+    public void testRead_longerThanMaxLength_prefixCaptured() throws Exception {
+        PrefixCapturingReader reader = new PrefixCapturingReader(new StringReader("abcdefgh"), 5);
+
+        char[] buffer = new char[4];
+        assertEquals(4, reader.read(buffer, 0, 4));
+        assertFalse(reader.isTruncated());
+        assertEquals(4, reader.read(buffer, 0, 4));
+        assertEquals("efgh", new String(buffer));
+
+        assertEquals("abcde", reader.getPrefix());
+        assertTrue(reader.isTruncated());
+    }
+
+    @Test
+    public void testRead_deserializeJson_sameAsDeserializingString() {
+        FeedbackQuestionResponsesRequest questionRequest = new FeedbackQuestionResponsesRequest();
+        questionRequest.setQuestionId("questionId");
+        FeedbackSessionResponsesRequest request = new FeedbackSessionResponsesRequest();
+        request.getQuestions().add(questionRequest);
+        String json = JsonUtils.toCompactJson(request);
+
+        PrefixCapturingReader reader = new PrefixCapturingReader(new StringReader(json), 10);
+        FeedbackSessionResponsesRequest deserializedRequest =
+                JsonUtils.fromJson(reader, FeedbackSessionResponsesRequest.class);
+
+        assertEquals(json, JsonUtils.toCompactJson(deserializedRequest));
+        assertEquals(json.substring(0, 10), reader.getPrefix());
+        assertTrue(reader.isTruncated());
+    }
+
+}
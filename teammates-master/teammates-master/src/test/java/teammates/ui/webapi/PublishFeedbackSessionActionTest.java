@@ -44,6 +44,7 @@ public class PublishFeedbackSessionActionTest extends BaseActionTest<PublishFeed
         assertEquals(feedbackSessionData.getFeedbackSessionName(), session.getFeedbackSessionName());
         assertEquals(FeedbackSessionPublishStatus.PUBLISHED, feedbackSessionData.getPublishStatus());
         assertTrue(logic.getFeedbackSession(session.getFeedbackSessionName(), course.getId()).isPublished());
+        verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_RESULTS_SNAPSHOT_QUEUE_NAME, 1);
 
         ______TS("Typical case: Session is already published");
         // Attempt to publish the same session again.
@@ -0,0 +1,57 @@
+package teammates.ui.webapi;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.http.HttpStatus;
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+import teammates.test.MockHttpServletResponse;
+import teammates.ui.output.MessageOutput;
+
+/**
+ * SUT: {@link StreamingJsonResult}.
+ */
+public class StreamingJsonResultTest extends BaseTestCase {
+
+    @Test
+    public void testSendResponse_compressed() throws Exception {
+        StreamingJsonResult result = new StreamingJsonResult(() -> new MessageOutput("output message"),
+                (requestId, writer) -> writer.beginObject().name("message").value("output message").endObject());
+        result.setCompressed(true);
+
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        result.send(resp);
+
+        assertTrue(resp.isCommitted());
+        assertEquals("gzip", resp.getHeader("Content-Encoding"));
+        try (GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(resp.getOutputBytes()))) {
+            assertEquals("{\"message\":\"output message\"}", new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void testSendResponse_exceptionWhileWriting_shouldNotCompleteBody() throws Exception {
+        StreamingJsonResult result = new StreamingJsonResult(() -> new MessageOutput("output message"),
+                (requestId, writer) -> {
+                    writer.beginObject().name("message").value("output message");
+                    throw new IllegalStateException("failed while writing");
+                });
+        result.setCompressed(true);
+
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        IllegalStateException ise = assertThrows(IllegalStateException.class, () -> result.send(resp));
+
+        assertEquals("failed while writing", ise.getMessage());
+        assertTrue(resp.isCommitted());
+        assertEquals(HttpStatus.SC_OK, resp.getStatus());
+        assertEquals("gzip", resp.getHeader("Content-Encoding"));
+        try (GZIPInputStream body = new GZIPInputStream(new ByteArrayInputStream(resp.getOutputBytes()))) {
+            assertThrows(EOFException.class, body::readAllBytes);
+        }
+    }
+
+}
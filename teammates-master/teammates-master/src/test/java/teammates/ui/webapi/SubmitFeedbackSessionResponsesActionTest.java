@@ -0,0 +1,178 @@
+package teammates.ui.webapi;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+import teammates.common.util.Const;
+import teammates.ui.output.FeedbackResponsesData;
+import teammates.ui.request.FeedbackResponsesRequest.FeedbackResponseRequest;
+import teammates.ui.request.FeedbackSessionResponsesRequest;
+import teammates.ui.request.FeedbackSessionResponsesRequest.FeedbackQuestionResponsesRequest;
+import teammates.ui.request.Intent;
+import teammates.ui.request.InvalidHttpRequestBodyException;
+
+/**
+ * SUT: {@link SubmitFeedbackSessionResponsesAction}.
+ */
+public class SubmitFeedbackSessionResponsesActionTest extends BaseActionTest<SubmitFeedbackSessionResponsesAction> {
+
+    private FeedbackSessionAttributes session1InCourse1;
+    private StudentAttributes student1InCourse1;
+    private StudentAttributes student2InCourse1;
+    private FeedbackQuestionAttributes qn1InSession1InCourse1;
+    private FeedbackQuestionAttributes qn2InSession1InCourse1;
+
+    @Override
+    protected String getActionUri() {
+        return Const.ResourceURIs.SESSION_RESPONSES;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return PUT;
+    }
+
+    @Override
+    protected void prepareTestData() {
+        super.prepareTestData();
+
+        session1InCourse1 = typicalBundle.feedbackSessions.get("session1InCourse1");
+        student1InCourse1 = typicalBundle.students.get("student1InCourse1");
+        student2InCourse1 = typicalBundle.students.get("student2InCourse1");
+        qn1InSession1InCourse1 = getQuestion(session1InCourse1, 1);
+        qn2InSession1InCourse1 = getQuestion(session1InCourse1, 2);
+    }
+
+    @Override
+    @Test
+    public void testExecute() {
+        loginAsStudent(student1InCourse1.getGoogleId());
+
+        ______TS("typical case: student submits to two questions");
+
+        FeedbackSessionResponsesRequest submitRequest = getSubmitRequest(
+                getQuestionResponsesRequest(qn1InSession1InCourse1, student1InCourse1.getEmail(), "Updated answer"),
+                getQuestionResponsesRequest(qn2InSession1InCourse1, student2InCourse1.getEmail(), "New answer"));
+        SubmitFeedbackSessionResponsesAction a = getAction(submitRequest, getStudentSubmissionParams());
+        JsonResult r = getJsonResult(a);
+
+        FeedbackResponsesData output = (FeedbackResponsesData) r.getOutput();
+        assertEquals(2, output.getResponses().size());
+
+        List<FeedbackResponseAttributes> responses = logic.getFeedbackResponsesFromGiverForSession(
+                student1InCourse1.getEmail(), session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId());
+        assertEquals(2, responses.size());
+        assertEquals("Updated answer", getAnswer(responses, qn1InSession1InCourse1, student1InCourse1.getEmail()));
+        assertEquals("New answer", getAnswer(responses, qn2InSession1InCourse1, student2InCourse1.getEmail()));
+    }
+
+    @Test
+    public void testExecute_questionOfAnotherSession_shouldFail() {
+        loginAsStudent(student1InCourse1.getGoogleId());
+
+        FeedbackSessionAttributes session2InCourse1 = typicalBundle.feedbackSessions.get("session2InCourse1");
+        FeedbackQuestionAttributes qn2InSession2InCourse1 = getQuestion(session2InCourse1, 2);
+        FeedbackSessionResponsesRequest submitRequest = getSubmitRequest(
+                getQuestionResponsesRequest(qn1InSession1InCourse1, student1InCourse1.getEmail(), "Answer"),
+                getQuestionResponsesRequest(qn2InSession2InCourse1, student2InCourse1.getEmail(), "Answer"));
+
+        SubmitFeedbackSessionResponsesAction a = getAction(submitRequest, getStudentSubmissionParams());
+        assertThrows(EntityNotFoundException.class, a::checkAccessControl);
+        verifyEntityNotFound(submitRequest, getStudentSubmissionParams());
+    }
+
+    @Test
+    public void testExecute_duplicateQuestion_shouldFail() {
+        loginAsStudent(student1InCourse1.getGoogleId());
+
+        ______TS("same question submitted twice");
+
+        FeedbackSessionResponsesRequest submitRequest = getSubmitRequest(
+                getQuestionResponsesRequest(qn2InSession1InCourse1, student1InCourse1.getEmail(), "Answer"),
+                getQuestionResponsesRequest(qn2InSession1InCourse1, student2InCourse1.getEmail(), "Answer"));
+        InvalidHttpRequestBodyException ihrbe =
+                verifyHttpRequestBodyFailure(submitRequest, getStudentSubmissionParams());
+        assertEquals("Each question can only be submitted once", ihrbe.getMessage());
+
+        ______TS("same recipient given two responses to a question");
+
+        FeedbackQuestionResponsesRequest questionRequest =
+                getQuestionResponsesRequest(qn2InSession1InCourse1, student2InCourse1.getEmail(), "Answer");
+        questionRequest.setResponses(Arrays.asList(
+                new FeedbackResponseRequest(student2InCourse1.getEmail(), new FeedbackTextResponseDetails("Answer")),
+                new FeedbackResponseRequest(student2InCourse1.getEmail(), new FeedbackTextResponseDetails("Answer"))));
+        ihrbe = verifyHttpRequestBodyFailure(getSubmitRequest(questionRequest), getStudentSubmissionParams());
+        assertEquals("Each recipient can only be given one response to a question", ihrbe.getMessage());
+
+        List<FeedbackResponseAttributes> responses = logic.getFeedbackResponsesFromGiverForSession(
+                student1InCourse1.getEmail(), session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId());
+        assertEquals(1, responses.size());
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() throws Exception {
+        ______TS("student can submit to questions answerable by students");
+
+        FeedbackSessionResponsesRequest submitRequest = getSubmitRequest(
+                getQuestionResponsesRequest(qn1InSession1InCourse1, student1InCourse1.getEmail(), "Answer"),
+                getQuestionResponsesRequest(qn2InSession1InCourse1, student2InCourse1.getEmail(), "Answer"));
+        loginAsStudent(student1InCourse1.getGoogleId());
+        getAction(submitRequest, getStudentSubmissionParams()).checkAccessControl();
+
+        ______TS("student cannot submit to a question answerable by instructors only");
+
+        FeedbackQuestionAttributes qn4InSession1InCourse1 = getQuestion(session1InCourse1, 4);
+        submitRequest = getSubmitRequest(
+                getQuestionResponsesRequest(qn1InSession1InCourse1, student1InCourse1.getEmail(), "Answer"),
+                getQuestionResponsesRequest(qn4InSession1InCourse1, Const.GENERAL_QUESTION, "Answer"));
+        SubmitFeedbackSessionResponsesAction a = getAction(submitRequest, getStudentSubmissionParams());
+        assertThrows(UnauthorizedAccessException.class, a::checkAccessControl);
+    }
+
+    private String[] getStudentSubmissionParams() {
+        return new String[] {
+                Const.ParamsNames.COURSE_ID, session1InCourse1.getCourseId(),
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session1InCourse1.getFeedbackSessionName(),
+                Const.ParamsNames.INTENT, Intent.STUDENT_SUBMISSION.toString(),
+        };
+    }
+
+    private FeedbackQuestionAttributes getQuestion(FeedbackSessionAttributes session, int questionNumber) {
+        return logic.getFeedbackQuestion(session.getFeedbackSessionName(), session.getCourseId(), questionNumber);
+    }
+
+    private FeedbackSessionResponsesRequest getSubmitRequest(FeedbackQuestionResponsesRequest... questionRequests) {
+        FeedbackSessionResponsesRequest submitRequest = new FeedbackSessionResponsesRequest();
+        submitRequest.setQuestions(Arrays.asList(questionRequests));
+        return submitRequest;
+    }
+
+    private FeedbackQuestionResponsesRequest getQuestionResponsesRequest(
+            FeedbackQuestionAttributes question, String recipient, String answer) {
+        FeedbackQuestionResponsesRequest questionRequest = new FeedbackQuestionResponsesRequest();
+        questionRequest.setQuestionId(question.getId());
+        questionRequest.setResponses(Arrays.asList(
+                new FeedbackResponseRequest(recipient, new FeedbackTextResponseDetails(answer))));
+        return questionRequest;
+    }
+
+    private String getAnswer(List<FeedbackResponseAttributes> responses, FeedbackQuestionAttributes question,
+            String recipient) {
+        List<FeedbackResponseAttributes> responsesToRecipient = responses.stream()
+                .filter(response -> response.getFeedbackQuestionId().equals(question.getId())
+                        && response.getRecipient().equals(recipient))
+                .collect(Collectors.toList());
+        assertEquals(1, responsesToRecipient.size());
+        return responsesToRecipient.get(0).getResponseDetailsCopy().getAnswerString();
+    }
+
+}